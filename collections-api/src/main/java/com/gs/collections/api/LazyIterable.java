@@ -31,6 +31,7 @@ import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.tuple.Pair;
 
 /**
@@ -166,4 +167,19 @@ public interface LazyIterable<T>
      * Returns a lazy ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
      */
     LazyShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Counts the elements for each key returned by the function into a primitive map, without boxing a counter per
+     * element as {@code toBag()} or {@code aggregateBy} would.
+     *
+     * @since 7.0
+     */
+    <V> ObjectIntMap<V> countBy(Function<? super T, ? extends V> function);
+
+    /**
+     * Like {@link #countBy(Function)}, but an element is counted once for every key returned by the function.
+     *
+     * @since 7.0
+     */
+    <V> ObjectIntMap<V> countByEach(Function<? super T, ? extends Iterable<V>> function);
 }
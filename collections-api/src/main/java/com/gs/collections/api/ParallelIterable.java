@@ -35,10 +35,16 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 
 /**
  * A ParallelIterable is RichIterable which will defer evaluation for certain methods like select, reject, collect, etc.
@@ -199,6 +205,102 @@ public interface ParallelIterable<T>
 
     <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the {@code count} largest elements based on the comparator, from largest to smallest. Each batch keeps
+     * its own bounded heap of candidates, and the heaps are merged when the batches are combined.
+     *
+     * @since 7.0
+     */
+    MutableList<T> topN(int count, Comparator<? super T> comparator);
+
+    /**
+     * @since 7.0
+     */
+    <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function);
+
+    /**
+     * Returns the {@code count} smallest elements based on the comparator, from smallest to largest.
+     *
+     * @since 7.0
+     */
+    MutableList<T> bottomN(int count, Comparator<? super T> comparator);
+
+    /**
+     * @since 7.0
+     */
+    <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the int values returned by the function. Each batch is
+     * summarized separately and the batch statistics are merged.
+     *
+     * @since 7.0
+     */
+    IntStatistics summarizeInt(IntFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    LongStatistics summarizeLong(LongFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    DoubleStatistics summarizeDouble(DoubleFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function);
+
+    /**
+     * Counts the elements for each key returned by the function. Each batch counts into its own primitive map and the
+     * partial counts are merged, so no counter is boxed per element.
+     *
+     * @since 7.0
+     */
+    <V> ObjectIntMap<V> countBy(Function<? super T, ? extends V> function);
+
+    /**
+     * Like {@link #countBy(Function)}, but an element is counted once for every key returned by the function.
+     *
+     * @since 7.0
+     */
+    <V> ObjectIntMap<V> countByEach(Function<? super T, ? extends Iterable<V>> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch sums into its own primitive map and the
+     * partial sums are merged.
+     *
+     * @since 7.0
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * @since 7.0
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
+
     /**
      * Returns the final long result of evaluating function for each element of the iterable in parallel
      * and adding the results together.
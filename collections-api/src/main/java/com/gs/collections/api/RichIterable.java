@@ -61,6 +61,9 @@ import com.gs.collections.api.ordered.OrderedIterable;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 
 /**
@@ -1530,6 +1533,47 @@ public interface
      */
     <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the {@code count} largest elements out of this container based on the comparator, from largest to
+     * smallest, or all of the elements if there are fewer than {@code count}. The elements are selected in a single
+     * pass that retains at most {@code count} of them, which is cheaper than sorting the whole container when
+     * {@code count} is small.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @since 7.0
+     */
+    MutableList<T> topN(int count, Comparator<? super T> comparator);
+
+    /**
+     * Returns the {@code count} largest elements out of this container based on the natural order of the attribute
+     * returned by Function, from largest to smallest.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @see #topN(int, Comparator)
+     * @since 7.0
+     */
+    <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function);
+
+    /**
+     * Returns the {@code count} smallest elements out of this container based on the comparator, from smallest to
+     * largest, or all of the elements if there are fewer than {@code count}.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @see #topN(int, Comparator)
+     * @since 7.0
+     */
+    MutableList<T> bottomN(int count, Comparator<? super T> comparator);
+
+    /**
+     * Returns the {@code count} smallest elements out of this container based on the natural order of the attribute
+     * returned by Function, from smallest to largest.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @see #topN(int, Comparator)
+     * @since 7.0
+     */
+    <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function);
+
     /**
      * Returns the final long result of evaluating function for each element of the iterable and adding the results
      * together.
@@ -1590,6 +1634,54 @@ public interface
      */
     <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
 
+    /**
+     * Returns the count, sum, minimum, maximum and average of the int values returned by the function, computed in a
+     * single pass.
+     *
+     * @since 7.0
+     */
+    IntStatistics summarizeInt(IntFunction<? super T> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the long values returned by the function, computed in a
+     * single pass.
+     *
+     * @since 7.0
+     */
+    LongStatistics summarizeLong(LongFunction<? super T> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the double values returned by the function, computed in
+     * a single pass. The sum uses the Kahan summation algorithm, as {@link #sumOfDouble(DoubleFunction)} does.
+     *
+     * @since 7.0
+     */
+    DoubleStatistics summarizeDouble(DoubleFunction<? super T> function);
+
+    /**
+     * Groups the elements using the groupBy function and summarizes the int values of each group in a single pass.
+     *
+     * @see #summarizeInt(IntFunction)
+     * @since 7.0
+     */
+    <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * Groups the elements using the groupBy function and summarizes the long values of each group in a single pass.
+     *
+     * @see #summarizeLong(LongFunction)
+     * @since 7.0
+     */
+    <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * Groups the elements using the groupBy function and summarizes the double values of each group in a single pass.
+     *
+     * @see #summarizeDouble(DoubleFunction)
+     * @since 7.0
+     */
+    <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function);
+
     /**
      * Returns a string representation of this collection by delegating to {@link #makeString(String)} and defaulting
      * the separator parameter to the characters <tt>", "</tt> (comma and space).
@@ -72,6 +72,31 @@ public interface SortedBag<T>
      */
     ImmutableSortedBag<T> toImmutable();
 
+    /**
+     * Returns the number of items in this bag that come before {@code item} in its order, counting each occurrence.
+     * The item does not have to be in the bag. For example, the rank of 3 in [1, 1, 2, 3, 3] is 3.
+     *
+     * @since 7.0
+     */
+    int rank(T item);
+
+    /**
+     * Returns the item at {@code index} in the iteration order of this bag, where an item with n occurrences takes
+     * up n consecutive indices. For example, get(3) of [1, 1, 2, 3, 3] is 3.
+     *
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of this bag
+     * @since 7.0
+     */
+    T get(int index);
+
+    /**
+     * Returns the number of occurrences of the items from {@code fromItem}, inclusive, to {@code toItem}, exclusive.
+     *
+     * @throws IllegalArgumentException if fromItem comes after toItem in the order of this bag
+     * @since 7.0
+     */
+    int countBetween(T fromItem, T toItem);
+
     /**
      * Returns the minimum element out of this container based on the natural order, not the order of this bag.
      * If you want the minimum element based on the order of this bag, use {@link #getFirst()}.
@@ -118,4 +118,21 @@ public interface ImmutableListFactory
     <T> ImmutableList<T> ofAll(Iterable<? extends T> items);
 
     <T> ImmutableList<T> withAll(Iterable<? extends T> items);
+
+    /**
+     * Returns an empty list whose {@code newWith} shares structure with the original list instead of copying it,
+     * making it O(log32 n). Lists derived from it through {@code newWith}, {@code newWithAll} and
+     * {@code newWithout} are persistent as well.
+     *
+     * @since 7.0
+     */
+    <T> ImmutableList<T> emptyPersistent();
+
+    /**
+     * Returns a persistent list containing the specified items.
+     *
+     * @see #emptyPersistent()
+     * @since 7.0
+     */
+    <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items);
 }
@@ -73,4 +73,21 @@ public interface ImmutableMapFactory
     <K, V> ImmutableMap<K, V> ofAll(Map<K, V> map);
 
     <K, V> ImmutableMap<K, V> withAll(Map<K, V> map);
+
+    /**
+     * Returns an empty map whose {@code newWithKeyValue} and {@code newWithoutKey} share structure with the original
+     * map instead of copying it, making them O(log32 n). Maps derived from it through the {@code newWith*} and
+     * {@code newWithout*} methods are persistent as well.
+     *
+     * @since 7.0
+     */
+    <K, V> ImmutableMap<K, V> emptyPersistent();
+
+    /**
+     * Returns a persistent map containing the entries of the specified map.
+     *
+     * @see #emptyPersistent()
+     * @since 7.0
+     */
+    <K, V> ImmutableMap<K, V> withAllPersistent(Map<K, V> map);
 }
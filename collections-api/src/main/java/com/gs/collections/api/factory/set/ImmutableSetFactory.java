@@ -76,4 +76,21 @@ public interface ImmutableSetFactory
     <T> ImmutableSet<T> ofAll(Iterable<? extends T> items);
 
     <T> ImmutableSet<T> withAll(Iterable<? extends T> items);
+
+    /**
+     * Returns an empty set whose {@code newWith} and {@code newWithout} share structure with the original set instead
+     * of copying it, making them O(log32 n). Sets derived from it through {@code newWith}, {@code newWithAll},
+     * {@code newWithout} and {@code newWithoutAll} are persistent as well.
+     *
+     * @since 7.0
+     */
+    <T> ImmutableSet<T> emptyPersistent();
+
+    /**
+     * Returns a persistent set containing the specified items.
+     *
+     * @see #emptyPersistent()
+     * @since 7.0
+     */
+    <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items);
 }
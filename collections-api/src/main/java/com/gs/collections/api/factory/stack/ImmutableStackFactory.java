@@ -69,4 +69,20 @@ public interface ImmutableStackFactory
     <T> ImmutableStack<T> ofAllReversed(Iterable<? extends T> items);
 
     <T> ImmutableStack<T> withAllReversed(Iterable<? extends T> items);
+
+    /**
+     * Returns an empty stack whose {@code push} and {@code pop} share structure with the original stack instead of
+     * copying it, making them O(1). Stacks derived from it through {@code push} and {@code pop} are persistent as well.
+     *
+     * @since 7.0
+     */
+    <T> ImmutableStack<T> emptyPersistent();
+
+    /**
+     * Returns a persistent stack containing the specified items, where the last item is the top of the stack.
+     *
+     * @see #emptyPersistent()
+     * @since 7.0
+     */
+    <T> ImmutableStack<T> withAllPersistent(Iterable<? extends T> items);
 }
@@ -17,8 +17,10 @@
 package com.gs.collections.api.map;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -277,4 +279,12 @@ public interface MapIterable<K, V> extends RichIterable<V>
     String toString();
 
     ImmutableMapIterable<K, V> toImmutable();
+
+    /**
+     * Returns a parallel iterable of this MapIterable.
+     *
+     * @since 7.0
+     */
+    @Beta
+    ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize);
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.map;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.ParallelUnsortedBag;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A ParallelMapIterable is the parallel equivalent of a {@link MapIterable}. Its views defer evaluation of methods like
+ * select, reject and collect, and force evaluation in parallel for methods that do not return a parallel iterable.
+ * All code blocks passed in must be stateless or thread-safe.
+ *
+ * @since 7.0
+ */
+@Beta
+public interface ParallelMapIterable<K, V>
+{
+    /**
+     * Calls the procedure with each key-value pair of the map, in parallel.
+     */
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    /**
+     * Returns a parallel iterable over the keys of the map.
+     */
+    ParallelUnsortedSetIterable<K> keysView();
+
+    /**
+     * Returns a parallel iterable over the values of the map. A value occurs once for every key that maps to it.
+     */
+    ParallelUnsortedBag<V> valuesView();
+
+    /**
+     * Returns a parallel iterable over the key-value pairs of the map.
+     */
+    ParallelUnsortedSetIterable<Pair<K, V>> keyValuesView();
+}
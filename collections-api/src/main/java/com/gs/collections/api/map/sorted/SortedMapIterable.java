@@ -130,6 +130,31 @@ public interface SortedMapIterable<K, V>
 
     ListIterable<V> distinct();
 
+    /**
+     * Returns the number of keys in this map that come before {@code key} in its order. The key does not have to be
+     * in the map, so the rank of a missing key is the index it would be inserted at.
+     *
+     * @since 7.0
+     */
+    int rank(K key);
+
+    /**
+     * Returns the key at {@code index} in the order of this map. Named keyAt rather than get so that it cannot be
+     * confused with {@link #get(Object)} on a map with Integer keys.
+     *
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of this map
+     * @since 7.0
+     */
+    K keyAt(int index);
+
+    /**
+     * Returns the number of keys from {@code fromKey}, inclusive, to {@code toKey}, exclusive.
+     *
+     * @throws IllegalArgumentException if fromKey comes after toKey in the order of this map
+     * @since 7.0
+     */
+    int countBetween(K fromKey, K toKey);
+
     /**
      * Converts the SortedMapIterable to an immutable implementation. Returns this for immutable maps.
      *
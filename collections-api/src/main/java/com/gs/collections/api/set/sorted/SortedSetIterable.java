@@ -150,6 +150,32 @@ public interface SortedSetIterable<T>
 
     SortedSetIterable<T> drop(int count);
 
+    /**
+     * Returns the number of elements in this set that come before {@code element} in its order. The element does not
+     * have to be in the set, so the rank of a missing element is the index it would be inserted at.
+     *
+     * @since 7.0
+     */
+    int rank(T element);
+
+    /**
+     * Returns the element at {@code index} in the order of this set, so that {@code get(rank(each)) == each} for
+     * every element of the set.
+     *
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of this set
+     * @since 7.0
+     */
+    T get(int index);
+
+    /**
+     * Returns the number of elements from {@code fromElement}, inclusive, to {@code toElement}, exclusive. This is
+     * the size of {@code subSet(fromElement, toElement)} without creating the view.
+     *
+     * @throws IllegalArgumentException if fromElement comes after toElement in the order of this set
+     * @since 7.0
+     */
+    int countBetween(T fromElement, T toElement);
+
     /**
      * Converts the SortedSetIterable to an immutable implementation. Returns this for immutable sets.
      *
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.statistics;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+
+/**
+ * The count, sum, minimum, maximum and average of a group of double values, computed in a single pass. Instances are
+ * immutable, and two instances are equal if they have the same count, sum, minimum and maximum.
+ *
+ * @since 7.0
+ */
+public interface DoubleStatistics extends Serializable
+{
+    long getCount();
+
+    boolean isEmpty();
+
+    double getSum();
+
+    /**
+     * @throws NoSuchElementException if no values were summarized
+     */
+    double getMin();
+
+    /**
+     * @throws NoSuchElementException if no values were summarized
+     */
+    double getMax();
+
+    /**
+     * @throws ArithmeticException if no values were summarized
+     */
+    double getAverage();
+}
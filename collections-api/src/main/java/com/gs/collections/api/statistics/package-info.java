@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains read-only summaries of the values of a collection, computed in a single pass.
+ * <p>
+ *      This package contains 3 interfaces:
+ * <ul>
+ *   <li>
+ *       {@link com.gs.collections.api.statistics.IntStatistics} - the count, sum, minimum, maximum and average of int values.
+ *   </li>
+ *   <li>
+ *       {@link com.gs.collections.api.statistics.LongStatistics} - the count, sum, minimum, maximum and average of long values.
+ *   </li>
+ *   <li>
+ *       {@link com.gs.collections.api.statistics.DoubleStatistics} - the count, sum, minimum, maximum and average of double values.
+ *   </li>
+ * </ul>
+ */
+package com.gs.collections.api.statistics;
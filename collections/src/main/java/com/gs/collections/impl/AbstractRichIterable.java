@@ -54,6 +54,7 @@ import com.gs.collections.api.collection.primitive.MutableIntCollection;
 import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
@@ -61,6 +62,9 @@ import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
 import com.gs.collections.impl.block.factory.Comparators;
@@ -92,6 +96,13 @@ import com.gs.collections.impl.block.procedure.SumOfDoubleProcedure;
 import com.gs.collections.impl.block.procedure.SumOfFloatProcedure;
 import com.gs.collections.impl.block.procedure.SumOfIntProcedure;
 import com.gs.collections.impl.block.procedure.SumOfLongProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeDoubleByProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeDoubleProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeIntByProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeIntProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeLongByProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeLongProcedure;
+import com.gs.collections.impl.block.procedure.TopNProcedure;
 import com.gs.collections.impl.block.procedure.ZipWithIndexProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectBooleanProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectByteProcedure;
@@ -388,6 +399,72 @@ public abstract class AbstractRichIterable<T> implements RichIterable<T>
         return maxByProcedure.getResult();
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        TopNProcedure<T> topNProcedure = new TopNProcedure<T>(count, comparator);
+        this.forEach(topNProcedure);
+        return topNProcedure.toList();
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.topN(count, Comparators.byFunction(function));
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        TopNProcedure<T> bottomNProcedure = TopNProcedure.bottomN(count, comparator);
+        this.forEach(bottomNProcedure);
+        return bottomNProcedure.toList();
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.bottomN(count, Comparators.byFunction(function));
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        SummarizeIntProcedure<T> procedure = new SummarizeIntProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        SummarizeLongProcedure<T> procedure = new SummarizeLongProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        SummarizeDoubleProcedure<T> procedure = new SummarizeDoubleProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        SummarizeIntByProcedure<T, V> procedure = new SummarizeIntByProcedure<T, V>(groupBy, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        SummarizeLongByProcedure<T, V> procedure = new SummarizeLongByProcedure<T, V>(groupBy, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        SummarizeDoubleByProcedure<T, V> procedure = new SummarizeDoubleByProcedure<T, V>(groupBy, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public LazyIterable<T> asLazy()
     {
         return LazyIterate.adapt(this);
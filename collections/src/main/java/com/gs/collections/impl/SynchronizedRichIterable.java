@@ -72,6 +72,9 @@ import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import net.jcip.annotations.GuardedBy;
 
@@ -801,6 +804,86 @@ public class SynchronizedRichIterable<T>
         }
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topN(count, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topNBy(count, function);
+        }
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.bottomN(count, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.bottomNBy(count, function);
+        }
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeInt(function);
+        }
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeLong(function);
+        }
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeDouble(function);
+        }
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeIntBy(groupBy, function);
+        }
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeLongBy(groupBy, function);
+        }
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeDoubleBy(groupBy, function);
+        }
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         synchronized (this.lock)
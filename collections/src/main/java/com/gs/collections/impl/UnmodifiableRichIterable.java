@@ -72,6 +72,9 @@ import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 
 /**
@@ -397,6 +400,56 @@ public class UnmodifiableRichIterable<T>
         return this.iterable.maxBy(function);
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        return this.iterable.topN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.topNBy(count, function);
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return this.iterable.bottomN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        return this.iterable.summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        return this.iterable.summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        return this.iterable.summarizeDouble(function);
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.iterable.summarizeIntBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.iterable.summarizeLongBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.iterable.summarizeDoubleBy(groupBy, function);
+    }
+
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
     {
         return this.iterable.detectIfNone(predicate, function);
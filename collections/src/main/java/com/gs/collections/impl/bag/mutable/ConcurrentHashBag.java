@@ -0,0 +1,647 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a MutableBag that can be updated by many threads at once without a lock. Each item maps to its
+ * own atomic counter in a {@link ConcurrentHashMap}, so threads adding different items never contend, and the total
+ * size is kept in striped counters rather than one shared field.
+ * <p>
+ * Iteration, {@link #size()}, {@link #occurrencesOf(Object)} and the other read operations are weakly consistent: they
+ * reflect some state of the bag at or since the start of the call and never throw
+ * {@link java.util.ConcurrentModificationException}. Null items are not supported.
+ * <p>
+ * A counter that drops to zero is retired and removed from the map; adders that find a retired counter help remove it
+ * and retry with a fresh one, so an item is never lost between a concurrent remove and add.
+ *
+ * @since 7.0
+ */
+public final class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int SIZE_STRIPES = 64;
+    // Sixteen ints apart keeps each stripe on its own 64 byte cache line
+    private static final int SIZE_STRIPE_SHIFT = 4;
+
+    private ConcurrentHashMap<T, AtomicInteger> items;
+    private transient AtomicIntegerArray sizes = new AtomicIntegerArray(SIZE_STRIPES << SIZE_STRIPE_SHIFT);
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<E>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static int stripe(Object item)
+    {
+        int h = item.hashCode();
+        h ^= h >>> 16;
+        h ^= h >>> 7;
+        return (h & (SIZE_STRIPES - 1)) << SIZE_STRIPE_SHIFT;
+    }
+
+    private void addToSize(Object item, int delta)
+    {
+        this.sizes.addAndGet(ConcurrentHashBag.stripe(item), delta);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> source)
+    {
+        if (source instanceof Bag)
+        {
+            return this.addAllBag((Bag<T>) source);
+        }
+        return super.addAll(source);
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof Bag)
+        {
+            return this.addAllBag((Bag<T>) iterable);
+        }
+        return super.addAllIterable(iterable);
+    }
+
+    private boolean addAllBag(Bag<? extends T> source)
+    {
+        source.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                ConcurrentHashBag.this.addOccurrences(each, occurrences);
+            }
+        });
+        return source.notEmpty();
+    }
+
+    /**
+     * Adds the elements of source using {@link ParallelIterate}, with each batch adding straight into this bag.
+     */
+    public void addAllInParallel(Iterable<? extends T> source, int batchSize, Executor executor)
+    {
+        ParallelIterate.forEach((Iterable<T>) source, new CollectionAddProcedure<T>(this), batchSize, executor);
+    }
+
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.incrementCounter(item, occurrences);
+            this.addToSize(item, occurrences);
+        }
+    }
+
+    private void incrementCounter(T item, int occurrences)
+    {
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(item);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(item, new AtomicInteger(occurrences));
+                if (counter == null)
+                {
+                    return;
+                }
+            }
+            while (true)
+            {
+                int current = counter.get();
+                if (current == 0)
+                {
+                    // Retired by a concurrent remove; help unlink it and start again with a fresh counter
+                    this.items.remove(item, counter);
+                    break;
+                }
+                if (counter.compareAndSet(current, current + occurrences))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes up to occurrences of item and returns the number actually removed. A counter that reaches zero is
+     * retired and unlinked from the map.
+     */
+    private int decrementCounter(Object item, int occurrences)
+    {
+        AtomicInteger counter = this.items.get(item);
+        if (counter == null)
+        {
+            return 0;
+        }
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                this.items.remove(item, counter);
+                return 0;
+            }
+            int next = Math.max(0, current - occurrences);
+            if (counter.compareAndSet(current, next))
+            {
+                if (next == 0)
+                {
+                    this.items.remove(item, counter);
+                }
+                this.addToSize(item, next - current);
+                return current - next;
+            }
+        }
+    }
+
+    public boolean remove(Object item)
+    {
+        return this.decrementCounter(item, 1) > 0;
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        return occurrences > 0 && this.decrementCounter(item, occurrences) > 0;
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(item);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(item, new AtomicInteger(occurrences)) == null)
+                {
+                    this.addToSize(item, occurrences);
+                    return true;
+                }
+                continue;
+            }
+            int current = counter.get();
+            if (current == 0)
+            {
+                this.items.remove(item, counter);
+                continue;
+            }
+            if (current == occurrences)
+            {
+                return false;
+            }
+            if (counter.compareAndSet(current, occurrences))
+            {
+                if (occurrences == 0)
+                {
+                    this.items.remove(item, counter);
+                }
+                this.addToSize(item, occurrences - current);
+                return true;
+            }
+        }
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(item);
+        return counter == null ? 0 : counter.get();
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    public int size()
+    {
+        int result = 0;
+        for (int i = 0; i < SIZE_STRIPES; i++)
+        {
+            result += this.sizes.get(i << SIZE_STRIPE_SHIFT);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView();
+    }
+
+    public void clear()
+    {
+        for (T each : this.items.keySet())
+        {
+            this.decrementCounter(each, Integer.MAX_VALUE);
+        }
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue(new Procedure2<T, AtomicInteger>()
+        {
+            public void value(T item, AtomicInteger counter)
+            {
+                int count = counter.get();
+                if (count > 0)
+                {
+                    objectIntProcedure.value(item, count);
+                }
+            }
+        });
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(item);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    objectIntProcedure.value(item, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(item, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final MutableBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                if (predicate.accept(count))
+                {
+                    result.addOccurrences(item, count);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (T each : this.items.keySet())
+        {
+            if (predicate.accept(each))
+            {
+                changed |= this.decrementCounter(each, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (T each : this.items.keySet())
+        {
+            if (predicate.accept(each, parameter))
+            {
+                changed |= this.decrementCounter(each, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            changed |= this.decrementCounter(each, Integer.MAX_VALUE) > 0;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        final Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Map.Entry<T, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (bag.occurrencesOf(entry.getKey()) != entry.getValue().get())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add(item.hashCode() ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public void writeExternal(final ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        this.sizes = new AtomicIntegerArray(SIZE_STRIPES << SIZE_STRIPE_SHIFT);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<T, AtomicInteger>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            while (this.occurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<T, AtomicInteger> entry = this.iterator.next();
+                this.currentItem = entry.getKey();
+                this.occurrences = entry.getValue().get();
+            }
+            return this.occurrences > 0;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.occurrences--;
+            this.lastReturned = this.currentItem;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
@@ -22,7 +22,6 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Iterator;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
@@ -71,9 +70,10 @@ import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableColl
 import com.gs.collections.impl.factory.Bags;
 import com.gs.collections.impl.factory.Iterables;
 import com.gs.collections.impl.utility.LazyIterate;
+import com.gs.collections.impl.utility.internal.OptimisticReadWriteLock;
 
 /**
- * MultiReaderHashBag provides a thread-safe wrapper around a HashBag, using a ReentrantReadWriteLock. In order to
+ * MultiReaderHashBag provides a thread-safe wrapper around a HashBag, using an OptimisticReadWriteLock. In order to
  * provide true thread-safety, MultiReaderHashBag does not implement iterator() as this method requires an external lock
  * to be taken to provide thread-safe iteration. All of these methods are available however, if you use the
  * withReadLockAndDelegate() or withWriteLockAndDelegate() methods. Both of these methods take a parameter of type
@@ -103,7 +103,7 @@ public final class MultiReaderHashBag<T>
 
     private MultiReaderHashBag(MutableBag<T> newDelegate)
     {
-        this(newDelegate, new ReentrantReadWriteLock());
+        this(newDelegate, new OptimisticReadWriteLock());
     }
 
     private MultiReaderHashBag(MutableBag<T> newDelegate, ReadWriteLock newLock)
@@ -264,6 +264,27 @@ public final class MultiReaderHashBag<T>
 
     public int occurrencesOf(Object item)
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            try
+            {
+                int result = this.delegate.occurrencesOf(item);
+                if (optimisticLock.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                // A concurrent write may have left the delegate inconsistent, in which case retry under the read lock
+                if (optimisticLock.validate(stamp))
+                {
+                    throw e;
+                }
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -277,6 +298,27 @@ public final class MultiReaderHashBag<T>
 
     public int sizeDistinct()
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            try
+            {
+                int result = this.delegate.sizeDistinct();
+                if (optimisticLock.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                // A concurrent write may have left the delegate inconsistent, in which case retry under the read lock
+                if (optimisticLock.validate(stamp))
+                {
+                    throw e;
+                }
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -787,7 +829,7 @@ public final class MultiReaderHashBag<T>
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
         this.delegate = (MutableBag<T>) in.readObject();
-        this.lock = new ReentrantReadWriteLock();
+        this.lock = new OptimisticReadWriteLock();
     }
 
     //Exposed for testing
@@ -107,6 +107,17 @@ abstract class AbstractImmutableSortedBag<T>
         return this;
     }
 
+    public int countBetween(T fromItem, T toItem)
+    {
+        Comparator<? super T> comparator = this.comparator();
+        int comparison = comparator == null ? ((Comparable<? super T>) fromItem).compareTo(toItem) : comparator.compare(fromItem, toItem);
+        if (comparison > 0)
+        {
+            throw new IllegalArgumentException("fromItem > toItem");
+        }
+        return this.rank(toItem) - this.rank(fromItem);
+    }
+
     protected Object writeReplace()
     {
         return new ImmutableSortedBagSerializationProxy<T>(this);
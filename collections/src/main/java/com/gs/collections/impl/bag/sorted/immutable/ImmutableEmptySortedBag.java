@@ -329,6 +329,16 @@ class ImmutableEmptySortedBag<T>
         return -1;
     }
 
+    public int rank(T item)
+    {
+        return 0;
+    }
+
+    public T get(int index)
+    {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+    }
+
     public int compareTo(SortedBag<T> o)
     {
         return o.size() * -1;
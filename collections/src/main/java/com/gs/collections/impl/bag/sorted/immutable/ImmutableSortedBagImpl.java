@@ -61,6 +61,9 @@ class ImmutableSortedBagImpl<T>
     private static final long serialVersionUID = 1L;
     private final T[] elements;
     private final int[] occurrences;
+    // occurrencesBefore[i] is the number of occurrences of elements[0] to elements[i - 1], so rank and get can binary
+    // search it rather than summing occurrences
+    private final int[] occurrencesBefore;
     private final Comparator<? super T> comparator;
     private final int size;
 
@@ -86,6 +89,7 @@ class ImmutableSortedBagImpl<T>
                 this.i++;
             }
         });
+        this.occurrencesBefore = ImmutableSortedBagImpl.occurrencesBefore(this.occurrences);
     }
 
     private ImmutableSortedBagImpl(T[] elements, int[] occurrences, Comparator<? super T> comparator)
@@ -98,14 +102,18 @@ class ImmutableSortedBagImpl<T>
         this.comparator = comparator;
         this.elements = elements;
         this.occurrences = occurrences;
+        this.occurrencesBefore = ImmutableSortedBagImpl.occurrencesBefore(occurrences);
+        this.size = this.occurrencesBefore[occurrences.length];
+    }
 
-        int size = 0;
-        for (int occurrence : occurrences)
+    private static int[] occurrencesBefore(int[] occurrences)
+    {
+        int[] result = new int[occurrences.length + 1];
+        for (int i = 0; i < occurrences.length; i++)
         {
-            size += occurrence;
+            result[i + 1] = result[i] + occurrences[i];
         }
-
-        this.size = size;
+        return result;
     }
 
     public ImmutableSortedBag<T> newWith(T element)
@@ -316,6 +324,23 @@ class ImmutableSortedBagImpl<T>
         return -1;
     }
 
+    public int rank(T item)
+    {
+        int index = Arrays.binarySearch(this.elements, item, this.comparator);
+        int distinctBefore = index < 0 ? -index - 1 : index;
+        return this.occurrencesBefore[distinctBefore];
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        int distinctIndex = Arrays.binarySearch(this.occurrencesBefore, 0, this.elements.length, index);
+        return this.elements[distinctIndex < 0 ? -distinctIndex - 2 : distinctIndex];
+    }
+
     public T getFirst()
     {
         return ArrayIterate.getFirst(this.elements);
@@ -263,6 +263,30 @@ public class SynchronizedSortedBag<T>
         }
     }
 
+    public int rank(T item)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().rank(item);
+        }
+    }
+
+    public T get(int index)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().get(index);
+        }
+    }
+
+    public int countBetween(T fromItem, T toItem)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().countBetween(fromItem, toItem);
+        }
+    }
+
     public MutableStack<T> toStack()
     {
         synchronized (this.getLock())
@@ -617,6 +617,33 @@ public class TreeBag<T>
         return -1;
     }
 
+    public int rank(T item)
+    {
+        return (int) this.items.headMap(item).values().sumOfInt(Counter.TO_COUNT);
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        Iterator<Map.Entry<T, Counter>> iterator = this.items.entrySet().iterator();
+        Map.Entry<T, Counter> entry = iterator.next();
+        int remaining = index;
+        while (remaining >= entry.getValue().getCount())
+        {
+            remaining -= entry.getValue().getCount();
+            entry = iterator.next();
+        }
+        return entry.getKey();
+    }
+
+    public int countBetween(T fromItem, T toItem)
+    {
+        return (int) this.items.subMap(fromItem, toItem).values().sumOfInt(Counter.TO_COUNT);
+    }
+
     public MutableSortedSet<Pair<T, Integer>> zipWithIndex()
     {
         final Comparator<? super T> comparator = this.items.comparator();
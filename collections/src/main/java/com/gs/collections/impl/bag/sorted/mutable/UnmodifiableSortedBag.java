@@ -332,6 +332,21 @@ public class UnmodifiableSortedBag<T>
         return this.getSortedBag().indexOf(object);
     }
 
+    public int rank(T item)
+    {
+        return this.getSortedBag().rank(item);
+    }
+
+    public T get(int index)
+    {
+        return this.getSortedBag().get(index);
+    }
+
+    public int countBetween(T fromItem, T toItem)
+    {
+        return this.getSortedBag().countBetween(fromItem, toItem);
+    }
+
     public MutableSortedBag<T> takeWhile(Predicate<? super T> predicate)
     {
         return this.getSortedBag().takeWhile(predicate);
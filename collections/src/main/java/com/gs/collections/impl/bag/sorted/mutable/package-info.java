@@ -17,9 +17,12 @@
 /**
  * This package contains implementations of {@link com.gs.collections.api.bag.sorted.MutableSortedBag}.
  * <p>
- *     This package contains 2 sorted mutable bag implementation:
+ *     This package contains 3 sorted mutable bag implementation:
  * <ul>
  *     <li>
+ *          {@link com.gs.collections.impl.bag.sorted.mutable.BTreeBag} - a sorted bag backed by a B+ tree.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.bag.sorted.mutable.TreeBag} - a sorted bag backed by Tree data structure..
  *     </li>
  *     <li>
@@ -19,9 +19,11 @@ package com.gs.collections.impl.bimap;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.bimap.BiMap;
@@ -56,12 +58,16 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 
 public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
@@ -389,11 +395,67 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
         return this.getDelegate().maxBy(function);
     }
 
+    public MutableList<V> topN(int count, Comparator<? super V> comparator)
+    {
+        return this.getDelegate().topN(count, comparator);
+    }
+
+    public <VV extends Comparable<? super VV>> MutableList<V> topNBy(int count, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().topNBy(count, function);
+    }
+
+    public MutableList<V> bottomN(int count, Comparator<? super V> comparator)
+    {
+        return this.getDelegate().bottomN(count, comparator);
+    }
+
+    public <VV extends Comparable<? super VV>> MutableList<V> bottomNBy(int count, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeDouble(function);
+    }
+
+    public <VV> MapIterable<VV, IntStatistics> summarizeIntBy(Function<? super V, ? extends VV> groupBy, IntFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeIntBy(groupBy, function);
+    }
+
+    public <VV> MapIterable<VV, LongStatistics> summarizeLongBy(Function<? super V, ? extends VV> groupBy, LongFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeLongBy(groupBy, function);
+    }
+
+    public <VV> MapIterable<VV, DoubleStatistics> summarizeDoubleBy(Function<? super V, ? extends VV> groupBy, DoubleFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeDoubleBy(groupBy, function);
+    }
+
     public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
     {
         return this.getDelegate().detect(predicate);
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getDelegate().asParallel(executorService, batchSize);
+    }
+
     public V detect(Predicate<? super V> predicate)
     {
         return this.getDelegate().detect(predicate);
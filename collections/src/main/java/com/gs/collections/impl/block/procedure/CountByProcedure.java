@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+
+/**
+ * Implementation of {@link Procedure} that counts the elements for each key returned by the {@link Function}, without
+ * boxing the counts.
+ *
+ * @since 7.0
+ */
+public class CountByProcedure<T, V> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends V> function;
+    private final ObjectIntHashMap<V> result = ObjectIntHashMap.newMap();
+
+    public CountByProcedure(Function<? super T, ? extends V> function)
+    {
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        this.result.addToValue(this.function.valueOf(each), 1);
+    }
+
+    public CountByProcedure<T, V> merge(CountByProcedure<T, V> other)
+    {
+        other.result.forEachKeyValue(new ObjectIntProcedure<V>()
+        {
+            public void value(V key, int count)
+            {
+                CountByProcedure.this.result.addToValue(key, count);
+            }
+        });
+        return this;
+    }
+
+    public ObjectIntHashMap<V> getResult()
+    {
+        return this.result;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+
+/**
+ * Implementation of {@link Procedure} that sums the values returned by the {@link DoubleFunction} for each key returned by
+ * the groupBy {@link Function}, without boxing the sums. Each sum is Kahan-compensated, and the compensation is carried
+ * over when partial results are merged.
+ *
+ * @since 7.0
+ */
+public class SumByDoubleProcedure<T, V> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<T, V> groupBy;
+    private final DoubleFunction<? super T> function;
+    private final ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+    private final ObjectDoubleHashMap<V> compensation = ObjectDoubleHashMap.newMap();
+
+    public SumByDoubleProcedure(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.groupBy = groupBy;
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        this.add(this.groupBy.valueOf(each), (double) this.function.doubleValueOf(each));
+    }
+
+    private void add(V key, double value)
+    {
+        double sum = this.result.get(key);
+        double adjustedValue = value - this.compensation.get(key);
+        double nextSum = sum + adjustedValue;
+        this.compensation.put(key, nextSum - sum - adjustedValue);
+        this.result.put(key, nextSum);
+    }
+
+    public SumByDoubleProcedure<T, V> merge(final SumByDoubleProcedure<T, V> other)
+    {
+        other.result.forEachKeyValue(new ObjectDoubleProcedure<V>()
+        {
+            public void value(V key, double sum)
+            {
+                SumByDoubleProcedure.this.add(key, sum);
+                SumByDoubleProcedure.this.add(key, -other.compensation.get(key));
+            }
+        });
+        return this;
+    }
+
+    public ObjectDoubleHashMap<V> getResult()
+    {
+        return this.result;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+
+/**
+ * Implementation of {@link Procedure} that sums the values returned by the {@link LongFunction} for each key returned by
+ * the groupBy {@link Function}, without boxing the sums.
+ *
+ * @since 7.0
+ */
+public class SumByLongProcedure<T, V> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<T, V> groupBy;
+    private final LongFunction<? super T> function;
+    private final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+
+    public SumByLongProcedure(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        this.groupBy = groupBy;
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        this.result.addToValue(this.groupBy.valueOf(each), this.function.longValueOf(each));
+    }
+
+    public SumByLongProcedure<T, V> merge(SumByLongProcedure<T, V> other)
+    {
+        other.result.forEachKeyValue(new ObjectLongProcedure<V>()
+        {
+            public void value(V key, long sum)
+            {
+                SumByLongProcedure.this.result.addToValue(key, sum);
+            }
+        });
+        return this;
+    }
+
+    public ObjectLongHashMap<V> getResult()
+    {
+        return this.result;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.statistics.DoubleStatisticsAccumulator;
+
+/**
+ * Implementation of {@link Procedure} that summarizes the values returned by the {@link DoubleFunction} separately for
+ * each key returned by the groupBy {@link Function}.
+ *
+ * @since 7.0
+ */
+public class SummarizeDoubleByProcedure<T, V> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends V> groupBy;
+    private final DoubleFunction<? super T> function;
+    private final MutableMap<V, DoubleStatisticsAccumulator> accumulators = UnifiedMap.newMap();
+
+    public SummarizeDoubleByProcedure(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.groupBy = groupBy;
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        this.getAccumulator(this.groupBy.valueOf(each)).value(this.function.doubleValueOf(each));
+    }
+
+    private DoubleStatisticsAccumulator getAccumulator(V key)
+    {
+        DoubleStatisticsAccumulator accumulator = this.accumulators.get(key);
+        if (accumulator == null)
+        {
+            accumulator = new DoubleStatisticsAccumulator();
+            this.accumulators.put(key, accumulator);
+        }
+        return accumulator;
+    }
+
+    public SummarizeDoubleByProcedure<T, V> merge(SummarizeDoubleByProcedure<T, V> other)
+    {
+        other.accumulators.forEachKeyValue(new Procedure2<V, DoubleStatisticsAccumulator>()
+        {
+            public void value(V key, DoubleStatisticsAccumulator accumulator)
+            {
+                SummarizeDoubleByProcedure.this.getAccumulator(key).merge(accumulator);
+            }
+        });
+        return this;
+    }
+
+    public MutableMap<V, DoubleStatistics> getResult()
+    {
+        return this.accumulators.collectValues(new Function2<V, DoubleStatisticsAccumulator, DoubleStatistics>()
+        {
+            public DoubleStatistics value(V key, DoubleStatisticsAccumulator accumulator)
+            {
+                return accumulator.toStatistics();
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.impl.statistics.DoubleStatisticsAccumulator;
+
+/**
+ * Implementation of {@link Procedure} that summarizes the values returned by the {@link DoubleFunction} for the elements
+ * seen so far.
+ *
+ * @since 7.0
+ */
+public class SummarizeDoubleProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final DoubleFunction<? super T> function;
+    private final DoubleStatisticsAccumulator accumulator = new DoubleStatisticsAccumulator();
+
+    public SummarizeDoubleProcedure(DoubleFunction<? super T> function)
+    {
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        this.accumulator.value(this.function.doubleValueOf(each));
+    }
+
+    public SummarizeDoubleProcedure<T> merge(SummarizeDoubleProcedure<T> other)
+    {
+        this.accumulator.merge(other.accumulator);
+        return this;
+    }
+
+    public DoubleStatistics getResult()
+    {
+        return this.accumulator.toStatistics();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.statistics.IntStatisticsAccumulator;
+
+/**
+ * Implementation of {@link Procedure} that summarizes the values returned by the {@link IntFunction} separately for
+ * each key returned by the groupBy {@link Function}.
+ *
+ * @since 7.0
+ */
+public class SummarizeIntByProcedure<T, V> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends V> groupBy;
+    private final IntFunction<? super T> function;
+    private final MutableMap<V, IntStatisticsAccumulator> accumulators = UnifiedMap.newMap();
+
+    public SummarizeIntByProcedure(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        this.groupBy = groupBy;
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        this.getAccumulator(this.groupBy.valueOf(each)).value(this.function.intValueOf(each));
+    }
+
+    private IntStatisticsAccumulator getAccumulator(V key)
+    {
+        IntStatisticsAccumulator accumulator = this.accumulators.get(key);
+        if (accumulator == null)
+        {
+            accumulator = new IntStatisticsAccumulator();
+            this.accumulators.put(key, accumulator);
+        }
+        return accumulator;
+    }
+
+    public SummarizeIntByProcedure<T, V> merge(SummarizeIntByProcedure<T, V> other)
+    {
+        other.accumulators.forEachKeyValue(new Procedure2<V, IntStatisticsAccumulator>()
+        {
+            public void value(V key, IntStatisticsAccumulator accumulator)
+            {
+                SummarizeIntByProcedure.this.getAccumulator(key).merge(accumulator);
+            }
+        });
+        return this;
+    }
+
+    public MutableMap<V, IntStatistics> getResult()
+    {
+        return this.accumulators.collectValues(new Function2<V, IntStatisticsAccumulator, IntStatistics>()
+        {
+            public IntStatistics value(V key, IntStatisticsAccumulator accumulator)
+            {
+                return accumulator.toStatistics();
+            }
+        });
+    }
+}
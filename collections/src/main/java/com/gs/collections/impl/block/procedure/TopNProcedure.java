@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Implementation of {@link Procedure} that holds on to the {@code count} largest elements seen so far, determined by
+ * the {@link Comparator}. The elements are kept in a bounded binary heap whose root is the smallest element retained,
+ * so each element costs at most O(log count) comparisons and the whole input is never sorted.
+ *
+ * @since 7.0
+ */
+public class TopNProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Comparator<? super T> comparator;
+    private final T[] heap;
+    private int size;
+
+    public TopNProcedure(int count, Comparator<? super T> comparator)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        this.comparator = comparator;
+        this.heap = (T[]) new Object[count];
+    }
+
+    /**
+     * Creates a procedure that holds on to the {@code count} smallest elements seen so far instead.
+     */
+    public static <T> TopNProcedure<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return new TopNProcedure<T>(count, Collections.reverseOrder(comparator));
+    }
+
+    public void value(T each)
+    {
+        if (this.size < this.heap.length)
+        {
+            this.heap[this.size] = each;
+            this.siftUp(this.size);
+            this.size++;
+        }
+        else if (this.size > 0 && this.comparator.compare(each, this.heap[0]) > 0)
+        {
+            this.heap[0] = each;
+            this.siftDown(0);
+        }
+    }
+
+    /**
+     * Offers every element retained by {@code other} to this procedure, as when combining the results of batches.
+     */
+    public void merge(TopNProcedure<T> other)
+    {
+        for (int i = 0; i < other.size; i++)
+        {
+            this.value(other.heap[i]);
+        }
+    }
+
+    /**
+     * Returns the retained elements from largest to smallest.
+     */
+    public MutableList<T> toList()
+    {
+        T[] result = (T[]) new Object[this.size];
+        System.arraycopy(this.heap, 0, result, 0, this.size);
+        Arrays.sort(result, Collections.reverseOrder(this.comparator));
+        return FastList.newListWith(result);
+    }
+
+    private void siftUp(int index)
+    {
+        T element = this.heap[index];
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.comparator.compare(element, this.heap[parent]) >= 0)
+            {
+                break;
+            }
+            this.heap[child] = this.heap[parent];
+            child = parent;
+        }
+        this.heap[child] = element;
+    }
+
+    private void siftDown(int index)
+    {
+        T element = this.heap[index];
+        int parent = index;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = 2 * parent + 1;
+            if (child + 1 < this.size && this.comparator.compare(this.heap[child + 1], this.heap[child]) < 0)
+            {
+                child++;
+            }
+            if (this.comparator.compare(element, this.heap[child]) <= 0)
+            {
+                break;
+            }
+            this.heap[parent] = this.heap[child];
+            parent = child;
+        }
+        this.heap[parent] = element;
+    }
+}
@@ -56,6 +56,7 @@ import com.gs.collections.api.collection.primitive.MutableIntCollection;
 import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
@@ -63,6 +64,9 @@ import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
@@ -71,6 +75,7 @@ import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import com.gs.collections.impl.utility.internal.OptimisticReadWriteLock;
 
 /**
  * AbstractMultiReaderMutableCollection is a common abstraction that provides thread-safe collection behaviors.
@@ -82,6 +87,20 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     protected abstract ReadWriteLock getLock();
 
+    /**
+     * Returns the lock if it supports optimistic reads, or null otherwise. Only cheap queries are read optimistically:
+     * size(), isEmpty() and the like run no caller code, but contains() and occurrencesOf() call the elements'
+     * equals() and hashCode() against state that a concurrent write may be changing. Whatever those calls return or
+     * throw is discarded unless the read validates, and the query is then retried under the read lock, so equals() and
+     * hashCode() must only tolerate being called on a stale element, not guard against it. Everything else that runs
+     * caller code, such as iteration and the higher order functions, takes the read lock.
+     */
+    protected OptimisticReadWriteLock getOptimisticLock()
+    {
+        ReadWriteLock lock = this.getLock();
+        return lock instanceof OptimisticReadWriteLock ? (OptimisticReadWriteLock) lock : null;
+    }
+
     protected void acquireWriteLock()
     {
         this.getLock().writeLock().lock();
@@ -117,6 +136,27 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean contains(Object item)
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            try
+            {
+                boolean result = this.getDelegate().contains(item);
+                if (optimisticLock.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                // A concurrent write may have left the delegate inconsistent, in which case retry under the read lock
+                if (optimisticLock.validate(stamp))
+                {
+                    throw e;
+                }
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -587,6 +627,136 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topN(count, comparator);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topNBy(count, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().bottomN(count, comparator);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().bottomNBy(count, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeInt(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeLong(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeDouble(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeIntBy(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeLongBy(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeDoubleBy(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     public T detectIfNone(
             Predicate<? super T> predicate,
             Function0<? extends T> function)
@@ -661,6 +831,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean notEmpty()
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            boolean result = this.getDelegate().notEmpty();
+            if (optimisticLock.validate(stamp))
+            {
+                return result;
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -1154,6 +1334,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean isEmpty()
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            boolean result = this.getDelegate().isEmpty();
+            if (optimisticLock.validate(stamp))
+            {
+                return result;
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -1267,6 +1457,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public int size()
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            int result = this.getDelegate().size();
+            if (optimisticLock.validate(stamp))
+            {
+                return result;
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -1749,6 +1949,56 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.maxBy(function);
         }
 
+        public MutableList<T> topN(int count, Comparator<? super T> comparator)
+        {
+            return this.delegate.topN(count, comparator);
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.topNBy(count, function);
+        }
+
+        public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+        {
+            return this.delegate.bottomN(count, comparator);
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.bottomNBy(count, function);
+        }
+
+        public IntStatistics summarizeInt(IntFunction<? super T> function)
+        {
+            return this.delegate.summarizeInt(function);
+        }
+
+        public LongStatistics summarizeLong(LongFunction<? super T> function)
+        {
+            return this.delegate.summarizeLong(function);
+        }
+
+        public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+        {
+            return this.delegate.summarizeDouble(function);
+        }
+
+        public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+        {
+            return this.delegate.summarizeIntBy(groupBy, function);
+        }
+
+        public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+        {
+            return this.delegate.summarizeLongBy(groupBy, function);
+        }
+
+        public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+        {
+            return this.delegate.summarizeDoubleBy(groupBy, function);
+        }
+
         public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
         {
             return this.delegate.detectIfNone(predicate, function);
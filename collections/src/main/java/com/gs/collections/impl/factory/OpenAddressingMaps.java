@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.factory;
+
+import com.gs.collections.api.factory.map.MutableMapFactory;
+import com.gs.collections.impl.map.mutable.MutableOpenAddressingMapFactoryImpl;
+
+/**
+ * This class should be used to create instances of MutableMap backed by an
+ * {@link com.gs.collections.impl.map.mutable.OpenAddressingMap}, which resolves collisions by linear probing instead
+ * of chaining.
+ * <p>
+ * Mutable Examples:
+ *
+ * <pre>
+ * MutableMap&lt;String, String&gt; emptyMap = OpenAddressingMaps.mutable.empty();
+ * MutableMap&lt;String, String&gt; mapWith = OpenAddressingMaps.mutable.with("a", "A", "b", "B", "c", "C");
+ * </pre>
+ *
+ * @since 7.0
+ */
+@SuppressWarnings("ConstantNamingConvention")
+public final class OpenAddressingMaps
+{
+    public static final MutableMapFactory mutable = new MutableOpenAddressingMapFactoryImpl();
+
+    private OpenAddressingMaps()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+}
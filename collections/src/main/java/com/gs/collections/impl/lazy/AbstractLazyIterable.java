@@ -45,6 +45,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.partition.list.PartitionMutableList;
 import com.gs.collections.api.stack.MutableStack;
@@ -53,6 +54,8 @@ import com.gs.collections.impl.AbstractRichIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.Procedures2;
+import com.gs.collections.impl.block.procedure.CountByEachProcedure;
+import com.gs.collections.impl.block.procedure.CountByProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.PartitionProcedure;
@@ -209,6 +212,20 @@ public abstract class AbstractLazyIterable<T>
         return new CollectShortIterable<T>(this, shortFunction);
     }
 
+    public <V> ObjectIntMap<V> countBy(Function<? super T, ? extends V> function)
+    {
+        CountByProcedure<T, V> procedure = new CountByProcedure<T, V>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> ObjectIntMap<V> countByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        CountByEachProcedure<T, V> procedure = new CountByEachProcedure<T, V>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public <P, V> LazyIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
     {
         return LazyIterate.collect(this, Functions.bind(function, parameter));
@@ -51,9 +51,22 @@ public class CollectIterable<T, V>
         this.function = function;
     }
 
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
+    Function<? super T, ? extends V> getFunction()
+    {
+        return this.function;
+    }
+
     public void each(Procedure<? super V> procedure)
     {
-        Iterate.forEach(this.adapted, Functions.bind(procedure, this.function));
+        if (!FusedIterate.forEach(this, procedure))
+        {
+            Iterate.forEach(this.adapted, Functions.bind(procedure, this.function));
+        }
     }
 
     @Override
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.util.List;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Runs a chain of {@link SelectIterable}, {@link RejectIterable}, {@link CollectIterable}, {@link TapIterable} and
+ * {@link TakeIterable} over a {@link FastList}, {@link ArrayAdapter} or {@link Interval} as a single indexed loop.
+ * Run the usual way, each element passes through one wrapping procedure per stage, and a take falls back to
+ * iterators. Here the stages are flattened into arrays and applied in turn to each element, and the loop stops as
+ * soon as every take has passed on its count. A collectIf is a select followed by a collect, so it is covered as well.
+ */
+final class FusedIterate
+{
+    private static final int SELECT = 0;
+    private static final int COLLECT = 1;
+    private static final int TAP = 2;
+    private static final int TAKE = 3;
+
+    private FusedIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Applies the procedure to each element of the iterable in a single fused loop, if the iterable is a chain of
+     * stages this class knows over a source it can index. Returns false, having done nothing, otherwise.
+     */
+    public static boolean forEach(Iterable<?> iterable, Procedure<?> procedure)
+    {
+        int stageCount = 0;
+        Iterable<?> source = iterable;
+        while (FusedIterate.isStage(source))
+        {
+            stageCount++;
+            source = FusedIterate.getAdapted(source);
+        }
+        if (source instanceof LazyIterableAdapter)
+        {
+            source = ((LazyIterableAdapter<?>) source).getAdapted();
+        }
+        if (stageCount == 0 || !(source instanceof FastList || source instanceof ArrayAdapter || source instanceof Interval))
+        {
+            return false;
+        }
+
+        int[] operations = new int[stageCount];
+        Object[] arguments = new Object[stageCount];
+        int[] remaining = new int[stageCount];
+        Iterable<?> stage = iterable;
+        for (int i = stageCount - 1; i >= 0; i--)
+        {
+            if (stage instanceof TakeIterable)
+            {
+                if (((TakeIterable<?>) stage).getCount() == 0)
+                {
+                    return true;
+                }
+                operations[i] = TAKE;
+                remaining[i] = ((TakeIterable<?>) stage).getCount();
+            }
+            else if (stage instanceof SelectIterable)
+            {
+                operations[i] = SELECT;
+                arguments[i] = ((SelectIterable<?>) stage).getPredicate();
+            }
+            else if (stage instanceof RejectIterable)
+            {
+                // The reject predicate is stored negated already
+                operations[i] = SELECT;
+                arguments[i] = ((RejectIterable<?>) stage).getPredicate();
+            }
+            else if (stage instanceof CollectIterable)
+            {
+                operations[i] = COLLECT;
+                arguments[i] = ((CollectIterable<?, ?>) stage).getFunction();
+            }
+            else
+            {
+                operations[i] = TAP;
+                arguments[i] = ((TapIterable<?>) stage).getProcedure();
+            }
+            stage = FusedIterate.getAdapted(stage);
+        }
+
+        if (source instanceof Interval)
+        {
+            Interval interval = (Interval) source;
+            int size = interval.size();
+            int first = interval.getFirst();
+            int step = size > 1 ? interval.get(1) - first : 0;
+            for (int i = 0; i < size; i++)
+            {
+                if (!FusedIterate.apply(first + i * step, operations, arguments, remaining, (Procedure<Object>) procedure))
+                {
+                    return true;
+                }
+            }
+        }
+        else
+        {
+            List<?> list = (List<?>) source;
+            for (int i = 0; i < list.size(); i++)
+            {
+                if (!FusedIterate.apply(list.get(i), operations, arguments, remaining, (Procedure<Object>) procedure))
+                {
+                    return true;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStage(Iterable<?> iterable)
+    {
+        return iterable instanceof SelectIterable
+                || iterable instanceof RejectIterable
+                || iterable instanceof CollectIterable
+                || iterable instanceof TapIterable
+                || iterable instanceof TakeIterable;
+    }
+
+    private static Iterable<?> getAdapted(Iterable<?> stage)
+    {
+        if (stage instanceof SelectIterable)
+        {
+            return ((SelectIterable<?>) stage).getAdapted();
+        }
+        if (stage instanceof RejectIterable)
+        {
+            return ((RejectIterable<?>) stage).getAdapted();
+        }
+        if (stage instanceof CollectIterable)
+        {
+            return ((CollectIterable<?, ?>) stage).getAdapted();
+        }
+        if (stage instanceof TapIterable)
+        {
+            return ((TapIterable<?>) stage).getAdapted();
+        }
+        return ((TakeIterable<?>) stage).getAdapted();
+    }
+
+    /**
+     * Passes one source element through the stages and on to the procedure, and returns whether the loop should go on
+     * to the next element.
+     */
+    private static boolean apply(
+            Object element,
+            int[] operations,
+            Object[] arguments,
+            int[] remaining,
+            Procedure<Object> procedure)
+    {
+        Object each = element;
+        boolean more = true;
+        for (int i = 0; i < operations.length; i++)
+        {
+            switch (operations[i])
+            {
+                case SELECT:
+                    if (!((Predicate<Object>) arguments[i]).accept(each))
+                    {
+                        return more;
+                    }
+                    break;
+                case COLLECT:
+                    each = ((Function<Object, ?>) arguments[i]).valueOf(each);
+                    break;
+                case TAP:
+                    ((Procedure<Object>) arguments[i]).value(each);
+                    break;
+                default:
+                    remaining[i]--;
+                    if (remaining[i] == 0)
+                    {
+                        more = false;
+                    }
+            }
+        }
+        procedure.value(each);
+        return more;
+    }
+}
@@ -45,6 +45,11 @@ public class LazyIterableAdapter<T>
         this.adapted = newAdapted;
     }
 
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
     public void each(Procedure<? super T> procedure)
     {
         Iterate.forEach(this.adapted, procedure);
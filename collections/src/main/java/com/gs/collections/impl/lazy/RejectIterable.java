@@ -47,9 +47,22 @@ public class RejectIterable<T>
         this.predicate = Predicates.not(newPredicate);
     }
 
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
+    Predicate<? super T> getPredicate()
+    {
+        return this.predicate;
+    }
+
     public void each(Procedure<? super T> procedure)
     {
-        Iterate.forEach(this.adapted, new IfProcedure<T>(this.predicate, procedure));
+        if (!FusedIterate.forEach(this, procedure))
+        {
+            Iterate.forEach(this.adapted, new IfProcedure<T>(this.predicate, procedure));
+        }
     }
 
     @Override
@@ -44,10 +44,24 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
         this.count = count;
     }
 
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
+    int getCount()
+    {
+        return this.count;
+    }
+
     // TODO: implement in terms of LazyIterate.whileDo() when it is added.
 
     public void each(Procedure<? super T> procedure)
     {
+        if (FusedIterate.forEach(this, procedure))
+        {
+            return;
+        }
         int i = 0;
         Iterator<T> iterator = this.adapted.iterator();
         while (i < this.count && iterator.hasNext())
@@ -42,8 +42,22 @@ public class TapIterable<T>
         this.procedure = procedure;
     }
 
+    Iterable<T> getAdapted()
+    {
+        return this.adapted;
+    }
+
+    Procedure<? super T> getProcedure()
+    {
+        return this.procedure;
+    }
+
     public void each(final Procedure<? super T> procedure)
     {
+        if (FusedIterate.forEach(this, procedure))
+        {
+            return;
+        }
         Iterate.forEach(this.adapted, new Procedure<T>()
         {
             public void value(T each)
@@ -47,9 +47,15 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
@@ -58,10 +64,23 @@ import com.gs.collections.impl.block.factory.Functions2;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.block.procedure.CountByEachProcedure;
+import com.gs.collections.impl.block.procedure.CountByProcedure;
 import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.SumByDoubleProcedure;
+import com.gs.collections.impl.block.procedure.SumByFloatProcedure;
+import com.gs.collections.impl.block.procedure.SumByIntProcedure;
+import com.gs.collections.impl.block.procedure.SumByLongProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeDoubleByProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeDoubleProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeIntByProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeIntProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeLongByProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeLongProcedure;
+import com.gs.collections.impl.block.procedure.TopNProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
 import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
@@ -831,6 +850,325 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.collectReduce(map, Functions2.maxBy(function));
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        return this.selectTopN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.selectTopN(count, Comparators.byFunction(function));
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return this.selectTopN(count, Collections.reverseOrder(comparator));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.selectTopN(count, Collections.reverseOrder(Comparators.byFunction(function)));
+    }
+
+    public IntStatistics summarizeInt(final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, SummarizeIntProcedure<T>> map = new Function<Batch<T>, SummarizeIntProcedure<T>>()
+        {
+            public SummarizeIntProcedure<T> valueOf(Batch<T> batch)
+            {
+                SummarizeIntProcedure<T> procedure = new SummarizeIntProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SummarizeIntProcedure<T>, SummarizeIntProcedure<T>> reduce = new Procedure2<SummarizeIntProcedure<T>, SummarizeIntProcedure<T>>()
+        {
+            public void value(SummarizeIntProcedure<T> accumulator, SummarizeIntProcedure<T> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SummarizeIntProcedure<T> state = new SummarizeIntProcedure<T>(function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public LongStatistics summarizeLong(final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, SummarizeLongProcedure<T>> map = new Function<Batch<T>, SummarizeLongProcedure<T>>()
+        {
+            public SummarizeLongProcedure<T> valueOf(Batch<T> batch)
+            {
+                SummarizeLongProcedure<T> procedure = new SummarizeLongProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SummarizeLongProcedure<T>, SummarizeLongProcedure<T>> reduce = new Procedure2<SummarizeLongProcedure<T>, SummarizeLongProcedure<T>>()
+        {
+            public void value(SummarizeLongProcedure<T> accumulator, SummarizeLongProcedure<T> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SummarizeLongProcedure<T> state = new SummarizeLongProcedure<T>(function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public DoubleStatistics summarizeDouble(final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, SummarizeDoubleProcedure<T>> map = new Function<Batch<T>, SummarizeDoubleProcedure<T>>()
+        {
+            public SummarizeDoubleProcedure<T> valueOf(Batch<T> batch)
+            {
+                SummarizeDoubleProcedure<T> procedure = new SummarizeDoubleProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SummarizeDoubleProcedure<T>, SummarizeDoubleProcedure<T>> reduce = new Procedure2<SummarizeDoubleProcedure<T>, SummarizeDoubleProcedure<T>>()
+        {
+            public void value(SummarizeDoubleProcedure<T> accumulator, SummarizeDoubleProcedure<T> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SummarizeDoubleProcedure<T> state = new SummarizeDoubleProcedure<T>(function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(final Function<? super T, ? extends V> groupBy, final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, SummarizeIntByProcedure<T, V>> map = new Function<Batch<T>, SummarizeIntByProcedure<T, V>>()
+        {
+            public SummarizeIntByProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SummarizeIntByProcedure<T, V> procedure = new SummarizeIntByProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SummarizeIntByProcedure<T, V>, SummarizeIntByProcedure<T, V>> reduce = new Procedure2<SummarizeIntByProcedure<T, V>, SummarizeIntByProcedure<T, V>>()
+        {
+            public void value(SummarizeIntByProcedure<T, V> accumulator, SummarizeIntByProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SummarizeIntByProcedure<T, V> state = new SummarizeIntByProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(final Function<? super T, ? extends V> groupBy, final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, SummarizeLongByProcedure<T, V>> map = new Function<Batch<T>, SummarizeLongByProcedure<T, V>>()
+        {
+            public SummarizeLongByProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SummarizeLongByProcedure<T, V> procedure = new SummarizeLongByProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SummarizeLongByProcedure<T, V>, SummarizeLongByProcedure<T, V>> reduce = new Procedure2<SummarizeLongByProcedure<T, V>, SummarizeLongByProcedure<T, V>>()
+        {
+            public void value(SummarizeLongByProcedure<T, V> accumulator, SummarizeLongByProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SummarizeLongByProcedure<T, V> state = new SummarizeLongByProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(final Function<? super T, ? extends V> groupBy, final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, SummarizeDoubleByProcedure<T, V>> map = new Function<Batch<T>, SummarizeDoubleByProcedure<T, V>>()
+        {
+            public SummarizeDoubleByProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SummarizeDoubleByProcedure<T, V> procedure = new SummarizeDoubleByProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SummarizeDoubleByProcedure<T, V>, SummarizeDoubleByProcedure<T, V>> reduce = new Procedure2<SummarizeDoubleByProcedure<T, V>, SummarizeDoubleByProcedure<T, V>>()
+        {
+            public void value(SummarizeDoubleByProcedure<T, V> accumulator, SummarizeDoubleByProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SummarizeDoubleByProcedure<T, V> state = new SummarizeDoubleByProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> ObjectIntMap<V> countBy(final Function<? super T, ? extends V> function)
+    {
+        Function<Batch<T>, CountByProcedure<T, V>> map = new Function<Batch<T>, CountByProcedure<T, V>>()
+        {
+            public CountByProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                CountByProcedure<T, V> procedure = new CountByProcedure<T, V>(function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<CountByProcedure<T, V>, CountByProcedure<T, V>> reduce = new Procedure2<CountByProcedure<T, V>, CountByProcedure<T, V>>()
+        {
+            public void value(CountByProcedure<T, V> accumulator, CountByProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        CountByProcedure<T, V> state = new CountByProcedure<T, V>(function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> ObjectIntMap<V> countByEach(final Function<? super T, ? extends Iterable<V>> function)
+    {
+        Function<Batch<T>, CountByEachProcedure<T, V>> map = new Function<Batch<T>, CountByEachProcedure<T, V>>()
+        {
+            public CountByEachProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                CountByEachProcedure<T, V> procedure = new CountByEachProcedure<T, V>(function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<CountByEachProcedure<T, V>, CountByEachProcedure<T, V>> reduce = new Procedure2<CountByEachProcedure<T, V>, CountByEachProcedure<T, V>>()
+        {
+            public void value(CountByEachProcedure<T, V> accumulator, CountByEachProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        CountByEachProcedure<T, V> state = new CountByEachProcedure<T, V>(function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(final Function<T, V> groupBy, final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, SumByIntProcedure<T, V>> map = new Function<Batch<T>, SumByIntProcedure<T, V>>()
+        {
+            public SumByIntProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SumByIntProcedure<T, V> procedure = new SumByIntProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SumByIntProcedure<T, V>, SumByIntProcedure<T, V>> reduce = new Procedure2<SumByIntProcedure<T, V>, SumByIntProcedure<T, V>>()
+        {
+            public void value(SumByIntProcedure<T, V> accumulator, SumByIntProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SumByIntProcedure<T, V> state = new SumByIntProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(final Function<T, V> groupBy, final FloatFunction<? super T> function)
+    {
+        Function<Batch<T>, SumByFloatProcedure<T, V>> map = new Function<Batch<T>, SumByFloatProcedure<T, V>>()
+        {
+            public SumByFloatProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SumByFloatProcedure<T, V> procedure = new SumByFloatProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SumByFloatProcedure<T, V>, SumByFloatProcedure<T, V>> reduce = new Procedure2<SumByFloatProcedure<T, V>, SumByFloatProcedure<T, V>>()
+        {
+            public void value(SumByFloatProcedure<T, V> accumulator, SumByFloatProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SumByFloatProcedure<T, V> state = new SumByFloatProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(final Function<T, V> groupBy, final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, SumByLongProcedure<T, V>> map = new Function<Batch<T>, SumByLongProcedure<T, V>>()
+        {
+            public SumByLongProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SumByLongProcedure<T, V> procedure = new SumByLongProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SumByLongProcedure<T, V>, SumByLongProcedure<T, V>> reduce = new Procedure2<SumByLongProcedure<T, V>, SumByLongProcedure<T, V>>()
+        {
+            public void value(SumByLongProcedure<T, V> accumulator, SumByLongProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SumByLongProcedure<T, V> state = new SumByLongProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(final Function<T, V> groupBy, final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, SumByDoubleProcedure<T, V>> map = new Function<Batch<T>, SumByDoubleProcedure<T, V>>()
+        {
+            public SumByDoubleProcedure<T, V> valueOf(Batch<T> batch)
+            {
+                SumByDoubleProcedure<T, V> procedure = new SumByDoubleProcedure<T, V>(groupBy, function);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<SumByDoubleProcedure<T, V>, SumByDoubleProcedure<T, V>> reduce = new Procedure2<SumByDoubleProcedure<T, V>, SumByDoubleProcedure<T, V>>()
+        {
+            public void value(SumByDoubleProcedure<T, V> accumulator, SumByDoubleProcedure<T, V> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        SumByDoubleProcedure<T, V> state = new SumByDoubleProcedure<T, V>(groupBy, function);
+        this.collectCombine(map, reduce, state);
+        return state.getResult();
+    }
+
+    private MutableList<T> selectTopN(final int count, final Comparator<? super T> comparator)
+    {
+        TopNProcedure<T> state = new TopNProcedure<T>(count, comparator);
+        Function<Batch<T>, TopNProcedure<T>> map = new Function<Batch<T>, TopNProcedure<T>>()
+        {
+            public TopNProcedure<T> valueOf(Batch<T> batch)
+            {
+                TopNProcedure<T> procedure = new TopNProcedure<T>(count, comparator);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<TopNProcedure<T>, TopNProcedure<T>> reduce = new Procedure2<TopNProcedure<T>, TopNProcedure<T>>()
+        {
+            public void value(TopNProcedure<T> accumulator, TopNProcedure<T> each)
+            {
+                accumulator.merge(each);
+            }
+        };
+        this.collectCombine(map, reduce, state);
+        return state.toList();
+    }
+
     public long sumOfInt(final IntFunction<? super T> function)
     {
         LongFunction<Batch<T>> map = new LongFunction<Batch<T>>()
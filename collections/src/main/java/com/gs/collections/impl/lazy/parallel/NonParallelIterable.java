@@ -36,9 +36,17 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
+import com.gs.collections.impl.block.procedure.CountByEachProcedure;
+import com.gs.collections.impl.block.procedure.CountByProcedure;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -234,6 +242,90 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.maxBy(function);
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        return this.delegate.topN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.topNBy(count, function);
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return this.delegate.bottomN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        return this.delegate.summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        return this.delegate.summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        return this.delegate.summarizeDouble(function);
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.summarizeIntBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.summarizeLongBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.summarizeDoubleBy(groupBy, function);
+    }
+
+    public <V> ObjectIntMap<V> countBy(Function<? super T, ? extends V> function)
+    {
+        CountByProcedure<T, V> procedure = new CountByProcedure<T, V>(function);
+        this.delegate.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> ObjectIntMap<V> countByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        CountByEachProcedure<T, V> procedure = new CountByEachProcedure<T, V>(function);
+        this.delegate.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.sumByInt(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.delegate.sumByFloat(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.sumByDouble(groupBy, function);
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         return this.delegate.sumOfInt(function);
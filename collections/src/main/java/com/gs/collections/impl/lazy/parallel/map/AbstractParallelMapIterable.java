@@ -0,0 +1,508 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.ParallelUnsortedBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.ParallelMapIterable;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.ParallelDistinctIterable;
+import com.gs.collections.impl.lazy.parallel.bag.AbstractParallelUnsortedBag;
+import com.gs.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import com.gs.collections.impl.tuple.Tuples;
+
+/**
+ * The base class of the parallel views of a map. Subclasses only need to split the map into {@link RootMapBatch}es;
+ * the keys, values and key-value views run the same lazy pipelines as the parallel sets and bags on top of them.
+ *
+ * @since 7.0
+ */
+@Beta
+public abstract class AbstractParallelMapIterable<K, V, B extends RootMapBatch<K, V>> implements ParallelMapIterable<K, V>
+{
+    public abstract ExecutorService getExecutorService();
+
+    public abstract int getBatchSize();
+
+    public abstract LazyIterable<B> split();
+
+    public void forEachKeyValue(final Procedure2<? super K, ? super V> procedure)
+    {
+        LazyIterable<Future<?>> futures = this.split().collect(new Function<B, Future<?>>()
+        {
+            public Future<?> valueOf(final B batch)
+            {
+                return AbstractParallelMapIterable.this.getExecutorService().submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        batch.forEachKeyValue(procedure);
+                    }
+                });
+            }
+        });
+        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        MutableList<Future<?>> futuresList = futures.toList();
+        for (Future<?> future : futuresList)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    public ParallelUnsortedSetIterable<K> keysView()
+    {
+        return new ParallelKeysIterable();
+    }
+
+    public ParallelUnsortedBag<V> valuesView()
+    {
+        return new ParallelValuesIterable();
+    }
+
+    public ParallelUnsortedSetIterable<Pair<K, V>> keyValuesView()
+    {
+        return new ParallelKeyValuesIterable();
+    }
+
+    private final class ParallelKeysIterable extends AbstractParallelUnsortedSetIterable<K, RootUnsortedSetBatch<K>>
+    {
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return AbstractParallelMapIterable.this.getExecutorService();
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return AbstractParallelMapIterable.this.getBatchSize();
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedSetBatch<K>> split()
+        {
+            return AbstractParallelMapIterable.this.split().collect(new Function<B, RootUnsortedSetBatch<K>>()
+            {
+                public RootUnsortedSetBatch<K> valueOf(B batch)
+                {
+                    return new KeysBatch<K>(batch);
+                }
+            });
+        }
+
+        public void forEach(Procedure<? super K> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super K> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super K> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        public K detect(Predicate<? super K> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.toList().toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return this.toList().toArray(array);
+        }
+    }
+
+    private final class ParallelValuesIterable extends AbstractParallelUnsortedBag<V, RootUnsortedBagBatch<V>>
+    {
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return AbstractParallelMapIterable.this.getExecutorService();
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return AbstractParallelMapIterable.this.getBatchSize();
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedBagBatch<V>> split()
+        {
+            return AbstractParallelMapIterable.this.split().collect(new Function<B, RootUnsortedBagBatch<V>>()
+            {
+                public RootUnsortedBagBatch<V> valueOf(B batch)
+                {
+                    return new ValuesBatch<V>(batch);
+                }
+            });
+        }
+
+        public void forEach(Procedure<? super V> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        public void forEachWithOccurrences(final ObjectIntProcedure<? super V> procedure)
+        {
+            AbstractParallelIterable.forEach(this, new Procedure<V>()
+            {
+                public void value(V each)
+                {
+                    procedure.value(each, 1);
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super V> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super V> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        public V detect(Predicate<? super V> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public ParallelUnsortedSetIterable<V> asUnique()
+        {
+            return new ParallelDistinctIterable<V>(this);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.toList().toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return this.toList().toArray(array);
+        }
+    }
+
+    private final class ParallelKeyValuesIterable extends AbstractParallelUnsortedSetIterable<Pair<K, V>, RootUnsortedSetBatch<Pair<K, V>>>
+    {
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return AbstractParallelMapIterable.this.getExecutorService();
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return AbstractParallelMapIterable.this.getBatchSize();
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedSetBatch<Pair<K, V>>> split()
+        {
+            return AbstractParallelMapIterable.this.split().collect(new Function<B, RootUnsortedSetBatch<Pair<K, V>>>()
+            {
+                public RootUnsortedSetBatch<Pair<K, V>> valueOf(B batch)
+                {
+                    return new KeyValuesBatch<K, V>(batch);
+                }
+            });
+        }
+
+        public void forEach(Procedure<? super Pair<K, V>> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.toList().toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return this.toList().toArray(array);
+        }
+    }
+
+    private static final class KeysBatch<T> extends AbstractBatch<T> implements RootUnsortedSetBatch<T>
+    {
+        private final RootMapBatch<T, ?> mapBatch;
+
+        private KeysBatch(RootMapBatch<T, ?> mapBatch)
+        {
+            this.mapBatch = mapBatch;
+        }
+
+        public void forEach(final Procedure<? super T> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<T, Object>()
+            {
+                public void value(T key, Object value)
+                {
+                    procedure.value(key);
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectEntry(predicate, true) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectEntry(predicate, false) == null;
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            Pair<T, ?> entry = this.detectEntry(predicate, true);
+            return entry == null ? null : entry.getOne();
+        }
+
+        private Pair<T, ?> detectEntry(final Predicate<? super T> predicate, final boolean expected)
+        {
+            return this.mapBatch.detect(new Predicate2<T, Object>()
+            {
+                public boolean accept(T key, Object value)
+                {
+                    return predicate.accept(key) == expected;
+                }
+            });
+        }
+
+        public UnsortedSetBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectUnsortedSetBatch<T>(this, predicate);
+        }
+
+        public <V> UnsortedBagBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectUnsortedBagBatch<T, V>(this, function);
+        }
+
+        public <V> UnsortedBagBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<T, V>(this, function);
+        }
+    }
+
+    private static final class ValuesBatch<T> extends AbstractBatch<T> implements RootUnsortedBagBatch<T>
+    {
+        private final RootMapBatch<?, T> mapBatch;
+
+        private ValuesBatch(RootMapBatch<?, T> mapBatch)
+        {
+            this.mapBatch = mapBatch;
+        }
+
+        public void forEach(final Procedure<? super T> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<Object, T>()
+            {
+                public void value(Object key, T value)
+                {
+                    procedure.value(value);
+                }
+            });
+        }
+
+        public void forEachWithOccurrences(final ObjectIntProcedure<? super T> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<Object, T>()
+            {
+                public void value(Object key, T value)
+                {
+                    procedure.value(value, 1);
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectEntry(predicate, true) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectEntry(predicate, false) == null;
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            Pair<?, T> entry = this.detectEntry(predicate, true);
+            return entry == null ? null : entry.getTwo();
+        }
+
+        private Pair<?, T> detectEntry(final Predicate<? super T> predicate, final boolean expected)
+        {
+            return this.mapBatch.detect(new Predicate2<Object, T>()
+            {
+                public boolean accept(Object key, T value)
+                {
+                    return predicate.accept(value) == expected;
+                }
+            });
+        }
+
+        public UnsortedBagBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectUnsortedBagBatch<T>(this, predicate);
+        }
+
+        public <V> UnsortedBagBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectUnsortedBagBatch<T, V>(this, function);
+        }
+
+        public <V> UnsortedBagBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<T, V>(this, function);
+        }
+    }
+
+    private static final class KeyValuesBatch<K, V> extends AbstractBatch<Pair<K, V>> implements RootUnsortedSetBatch<Pair<K, V>>
+    {
+        private final RootMapBatch<K, V> mapBatch;
+
+        private KeyValuesBatch(RootMapBatch<K, V> mapBatch)
+        {
+            this.mapBatch = mapBatch;
+        }
+
+        public void forEach(final Procedure<? super Pair<K, V>> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(Tuples.pair(key, value));
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.detectEntry(predicate, true) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.detectEntry(predicate, false) == null;
+        }
+
+        public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.detectEntry(predicate, true);
+        }
+
+        private Pair<K, V> detectEntry(final Predicate<? super Pair<K, V>> predicate, final boolean expected)
+        {
+            return this.mapBatch.detect(new Predicate2<K, V>()
+            {
+                public boolean accept(K key, V value)
+                {
+                    return predicate.accept(Tuples.pair(key, value)) == expected;
+                }
+            });
+        }
+
+        public UnsortedSetBatch<Pair<K, V>> select(Predicate<? super Pair<K, V>> predicate)
+        {
+            return new SelectUnsortedSetBatch<Pair<K, V>>(this, predicate);
+        }
+
+        public <R> UnsortedBagBatch<R> collect(Function<? super Pair<K, V>, ? extends R> function)
+        {
+            return new CollectUnsortedBagBatch<Pair<K, V>, R>(this, function);
+        }
+
+        public <R> UnsortedBagBatch<R> flatCollect(Function<? super Pair<K, V>, ? extends Iterable<R>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<Pair<K, V>, R>(this, function);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.tuple.Tuples;
+
+/**
+ * A parallel view of any {@link MapIterable}. The keys and values are copied into arrays when the view is created
+ * and batches are ranges of those arrays, so maps without an array-based table can still be processed in parallel.
+ *
+ * @since 7.0
+ */
+@Beta
+public final class MapIterableParallelMapIterable<K, V> extends AbstractParallelMapIterable<K, V, RootMapBatch<K, V>>
+{
+    private final ExecutorService executorService;
+    private final int batchSize;
+    private final Object[] keys;
+    private final Object[] values;
+
+    public MapIterableParallelMapIterable(MapIterable<K, V> mapIterable, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+        int size = mapIterable.size();
+        this.keys = new Object[size];
+        this.values = new Object[size];
+        mapIterable.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private int index;
+
+            public void value(K key, V value)
+            {
+                MapIterableParallelMapIterable.this.keys[this.index] = key;
+                MapIterableParallelMapIterable.this.values[this.index] = value;
+                this.index++;
+            }
+        });
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootMapBatch<K, V>> split()
+    {
+        return new MapIterableParallelSplitLazyIterable();
+    }
+
+    private final class ArrayMapBatch implements RootMapBatch<K, V>
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private ArrayMapBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value((K) MapIterableParallelMapIterable.this.keys[i], (V) MapIterableParallelMapIterable.this.values[i]);
+            }
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                K key = (K) MapIterableParallelMapIterable.this.keys[i];
+                V value = (V) MapIterableParallelMapIterable.this.values[i];
+                if (predicate.accept(key, value))
+                {
+                    return Tuples.pair(key, value);
+                }
+            }
+            return null;
+        }
+    }
+
+    private class MapIterableParallelSplitIterator implements Iterator<RootMapBatch<K, V>>
+    {
+        protected int chunkIndex;
+
+        public boolean hasNext()
+        {
+            return this.chunkIndex * MapIterableParallelMapIterable.this.batchSize < MapIterableParallelMapIterable.this.keys.length;
+        }
+
+        public RootMapBatch<K, V> next()
+        {
+            int chunkStartIndex = this.chunkIndex * MapIterableParallelMapIterable.this.batchSize;
+            int chunkEndIndex = (this.chunkIndex + 1) * MapIterableParallelMapIterable.this.batchSize;
+            int truncatedChunkEndIndex = Math.min(chunkEndIndex, MapIterableParallelMapIterable.this.keys.length);
+            this.chunkIndex++;
+            return new ArrayMapBatch(chunkStartIndex, truncatedChunkEndIndex);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private class MapIterableParallelSplitLazyIterable
+            extends AbstractLazyIterable<RootMapBatch<K, V>>
+    {
+        public void each(Procedure<? super RootMapBatch<K, V>> procedure)
+        {
+            for (RootMapBatch<K, V> chunk : this)
+            {
+                procedure.value(chunk);
+            }
+        }
+
+        public Iterator<RootMapBatch<K, V>> iterator()
+        {
+            return new MapIterableParallelSplitIterator();
+        }
+    }
+}
@@ -29,7 +29,7 @@ import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
-import com.gs.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import com.gs.collections.impl.multimap.set.ConcurrentSetMultimap;
 
 @Beta
 public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedSetBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelUnsortedSetIterable<T>
@@ -92,7 +92,7 @@ public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedS
 
     public <V> UnsortedSetMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
     {
-        final MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
+        final MutableSetMultimap<V, T> result = ConcurrentSetMultimap.newMultimap();
         this.forEach(new Procedure<T>()
         {
             public void value(T each)
@@ -106,7 +106,7 @@ public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedS
 
     public <V> UnsortedSetMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
     {
-        final MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
+        final MutableSetMultimap<V, T> result = ConcurrentSetMultimap.newMultimap();
         this.forEach(new Procedure<T>()
         {
             public void value(T each)
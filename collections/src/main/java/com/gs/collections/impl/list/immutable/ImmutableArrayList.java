@@ -75,6 +75,15 @@ final class ImmutableArrayList<T>
         return new ImmutableArrayList<E>(elements.clone());
     }
 
+    /**
+     * Creates a new list using the passed {@code elements} argument as the backing store, for callers that own the
+     * array and drop it afterwards.
+     */
+    static <E> ImmutableArrayList<E> adopt(E[] elements)
+    {
+        return new ImmutableArrayList<E>(elements);
+    }
+
     public ImmutableList<T> newWith(T newItem)
     {
         int oldSize = this.size();
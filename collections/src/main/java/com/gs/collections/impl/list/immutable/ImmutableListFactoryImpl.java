@@ -21,12 +21,25 @@ import java.util.RandomAccess;
 
 import com.gs.collections.api.factory.list.ImmutableListFactory;
 import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.list.mutable.CopyOnWriteFastList;
 import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.Immutable;
 
 @Immutable
 public final class ImmutableListFactoryImpl implements ImmutableListFactory
 {
+    /**
+     * Returns an immutable list over the array handed off by a {@link CopyOnWriteFastList} write, without copying it.
+     * Only CopyOnWriteFastList can create a {@link CopyOnWriteFastList.Handoff}, so no other caller can keep hold of
+     * the array behind the list.
+     *
+     * @since 7.0
+     */
+    public static <T> ImmutableList<T> adopt(CopyOnWriteFastList.Handoff<T> handoff)
+    {
+        return ImmutableArrayList.adopt(handoff.getItems());
+    }
+
     public <T> ImmutableList<T> empty()
     {
         return (ImmutableList<T>) ImmutableEmptyList.INSTANCE;
@@ -235,4 +248,14 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
         }
         return this.of((T[]) Iterate.toArray(items));
     }
+
+    public <T> ImmutableList<T> emptyPersistent()
+    {
+        return ImmutableTrieList.empty();
+    }
+
+    public <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableTrieList.newList(items);
+    }
 }
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableTrieList is a persistent list stored as a bit-partitioned vector trie with a branching factor of 32.
+ * {@link #newWith(Object)} copies only the path from the root to the last leaf, so it is O(log32 n) and the new list
+ * shares all other nodes with this list. {@link #get(int)} is also O(log32 n). Removing the last element is
+ * O(log32 n) as well, while removing any other element rebuilds the list.
+ *
+ * @since 7.0
+ */
+@Immutable
+final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_ARRAY = {};
+
+    private static final ImmutableTrieList<?> EMPTY = new ImmutableTrieList<Object>(0, BITS, new Object[WIDTH], EMPTY_ARRAY);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableTrieList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> empty()
+    {
+        return (ImmutableTrieList<E>) EMPTY;
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        return ImmutableTrieList.fromArray(elements.clone());
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        if (iterable instanceof ImmutableTrieList<?>)
+        {
+            return (ImmutableTrieList<E>) iterable;
+        }
+        return ImmutableTrieList.fromArray(Iterate.toArray(iterable));
+    }
+
+    /**
+     * Builds the trie bottom up, grouping leaves of 32 elements into parents of 32 children until a single root is
+     * left. The shape is identical to the one produced by appending the elements one at a time.
+     */
+    private static <E> ImmutableTrieList<E> fromArray(Object[] items)
+    {
+        int size = items.length;
+        if (size == 0)
+        {
+            return ImmutableTrieList.empty();
+        }
+        int tailOffset = ImmutableTrieList.tailOffset(size);
+        Object[] tail = new Object[size - tailOffset];
+        System.arraycopy(items, tailOffset, tail, 0, tail.length);
+
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for (int i = 0; i < nodes.length; i++)
+        {
+            Object[] leaf = new Object[WIDTH];
+            System.arraycopy(items, i << BITS, leaf, 0, WIDTH);
+            nodes[i] = leaf;
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH)
+        {
+            Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++)
+            {
+                Object[] parent = new Object[WIDTH];
+                System.arraycopy(nodes, i << BITS, parent, 0, Math.min(WIDTH, nodes.length - (i << BITS)));
+                parents[i] = parent;
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        Object[] root = new Object[WIDTH];
+        System.arraycopy(nodes, 0, root, 0, nodes.length);
+        return new ImmutableTrieList<E>(size, shift, root, tail);
+    }
+
+    private static int tailOffset(int size)
+    {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= ImmutableTrieList.tailOffset(this.size))
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    public ImmutableTrieList<T> newWith(T newItem)
+    {
+        int tailSize = this.size - ImmutableTrieList.tailOffset(this.size);
+        if (tailSize < WIDTH)
+        {
+            Object[] newTail = new Object[tailSize + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, tailSize);
+            newTail[tailSize] = newItem;
+            return new ImmutableTrieList<T>(this.size + 1, this.shift, this.root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> BITS) > (1 << this.shift))
+        {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = ImmutableTrieList.newPath(this.shift, this.tail);
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = this.pushTail(this.shift, this.root, this.tail);
+        }
+        return new ImmutableTrieList<T>(this.size + 1, newShift, newRoot, new Object[]{newItem});
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode)
+    {
+        int subIndex = ((this.size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        Object nodeToInsert;
+        if (level == BITS)
+        {
+            nodeToInsert = tailNode;
+        }
+        else
+        {
+            Object[] child = (Object[]) parent[subIndex];
+            nodeToInsert = child == null
+                    ? ImmutableTrieList.newPath(level - BITS, tailNode)
+                    : this.pushTail(level - BITS, child, tailNode);
+        }
+        result[subIndex] = nodeToInsert;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = ImmutableTrieList.newPath(level - BITS, node);
+        return result;
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableTrieList<T> result = this;
+        for (T each : elements)
+        {
+            result = result.newWith(each);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableList<T> newWithout(T element)
+    {
+        int indexToRemove = this.indexOf(element);
+        if (indexToRemove < 0)
+        {
+            return this;
+        }
+        if (indexToRemove == this.size - 1)
+        {
+            return this.withoutLast();
+        }
+        Object[] items = this.toArray();
+        Object[] result = new Object[items.length - 1];
+        System.arraycopy(items, 0, result, 0, indexToRemove);
+        System.arraycopy(items, indexToRemove + 1, result, indexToRemove, result.length - indexToRemove);
+        return ImmutableTrieList.fromArray(result);
+    }
+
+    private ImmutableTrieList<T> withoutLast()
+    {
+        if (this.size == 1)
+        {
+            return ImmutableTrieList.empty();
+        }
+        int tailSize = this.size - ImmutableTrieList.tailOffset(this.size);
+        if (tailSize > 1)
+        {
+            Object[] newTail = new Object[tailSize - 1];
+            System.arraycopy(this.tail, 0, newTail, 0, newTail.length);
+            return new ImmutableTrieList<T>(this.size - 1, this.shift, this.root, newTail);
+        }
+        Object[] newTail = this.leafFor(this.size - 2);
+        Object[] newRoot = this.popTail(this.shift, this.root);
+        int newShift = this.shift;
+        if (newRoot == null)
+        {
+            newRoot = new Object[WIDTH];
+        }
+        if (this.shift > BITS && newRoot[1] == null)
+        {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new ImmutableTrieList<T>(this.size - 1, newShift, newRoot, newTail);
+    }
+
+    private Object[] popTail(int level, Object[] node)
+    {
+        int subIndex = ((this.size - 2) >>> level) & MASK;
+        if (level > BITS)
+        {
+            Object[] newChild = this.popTail(level - BITS, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0)
+            {
+                return null;
+            }
+            Object[] result = node.clone();
+            result[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0)
+        {
+            return null;
+        }
+        Object[] result = node.clone();
+        result[subIndex] = null;
+        return result;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.size == 0 ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.size == 0 ? null : (T) this.tail[this.tail.length - 1];
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        int tailOffset = ImmutableTrieList.tailOffset(this.size);
+        for (int leafStart = 0; leafStart < tailOffset; leafStart += WIDTH)
+        {
+            Object[] leaf = this.leafFor(leafStart);
+            for (Object each : leaf)
+            {
+                procedure.value((T) each);
+            }
+        }
+        for (Object each : this.tail)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = 0;
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            objectIntProcedure.value(iterator.next(), index++);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TrieListIterator();
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] result = new Object[this.size];
+        int tailOffset = ImmutableTrieList.tailOffset(this.size);
+        for (int leafStart = 0; leafStart < tailOffset; leafStart += WIDTH)
+        {
+            System.arraycopy(this.leafFor(leafStart), 0, result, leafStart, WIDTH);
+        }
+        System.arraycopy(this.tail, 0, result, tailOffset, this.tail.length);
+        return result;
+    }
+
+    private Object readResolve()
+    {
+        return this.size == 0 ? EMPTY : this;
+    }
+
+    private final class TrieListIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = ImmutableTrieList.this.size == 0 ? EMPTY_ARRAY : ImmutableTrieList.this.leafFor(0);
+
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int offset = this.index & MASK;
+            if (offset == 0 && this.index > 0)
+            {
+                this.leaf = ImmutableTrieList.this.leafFor(this.index);
+            }
+            this.index++;
+            return (T) this.leaf[offset];
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
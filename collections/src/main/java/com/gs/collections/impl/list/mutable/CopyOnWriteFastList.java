@@ -0,0 +1,573 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.mutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.block.HashingStrategy;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.ordered.OrderedIterable;
+import com.gs.collections.api.partition.list.PartitionMutableList;
+import com.gs.collections.api.stack.MutableStack;
+import com.gs.collections.impl.UnmodifiableIteratorAdapter;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.lazy.parallel.list.NonParallelListIterable;
+import com.gs.collections.impl.list.immutable.ImmutableListFactoryImpl;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.stack.mutable.ArrayStack;
+import com.gs.collections.impl.utility.ListIterate;
+import com.gs.collections.impl.utility.OrderedIterate;
+
+/**
+ * A MutableList for data that is read far more often than it is written. The contents are held in an
+ * {@link ImmutableList} snapshot in a volatile field, so reads and iteration never lock and never see a write in
+ * progress. Each write copies the snapshot, changes the copy and publishes it, holding a lock only against other
+ * writers. Use {@link #withWriteBatch(Procedure)} to make many changes with a single copy.
+ * <p>
+ * Iterators, list iterators and sub lists are views of the snapshot current when they were created and do not support
+ * modification.
+ *
+ * @since 7.0
+ */
+public final class CopyOnWriteFastList<T>
+        extends AbstractListAdapter<T>
+        implements RandomAccess, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private volatile ImmutableList<T> snapshot;
+
+    private CopyOnWriteFastList(ImmutableList<T> snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    public static <T> CopyOnWriteFastList<T> newList()
+    {
+        return new CopyOnWriteFastList<T>(Lists.immutable.<T>of());
+    }
+
+    public static <T> CopyOnWriteFastList<T> newList(Iterable<? extends T> iterable)
+    {
+        return new CopyOnWriteFastList<T>(Lists.immutable.<T>withAll(iterable));
+    }
+
+    public static <T> CopyOnWriteFastList<T> newListWith(T... elements)
+    {
+        return new CopyOnWriteFastList<T>(Lists.immutable.with(elements));
+    }
+
+    @Override
+    protected List<T> getDelegate()
+    {
+        return this.snapshot.castToList();
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<T>(this.snapshot.iterator());
+    }
+
+    private FastList<T> copy()
+    {
+        return this.copy(0);
+    }
+
+    /**
+     * Copies the snapshot into a list with room for {@code extraCapacity} more elements, so that a write which adds
+     * them does not grow the array and {@link #publish(FastList)} can hand it over as is.
+     */
+    private FastList<T> copy(int extraCapacity)
+    {
+        List<T> current = this.snapshot.castToList();
+        FastList<T> copy = FastList.newList(current.size() + extraCapacity);
+        copy.addAll(current);
+        return copy;
+    }
+
+    private FastList<T> copyWithout(int index)
+    {
+        List<T> current = this.snapshot.castToList();
+        FastList<T> copy = FastList.newList(current.size() - 1);
+        copy.addAll(current.subList(0, index));
+        copy.addAll(current.subList(index + 1, current.size()));
+        return copy;
+    }
+
+    /**
+     * Publishes the array behind {@code list} as the new snapshot without copying it again. Only writes that remove
+     * an unknown number of elements leave spare capacity that has to be trimmed first.
+     */
+    private void publish(FastList<T> list)
+    {
+        if (list.isEmpty())
+        {
+            this.snapshot = Lists.immutable.of();
+        }
+        else
+        {
+            list.trimToSize();
+            this.snapshot = ImmutableListFactoryImpl.adopt(new Handoff<T>(list.items));
+        }
+    }
+
+    /**
+     * Passes a private copy of the list to {@code procedure} and then publishes the copy in one step, so a burst of
+     * updates costs a single copy and readers see either none or all of them. The procedure must make its changes
+     * through its argument and must not keep a reference to it, as the published snapshot shares its array; other
+     * writers wait until it returns.
+     */
+    public synchronized void withWriteBatch(Procedure<? super MutableList<T>> procedure)
+    {
+        FastList<T> copy = this.copy();
+        procedure.value(copy);
+        this.publish(copy);
+    }
+
+    public ImmutableList<T> toImmutable()
+    {
+        return this.snapshot;
+    }
+
+    public MutableList<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableList.of(this);
+    }
+
+    public MutableList<T> asSynchronized()
+    {
+        return SynchronizedMutableList.of(this);
+    }
+
+    @Override
+    public MutableList<T> clone()
+    {
+        return new CopyOnWriteFastList<T>(this.snapshot);
+    }
+
+    public MutableList<T> newEmpty()
+    {
+        return CopyOnWriteFastList.newList();
+    }
+
+    @Override
+    public synchronized boolean add(T element)
+    {
+        FastList<T> copy = this.copy(1);
+        copy.add(element);
+        this.publish(copy);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object element)
+    {
+        int index = this.snapshot.indexOf(element);
+        if (index < 0)
+        {
+            return false;
+        }
+        this.publish(this.copyWithout(index));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends T> collection)
+    {
+        return this.addAllIterable(collection);
+    }
+
+    @Override
+    public synchronized boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        FastList<T> copy = this.copy(iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0);
+        boolean changed = copy.addAllIterable(iterable);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean addAll(int index, Collection<? extends T> collection)
+    {
+        FastList<T> copy = this.copy(collection.size());
+        boolean changed = copy.addAll(index, collection);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean removeAll(Collection<?> collection)
+    {
+        return this.removeAllIterable(collection);
+    }
+
+    @Override
+    public synchronized boolean removeAllIterable(Iterable<?> iterable)
+    {
+        FastList<T> copy = this.copy();
+        boolean changed = copy.removeAllIterable(iterable);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean retainAll(Collection<?> collection)
+    {
+        return this.retainAllIterable(collection);
+    }
+
+    @Override
+    public synchronized boolean retainAllIterable(Iterable<?> iterable)
+    {
+        FastList<T> copy = this.copy();
+        boolean changed = copy.retainAllIterable(iterable);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super T> predicate)
+    {
+        FastList<T> copy = this.copy();
+        boolean changed = copy.removeIf(predicate);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        FastList<T> copy = this.copy();
+        boolean changed = copy.removeIfWith(predicate, parameter);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        this.snapshot = Lists.immutable.of();
+    }
+
+    @Override
+    public synchronized T set(int index, T element)
+    {
+        FastList<T> copy = this.copy();
+        T previous = copy.set(index, element);
+        this.publish(copy);
+        return previous;
+    }
+
+    @Override
+    public synchronized void add(int index, T element)
+    {
+        FastList<T> copy = this.copy(1);
+        copy.add(index, element);
+        this.publish(copy);
+    }
+
+    @Override
+    public synchronized T remove(int index)
+    {
+        T removed = this.snapshot.get(index);
+        this.publish(this.copyWithout(index));
+        return removed;
+    }
+
+    public synchronized CopyOnWriteFastList<T> sortThis(Comparator<? super T> comparator)
+    {
+        FastList<T> copy = this.copy();
+        copy.sortThis(comparator);
+        this.publish(copy);
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> sortThis()
+    {
+        return this.sortThis(Comparators.naturalOrder());
+    }
+
+    @Override
+    public synchronized CopyOnWriteFastList<T> reverseThis()
+    {
+        FastList<T> copy = this.copy();
+        copy.reverseThis();
+        this.publish(copy);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> shuffleThis()
+    {
+        return this.shuffleThis(new Random());
+    }
+
+    @Override
+    public synchronized CopyOnWriteFastList<T> shuffleThis(Random rnd)
+    {
+        FastList<T> copy = this.copy();
+        copy.shuffleThis(rnd);
+        this.publish(copy);
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public synchronized CopyOnWriteFastList<T> with(T element1, T element2)
+    {
+        FastList<T> copy = this.copy(2);
+        copy.add(element1);
+        copy.add(element2);
+        this.publish(copy);
+        return this;
+    }
+
+    public synchronized CopyOnWriteFastList<T> with(T element1, T element2, T element3)
+    {
+        FastList<T> copy = this.copy(3);
+        copy.add(element1);
+        copy.add(element2);
+        copy.add(element3);
+        this.publish(copy);
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> with(T... elements)
+    {
+        this.addAllIterable(ArrayAdapter.adapt(elements));
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.snapshot.each(procedure);
+    }
+
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        ListIterate.reverseForEach(this.getDelegate(), procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.snapshot.forEachWithIndex(objectIntProcedure);
+    }
+
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.forEachWithIndex(this.getDelegate(), fromIndex, toIndex, objectIntProcedure);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.snapshot.detect(predicate);
+    }
+
+    @Override
+    public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
+    {
+        return this.snapshot.detectIfNone(predicate, function);
+    }
+
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return this.snapshot.detectIndex(predicate);
+    }
+
+    public int detectLastIndex(Predicate<? super T> predicate)
+    {
+        return ListIterate.detectLastIndex(this.getDelegate(), predicate);
+    }
+
+    @Override
+    public int count(Predicate<? super T> predicate)
+    {
+        return this.snapshot.count(predicate);
+    }
+
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return OrderedIterate.corresponds(this.snapshot, other, predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.snapshot.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.snapshot.allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.snapshot.noneSatisfy(predicate);
+    }
+
+    @Override
+    public <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function)
+    {
+        return this.snapshot.injectInto(injectedValue, function);
+    }
+
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        ListIterate.forEach(this.getDelegate(), fromIndex, toIndex, procedure);
+    }
+
+    @Override
+    public <S> MutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        return ListIterate.selectInstancesOf(this.getDelegate(), clazz);
+    }
+
+    public MutableList<T> distinct()
+    {
+        return ListIterate.distinct(this.getDelegate());
+    }
+
+    public MutableList<T> distinct(HashingStrategy<? super T> hashingStrategy)
+    {
+        return ListIterate.distinct(this.getDelegate(), hashingStrategy);
+    }
+
+    public MutableList<T> take(int count)
+    {
+        return ListIterate.take(this.getDelegate(), count);
+    }
+
+    public MutableList<T> takeWhile(Predicate<? super T> predicate)
+    {
+        return ListIterate.takeWhile(this.getDelegate(), predicate);
+    }
+
+    public MutableList<T> drop(int count)
+    {
+        return ListIterate.drop(this.getDelegate(), count);
+    }
+
+    public MutableList<T> dropWhile(Predicate<? super T> predicate)
+    {
+        return ListIterate.dropWhile(this.getDelegate(), predicate);
+    }
+
+    public PartitionMutableList<T> partitionWhile(Predicate<? super T> predicate)
+    {
+        return ListIterate.partitionWhile(this.getDelegate(), predicate);
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return ArrayStack.newStack(this.snapshot);
+    }
+
+    @Override
+    public ParallelListIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelListIterable<T>(this);
+    }
+
+    /**
+     * The array of a finished write, which {@link ImmutableListFactoryImpl#adopt(Handoff)} publishes without copying.
+     * Only this class creates them, and it drops the array once it is handed off.
+     */
+    public static final class Handoff<T>
+    {
+        private final T[] items;
+
+        private Handoff(T[] items)
+        {
+            this.items = items;
+        }
+
+        public T[] getItems()
+        {
+            return this.items;
+        }
+    }
+}
@@ -30,7 +30,6 @@ import java.util.Random;
 import java.util.RandomAccess;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
@@ -82,11 +81,12 @@ import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
 import com.gs.collections.impl.lazy.parallel.list.MultiReaderParallelListIterable;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
 import com.gs.collections.impl.utility.LazyIterate;
+import com.gs.collections.impl.utility.internal.OptimisticReadWriteLock;
 
 import static com.gs.collections.impl.factory.Iterables.mList;
 
 /**
- * MultiReadFastList provides a thread-safe wrapper around a FastList, using a ReentrantReadWriteLock.  In order to
+ * MultiReadFastList provides a thread-safe wrapper around a FastList, using an OptimisticReadWriteLock.  In order to
  * provide true thread-safety, MultiReaderFastList does not implement iterator(), listIterator(), listIterator(int), or
  * get(int), as all of these methods require an external lock to be taken to provide thread-safe iteration.  All of
  * these methods are available however, if you use the withReadLockAndDelegate() or withWriteLockAndDelegate() methods.
@@ -116,7 +116,7 @@ public final class MultiReaderFastList<T>
 
     private MultiReaderFastList(MutableList<T> newDelegate)
     {
-        this(newDelegate, new ReentrantReadWriteLock());
+        this(newDelegate, new OptimisticReadWriteLock());
     }
 
     private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock)
@@ -749,6 +749,27 @@ public final class MultiReaderFastList<T>
 
     public T get(int index)
     {
+        OptimisticReadWriteLock optimisticLock = this.getOptimisticLock();
+        if (optimisticLock != null)
+        {
+            long stamp = optimisticLock.tryOptimisticRead();
+            try
+            {
+                T result = this.delegate.get(index);
+                if (optimisticLock.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                // A concurrent write may have left the delegate inconsistent, in which case retry under the read lock
+                if (optimisticLock.validate(stamp))
+                {
+                    throw e;
+                }
+            }
+        }
         this.acquireReadLock();
         try
         {
@@ -988,7 +1009,7 @@ public final class MultiReaderFastList<T>
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
         this.delegate = (MutableList<T>) in.readObject();
-        this.lock = new ReentrantReadWriteLock();
+        this.lock = new OptimisticReadWriteLock();
     }
 
     // Exposed for testing
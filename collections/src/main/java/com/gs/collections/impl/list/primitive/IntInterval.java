@@ -20,9 +20,13 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
@@ -32,16 +36,21 @@ import com.gs.collections.api.block.procedure.primitive.IntIntProcedure;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.iterator.IntIterator;
 import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.primitive.ImmutableIntList;
 import com.gs.collections.api.list.primitive.IntList;
 import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.set.primitive.MutableIntSet;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractIntBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.IntBatch;
 import com.gs.collections.impl.lazy.primitive.CollectIntToObjectIterable;
 import com.gs.collections.impl.lazy.primitive.LazyIntIterableAdapter;
 import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
 import com.gs.collections.impl.lazy.primitive.SelectIntIterable;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
 
@@ -846,6 +855,98 @@ public final class IntInterval
         return IntArrayList.newList(this).withoutAll(elements).toImmutable();
     }
 
+    /**
+     * Returns a parallel iterable over this interval. Batches are ranges of indexes, so the values are computed as
+     * they are visited and never stored.
+     *
+     * @since 7.0
+     */
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new IntIntervalParallelIterable(executorService, batchSize);
+    }
+
+    private final class IntIntervalBatch extends AbstractIntBatch
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private IntIntervalBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEach(IntProcedure procedure)
+        {
+            int value = IntInterval.this.from + this.chunkStartIndex * IntInterval.this.step;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value(value);
+                value += IntInterval.this.step;
+            }
+        }
+
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            int value = IntInterval.this.from + this.chunkStartIndex * IntInterval.this.step;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    return true;
+                }
+                value += IntInterval.this.step;
+            }
+            return false;
+        }
+    }
+
+    private final class IntIntervalParallelIterable extends AbstractParallelIntIterable
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private IntIntervalParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<IntBatch> split()
+        {
+            int size = IntInterval.this.size();
+            MutableList<IntBatch> batches = FastList.newList(size / this.batchSize + 1);
+            for (int chunkStartIndex = 0; chunkStartIndex < size; chunkStartIndex += this.batchSize)
+            {
+                batches.add(new IntIntervalBatch(chunkStartIndex, Math.min(chunkStartIndex + this.batchSize, size)));
+            }
+            return batches.asLazy();
+        }
+    }
+
     private class IntIntervalIterator implements IntIterator
     {
         private int current = IntInterval.this.from;
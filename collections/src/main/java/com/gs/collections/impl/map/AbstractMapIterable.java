@@ -17,9 +17,11 @@
 package com.gs.collections.impl.map;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.predicate.Predicate;
@@ -28,7 +30,9 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.impl.AbstractRichIterable;
+import com.gs.collections.impl.lazy.parallel.map.MapIterableParallelMapIterable;
 
 public abstract class AbstractMapIterable<K, V> extends AbstractRichIterable<V> implements MapIterable<K, V>
 {
@@ -217,4 +221,10 @@ public abstract class AbstractMapIterable<K, V> extends AbstractRichIterable<V>
     {
         return this.valuesView().toArray(a);
     }
+
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new MapIterableParallelMapIterable<K, V>(this, executorService, batchSize);
+    }
 }
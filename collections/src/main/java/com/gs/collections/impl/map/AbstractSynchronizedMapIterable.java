@@ -18,8 +18,10 @@ package com.gs.collections.impl.map;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -27,8 +29,10 @@ import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.map.MutableMapIterable;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.AbstractSynchronizedRichIterable;
+import com.gs.collections.impl.lazy.parallel.map.MapIterableParallelMapIterable;
 import com.gs.collections.impl.tuple.AbstractImmutableEntry;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -144,6 +148,15 @@ public abstract class AbstractSynchronizedMapIterable<K, V>
         }
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        synchronized (this.lock)
+        {
+            return new MapIterableParallelMapIterable<K, V>(this.getDelegate(), executorService, batchSize);
+        }
+    }
+
     public V getIfAbsentPut(K key, Function0<? extends V> function)
     {
         synchronized (this.lock)
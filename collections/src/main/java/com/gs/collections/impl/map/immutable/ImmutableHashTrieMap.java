@@ -0,0 +1,779 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.tuple.Tuples;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieMap is a persistent map stored as a hash array mapped trie. Each node consumes five bits of the
+ * hash code and holds a bitmap of the inline entries and a bitmap of the child nodes, so {@link #newWithKeyValue} and
+ * {@link #newWithoutKey} copy only the O(log32 n) nodes on the path to the key and share everything else with this map.
+ *
+ * @since 7.0
+ */
+@Immutable
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY = new ImmutableHashTrieMap<Object, Object>(BitmapNode.EMPTY, 0);
+
+    private final TrieNode root;
+    private final int size;
+
+    private ImmutableHashTrieMap(TrieNode root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableHashTrieMap<K, V>) map;
+        }
+        ImmutableHashTrieMap<K, V> result = ImmutableHashTrieMap.empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            result = result.newWithKeyValue(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private static int hash(Object key)
+    {
+        if (key == null)
+        {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.root.get(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        Iterator<V> iterator = this.valuesView().iterator();
+        while (iterator.hasNext())
+        {
+            if (Comparators.nullSafeEquals(iterator.next(), value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        Object result = this.root.get(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        TrieNode newRoot = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, change);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, change.sizeChanged ? this.size + 1 : this.size);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        ImmutableHashTrieMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        ImmutableHashTrieMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        TrieNode newRoot = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, change);
+        if (!change.sizeChanged)
+        {
+            return this;
+        }
+        if (this.size == 1)
+        {
+            return ImmutableHashTrieMap.empty();
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        ImmutableHashTrieMap<K, V> result = this;
+        for (K key : keys)
+        {
+            result = result.newWithoutKey(key);
+        }
+        return result;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue((Procedure2<Object, Object>) procedure);
+    }
+
+    public Set<K> keySet()
+    {
+        MutableSet<K> result = UnifiedSet.newSet(this.size);
+        this.forEachKey(CollectionAddProcedure.on(result));
+        return result.toImmutable().castToSet();
+    }
+
+    public Collection<V> values()
+    {
+        MutableList<V> result = FastList.newList(this.size);
+        this.forEachValue(CollectionAddProcedure.on(result));
+        return result.toImmutable().castToList();
+    }
+
+    public LazyIterable<K> keysView()
+    {
+        return new TrieIterable<K>()
+        {
+            @Override
+            protected K element(TrieNode node, int index)
+            {
+                return (K) node.key(index);
+            }
+        };
+    }
+
+    public LazyIterable<V> valuesView()
+    {
+        return new TrieIterable<V>()
+        {
+            @Override
+            protected V element(TrieNode node, int index)
+            {
+                return (V) node.value(index);
+            }
+        };
+    }
+
+    public LazyIterable<Pair<K, V>> keyValuesView()
+    {
+        return new TrieIterable<Pair<K, V>>()
+        {
+            @Override
+            protected Pair<K, V> element(TrieNode node, int index)
+            {
+                return Tuples.pair((K) node.key(index), (V) node.value(index));
+            }
+        };
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return this.valuesView().iterator();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        Iterator<Pair<K, V>> iterator = this.keyValuesView().iterator();
+        while (iterator.hasNext())
+        {
+            Pair<K, V> pair = iterator.next();
+            hashCode += this.keyAndValueHashCode(pair.getOne(), pair.getTwo());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size)
+        {
+            return false;
+        }
+        Iterator<Pair<K, V>> iterator = this.keyValuesView().iterator();
+        while (iterator.hasNext())
+        {
+            Pair<K, V> pair = iterator.next();
+            if (!this.keyAndValueEquals(pair.getOne(), pair.getTwo(), that))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder buf = new StringBuilder();
+        buf.append('{');
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (!this.first)
+                {
+                    buf.append(", ");
+                }
+                this.first = false;
+                buf.append(key == ImmutableHashTrieMap.this ? "(this Map)" : String.valueOf(key));
+                buf.append('=');
+                buf.append(value == ImmutableHashTrieMap.this ? "(this Map)" : String.valueOf(value));
+            }
+        });
+        buf.append('}');
+        return buf.toString();
+    }
+
+    private Object readResolve()
+    {
+        return this.size == 0 ? EMPTY : this;
+    }
+
+    private static final class Change
+    {
+        private boolean sizeChanged;
+    }
+
+    /**
+     * A node holds its inline entries first, followed by its child nodes. Nodes never change after they are published.
+     */
+    private abstract static class TrieNode implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        abstract Object get(Object key, int hash, int shift);
+
+        abstract TrieNode put(Object key, Object value, int hash, int shift, Change change);
+
+        abstract TrieNode remove(Object key, int hash, int shift, Change change);
+
+        abstract int entryCount();
+
+        abstract Object key(int index);
+
+        abstract Object value(int index);
+
+        abstract int nodeCount();
+
+        abstract TrieNode node(int index);
+
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            int entryCount = this.entryCount();
+            for (int i = 0; i < entryCount; i++)
+            {
+                procedure.value(this.key(i), this.value(i));
+            }
+            int nodeCount = this.nodeCount();
+            for (int i = 0; i < nodeCount; i++)
+            {
+                this.node(i).forEachKeyValue(procedure);
+            }
+        }
+
+        boolean hasSingleEntry()
+        {
+            return this.entryCount() == 1 && this.nodeCount() == 0;
+        }
+    }
+
+    private static final class BitmapNode extends TrieNode
+    {
+        private static final long serialVersionUID = 1L;
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        private final int entryMap;
+        private final int nodeMap;
+        private final Object[] contents;
+
+        private BitmapNode(int entryMap, int nodeMap, Object[] contents)
+        {
+            this.entryMap = entryMap;
+            this.nodeMap = nodeMap;
+            this.contents = contents;
+        }
+
+        private static int index(int bitmap, int bit)
+        {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static TrieNode merge(Object key1, Object value1, int hash1, Object key2, Object value2, int hash2, int shift)
+        {
+            if (shift >= Integer.SIZE)
+            {
+                return new CollisionNode(new Object[]{key1, key2}, new Object[]{value1, value2});
+            }
+            int mask1 = (hash1 >>> shift) & MASK;
+            int mask2 = (hash2 >>> shift) & MASK;
+            if (mask1 == mask2)
+            {
+                TrieNode child = BitmapNode.merge(key1, value1, hash1, key2, value2, hash2, shift + BITS);
+                return new BitmapNode(0, 1 << mask1, new Object[]{child});
+            }
+            Object[] contents = mask1 < mask2
+                    ? new Object[]{key1, value1, key2, value2}
+                    : new Object[]{key2, value2, key1, value1};
+            return new BitmapNode((1 << mask1) | (1 << mask2), 0, contents);
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.entryMap & bit) != 0)
+            {
+                int index = BitmapNode.index(this.entryMap, bit) << 1;
+                return Comparators.nullSafeEquals(this.contents[index], key) ? this.contents[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeAt(bit).get(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return (Integer.bitCount(this.entryMap) << 1) + BitmapNode.index(this.nodeMap, bit);
+        }
+
+        private TrieNode nodeAt(int bit)
+        {
+            return (TrieNode) this.contents[this.nodeIndex(bit)];
+        }
+
+        @Override
+        TrieNode put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.entryMap & bit) != 0)
+            {
+                int index = BitmapNode.index(this.entryMap, bit) << 1;
+                Object existingKey = this.contents[index];
+                Object existingValue = this.contents[index + 1];
+                if (Comparators.nullSafeEquals(existingKey, key))
+                {
+                    if (existingValue == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContents = this.contents.clone();
+                    newContents[index + 1] = value;
+                    return new BitmapNode(this.entryMap, this.nodeMap, newContents);
+                }
+                change.sizeChanged = true;
+                TrieNode child = BitmapNode.merge(
+                        existingKey, existingValue, ImmutableHashTrieMap.hash(existingKey),
+                        key, value, hash,
+                        shift + BITS);
+                return this.entryToNode(bit, index, child);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                TrieNode child = (TrieNode) this.contents[nodeIndex];
+                TrieNode newChild = child.put(key, value, hash, shift + BITS, change);
+                if (newChild == child)
+                {
+                    return this;
+                }
+                Object[] newContents = this.contents.clone();
+                newContents[nodeIndex] = newChild;
+                return new BitmapNode(this.entryMap, this.nodeMap, newContents);
+            }
+            change.sizeChanged = true;
+            int index = BitmapNode.index(this.entryMap, bit) << 1;
+            Object[] newContents = new Object[this.contents.length + 2];
+            System.arraycopy(this.contents, 0, newContents, 0, index);
+            newContents[index] = key;
+            newContents[index + 1] = value;
+            System.arraycopy(this.contents, index, newContents, index + 2, this.contents.length - index);
+            return new BitmapNode(this.entryMap | bit, this.nodeMap, newContents);
+        }
+
+        private BitmapNode entryToNode(int bit, int entryIndex, TrieNode child)
+        {
+            int newEntryMap = this.entryMap ^ bit;
+            int newNodeMap = this.nodeMap | bit;
+            int nodeIndex = (Integer.bitCount(newEntryMap) << 1) + BitmapNode.index(newNodeMap, bit);
+            Object[] newContents = new Object[this.contents.length - 1];
+            System.arraycopy(this.contents, 0, newContents, 0, entryIndex);
+            System.arraycopy(this.contents, entryIndex + 2, newContents, entryIndex, nodeIndex - entryIndex);
+            newContents[nodeIndex] = child;
+            System.arraycopy(this.contents, nodeIndex + 2, newContents, nodeIndex + 1, this.contents.length - nodeIndex - 2);
+            return new BitmapNode(newEntryMap, newNodeMap, newContents);
+        }
+
+        private BitmapNode nodeToEntry(int bit, int nodeIndex, Object key, Object value)
+        {
+            int newEntryMap = this.entryMap | bit;
+            int newNodeMap = this.nodeMap ^ bit;
+            int entryIndex = BitmapNode.index(newEntryMap, bit) << 1;
+            Object[] newContents = new Object[this.contents.length + 1];
+            System.arraycopy(this.contents, 0, newContents, 0, entryIndex);
+            newContents[entryIndex] = key;
+            newContents[entryIndex + 1] = value;
+            System.arraycopy(this.contents, entryIndex, newContents, entryIndex + 2, nodeIndex - entryIndex);
+            System.arraycopy(this.contents, nodeIndex + 1, newContents, nodeIndex + 2, this.contents.length - nodeIndex - 1);
+            return new BitmapNode(newEntryMap, newNodeMap, newContents);
+        }
+
+        @Override
+        TrieNode remove(Object key, int hash, int shift, Change change)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.entryMap & bit) != 0)
+            {
+                int index = BitmapNode.index(this.entryMap, bit) << 1;
+                if (!Comparators.nullSafeEquals(this.contents[index], key))
+                {
+                    return this;
+                }
+                change.sizeChanged = true;
+                Object[] newContents = new Object[this.contents.length - 2];
+                System.arraycopy(this.contents, 0, newContents, 0, index);
+                System.arraycopy(this.contents, index + 2, newContents, index, this.contents.length - index - 2);
+                return new BitmapNode(this.entryMap ^ bit, this.nodeMap, newContents);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                TrieNode child = (TrieNode) this.contents[nodeIndex];
+                TrieNode newChild = child.remove(key, hash, shift + BITS, change);
+                if (newChild == child)
+                {
+                    return this;
+                }
+                if (newChild.hasSingleEntry())
+                {
+                    return this.nodeToEntry(bit, nodeIndex, newChild.key(0), newChild.value(0));
+                }
+                Object[] newContents = this.contents.clone();
+                newContents[nodeIndex] = newChild;
+                return new BitmapNode(this.entryMap, this.nodeMap, newContents);
+            }
+            return this;
+        }
+
+        @Override
+        int entryCount()
+        {
+            return Integer.bitCount(this.entryMap);
+        }
+
+        @Override
+        Object key(int index)
+        {
+            return this.contents[index << 1];
+        }
+
+        @Override
+        Object value(int index)
+        {
+            return this.contents[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeCount()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        TrieNode node(int index)
+        {
+            return (TrieNode) this.contents[(Integer.bitCount(this.entryMap) << 1) + index];
+        }
+    }
+
+    /**
+     * Holds keys whose spread hash codes are equal in all 32 bits.
+     */
+    private static final class CollisionNode extends TrieNode
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] keys;
+        private final Object[] values;
+
+        private CollisionNode(Object[] keys, Object[] values)
+        {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                if (Comparators.nullSafeEquals(this.keys[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? NOT_FOUND : this.values[index];
+        }
+
+        @Override
+        TrieNode put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index >= 0)
+            {
+                if (this.values[index] == value)
+                {
+                    return this;
+                }
+                Object[] newValues = this.values.clone();
+                newValues[index] = value;
+                return new CollisionNode(this.keys, newValues);
+            }
+            change.sizeChanged = true;
+            int length = this.keys.length;
+            Object[] newKeys = new Object[length + 1];
+            Object[] newValues = new Object[length + 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, length);
+            System.arraycopy(this.values, 0, newValues, 0, length);
+            newKeys[length] = key;
+            newValues[length] = value;
+            return new CollisionNode(newKeys, newValues);
+        }
+
+        @Override
+        TrieNode remove(Object key, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.sizeChanged = true;
+            int length = this.keys.length - 1;
+            Object[] newKeys = new Object[length];
+            Object[] newValues = new Object[length];
+            System.arraycopy(this.keys, 0, newKeys, 0, index);
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.keys, index + 1, newKeys, index, length - index);
+            System.arraycopy(this.values, index + 1, newValues, index, length - index);
+            return new CollisionNode(newKeys, newValues);
+        }
+
+        @Override
+        int entryCount()
+        {
+            return this.keys.length;
+        }
+
+        @Override
+        Object key(int index)
+        {
+            return this.keys[index];
+        }
+
+        @Override
+        Object value(int index)
+        {
+            return this.values[index];
+        }
+
+        @Override
+        int nodeCount()
+        {
+            return 0;
+        }
+
+        @Override
+        TrieNode node(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+    }
+
+    private abstract class TrieIterable<E> extends AbstractLazyIterable<E>
+    {
+        protected abstract E element(TrieNode node, int index);
+
+        public void each(Procedure<? super E> procedure)
+        {
+            Iterator<E> iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                procedure.value(iterator.next());
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        public Iterator<E> iterator()
+        {
+            return new TrieIterator();
+        }
+
+        /**
+         * Walks the trie depth first, returning the inline entries of each node before descending into its children.
+         */
+        private final class TrieIterator implements Iterator<E>
+        {
+            private final TrieNode[] nodes = new TrieNode[MAX_DEPTH];
+            private final int[] childCursors = new int[MAX_DEPTH];
+            private int depth;
+            private TrieNode current;
+            private int entryCursor;
+
+            private TrieIterator()
+            {
+                this.push(ImmutableHashTrieMap.this.root);
+            }
+
+            private void push(TrieNode node)
+            {
+                this.nodes[this.depth] = node;
+                this.childCursors[this.depth] = 0;
+                this.depth++;
+                this.current = node;
+                this.entryCursor = 0;
+            }
+
+            public boolean hasNext()
+            {
+                while (this.current != null)
+                {
+                    if (this.entryCursor < this.current.entryCount())
+                    {
+                        return true;
+                    }
+                    this.current = null;
+                    while (this.depth > 0)
+                    {
+                        int top = this.depth - 1;
+                        TrieNode parent = this.nodes[top];
+                        if (this.childCursors[top] < parent.nodeCount())
+                        {
+                            this.push(parent.node(this.childCursors[top]++));
+                            break;
+                        }
+                        this.nodes[top] = null;
+                        this.depth--;
+                    }
+                }
+                return false;
+            }
+
+            public E next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                return TrieIterable.this.element(this.current, this.entryCursor++);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+    }
+}
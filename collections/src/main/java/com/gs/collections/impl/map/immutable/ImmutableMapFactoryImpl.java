@@ -21,11 +21,24 @@ import java.util.Map;
 import com.gs.collections.api.factory.map.ImmutableMapFactory;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.map.mutable.CopyOnWriteUnifiedMap;
 import net.jcip.annotations.Immutable;
 
 @Immutable
 public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
 {
+    /**
+     * Returns an immutable map over the map handed off by a {@link CopyOnWriteUnifiedMap} write, without copying it.
+     * Only CopyOnWriteUnifiedMap can create a {@link CopyOnWriteUnifiedMap.Handoff}, so no other caller can keep hold
+     * of the map behind the immutable one.
+     *
+     * @since 7.0
+     */
+    public static <K, V> ImmutableMap<K, V> adopt(CopyOnWriteUnifiedMap.Handoff<K, V> handoff)
+    {
+        return ImmutableUnifiedMap.adopt(handoff.getMap());
+    }
+
     public <K, V> ImmutableMap<K, V> empty()
     {
         return (ImmutableMap<K, V>) ImmutableEmptyMap.INSTANCE;
@@ -176,4 +189,14 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
                 throw new AssertionError();
         }
     }
+
+    public <K, V> ImmutableMap<K, V> emptyPersistent()
+    {
+        return ImmutableHashTrieMap.empty();
+    }
+
+    public <K, V> ImmutableMap<K, V> withAllPersistent(Map<K, V> map)
+    {
+        return ImmutableHashTrieMap.newMap(map);
+    }
 }
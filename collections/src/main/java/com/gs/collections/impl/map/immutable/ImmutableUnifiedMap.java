@@ -20,14 +20,17 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
@@ -55,6 +58,20 @@ public class ImmutableUnifiedMap<K, V>
         this(UnifiedMap.newMapWith(pairs));
     }
 
+    private ImmutableUnifiedMap(UnifiedMap<K, V> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a new map using the passed {@code delegate} argument as the backing store, for callers that own the map
+     * and drop it afterwards.
+     */
+    static <K, V> ImmutableUnifiedMap<K, V> adopt(UnifiedMap<K, V> delegate)
+    {
+        return new ImmutableUnifiedMap<K, V>(delegate);
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -120,6 +137,13 @@ public class ImmutableUnifiedMap<K, V>
         this.delegate.forEachKeyValue(procedure);
     }
 
+    @Beta
+    @Override
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
     public Set<K> keySet()
     {
         return UnmodifiableMutableSet.of(this.delegate.keySet());
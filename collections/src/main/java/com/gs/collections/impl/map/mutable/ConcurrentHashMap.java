@@ -77,14 +77,23 @@ public final class ConcurrentHashMap<K, V>
     private static final Object RESIZED = new Object();
     private static final Object RESIZING = new Object();
     private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
-    private static final int SIZE_BUCKETS = 7;
+    /**
+     * Number of striped size counters, in addition to the size field itself. Sized to the next power of two of twice
+     * the processor count, capped at 64 counters, so that concurrent writers rarely share a counter.
+     */
+    private static final int SIZE_BUCKETS = Math.min(Integer.highestOneBit((Runtime.getRuntime().availableProcessors() << 1) - 1) << 1, 64) - 1;
+    private static final int SIZE_RECOUNT_MASK = 255;
+    private static final AtomicReferenceFieldUpdater<ConcurrentHashMap, AtomicIntegerArray> PARTITIONED_SIZE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentHashMap.class, AtomicIntegerArray.class, "partitionedSize");
 
     /**
      * The table, resized as necessary. Length MUST Always be a power of two.
      */
     private volatile AtomicReferenceArray table;
 
-    private AtomicIntegerArray partitionedSize;
+    /**
+     * Striped size counters, created up front for large maps and otherwise on the first contended size update.
+     */
+    private volatile AtomicIntegerArray partitionedSize;
 
     @SuppressWarnings("UnusedDeclaration")
     private volatile int size; // updated via atomic field updater
@@ -115,7 +124,7 @@ public final class ConcurrentHashMap<K, V>
         }
         if (capacity >= PARTITIONED_SIZE_THRESHOLD)
         {
-            this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
+            this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // we want SIZE_BUCKETS extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
         }
         this.table = new AtomicReferenceArray(capacity + 1);
     }
@@ -172,12 +181,12 @@ public final class ConcurrentHashMap<K, V>
 
     private void incrementSizeAndPossiblyResize(AtomicReferenceArray currentArray, int length, Object prev)
     {
-        this.addToSize(1);
+        int estimatedSize = this.addToSize(1);
         if (prev != null)
         {
-            int localSize = this.size();
             int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
-            if (localSize + 1 > threshold)
+            // the estimate is cheap and never lower than the true size for the busiest counter, so only sum all counters when it is over
+            if (estimatedSize + 1 > threshold && this.size() + 1 > threshold)
             {
                 this.resize(currentArray);
             }
@@ -252,7 +261,7 @@ public final class ConcurrentHashMap<K, V>
                     oldTable.set(end, RESIZE_SENTINEL);
                     if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
                     {
-                        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
+                        this.inflatePartitionedSize();
                     }
                     resizeContainer = new ResizeContainer(new AtomicReferenceArray(newSize), oldTable.length() - 1);
                     oldTable.set(end, resizeContainer);
@@ -587,46 +596,71 @@ public final class ConcurrentHashMap<K, V>
         }
     }
 
-    private void addToSize(int value)
+    /**
+     * Adds value to the size and returns an estimate of the new size. When the size is striped, the estimate scales the
+     * counter of the current thread by the number of counters, so it is never lower than the true size for the thread
+     * holding the largest share. Every SIZE_RECOUNT_MASK + 1 updates of a counter the exact size is returned instead, so
+     * counters left behind by threads that stopped writing cannot delay a resize indefinitely.
+     */
+    private int addToSize(int value)
     {
-        if (this.partitionedSize != null)
+        AtomicIntegerArray localPartitionedSize = this.partitionedSize;
+        if (localPartitionedSize == null)
         {
-            if (this.incrementPartitionedSize(value))
+            int localSize = this.size;
+            if (SIZE_UPDATER.compareAndSet(this, localSize, localSize + value))
             {
-                return;
+                return localSize + value;
             }
+            localPartitionedSize = this.inflatePartitionedSize();
         }
-        this.incrementLocalSize(value);
-    }
-
-    private boolean incrementPartitionedSize(int value)
-    {
         int h = (int) Thread.currentThread().getId();
         h ^= (h >>> 18) ^ (h >>> 12);
         h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
         if (h != 0)
         {
-            h = (h - 1) << 4;
-            while (true)
+            int counter = ConcurrentHashMap.incrementPartitionedSize(localPartitionedSize, (h - 1) << 4, value);
+            return this.estimateSize(counter, this.size + (long) counter * SIZE_BUCKETS);
+        }
+        int counter = this.incrementLocalSize(value);
+        return this.estimateSize(counter, (long) counter * (SIZE_BUCKETS + 1));
+    }
+
+    private AtomicIntegerArray inflatePartitionedSize()
+    {
+        PARTITIONED_SIZE_UPDATER.compareAndSet(this, null, new AtomicIntegerArray(SIZE_BUCKETS * 16));
+        return this.partitionedSize;
+    }
+
+    private int estimateSize(int counter, long estimate)
+    {
+        if ((counter & SIZE_RECOUNT_MASK) == 0)
+        {
+            return this.size();
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE);
+    }
+
+    private static int incrementPartitionedSize(AtomicIntegerArray partitionedSize, int index, int value)
+    {
+        while (true)
+        {
+            int localSize = partitionedSize.get(index);
+            if (partitionedSize.compareAndSet(index, localSize, localSize + value))
             {
-                int localSize = this.partitionedSize.get(h);
-                if (this.partitionedSize.compareAndSet(h, localSize, localSize + value))
-                {
-                    return true;
-                }
+                return localSize + value;
             }
         }
-        return false;
     }
 
-    private void incrementLocalSize(int value)
+    private int incrementLocalSize(int value)
     {
         while (true)
         {
             int localSize = this.size;
             if (SIZE_UPDATER.compareAndSet(this, localSize, localSize + value))
             {
-                break;
+                return localSize + value;
             }
         }
     }
@@ -634,11 +668,12 @@ public final class ConcurrentHashMap<K, V>
     public int size()
     {
         int localSize = this.size;
-        if (this.partitionedSize != null)
+        AtomicIntegerArray localPartitionedSize = this.partitionedSize;
+        if (localPartitionedSize != null)
         {
             for (int i = 0; i < SIZE_BUCKETS; i++)
             {
-                localSize += this.partitionedSize.get(i << 4);
+                localSize += localPartitionedSize.get(i << 4);
             }
         }
         return localSize;
@@ -86,7 +86,14 @@ public class ConcurrentHashMapUnsafe<K, V>
     private static final long INT_ARRAY_BASE;
     private static final int INT_ARRAY_SHIFT;
     private static final long SIZE_OFFSET;
-    private static final int SIZE_BUCKETS = 7;
+    private static final long PARTITIONED_SIZE_OFFSET;
+
+    /**
+     * Number of striped size counters, in addition to the size field itself. Sized to the next power of two of twice
+     * the processor count, capped at 64 counters, so that concurrent writers rarely share a counter.
+     */
+    private static final int SIZE_BUCKETS = Math.min(Integer.highestOneBit((Runtime.getRuntime().availableProcessors() << 1) - 1) << 1, 64) - 1;
+    private static final int SIZE_RECOUNT_MASK = 255;
 
     static
     {
@@ -113,6 +120,7 @@ public class ConcurrentHashMapUnsafe<K, V>
 
             Class<?> mapClass = ConcurrentHashMapUnsafe.class;
             SIZE_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("size"));
+            PARTITIONED_SIZE_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("partitionedSize"));
         }
         catch (NoSuchFieldException e)
         {
@@ -129,7 +137,10 @@ public class ConcurrentHashMapUnsafe<K, V>
      */
     private volatile Object[] table;
 
-    private int[] partitionedSize;
+    /**
+     * Striped size counters, created up front for large maps and otherwise on the first contended size update.
+     */
+    private volatile int[] partitionedSize;
 
     @SuppressWarnings("UnusedDeclaration")
     private volatile int size; // updated via atomic field updater
@@ -160,7 +171,7 @@ public class ConcurrentHashMapUnsafe<K, V>
         }
         if (capacity >= PARTITIONED_SIZE_THRESHOLD)
         {
-            this.partitionedSize = new int[SIZE_BUCKETS * 16]; // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
+            this.partitionedSize = new int[SIZE_BUCKETS * 16]; // we want SIZE_BUCKETS extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
         }
         this.table = new Object[capacity + 1];
     }
@@ -232,12 +243,12 @@ public class ConcurrentHashMapUnsafe<K, V>
 
     private void incrementSizeAndPossiblyResize(Object[] currentArray, int length, Object prev)
     {
-        this.addToSize(1);
+        int estimatedSize = this.addToSize(1);
         if (prev != null)
         {
-            int localSize = this.size();
             int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
-            if (localSize + 1 > threshold)
+            // the estimate is cheap and never lower than the true size for the busiest counter, so only sum all counters when it is over
+            if (estimatedSize + 1 > threshold && this.size() + 1 > threshold)
             {
                 this.resize(currentArray);
             }
@@ -314,7 +325,7 @@ public class ConcurrentHashMapUnsafe<K, V>
                     ConcurrentHashMapUnsafe.setArrayAt(oldTable, end, RESIZE_SENTINEL);
                     if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
                     {
-                        this.partitionedSize = new int[SIZE_BUCKETS * 16];
+                        this.inflatePartitionedSize();
                     }
                     resizeContainer = new ResizeContainer(new Object[newSize], oldTable.length - 1);
                     ConcurrentHashMapUnsafe.setArrayAt(oldTable, end, resizeContainer);
@@ -707,47 +718,72 @@ public class ConcurrentHashMapUnsafe<K, V>
         }
     }
 
-    private void addToSize(int value)
+    /**
+     * Adds value to the size and returns an estimate of the new size. When the size is striped, the estimate scales the
+     * counter of the current thread by the number of counters, so it is never lower than the true size for the thread
+     * holding the largest share. Every SIZE_RECOUNT_MASK + 1 updates of a counter the exact size is returned instead, so
+     * counters left behind by threads that stopped writing cannot delay a resize indefinitely.
+     */
+    private int addToSize(int value)
     {
-        if (this.partitionedSize != null)
+        int[] localPartitionedSize = this.partitionedSize;
+        if (localPartitionedSize == null)
         {
-            if (this.incrementPartitionedSize(value))
+            int localSize = this.size;
+            if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
             {
-                return;
+                return localSize + value;
             }
+            localPartitionedSize = this.inflatePartitionedSize();
         }
-        this.incrementLocalSize(value);
-    }
-
-    private boolean incrementPartitionedSize(int value)
-    {
         int h = (int) Thread.currentThread().getId();
         h ^= (h >>> 18) ^ (h >>> 12);
         h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
         if (h != 0)
         {
-            h = (h - 1) << 4;
-            long address = ((long) h << INT_ARRAY_SHIFT) + INT_ARRAY_BASE;
-            while (true)
+            int counter = ConcurrentHashMapUnsafe.incrementPartitionedSize(localPartitionedSize, (h - 1) << 4, value);
+            return this.estimateSize(counter, this.size + (long) counter * SIZE_BUCKETS);
+        }
+        int counter = this.incrementLocalSize(value);
+        return this.estimateSize(counter, (long) counter * (SIZE_BUCKETS + 1));
+    }
+
+    private int[] inflatePartitionedSize()
+    {
+        UNSAFE.compareAndSwapObject(this, PARTITIONED_SIZE_OFFSET, null, new int[SIZE_BUCKETS * 16]);
+        return this.partitionedSize;
+    }
+
+    private int estimateSize(int counter, long estimate)
+    {
+        if ((counter & SIZE_RECOUNT_MASK) == 0)
+        {
+            return this.size();
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE);
+    }
+
+    private static int incrementPartitionedSize(int[] partitionedSize, int index, int value)
+    {
+        long address = ((long) index << INT_ARRAY_SHIFT) + INT_ARRAY_BASE;
+        while (true)
+        {
+            int localSize = UNSAFE.getIntVolatile(partitionedSize, address);
+            if (UNSAFE.compareAndSwapInt(partitionedSize, address, localSize, localSize + value))
             {
-                int localSize = UNSAFE.getIntVolatile(this.partitionedSize, address);
-                if (UNSAFE.compareAndSwapInt(this.partitionedSize, address, localSize, localSize + value))
-                {
-                    return true;
-                }
+                return localSize + value;
             }
         }
-        return false;
     }
 
-    private void incrementLocalSize(int value)
+    private int incrementLocalSize(int value)
     {
         while (true)
         {
             int localSize = this.size;
             if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
             {
-                break;
+                return localSize + value;
             }
         }
     }
@@ -755,11 +791,12 @@ public class ConcurrentHashMapUnsafe<K, V>
     public int size()
     {
         int localSize = this.size;
-        if (this.partitionedSize != null)
+        int[] localPartitionedSize = this.partitionedSize;
+        if (localPartitionedSize != null)
         {
             for (int i = 0; i < SIZE_BUCKETS; i++)
             {
-                localSize += this.partitionedSize[i << 4];
+                localSize += UNSAFE.getIntVolatile(localPartitionedSize, ((long) (i << 4) << INT_ARRAY_SHIFT) + INT_ARRAY_BASE);
             }
         }
         return localSize;
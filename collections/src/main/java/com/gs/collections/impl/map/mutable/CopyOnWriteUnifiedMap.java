@@ -0,0 +1,323 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.map.immutable.ImmutableMapFactoryImpl;
+
+/**
+ * A MutableMap for data that is read far more often than it is written. The contents are held in an
+ * {@link ImmutableMap} snapshot in a volatile field, so lookups and iteration never lock and never see a write in
+ * progress. Each write copies the snapshot into a {@link UnifiedMap}, changes the copy and publishes it, holding a lock
+ * only against other writers. Use {@link #withWriteBatch(Procedure)} to make many changes with a single copy.
+ * <p>
+ * The key set, values and entry set views, and their iterators, reflect the snapshot current when they were created
+ * and do not support modification.
+ *
+ * @since 7.0
+ */
+public final class CopyOnWriteUnifiedMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private volatile ImmutableMap<K, V> snapshot;
+
+    private CopyOnWriteUnifiedMap(ImmutableMap<K, V> snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    public static <K, V> CopyOnWriteUnifiedMap<K, V> newMap()
+    {
+        return new CopyOnWriteUnifiedMap<K, V>(Maps.immutable.<K, V>of());
+    }
+
+    public static <K, V> CopyOnWriteUnifiedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        CopyOnWriteUnifiedMap<K, V> result = CopyOnWriteUnifiedMap.newMap();
+        result.publish(UnifiedMap.<K, V>newMap(map));
+        return result;
+    }
+
+    public static <K, V> CopyOnWriteUnifiedMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new CopyOnWriteUnifiedMap<K, V>(Maps.immutable.with(key, value));
+    }
+
+    public static <K, V> CopyOnWriteUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new CopyOnWriteUnifiedMap<K, V>(Maps.immutable.with(key1, value1, key2, value2));
+    }
+
+    public static <K, V> CopyOnWriteUnifiedMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        return new CopyOnWriteUnifiedMap<K, V>(Maps.immutable.with(key1, value1, key2, value2, key3, value3));
+    }
+
+    private UnifiedMap<K, V> copy()
+    {
+        return UnifiedMap.newMap(this.snapshot.castToMap());
+    }
+
+    /**
+     * Publishes {@code map} as the new snapshot without copying it again.
+     */
+    private void publish(UnifiedMap<K, V> map)
+    {
+        this.snapshot = map.isEmpty() ? Maps.immutable.<K, V>of() : ImmutableMapFactoryImpl.adopt(new Handoff<K, V>(map));
+    }
+
+    /**
+     * Passes a private copy of the map to {@code procedure} and then publishes the copy in one step, so a burst of
+     * updates costs a single copy and readers see either none or all of them. The procedure must make its changes
+     * through its argument and must not keep a reference to it, as the published snapshot is backed by it; other
+     * writers wait until it returns.
+     */
+    public synchronized void withWriteBatch(Procedure<? super MutableMap<K, V>> procedure)
+    {
+        UnifiedMap<K, V> copy = this.copy();
+        procedure.value(copy);
+        this.publish(copy);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.snapshot.toString();
+    }
+
+    @Override
+    public MutableMap<K, V> clone()
+    {
+        return new CopyOnWriteUnifiedMap<K, V>(this.snapshot);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return CopyOnWriteUnifiedMap.newMap();
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return CopyOnWriteUnifiedMap.newMap();
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return this.snapshot;
+    }
+
+    public int size()
+    {
+        return this.snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.snapshot.isEmpty();
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return this.snapshot.iterator();
+    }
+
+    public Set<K> keySet()
+    {
+        return this.snapshot.castToMap().keySet();
+    }
+
+    public Collection<V> values()
+    {
+        return this.snapshot.castToMap().values();
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return this.snapshot.castToMap().entrySet();
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.snapshot.forEachKeyValue(procedure);
+    }
+
+    public V get(Object key)
+    {
+        return this.snapshot.get(key);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.snapshot.containsKey(key);
+    }
+
+    public boolean containsValue(Object value)
+    {
+        return this.snapshot.containsValue(value);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return this.snapshot.equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.snapshot.hashCode();
+    }
+
+    public synchronized V put(K key, V value)
+    {
+        UnifiedMap<K, V> copy = this.copy();
+        V previous = copy.put(key, value);
+        this.publish(copy);
+        return previous;
+    }
+
+    public synchronized void putAll(Map<? extends K, ? extends V> map)
+    {
+        UnifiedMap<K, V> copy = this.copy();
+        copy.putAll(map);
+        this.publish(copy);
+    }
+
+    public synchronized V remove(Object key)
+    {
+        if (!this.snapshot.containsKey(key))
+        {
+            return null;
+        }
+        UnifiedMap<K, V> copy = this.copy();
+        V previous = copy.remove(key);
+        this.publish(copy);
+        return previous;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public synchronized void clear()
+    {
+        this.snapshot = Maps.immutable.of();
+    }
+
+    public synchronized <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        UnifiedMap<K, V> copy = this.copy();
+        copy.collectKeysAndValues(iterable, keyFunction, valueFunction);
+        this.publish(copy);
+        return this;
+    }
+
+    @Override
+    public synchronized V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        return super.getIfAbsentPut(key, function);
+    }
+
+    @Override
+    public synchronized V getIfAbsentPut(K key, V value)
+    {
+        return super.getIfAbsentPut(key, value);
+    }
+
+    @Override
+    public synchronized <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        return super.getIfAbsentPutWith(key, function, parameter);
+    }
+
+    @Override
+    public synchronized V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        return super.updateValue(key, factory, function);
+    }
+
+    @Override
+    public synchronized <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        return super.updateValueWith(key, factory, function, parameter);
+    }
+
+    @Override
+    public synchronized MutableMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        UnifiedMap<K, V> copy = this.copy();
+        copy.withAllKeyValues(keyValues);
+        this.publish(copy);
+        return this;
+    }
+
+    @Override
+    public synchronized MutableMap<K, V> withoutAllKeys(Iterable<? extends K> keys)
+    {
+        UnifiedMap<K, V> copy = this.copy();
+        copy.withoutAllKeys(keys);
+        this.publish(copy);
+        return this;
+    }
+
+    /**
+     * The map of a finished write, which {@link ImmutableMapFactoryImpl#adopt(Handoff)} publishes without copying.
+     * Only this class creates them, and it drops the map once it is handed off.
+     */
+    public static final class Handoff<K, V>
+    {
+        private final UnifiedMap<K, V> map;
+
+        private Handoff(UnifiedMap<K, V> map)
+        {
+            this.map = map;
+        }
+
+        public UnifiedMap<K, V> getMap()
+        {
+            return this.map;
+        }
+    }
+}
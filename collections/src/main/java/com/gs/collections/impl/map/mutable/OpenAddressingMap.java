@@ -0,0 +1,916 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * OpenAddressingMap stores key/value pairs inline in a single array, where alternate slots are keys and values, like
+ * {@link UnifiedMap}. Collisions are resolved by linear probing within the same array instead of chaining into nested
+ * bucket arrays, so a lookup of a colliding key reads consecutive memory and a colliding put never allocates.
+ * <p>
+ * Probing never wraps around to the start of the table. A key whose probe sequence runs past the end of the table is
+ * stored in an overflow area appended to the end, which grows on demand. Removal uses backward-shift deletion, so the
+ * table never contains tombstones and the probe sequences stay as short as they were before the removal.
+ *
+ * @since 7.0
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class OpenAddressingMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    protected static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OpenAddressingMap.NULL_KEY";
+        }
+    };
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_OVERFLOW_SLOTS = 8;
+
+    private transient Object[] table;
+
+    private transient int occupied;
+
+    private transient int shift;
+
+    private float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    private int maxSize;
+
+    public OpenAddressingMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OpenAddressingMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public OpenAddressingMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init((int) Math.ceil(initialCapacity / (double) loadFactor));
+    }
+
+    public OpenAddressingMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap()
+    {
+        return new OpenAddressingMap<K, V>();
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap(int size)
+    {
+        return new OpenAddressingMap<K, V>(size);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap(int size, float loadFactor)
+    {
+        return new OpenAddressingMap<K, V>(size, loadFactor);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OpenAddressingMap<K, V>(map);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OpenAddressingMap<K, V>().withKeysValues(key, value);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OpenAddressingMap<K, V>().withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OpenAddressingMap<K, V>().withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new OpenAddressingMap<K, V>().withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public OpenAddressingMap<K, V> clone()
+    {
+        return new OpenAddressingMap<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return new OpenAddressingMap<K, V>();
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty(int capacity)
+    {
+        return OpenAddressingMap.newMap(capacity);
+    }
+
+    private void init(int initialCapacity)
+    {
+        int capacity = 2;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+        this.allocate(capacity);
+    }
+
+    private void allocate(int capacity)
+    {
+        // the table is twice the capacity to hold both keys and values, the overflow area starts empty
+        this.table = new Object[capacity << 1];
+        this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    private int capacity()
+    {
+        return 1 << (32 - this.shift);
+    }
+
+    /**
+     * Returns the position of the key slot where the probe sequence of the given table key starts. The hash code is
+     * multiplied by the golden ratio and the high bits are used, which spreads hash codes that only differ in their
+     * high bits or by constant multiples across the whole table.
+     */
+    private int index(Object tableKey)
+    {
+        int h = tableKey == NULL_KEY ? 0 : tableKey.hashCode();
+        return ((h * 0x9E3779B9) >>> this.shift) << 1;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private K nonSentinel(Object tableKey)
+    {
+        return tableKey == NULL_KEY ? null : (K) tableKey;
+    }
+
+    private static boolean nonNullTableObjectEquals(Object tableKey, Object key)
+    {
+        return tableKey == key || key != NULL_KEY && tableKey.equals(key);
+    }
+
+    private static boolean nullSafeEquals(Object value, Object other)
+    {
+        if (value == null)
+        {
+            return other == null;
+        }
+        return other == value || value.equals(other);
+    }
+
+    /**
+     * Returns the position of the key slot holding the given table key, or -1 if the key is absent.
+     */
+    private int indexOfKey(Object tableKey)
+    {
+        Object[] localTable = this.table;
+        for (int i = this.index(tableKey); i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur == null)
+            {
+                return -1;
+            }
+            if (OpenAddressingMap.nonNullTableObjectEquals(cur, tableKey))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public V get(Object key)
+    {
+        Object tableKey = OpenAddressingMap.toSentinelIfNull(key);
+        Object[] localTable = this.table;
+        for (int i = this.index(tableKey); i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur == null)
+            {
+                return null;
+            }
+            if (OpenAddressingMap.nonNullTableObjectEquals(cur, tableKey))
+            {
+                return (V) localTable[i + 1];
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.indexOfKey(OpenAddressingMap.toSentinelIfNull(key)) >= 0;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            if (localTable[i] != null && OpenAddressingMap.nullSafeEquals(localTable[i + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V put(K key, V value)
+    {
+        Object tableKey = OpenAddressingMap.toSentinelIfNull(key);
+        Object[] localTable = this.table;
+        int i = this.index(tableKey);
+        for (; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur == null)
+            {
+                break;
+            }
+            if (OpenAddressingMap.nonNullTableObjectEquals(cur, tableKey))
+            {
+                V result = (V) localTable[i + 1];
+                localTable[i + 1] = value;
+                return result;
+            }
+        }
+        if (i == localTable.length)
+        {
+            localTable = this.growOverflow();
+        }
+        localTable[i] = tableKey;
+        localTable[i + 1] = value;
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.capacity() << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Extends the overflow area at the end of the table. Keys keep their positions, so nothing needs to be rehashed.
+     */
+    private Object[] growOverflow()
+    {
+        int overflowSlots = (this.table.length >> 1) - this.capacity();
+        int newLength = this.table.length + (Math.max(MIN_OVERFLOW_SLOTS, overflowSlots) << 1);
+        this.table = Arrays.copyOf(this.table, newLength);
+        return this.table;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldTable = this.table;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldTable.length; i += 2)
+        {
+            Object cur = oldTable[i];
+            if (cur != null)
+            {
+                this.insertAbsent(cur, oldTable[i + 1]);
+            }
+        }
+    }
+
+    private void insertAbsent(Object tableKey, Object value)
+    {
+        Object[] localTable = this.table;
+        int i = this.index(tableKey);
+        while (i < localTable.length && localTable[i] != null)
+        {
+            i += 2;
+        }
+        if (i == localTable.length)
+        {
+            localTable = this.growOverflow();
+        }
+        localTable[i] = tableKey;
+        localTable[i + 1] = value;
+    }
+
+    public V remove(Object key)
+    {
+        int index = this.indexOfKey(OpenAddressingMap.toSentinelIfNull(key));
+        if (index < 0)
+        {
+            return null;
+        }
+        V result = (V) this.table[index + 1];
+        this.removeAt(index);
+        return result;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    /**
+     * Removes the entry at the given key slot and shifts the following entries of the probe run back into the hole,
+     * as long as moving them does not put them before the start of their own probe sequence.
+     */
+    private void removeAt(int index)
+    {
+        Object[] localTable = this.table;
+        int hole = index;
+        for (int i = index + 2; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur == null)
+            {
+                break;
+            }
+            if (this.index(cur) <= hole)
+            {
+                localTable[hole] = cur;
+                localTable[hole + 1] = localTable[i + 1];
+                hole = i;
+            }
+        }
+        localTable[hole] = null;
+        localTable[hole + 1] = null;
+        this.occupied--;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        this.table = new Object[this.capacity() << 1];
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof MutableMap<?, ?>)
+        {
+            ((MutableMap<K, V>) map).forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    OpenAddressingMap.this.put(key, value);
+                }
+            });
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<E, K, V>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) localTable[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            if (localTable[i] != null)
+            {
+                procedure.value((V) localTable[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur != null)
+            {
+                K key = this.nonSentinel(cur);
+                Object value = localTable[i + 1];
+                Object otherValue = other.get(key);
+                if (!OpenAddressingMap.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur != null)
+            {
+                Object value = localTable[i + 1];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == OpenAddressingMap.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == OpenAddressingMap.this ? "(this Map)" : value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        Object[] localTable = this.table;
+        for (int i = 0; i < localTable.length; i += 2)
+        {
+            Object cur = localTable[i];
+            if (cur != null)
+            {
+                out.writeObject(this.nonSentinel(cur));
+                out.writeObject(localTable[i + 1]);
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) Math.ceil(size / (double) this.loadFactor), DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Iterates over the key slots in table order. Backward-shift deletion only ever moves entries towards the start of
+     * the table, so after a removal the iterator looks at the removed slot again, which now holds the next entry of
+     * the probe run if there was one, and no entry is skipped or visited twice.
+     */
+    private abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        private int position;
+        private int lastReturned = -1;
+
+        public boolean hasNext()
+        {
+            Object[] localTable = OpenAddressingMap.this.table;
+            while (this.position < localTable.length && localTable[this.position] == null)
+            {
+                this.position += 2;
+            }
+            return this.position < localTable.length;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.position;
+            this.position += 2;
+            return this.valueAt(this.lastReturned);
+        }
+
+        protected abstract T valueAt(int index);
+
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException();
+            }
+            OpenAddressingMap.this.removeAt(this.lastReturned);
+            this.position = this.lastReturned;
+            this.lastReturned = -1;
+        }
+    }
+
+    private final class KeysIterator extends PositionalIterator<K>
+    {
+        @Override
+        protected K valueAt(int index)
+        {
+            return OpenAddressingMap.this.nonSentinel(OpenAddressingMap.this.table[index]);
+        }
+    }
+
+    private final class ValuesIterator extends PositionalIterator<V>
+    {
+        @Override
+        protected V valueAt(int index)
+        {
+            return (V) OpenAddressingMap.this.table[index + 1];
+        }
+    }
+
+    private final class EntriesIterator extends PositionalIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> valueAt(int index)
+        {
+            Object[] localTable = OpenAddressingMap.this.table;
+            return new BoundEntry(OpenAddressingMap.this.nonSentinel(localTable[index]), (V) localTable[index + 1]);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return OpenAddressingMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int index = OpenAddressingMap.this.indexOfKey(OpenAddressingMap.toSentinelIfNull(key));
+            if (index < 0)
+            {
+                return false;
+            }
+            OpenAddressingMap.this.removeAt(index);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return OpenAddressingMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.indexOfEntry(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int index = this.indexOfEntry(object);
+            if (index < 0)
+            {
+                return false;
+            }
+            OpenAddressingMap.this.removeAt(index);
+            return true;
+        }
+
+        private int indexOfEntry(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            int index = OpenAddressingMap.this.indexOfKey(OpenAddressingMap.toSentinelIfNull(entry.getKey()));
+            if (index >= 0 && OpenAddressingMap.nullSafeEquals(OpenAddressingMap.this.table[index + 1], entry.getValue()))
+            {
+                return index;
+            }
+            return -1;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingMap.this.clear();
+        }
+    }
+
+    private final class BoundEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            this.value = value;
+            if (OpenAddressingMap.this.containsKey(this.key))
+            {
+                return OpenAddressingMap.this.put(this.key, value);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return OpenAddressingMap.nullSafeEquals(this.key, other.getKey())
+                        && OpenAddressingMap.nullSafeEquals(this.value, other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode())
+                    ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -29,7 +29,10 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -41,6 +44,7 @@ import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.UnsortedMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
@@ -48,6 +52,9 @@ import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.RootMapBatch;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
@@ -2991,4 +2998,164 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         return Maps.immutable.withAll(this);
     }
+
+    @Beta
+    @Override
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new UnifiedMapParallelMapIterable(executorService, batchSize);
+    }
+
+    private void forEachKeyValue(Procedure2<? super K, ? super V> procedure, int start, int end)
+    {
+        for (int i = start; i < end; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                this.chainedForEachEntry((Object[]) this.table[i + 1], procedure);
+            }
+            else if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    private Pair<K, V> detect(Predicate2<? super K, ? super V> predicate, int start, int end)
+    {
+        for (int i = start; i < end; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                Object[] chain = (Object[]) this.table[i + 1];
+                for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                {
+                    K key = this.nonSentinel(chain[j]);
+                    V value = (V) chain[j + 1];
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                }
+            }
+            else if (cur != null)
+            {
+                K key = this.nonSentinel(cur);
+                V value = (V) this.table[i + 1];
+                if (predicate.accept(key, value))
+                {
+                    return Tuples.pair(key, value);
+                }
+            }
+        }
+        return null;
+    }
+
+    private final class UnifiedMapBatch implements RootMapBatch<K, V>
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private UnifiedMapBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            UnifiedMap.this.forEachKeyValue(procedure, this.chunkStartIndex, this.chunkEndIndex);
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            return UnifiedMap.this.detect(predicate, this.chunkStartIndex, this.chunkEndIndex);
+        }
+    }
+
+    /**
+     * Splits the table directly; each batch covers batchSize slots, that is batchSize * 2 array cells, together with
+     * any collision chains hanging off those slots.
+     */
+    private final class UnifiedMapParallelMapIterable extends AbstractParallelMapIterable<K, V, RootMapBatch<K, V>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private UnifiedMapParallelMapIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootMapBatch<K, V>> split()
+        {
+            return new UnifiedMapParallelSplitLazyIterable();
+        }
+
+        private class UnifiedMapParallelSplitIterator implements Iterator<RootMapBatch<K, V>>
+        {
+            private final int chunkSize = UnifiedMapParallelMapIterable.this.batchSize * 2;
+            protected int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkIndex * this.chunkSize < UnifiedMap.this.table.length;
+            }
+
+            public RootMapBatch<K, V> next()
+            {
+                int chunkStartIndex = this.chunkIndex * this.chunkSize;
+                int chunkEndIndex = (this.chunkIndex + 1) * this.chunkSize;
+                int truncatedChunkEndIndex = Math.min(chunkEndIndex, UnifiedMap.this.table.length);
+                this.chunkIndex++;
+                return new UnifiedMapBatch(chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class UnifiedMapParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootMapBatch<K, V>>
+        {
+            public void each(Procedure<? super RootMapBatch<K, V>> procedure)
+            {
+                for (RootMapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<RootMapBatch<K, V>> iterator()
+            {
+                return new UnifiedMapParallelSplitIterator();
+            }
+        }
+    }
 }
@@ -20,9 +20,11 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.primitive.MutableBooleanBag;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
@@ -63,7 +65,9 @@ import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
@@ -74,6 +78,9 @@ import com.gs.collections.api.ordered.OrderedIterable;
 import com.gs.collections.api.partition.bag.PartitionMutableBag;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.UnmodifiableIteratorAdapter;
 import com.gs.collections.impl.UnmodifiableMap;
@@ -393,6 +400,12 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().detect(predicate);
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getMutableMap().asParallel(executorService, batchSize);
+    }
+
     public boolean allSatisfy(Predicate<? super V> predicate)
     {
         return this.getMutableMap().allSatisfy(predicate);
@@ -740,6 +753,56 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().maxBy(function);
     }
 
+    public MutableList<V> topN(int count, Comparator<? super V> comparator)
+    {
+        return this.getMutableMap().topN(count, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> topNBy(int count, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().topNBy(count, function);
+    }
+
+    public MutableList<V> bottomN(int count, Comparator<? super V> comparator)
+    {
+        return this.getMutableMap().bottomN(count, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> bottomNBy(int count, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeDouble(function);
+    }
+
+    public <R> MapIterable<R, IntStatistics> summarizeIntBy(Function<? super V, ? extends R> groupBy, IntFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeIntBy(groupBy, function);
+    }
+
+    public <R> MapIterable<R, LongStatistics> summarizeLongBy(Function<? super V, ? extends R> groupBy, LongFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeLongBy(groupBy, function);
+    }
+
+    public <R> MapIterable<R, DoubleStatistics> summarizeDoubleBy(Function<? super V, ? extends R> groupBy, DoubleFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeDoubleBy(groupBy, function);
+    }
+
     public V min()
     {
         return this.getMutableMap().min();
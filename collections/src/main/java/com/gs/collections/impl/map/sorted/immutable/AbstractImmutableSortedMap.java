@@ -16,6 +16,7 @@
 
 package com.gs.collections.impl.map.sorted.immutable;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.SortedMap;
@@ -510,4 +511,15 @@ public abstract class AbstractImmutableSortedMap<K, V>
     {
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".detectIndex() not implemented yet");
     }
+
+    public int countBetween(K fromKey, K toKey)
+    {
+        Comparator<? super K> comparator = this.comparator();
+        int comparison = comparator == null ? ((Comparable<? super K>) fromKey).compareTo(toKey) : comparator.compare(fromKey, toKey);
+        if (comparison > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return this.rank(toKey) - this.rank(fromKey);
+    }
 }
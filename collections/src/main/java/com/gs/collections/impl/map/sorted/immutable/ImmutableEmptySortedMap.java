@@ -256,6 +256,16 @@ final class ImmutableEmptySortedMap<K, V>
         throw new NoSuchElementException();
     }
 
+    public int rank(K key)
+    {
+        return 0;
+    }
+
+    public K keyAt(int index)
+    {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+    }
+
     private Object writeReplace()
     {
         return new ImmutableSortedMapSerializationProxy<K, V>(this);
@@ -19,7 +19,6 @@ package com.gs.collections.impl.map.sorted.immutable;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.AbstractSet;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -45,6 +44,7 @@ import com.gs.collections.impl.tuple.ImmutableEntry;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.MapIterate;
+import com.gs.collections.impl.utility.internal.SortedArraySearchIndex;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -58,6 +58,7 @@ public class ImmutableTreeMap<K, V>
     private final K[] keys;
     private final V[] values;
     private final Comparator<? super K> comparator;
+    private final SortedArraySearchIndex<K> searchIndex;
 
     public ImmutableTreeMap(SortedMap<K, V> sortedMap)
     {
@@ -77,6 +78,7 @@ public class ImmutableTreeMap<K, V>
         }
         this.keys = keysCopy;
         this.values = valuesCopy;
+        this.searchIndex = SortedArraySearchIndex.of(keysCopy, this.comparator);
     }
 
     public static <K, V> ImmutableSortedMap<K, V> newMap(SortedMap<K, V> sortedMap)
@@ -156,7 +158,7 @@ public class ImmutableTreeMap<K, V>
 
     public boolean containsKey(Object key)
     {
-        return Arrays.binarySearch(this.keys, (K) key, this.comparator) >= 0;
+        return this.searchIndex.binarySearch((K) key) >= 0;
     }
 
     public boolean containsValue(Object value)
@@ -166,7 +168,7 @@ public class ImmutableTreeMap<K, V>
 
     public V get(Object key)
     {
-        int index = Arrays.binarySearch(this.keys, (K) key, this.comparator);
+        int index = this.searchIndex.binarySearch((K) key);
         if (index >= 0)
         {
             return this.values[index];
@@ -225,6 +227,21 @@ public class ImmutableTreeMap<K, V>
         return this.keys[this.keys.length - 1];
     }
 
+    public int rank(K key)
+    {
+        int index = this.searchIndex.binarySearch(key);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    public K keyAt(int index)
+    {
+        if (index < 0 || index >= this.keys.length)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.keys.length);
+        }
+        return this.keys[index];
+    }
+
     public Set<K> keySet()
     {
         return new ImmutableSortedMapKeySet();
@@ -16,6 +16,8 @@
 
 package com.gs.collections.impl.map.sorted.mutable;
 
+import java.util.Iterator;
+
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
@@ -361,4 +363,28 @@ public abstract class AbstractMutableSortedMap<K, V> extends AbstractMutableMapI
     {
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".detectIndex() not implemented yet");
     }
+
+    public int rank(K key)
+    {
+        return this.headMap(key).size();
+    }
+
+    public K keyAt(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+        }
+        Iterator<K> iterator = this.keySet().iterator();
+        for (int i = 0; i < index; i++)
+        {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    public int countBetween(K fromKey, K toKey)
+    {
+        return this.subMap(fromKey, toKey).size();
+    }
 }
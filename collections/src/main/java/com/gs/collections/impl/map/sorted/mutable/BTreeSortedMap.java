@@ -0,0 +1,1451 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.api.partition.list.PartitionMutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.collection.mutable.CollectionAdapter;
+import com.gs.collections.impl.set.mutable.SetAdapter;
+import com.gs.collections.impl.utility.ArrayIterate;
+
+/**
+ * A MutableSortedMap stored in a B+ tree instead of a red-black tree. Keys and values are kept in arrays of up to 64
+ * entries in the leaves, which are linked in key order. A lookup touches a handful of nodes instead of one node per
+ * level of a binary tree, in-order iteration and range scans walk contiguous arrays, and there is no per-entry node
+ * object.
+ * <p>
+ * Appending keys in ascending order, as when loading time-indexed data, fills each leaf completely. A node is freed
+ * when its last entry is removed rather than merged with a sibling when it is half empty.
+ * <p>
+ * The views returned by {@link #headMap(Object)}, {@link #tailMap(Object)} and {@link #subMap(Object, Object)} are
+ * backed by this map, as are the key set, values and entry set. Iterators over them are fail-fast.
+ * <p>
+ * Each branch also records how many entries are under each of its children, so {@link #rank(Object)},
+ * {@link #keyAt(int)}, {@link #countBetween(Object, Object)} and the size of a range view take time proportional to
+ * the height of the tree rather than to the number of entries skipped.
+ *
+ * @since 7.0
+ */
+public class BTreeSortedMap<K, V>
+        extends AbstractMutableSortedMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int NODE_CAPACITY = 64;
+
+    private Comparator<? super K> comparator;
+    private Node root;
+    private int height;
+    private int size;
+    private transient int modCount;
+
+    public BTreeSortedMap()
+    {
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public BTreeSortedMap(Map<? extends K, ? extends V> map)
+    {
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
+    {
+        this.comparator = comparator;
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(SortedMap<K, ? extends V> map)
+    {
+        this.comparator = map.comparator();
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(
+                this,
+                Functions.<K>firstOfPair(),
+                Functions.<V>secondOfPair()));
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return new BTreeSortedMap<K, V>();
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return new BTreeSortedMap<K, V>(comparator);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof SortedMap<?, ?>)
+        {
+            return new BTreeSortedMap<K, V>((SortedMap<K, V>) map);
+        }
+        return new BTreeSortedMap<K, V>(map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
+    {
+        return new BTreeSortedMap<K, V>(comparator, map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new BTreeSortedMap<K, V>(pairs);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, Pair<K, V>... pairs)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(pairs);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key, V value)
+    {
+        return new BTreeSortedMap<K, V>().with(key, value);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key, V value)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key, value);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator,
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public BTreeSortedMap<K, V> with(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> with(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(this, Functions.<K>firstOfPair(), Functions.<V>secondOfPair()));
+        return this;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public MutableSortedMap<K, V> newEmpty()
+    {
+        return new BTreeSortedMap<K, V>(this.comparator);
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> clone()
+    {
+        return new BTreeSortedMap<K, V>(this);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return this.entireRange().equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.entireRange().hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.entireRange().toString();
+    }
+
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            Object[] values = leaf.values;
+            for (int i = 0; i < leaf.keyCount; i++)
+            {
+                procedure.value((K) keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            for (int i = 0; i < leaf.keyCount; i++)
+            {
+                procedure.value((K) keys[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            Object[] values = leaf.values;
+            for (int i = 0; i < leaf.keyCount; i++)
+            {
+                procedure.value((V) values[i]);
+            }
+        }
+    }
+
+    public K firstKey()
+    {
+        Leaf leaf = this.firstLeaf();
+        if (leaf == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) leaf.keys[0];
+    }
+
+    public K lastKey()
+    {
+        Leaf leaf = this.lastLeaf();
+        if (leaf == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) leaf.keys[leaf.keyCount - 1];
+    }
+
+    public MutableSet<Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(this.entireRange().entrySet());
+    }
+
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(this.entireRange().keySet());
+    }
+
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(this.entireRange().values());
+    }
+
+    public V get(Object key)
+    {
+        Leaf leaf = this.findLeaf(key);
+        if (leaf != null)
+        {
+            int index = this.lowerBound(leaf.keys, leaf.keyCount, key);
+            if (index < leaf.keyCount && this.compare(key, leaf.keys[index]) == 0)
+            {
+                return (V) leaf.values[index];
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        Leaf leaf = this.findLeaf(key);
+        if (leaf != null)
+        {
+            int index = this.lowerBound(leaf.keys, leaf.keyCount, key);
+            return index < leaf.keyCount && this.compare(key, leaf.keys[index]) == 0;
+        }
+        return false;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.keyCount; i++)
+            {
+                Object each = leaf.values[i];
+                if (value == null ? each == null : value.equals(each))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public V put(K key, V value)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException("BTreeSortedMap does not accept null keys without a comparator");
+        }
+        if (this.root == null)
+        {
+            this.compare(key, key);
+            Leaf leaf = new Leaf();
+            leaf.keys[0] = key;
+            leaf.values[0] = value;
+            leaf.keyCount = 1;
+            this.root = leaf;
+            this.size = 1;
+            this.modCount++;
+            return null;
+        }
+
+        Branch[] path = new Branch[this.height];
+        int[] slots = new int[this.height];
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int slot = this.upperBound(branch.keys, branch.keyCount, key);
+            path[level] = branch;
+            slots[level] = slot;
+            node = branch.children[slot];
+        }
+
+        Leaf leaf = (Leaf) node;
+        int index = this.lowerBound(leaf.keys, leaf.keyCount, key);
+        if (index < leaf.keyCount && this.compare(key, leaf.keys[index]) == 0)
+        {
+            V previous = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return previous;
+        }
+
+        this.size++;
+        this.modCount++;
+        for (int level = 0; level < this.height; level++)
+        {
+            path[level].counts[slots[level]]++;
+        }
+        if (leaf.keyCount < NODE_CAPACITY)
+        {
+            leaf.insert(index, key, value);
+            return null;
+        }
+
+        Node left = leaf;
+        Node right = leaf.splitAndInsert(index, key, value);
+        Object separator = ((Leaf) right).keys[0];
+        for (int level = this.height - 1; level >= 0; level--)
+        {
+            Branch branch = path[level];
+            int slot = slots[level];
+            if (branch.keyCount < NODE_CAPACITY)
+            {
+                branch.insert(slot, separator, right, left.entryCount(), right.entryCount());
+                return null;
+            }
+            Branch sibling = branch.splitAndInsert(slot, separator, right, left.entryCount(), right.entryCount());
+            separator = sibling.promoted;
+            sibling.promoted = null;
+            left = branch;
+            right = sibling;
+        }
+
+        Branch newRoot = new Branch();
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = this.root;
+        newRoot.children[1] = right;
+        newRoot.counts[0] = this.root.entryCount();
+        newRoot.counts[1] = right.entryCount();
+        newRoot.keyCount = 1;
+        this.root = newRoot;
+        this.height++;
+        return null;
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public V remove(Object key)
+    {
+        if (this.root == null)
+        {
+            return null;
+        }
+
+        Branch[] path = new Branch[this.height];
+        int[] slots = new int[this.height];
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int slot = this.upperBound(branch.keys, branch.keyCount, key);
+            path[level] = branch;
+            slots[level] = slot;
+            node = branch.children[slot];
+        }
+
+        Leaf leaf = (Leaf) node;
+        int index = this.lowerBound(leaf.keys, leaf.keyCount, key);
+        if (index >= leaf.keyCount || this.compare(key, leaf.keys[index]) != 0)
+        {
+            return null;
+        }
+
+        V previous = (V) leaf.values[index];
+        leaf.remove(index);
+        this.size--;
+        this.modCount++;
+        for (int level = 0; level < this.height; level++)
+        {
+            path[level].counts[slots[level]]--;
+        }
+        if (leaf.keyCount > 0)
+        {
+            return previous;
+        }
+
+        if (leaf.previous != null)
+        {
+            leaf.previous.next = leaf.next;
+        }
+        if (leaf.next != null)
+        {
+            leaf.next.previous = leaf.previous;
+        }
+        int level = this.height - 1;
+        while (level >= 0 && path[level].keyCount == 0)
+        {
+            level--;
+        }
+        if (level < 0)
+        {
+            this.root = null;
+            this.height = 0;
+            return previous;
+        }
+        path[level].removeChild(slots[level]);
+        while (this.height > 0 && ((Branch) this.root).keyCount == 0)
+        {
+            this.root = ((Branch) this.root).children[0];
+            this.height--;
+        }
+        return previous;
+    }
+
+    public void clear()
+    {
+        this.root = null;
+        this.height = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    public MutableSortedMap<K, V> headMap(K toKey)
+    {
+        return new RangeAdapter(new Range(false, null, true, toKey));
+    }
+
+    public MutableSortedMap<K, V> tailMap(K fromKey)
+    {
+        return new RangeAdapter(new Range(true, fromKey, false, null));
+    }
+
+    public MutableSortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return new RangeAdapter(new Range(true, fromKey, true, toKey));
+    }
+
+    @Override
+    public int rank(K key)
+    {
+        if (this.root == null)
+        {
+            return 0;
+        }
+        int rank = 0;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int slot = this.upperBound(branch.keys, branch.keyCount, key);
+            for (int i = 0; i < slot; i++)
+            {
+                rank += branch.counts[i];
+            }
+            node = branch.children[slot];
+        }
+        Leaf leaf = (Leaf) node;
+        return rank + this.lowerBound(leaf.keys, leaf.keyCount, key);
+    }
+
+    @Override
+    public K keyAt(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        int remaining = index;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int slot = 0;
+            while (remaining >= branch.counts[slot])
+            {
+                remaining -= branch.counts[slot];
+                slot++;
+            }
+            node = branch.children[slot];
+        }
+        return (K) node.keys[remaining];
+    }
+
+    @Override
+    public int countBetween(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return this.rank(toKey) - this.rank(fromKey);
+    }
+
+    public MutableSortedMap<K, V> toReversed()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toReversed() not implemented yet");
+    }
+
+    public MutableSortedMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        BTreeSortedMap<K, V> output = new BTreeSortedMap<K, V>(this.comparator);
+        int remaining = count;
+        for (Leaf leaf = this.firstLeaf(); leaf != null && remaining > 0; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.keyCount && remaining > 0; i++, remaining--)
+            {
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return output;
+    }
+
+    public MutableSortedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".takeWhile() not implemented yet");
+    }
+
+    public MutableSortedMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        BTreeSortedMap<K, V> output = new BTreeSortedMap<K, V>(this.comparator);
+        int skip = count;
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            if (skip >= leaf.keyCount)
+            {
+                skip -= leaf.keyCount;
+                continue;
+            }
+            for (int i = skip; i < leaf.keyCount; i++)
+            {
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+            skip = 0;
+        }
+        return output;
+    }
+
+    public MutableSortedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".dropWhile() not implemented yet");
+    }
+
+    public PartitionMutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".partitionWhile() not implemented yet");
+    }
+
+    public MutableList<V> distinct()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".distinct() not implemented yet");
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator);
+        out.writeInt(this.size);
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.keyCount; i++)
+            {
+                out.writeObject(leaf.keys[i]);
+                out.writeObject(leaf.values[i]);
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.comparator = (Comparator<? super K>) in.readObject();
+        int size = in.readInt();
+        for (int i = 0; i < size; ++i)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        if (this.comparator == null)
+        {
+            return ((Comparable<Object>) key1).compareTo(key2);
+        }
+        return this.comparator.compare((K) key1, (K) key2);
+    }
+
+    /**
+     * Returns the index of the first of the {@code count} sorted {@code keys} that is not less than {@code key}.
+     * Natural ordering is tested once outside the loop so the common Comparable case avoids the comparator call.
+     */
+    private int lowerBound(Object[] keys, int count, Object key)
+    {
+        int low = 0;
+        int high = count;
+        if (this.comparator == null)
+        {
+            Comparable<Object> comparable = (Comparable<Object>) key;
+            while (low < high)
+            {
+                int mid = (low + high) >>> 1;
+                if (comparable.compareTo(keys[mid]) > 0)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+        K typedKey = (K) key;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.comparator.compare(typedKey, (K) keys[mid]) > 0)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first of the {@code count} sorted {@code keys} that is greater than {@code key}.
+     */
+    private int upperBound(Object[] keys, int count, Object key)
+    {
+        int low = 0;
+        int high = count;
+        if (this.comparator == null)
+        {
+            Comparable<Object> comparable = (Comparable<Object>) key;
+            while (low < high)
+            {
+                int mid = (low + high) >>> 1;
+                if (comparable.compareTo(keys[mid]) >= 0)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+        K typedKey = (K) key;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.comparator.compare(typedKey, (K) keys[mid]) >= 0)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Leaf findLeaf(Object key)
+    {
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[this.upperBound(branch.keys, branch.keyCount, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf()
+    {
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            node = ((Branch) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf()
+    {
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[branch.keyCount];
+        }
+        return (Leaf) node;
+    }
+
+    private SortedMap<K, V> entireRange()
+    {
+        return new Range(false, null, false, null);
+    }
+
+    private abstract static class Node
+    {
+        protected final Object[] keys = new Object[NODE_CAPACITY];
+        protected int keyCount;
+
+        protected abstract int entryCount();
+    }
+
+    private static final class Leaf extends Node
+    {
+        private final Object[] values = new Object[NODE_CAPACITY];
+        private Leaf previous;
+        private Leaf next;
+
+        @Override
+        protected int entryCount()
+        {
+            return this.keyCount;
+        }
+
+        private void insert(int index, Object key, Object value)
+        {
+            int moved = this.keyCount - index;
+            System.arraycopy(this.keys, index, this.keys, index + 1, moved);
+            System.arraycopy(this.values, index, this.values, index + 1, moved);
+            this.keys[index] = key;
+            this.values[index] = value;
+            this.keyCount++;
+        }
+
+        private <K, V> void forEachKeyValue(int from, int to, Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = from; i < to; i++)
+            {
+                procedure.value((K) this.keys[i], (V) this.values[i]);
+            }
+        }
+
+        private void remove(int index)
+        {
+            int moved = this.keyCount - index - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+            System.arraycopy(this.values, index + 1, this.values, index, moved);
+            this.keyCount--;
+            this.keys[this.keyCount] = null;
+            this.values[this.keyCount] = null;
+        }
+
+        /**
+         * Splits this full leaf, inserts the entry into the correct half and returns the new right-hand leaf. An
+         * append past the last leaf leaves this leaf full, so ascending loads produce completely packed leaves.
+         */
+        private Leaf splitAndInsert(int index, Object key, Object value)
+        {
+            boolean appending = index == this.keyCount && this.next == null;
+            int leftCount = appending ? this.keyCount : (this.keyCount + 1) / 2;
+            Leaf right = new Leaf();
+            int from = index < leftCount ? leftCount - 1 : leftCount;
+            int moved = this.keyCount - from;
+            System.arraycopy(this.keys, from, right.keys, 0, moved);
+            System.arraycopy(this.values, from, right.values, 0, moved);
+            for (int i = from; i < this.keyCount; i++)
+            {
+                this.keys[i] = null;
+                this.values[i] = null;
+            }
+            this.keyCount = from;
+            right.keyCount = moved;
+            if (index < leftCount)
+            {
+                this.insert(index, key, value);
+            }
+            else
+            {
+                right.insert(index - leftCount, key, value);
+            }
+
+            right.next = this.next;
+            if (this.next != null)
+            {
+                this.next.previous = right;
+            }
+            right.previous = this;
+            this.next = right;
+            return right;
+        }
+    }
+
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[NODE_CAPACITY + 1];
+        private final int[] counts = new int[NODE_CAPACITY + 1];
+        private Object promoted;
+
+        @Override
+        protected int entryCount()
+        {
+            int count = 0;
+            for (int i = 0; i <= this.keyCount; i++)
+            {
+                count += this.counts[i];
+            }
+            return count;
+        }
+
+        /**
+         * Inserts {@code right} after child {@code slot}, which has just been split, with the entry counts of the two
+         * halves.
+         */
+        private void insert(int slot, Object separator, Node right, int leftCount, int rightCount)
+        {
+            int moved = this.keyCount - slot;
+            System.arraycopy(this.keys, slot, this.keys, slot + 1, moved);
+            System.arraycopy(this.children, slot + 1, this.children, slot + 2, moved);
+            System.arraycopy(this.counts, slot + 1, this.counts, slot + 2, moved);
+            this.keys[slot] = separator;
+            this.children[slot + 1] = right;
+            this.counts[slot] = leftCount;
+            this.counts[slot + 1] = rightCount;
+            this.keyCount++;
+        }
+
+        /**
+         * Splits this full branch after inserting {@code right} next to child {@code slot}, and returns the new
+         * right-hand branch with the separator to push into the parent in its {@code promoted} field.
+         */
+        private Branch splitAndInsert(int slot, Object separator, Node right, int leftCount, int rightCount)
+        {
+            Object[] allKeys = new Object[NODE_CAPACITY + 1];
+            Node[] allChildren = new Node[NODE_CAPACITY + 2];
+            int[] allCounts = new int[NODE_CAPACITY + 2];
+            System.arraycopy(this.keys, 0, allKeys, 0, slot);
+            allKeys[slot] = separator;
+            System.arraycopy(this.keys, slot, allKeys, slot + 1, NODE_CAPACITY - slot);
+            System.arraycopy(this.children, 0, allChildren, 0, slot + 1);
+            allChildren[slot + 1] = right;
+            System.arraycopy(this.children, slot + 1, allChildren, slot + 2, NODE_CAPACITY - slot);
+            System.arraycopy(this.counts, 0, allCounts, 0, slot);
+            allCounts[slot] = leftCount;
+            allCounts[slot + 1] = rightCount;
+            System.arraycopy(this.counts, slot + 1, allCounts, slot + 2, NODE_CAPACITY - slot);
+
+            int middle = (NODE_CAPACITY + 1) / 2;
+            Branch sibling = new Branch();
+            System.arraycopy(allKeys, 0, this.keys, 0, middle);
+            System.arraycopy(allChildren, 0, this.children, 0, middle + 1);
+            System.arraycopy(allCounts, 0, this.counts, 0, middle + 1);
+            for (int i = middle; i < NODE_CAPACITY; i++)
+            {
+                this.keys[i] = null;
+                this.children[i + 1] = null;
+                this.counts[i + 1] = 0;
+            }
+            this.keyCount = middle;
+
+            sibling.keyCount = NODE_CAPACITY - middle;
+            System.arraycopy(allKeys, middle + 1, sibling.keys, 0, sibling.keyCount);
+            System.arraycopy(allChildren, middle + 1, sibling.children, 0, sibling.keyCount + 1);
+            System.arraycopy(allCounts, middle + 1, sibling.counts, 0, sibling.keyCount + 1);
+            sibling.promoted = allKeys[middle];
+            return sibling;
+        }
+
+        /**
+         * Removes an emptied child. The separator on its left goes with it, or the one on its right for the first
+         * child, so every remaining separator still bounds its neighbours.
+         */
+        private void removeChild(int slot)
+        {
+            int keyIndex = slot == 0 ? 0 : slot - 1;
+            System.arraycopy(this.keys, keyIndex + 1, this.keys, keyIndex, this.keyCount - keyIndex - 1);
+            System.arraycopy(this.children, slot + 1, this.children, slot, this.keyCount - slot);
+            System.arraycopy(this.counts, slot + 1, this.counts, slot, this.keyCount - slot);
+            this.keys[this.keyCount - 1] = null;
+            this.children[this.keyCount] = null;
+            this.counts[this.keyCount] = 0;
+            this.keyCount--;
+        }
+    }
+
+    /**
+     * A live view of the keys in [{@code fromKey}, {@code toKey}), either bound being optional. Lookups check the
+     * bounds and go to the tree; iteration walks the linked leaves from the lower bound.
+     */
+    private final class Range extends AbstractMap<K, V> implements SortedMap<K, V>
+    {
+        private final boolean hasFrom;
+        private final K fromKey;
+        private final boolean hasTo;
+        private final K toKey;
+
+        private Range(boolean hasFrom, K fromKey, boolean hasTo, K toKey)
+        {
+            this.hasFrom = hasFrom;
+            this.fromKey = fromKey;
+            this.hasTo = hasTo;
+            this.toKey = toKey;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return this.hasFrom && BTreeSortedMap.this.compare(key, this.fromKey) < 0;
+        }
+
+        private boolean tooHigh(Object key)
+        {
+            return this.hasTo && BTreeSortedMap.this.compare(key, this.toKey) >= 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private boolean isEntireMap()
+        {
+            return !this.hasFrom && !this.hasTo;
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return BTreeSortedMap.this.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            int from = this.hasFrom ? BTreeSortedMap.this.rank(this.fromKey) : 0;
+            int to = this.hasTo ? BTreeSortedMap.this.rank(this.toKey) : BTreeSortedMap.this.size;
+            return to - from;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.isEntireMap() ? BTreeSortedMap.this.size == 0 : !this.entrySet().iterator().hasNext();
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.inRange(key) && BTreeSortedMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.inRange(key) ? BTreeSortedMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BTreeSortedMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.inRange(key) ? BTreeSortedMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.isEntireMap())
+            {
+                BTreeSortedMap.this.clear();
+            }
+            else
+            {
+                Iterator<Entry<K, V>> iterator = this.iterator();
+                while (iterator.hasNext())
+                {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (BTreeSortedMap.this.compare(fromKey, toKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            this.checkBound(fromKey);
+            this.checkBound(toKey);
+            return new Range(true, fromKey, true, toKey);
+        }
+
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            this.checkBound(toKey);
+            return new Range(this.hasFrom, this.fromKey, true, toKey);
+        }
+
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            this.checkBound(fromKey);
+            return new Range(true, fromKey, this.hasTo, this.toKey);
+        }
+
+        private void checkBound(K key)
+        {
+            if (this.tooLow(key) || this.hasTo && BTreeSortedMap.this.compare(key, this.toKey) > 0)
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+        }
+
+        public K firstKey()
+        {
+            EntryIterator iterator = this.iterator();
+            if (!iterator.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) iterator.leaf.keys[iterator.index];
+        }
+
+        public K lastKey()
+        {
+            Leaf leaf;
+            int index;
+            if (this.hasTo)
+            {
+                leaf = BTreeSortedMap.this.findLeaf(this.toKey);
+                index = leaf == null ? -1 : BTreeSortedMap.this.lowerBound(leaf.keys, leaf.keyCount, this.toKey) - 1;
+                if (index < 0 && leaf != null)
+                {
+                    leaf = leaf.previous;
+                    index = leaf == null ? -1 : leaf.keyCount - 1;
+                }
+            }
+            else
+            {
+                leaf = BTreeSortedMap.this.lastLeaf();
+                index = leaf == null ? -1 : leaf.keyCount - 1;
+            }
+            if (leaf == null || this.tooLow(leaf.keys[index]))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) leaf.keys[index];
+        }
+
+        /**
+         * Walks the leaves from the lower bound, comparing against the upper bound once per leaf rather than once per
+         * entry.
+         */
+        private void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            EntryIterator iterator = this.iterator();
+            Leaf leaf = iterator.leaf;
+            int index = iterator.index;
+            while (leaf != null)
+            {
+                int end = leaf.keyCount;
+                if (this.hasTo && BTreeSortedMap.this.compare(leaf.keys[end - 1], this.toKey) >= 0)
+                {
+                    end = BTreeSortedMap.this.lowerBound(leaf.keys, end, this.toKey);
+                    leaf.forEachKeyValue(index, end, procedure);
+                    return;
+                }
+                leaf.forEachKeyValue(index, end, procedure);
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        private EntryIterator iterator()
+        {
+            return new EntryIterator(this.hasFrom, this.fromKey, this.hasTo, this.toKey);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new AbstractSet<Entry<K, V>>()
+            {
+                @Override
+                public Iterator<Entry<K, V>> iterator()
+                {
+                    return Range.this.iterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return Range.this.size();
+                }
+
+                @Override
+                public void clear()
+                {
+                    Range.this.clear();
+                }
+            };
+        }
+    }
+
+    /**
+     * Adapts a range view, sending the internal iteration methods straight to the leaves.
+     */
+    private final class RangeAdapter extends SortedMapAdapter<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Range range;
+
+        private RangeAdapter(Range range)
+        {
+            super(range);
+            this.range = range;
+        }
+
+        @Override
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            this.range.forEachKeyValue(procedure);
+        }
+
+        @Override
+        public void forEachKey(final Procedure<? super K> procedure)
+        {
+            this.range.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(key);
+                }
+            });
+        }
+
+        @Override
+        public void forEachValue(final Procedure<? super V> procedure)
+        {
+            this.range.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(value);
+                }
+            });
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>>
+    {
+        private final boolean hasTo;
+        private final K toKey;
+        private Leaf leaf;
+        private int index;
+        private int expectedModCount = BTreeSortedMap.this.modCount;
+        private Object lastReturned;
+        private boolean canRemove;
+
+        private EntryIterator(boolean hasFrom, K fromKey, boolean hasTo, K toKey)
+        {
+            this.hasTo = hasTo;
+            this.toKey = toKey;
+            if (hasFrom)
+            {
+                this.seek(fromKey);
+            }
+            else
+            {
+                this.leaf = BTreeSortedMap.this.firstLeaf();
+            }
+        }
+
+        /**
+         * Positions this iterator on the first key not less than {@code key}.
+         */
+        private void seek(Object key)
+        {
+            this.leaf = BTreeSortedMap.this.findLeaf(key);
+            this.index = 0;
+            if (this.leaf != null)
+            {
+                this.index = BTreeSortedMap.this.lowerBound(this.leaf.keys, this.leaf.keyCount, key);
+                if (this.index == this.leaf.keyCount)
+                {
+                    this.leaf = this.leaf.next;
+                    this.index = 0;
+                }
+            }
+        }
+
+        public boolean hasNext()
+        {
+            return this.leaf != null
+                    && (!this.hasTo || BTreeSortedMap.this.compare(this.leaf.keys[this.index], this.toKey) < 0);
+        }
+
+        public Entry<K, V> next()
+        {
+            if (BTreeSortedMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            K key = (K) this.leaf.keys[this.index];
+            V value = (V) this.leaf.values[this.index];
+            this.index++;
+            if (this.index == this.leaf.keyCount)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+            this.lastReturned = key;
+            this.canRemove = true;
+            return new WriteThroughEntry(key, value);
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (BTreeSortedMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            this.canRemove = false;
+            BTreeSortedMap.this.remove(this.lastReturned);
+            this.expectedModCount = BTreeSortedMap.this.modCount;
+            this.seek(this.lastReturned);
+        }
+    }
+
+    private final class WriteThroughEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private WriteThroughEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V previous = BTreeSortedMap.this.put(this.key, value);
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Entry<?, ?>))
+            {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return (this.key == null ? other.getKey() == null : this.key.equals(other.getKey()))
+                    && (this.value == null ? other.getValue() == null : this.value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -658,6 +658,30 @@ public class SynchronizedSortedMap<K, V>
         }
     }
 
+    public int rank(K key)
+    {
+        synchronized (this.lock)
+        {
+            return this.getDelegate().rank(key);
+        }
+    }
+
+    public K keyAt(int index)
+    {
+        synchronized (this.lock)
+        {
+            return this.getDelegate().keyAt(index);
+        }
+    }
+
+    public int countBetween(K fromKey, K toKey)
+    {
+        synchronized (this.lock)
+        {
+            return this.getDelegate().countBetween(fromKey, toKey);
+        }
+    }
+
     public MutableSortedMap<K, V> toReversed()
     {
         synchronized (this.lock)
@@ -20,9 +20,11 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
@@ -63,8 +65,10 @@ import com.gs.collections.api.list.primitive.MutableFloatList;
 import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.list.primitive.MutableLongList;
 import com.gs.collections.api.list.primitive.MutableShortList;
+import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.MutableMapIterable;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.ImmutableSortedMap;
@@ -77,6 +81,9 @@ import com.gs.collections.api.partition.list.PartitionMutableList;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.api.stack.MutableStack;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.UnmodifiableIteratorAdapter;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
@@ -408,6 +415,12 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().detect(predicate);
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getMutableSortedMap().asParallel(executorService, batchSize);
+    }
+
     public boolean anySatisfy(Predicate<? super V> predicate)
     {
         return this.getMutableSortedMap().anySatisfy(predicate);
@@ -759,6 +772,56 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().maxBy(function);
     }
 
+    public MutableList<V> topN(int count, Comparator<? super V> comparator)
+    {
+        return this.getMutableSortedMap().topN(count, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> topNBy(int count, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().topNBy(count, function);
+    }
+
+    public MutableList<V> bottomN(int count, Comparator<? super V> comparator)
+    {
+        return this.getMutableSortedMap().bottomN(count, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> bottomNBy(int count, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeDouble(function);
+    }
+
+    public <R> MapIterable<R, IntStatistics> summarizeIntBy(Function<? super V, ? extends R> groupBy, IntFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeIntBy(groupBy, function);
+    }
+
+    public <R> MapIterable<R, LongStatistics> summarizeLongBy(Function<? super V, ? extends R> groupBy, LongFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeLongBy(groupBy, function);
+    }
+
+    public <R> MapIterable<R, DoubleStatistics> summarizeDoubleBy(Function<? super V, ? extends R> groupBy, DoubleFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeDoubleBy(groupBy, function);
+    }
+
     public V min()
     {
         return this.getMutableSortedMap().min();
@@ -1015,6 +1078,21 @@ public class UnmodifiableTreeMap<K, V>
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toReversed() not implemented yet");
     }
 
+    public int rank(K key)
+    {
+        return this.getMutableSortedMap().rank(key);
+    }
+
+    public K keyAt(int index)
+    {
+        return this.getMutableSortedMap().keyAt(index);
+    }
+
+    public int countBetween(K fromKey, K toKey)
+    {
+        return this.getMutableSortedMap().countBetween(fromKey, toKey);
+    }
+
     public MutableSortedMap<K, V> take(int count)
     {
         return this.getMutableSortedMap().take(count);
@@ -20,6 +20,9 @@
  *     This package contains the following implementations:
  * <ul>
  *     <li>
+ *          {@link com.gs.collections.impl.map.sorted.mutable.BTreeSortedMap} - a sorted map backed by a B+ tree with linked leaves.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.map.sorted.mutable.SortedMapAdapter} - a {@link com.gs.collections.api.map.sorted.MutableSortedMap} wrapper around a {@link java.util.SortedMap} interface instance.
  *     </li>
  *     <li>
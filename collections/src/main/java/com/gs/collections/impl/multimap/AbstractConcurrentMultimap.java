@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap;
+
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.map.ConcurrentMutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * A multimap whose {@link #put(Object, Object)} and {@link #remove(Object, Object)} never lock. Keys live in a
+ * {@link ConcurrentHashMap} and each key's values live in a lock-free bucket, so threads adding to different keys or to
+ * the same key do not block each other. {@link #get(Object)}, {@link #forEachKeyMultiValues} and {@link #size()} are
+ * weakly consistent.
+ * <p>
+ * A bucket is only ever published with a value in it. When its last value is removed the bucket retires itself, after
+ * which its {@code add} returns false while it stays empty; a put that finds a retired bucket unlinks it and retries.
+ * Bulk operations such as {@link #replaceValues(Object, Iterable)} and {@link #clear()} are not atomic.
+ *
+ * @since 7.0
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>> extends AbstractMutableMultimap<K, V, C>
+{
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    private ConcurrentMutableMap<K, C> getConcurrentMap()
+    {
+        return (ConcurrentMutableMap<K, C>) this.map;
+    }
+
+    @Override
+    public int size()
+    {
+        int size = 0;
+        for (C collection : this.map.values())
+        {
+            size += collection.size();
+        }
+        return size;
+    }
+
+    @Override
+    protected void incrementTotalSize()
+    {
+    }
+
+    @Override
+    protected void decrementTotalSize()
+    {
+    }
+
+    @Override
+    protected void addToTotalSize(int value)
+    {
+    }
+
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+    }
+
+    @Override
+    protected void clearTotalSize()
+    {
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                C newCollection = this.createCollection();
+                newCollection.add(value);
+                collection = this.getConcurrentMap().putIfAbsent(key, newCollection);
+                if (collection == null)
+                {
+                    return true;
+                }
+            }
+            if (collection.add(value))
+            {
+                return true;
+            }
+            if (collection.notEmpty())
+            {
+                return false;
+            }
+            // The bucket was retired by a concurrent remove of its last value
+            this.getConcurrentMap().remove(key, collection);
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        if (collection == null || !collection.remove(value))
+        {
+            return false;
+        }
+        if (collection.isEmpty())
+        {
+            this.getConcurrentMap().remove(key, collection);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        boolean changed = false;
+        for (V value : values)
+        {
+            changed |= this.put(key, value);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.bag.MutableBagMultimap;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.AbstractConcurrentMultimap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A MutableListMultimap that many threads can put to and read from at once without locking. Each key's values are kept
+ * in an append-only bucket of lazily allocated, doubling segments: a put claims the next slot with an atomic increment
+ * and a remove swaps the value for a tombstone, which is only reclaimed once the key's last value is removed. Values are
+ * kept in insertion order and {@link #get(Object)} returns a weakly consistent view. Lookups by index take constant
+ * time until a value is removed from the key, and are linear after that. See {@link AbstractConcurrentMultimap} for
+ * the concurrency contract.
+ *
+ * @since 7.0
+ */
+public final class ConcurrentListMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableList<V>>
+        implements MutableListMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentListMultimap()
+    {
+    }
+
+    public ConcurrentListMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentListMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentListMultimap.this.put(pair.getOne(), pair.getTwo());
+            }
+        });
+    }
+
+    public ConcurrentListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentListMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentListMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentListMultimap<K, V>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentListMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentListMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentListMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected MutableList<V> createCollection()
+    {
+        return ListAdapter.adapt(new ConcurrentBucket<V>());
+    }
+
+    public ConcurrentListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentListMultimap<K, V>();
+    }
+
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentListMultimap<K, V>(this);
+    }
+
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        final MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap();
+
+        this.map.forEachKeyValue(new Procedure2<K, MutableList<V>>()
+        {
+            public void value(K key, MutableList<V> list)
+            {
+                map.put(key, list.toImmutable());
+            }
+        });
+
+        return new ImmutableListMultimapImpl<K, V>(map);
+    }
+
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap());
+    }
+
+    /**
+     * The values for one key. Slot {@code i} lives in segment {@code floor(log2(i + 4)) - 2}, whose length is
+     * {@code 4 << segment}, so no segment is ever copied or resized.
+     */
+    private static final class ConcurrentBucket<V> extends AbstractList<V> implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private static final Object NULL = new Object();
+        private static final Object REMOVED = new Object();
+        private static final int RETIRED = -1;
+        private static final int SEGMENT_COUNT = 29;
+
+        // The number of values in the bucket, or RETIRED once the last one has been removed
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger reserved = new AtomicInteger();
+        private final AtomicReferenceArray<AtomicReferenceArray<Object>> segments = new AtomicReferenceArray<AtomicReferenceArray<Object>>(SEGMENT_COUNT);
+        // Set once any slot has been removed, after which slot i no longer holds the value at index i
+        private volatile boolean holed;
+
+        private static int segmentIndex(int index)
+        {
+            return 29 - Integer.numberOfLeadingZeros(index + 4);
+        }
+
+        private static int segmentOffset(int index)
+        {
+            int position = index + 4;
+            return position - Integer.highestOneBit(position);
+        }
+
+        private AtomicReferenceArray<Object> getOrCreateSegment(int segmentIndex)
+        {
+            AtomicReferenceArray<Object> segment = this.segments.get(segmentIndex);
+            if (segment == null)
+            {
+                this.segments.compareAndSet(segmentIndex, null, new AtomicReferenceArray<Object>(4 << segmentIndex));
+                segment = this.segments.get(segmentIndex);
+            }
+            return segment;
+        }
+
+        private Object getSlot(int index)
+        {
+            AtomicReferenceArray<Object> segment = this.segments.get(segmentIndex(index));
+            return segment == null ? null : segment.get(segmentOffset(index));
+        }
+
+        private boolean removeSlot(int index, Object expected)
+        {
+            if (this.segments.get(segmentIndex(index)).compareAndSet(segmentOffset(index), expected, REMOVED))
+            {
+                this.holed = true;
+                this.decrementSize();
+                return true;
+            }
+            return false;
+        }
+
+        private void decrementSize()
+        {
+            while (true)
+            {
+                int oldSize = this.size.get();
+                if (this.size.compareAndSet(oldSize, oldSize == 1 ? RETIRED : oldSize - 1))
+                {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean add(V value)
+        {
+            while (true)
+            {
+                int oldSize = this.size.get();
+                if (oldSize == RETIRED)
+                {
+                    return false;
+                }
+                if (this.size.compareAndSet(oldSize, oldSize + 1))
+                {
+                    break;
+                }
+            }
+            int index = this.reserved.getAndIncrement();
+            this.getOrCreateSegment(segmentIndex(index)).set(segmentOffset(index), value == null ? NULL : value);
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object value)
+        {
+            int reserved = this.reserved.get();
+            for (int i = 0; i < reserved; i++)
+            {
+                Object slot = this.getSlot(i);
+                if (slot != null && slot != REMOVED && Comparators.nullSafeEquals(slot == NULL ? null : slot, value) && this.removeSlot(i, slot))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            Iterator<V> iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return Math.max(this.size.get(), 0);
+        }
+
+        @Override
+        public V get(int index)
+        {
+            if (index >= 0 && !this.holed && index < this.reserved.get())
+            {
+                Object slot = this.getSlot(index);
+                if (slot != null && slot != REMOVED)
+                {
+                    return slot == NULL ? null : (V) slot;
+                }
+            }
+            if (index >= 0)
+            {
+                int count = 0;
+                for (V each : this)
+                {
+                    if (count++ == index)
+                    {
+                        return each;
+                    }
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new BucketIterator();
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (this == object)
+            {
+                return true;
+            }
+            if (!(object instanceof List))
+            {
+                return false;
+            }
+            Iterator<V> iterator = this.iterator();
+            Iterator<?> otherIterator = ((List<?>) object).iterator();
+            while (iterator.hasNext() && otherIterator.hasNext())
+            {
+                if (!Comparators.nullSafeEquals(iterator.next(), otherIterator.next()))
+                {
+                    return false;
+                }
+            }
+            return !iterator.hasNext() && !otherIterator.hasNext();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return super.hashCode();
+        }
+
+        private Object writeReplace()
+        {
+            return FastList.newList(this);
+        }
+
+        private final class BucketIterator implements Iterator<V>
+        {
+            private int nextIndex;
+            private Object next;
+            private int lastIndex = -1;
+            private Object lastReturned;
+
+            private BucketIterator()
+            {
+                this.advance();
+            }
+
+            private void advance()
+            {
+                int reserved = ConcurrentBucket.this.reserved.get();
+                while (this.nextIndex < reserved)
+                {
+                    Object slot = ConcurrentBucket.this.getSlot(this.nextIndex++);
+                    if (slot != null && slot != REMOVED)
+                    {
+                        this.next = slot;
+                        return;
+                    }
+                }
+                this.next = null;
+            }
+
+            public boolean hasNext()
+            {
+                return this.next != null;
+            }
+
+            public V next()
+            {
+                if (this.next == null)
+                {
+                    throw new NoSuchElementException();
+                }
+                this.lastReturned = this.next;
+                this.lastIndex = this.nextIndex - 1;
+                this.advance();
+                return this.lastReturned == NULL ? null : (V) this.lastReturned;
+            }
+
+            public void remove()
+            {
+                if (this.lastReturned == null)
+                {
+                    throw new IllegalStateException();
+                }
+                ConcurrentBucket.this.removeSlot(this.lastIndex, this.lastReturned);
+                this.lastReturned = null;
+            }
+        }
+    }
+}
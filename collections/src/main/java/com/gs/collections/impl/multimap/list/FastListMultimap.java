@@ -19,6 +19,7 @@ package com.gs.collections.impl.multimap.list;
 import java.io.Externalizable;
 import java.util.Collection;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
@@ -126,6 +127,19 @@ public final class FastListMultimap<K, V>
         return new FastListMultimap<K, V>();
     }
 
+    /**
+     * Returns an immutable copy in compressed sparse row layout, which keeps all the values in one array and costs a
+     * few array slots per key instead of a map entry and a list per key.
+     *
+     * @see ImmutableCompactListMultimap
+     * @since 7.0
+     */
+    @Beta
+    public ImmutableCompactListMultimap<K, V> toImmutableCompact()
+    {
+        return ImmutableCompactListMultimap.newMultimap(this);
+    }
+
     public MutableBagMultimap<V, K> flip()
     {
         return Iterate.flip(this);
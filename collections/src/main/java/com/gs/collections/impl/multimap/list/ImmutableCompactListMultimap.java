@@ -0,0 +1,467 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.list;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.multimap.bag.ImmutableBagMultimap;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Bags;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.AbstractMultimap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A read-optimized ImmutableListMultimap in compressed sparse row layout. All the values are stored in one array,
+ * grouped by key, and the values of the key with ordinal {@code i} are the range {@code [offsets[i], offsets[i + 1])}.
+ * The keys are found through an open addressing table of ordinals, so the multimap costs a handful of array slots per
+ * key instead of a map entry and a list per key. {@link #get(Object)} returns a view of the range rather than a copy.
+ * <p>
+ * Methods that need a map of keys to collections, such as {@link #toMap()}, {@link #equals(Object)} and
+ * {@link #hashCode()}, build one from the views on each call.
+ *
+ * @see FastListMultimap#toImmutableCompact()
+ * @since 7.0
+ */
+@Beta
+public final class ImmutableCompactListMultimap<K, V>
+        extends AbstractMultimap<K, V, ImmutableList<V>>
+        implements ImmutableListMultimap<K, V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] keys;
+    private final int[] offsets;
+    private final ImmutableList<V> values;
+    private final int[] table;
+
+    private ImmutableCompactListMultimap(Object[] keys, int[] offsets, ImmutableList<V> values)
+    {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.values = values;
+        int capacity = 1;
+        while (capacity < keys.length << 1)
+        {
+            capacity <<= 1;
+        }
+        this.table = new int[capacity];
+        for (int ordinal = 0; ordinal < keys.length; ordinal++)
+        {
+            int index = ImmutableCompactListMultimap.spread(keys[ordinal]) & capacity - 1;
+            while (this.table[index] != 0)
+            {
+                index = index + 1 & capacity - 1;
+            }
+            this.table[index] = ordinal + 1;
+        }
+    }
+
+    public static <K, V> ImmutableCompactListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        final Object[] keys = new Object[multimap.sizeDistinct()];
+        final int[] offsets = new int[keys.length + 1];
+        final FastList<V> values = FastList.newList(multimap.size());
+        ((Multimap<K, V>) multimap).forEachKeyMultiValues(new Procedure2<K, Iterable<V>>()
+        {
+            private int ordinal;
+
+            public void value(K key, Iterable<V> each)
+            {
+                keys[this.ordinal] = key;
+                Iterate.addAllTo(each, values);
+                offsets[++this.ordinal] = values.size();
+            }
+        });
+        return new ImmutableCompactListMultimap<K, V>(keys, offsets, Lists.immutable.withAll(values));
+    }
+
+    private static int spread(Object key)
+    {
+        if (key == null)
+        {
+            return 0;
+        }
+        int h = key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private int ordinalOf(Object key)
+    {
+        int mask = this.table.length - 1;
+        int index = ImmutableCompactListMultimap.spread(key) & mask;
+        int slot;
+        while ((slot = this.table[index]) != 0)
+        {
+            if (Comparators.nullSafeEquals(this.keys[slot - 1], key))
+            {
+                return slot - 1;
+            }
+            index = index + 1 & mask;
+        }
+        return -1;
+    }
+
+    private K keyAt(int ordinal)
+    {
+        return (K) this.keys[ordinal];
+    }
+
+    private ImmutableList<V> valuesAt(int ordinal)
+    {
+        return this.values.subList(this.offsets[ordinal], this.offsets[ordinal + 1]);
+    }
+
+    /**
+     * Builds a map from each key to the view of its values.
+     */
+    @Override
+    protected MutableMap<K, ImmutableList<V>> getMap()
+    {
+        MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap(this.keys.length);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            map.put(this.keyAt(i), this.valuesAt(i));
+        }
+        return map;
+    }
+
+    @Override
+    protected ImmutableList<V> createCollection()
+    {
+        return Lists.immutable.empty();
+    }
+
+    public ImmutableListMultimap<K, V> newEmpty()
+    {
+        return FastListMultimap.<K, V>newMultimap().toImmutableCompact();
+    }
+
+    public int size()
+    {
+        return this.values.size();
+    }
+
+    public int sizeDistinct()
+    {
+        return this.keys.length;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.keys.length == 0;
+    }
+
+    public ImmutableList<V> get(K key)
+    {
+        int ordinal = this.ordinalOf(key);
+        return ordinal < 0 ? this.createCollection() : this.valuesAt(ordinal);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.ordinalOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.values.contains(value);
+    }
+
+    @Override
+    public boolean containsKeyAndValue(Object key, Object value)
+    {
+        int ordinal = this.ordinalOf(key);
+        return ordinal >= 0 && this.valuesAt(ordinal).contains(value);
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return ArrayAdapter.adapt((K[]) this.keys).asLazy();
+    }
+
+    @Override
+    public RichIterable<RichIterable<V>> multiValuesView()
+    {
+        return this.keysView().collect(new Function<K, RichIterable<V>>()
+        {
+            public RichIterable<V> valueOf(K key)
+            {
+                return ImmutableCompactListMultimap.this.get(key);
+            }
+        });
+    }
+
+    @Override
+    public Bag<K> keyBag()
+    {
+        MutableBag<K> bag = Bags.mutable.empty();
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            bag.addOccurrences(this.keyAt(i), this.offsets[i + 1] - this.offsets[i]);
+        }
+        return bag;
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return this.values.asLazy();
+    }
+
+    @Override
+    public RichIterable<Pair<K, RichIterable<V>>> keyMultiValuePairsView()
+    {
+        return this.keysView().collect(new Function<K, Pair<K, RichIterable<V>>>()
+        {
+            public Pair<K, RichIterable<V>> valueOf(K key)
+            {
+                return Tuples.<K, RichIterable<V>>pair(key, ImmutableCompactListMultimap.this.get(key));
+            }
+        });
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.values.forEach(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            procedure.value(this.keyAt(i));
+        }
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<K, V> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            K key = this.keyAt(i);
+            for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++)
+            {
+                procedure.value(key, this.values.get(j));
+            }
+        }
+    }
+
+    @Override
+    public void forEachKeyMultiValues(Procedure2<K, ? super Iterable<V>> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            procedure.value(this.keyAt(i), this.valuesAt(i));
+        }
+    }
+
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        return (MutableMap<K, RichIterable<V>>) (MutableMap<?, ?>) this.getMap();
+    }
+
+    public <R extends Collection<V>> MutableMap<K, R> toMap(Function0<R> collectionFactory)
+    {
+        MutableMap<K, R> result = UnifiedMap.newMap(this.keys.length);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            R collection = collectionFactory.value();
+            Iterate.addAllTo(this.valuesAt(i), collection);
+            result.put(this.keyAt(i), collection);
+        }
+        return result;
+    }
+
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new FastListMultimap<K, V>(this);
+    }
+
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        return this;
+    }
+
+    public ImmutableListMultimap<K, V> newWith(K key, V value)
+    {
+        FastListMultimap<K, V> mutableMultimap = FastListMultimap.newMultimap(this);
+        mutableMultimap.put(key, value);
+        return mutableMultimap.toImmutableCompact();
+    }
+
+    public ImmutableListMultimap<K, V> newWithout(Object key, Object value)
+    {
+        FastListMultimap<K, V> mutableMultimap = FastListMultimap.newMultimap(this);
+        mutableMultimap.remove(key, value);
+        return mutableMultimap.toImmutableCompact();
+    }
+
+    public ImmutableListMultimap<K, V> newWithAll(K key, Iterable<? extends V> values)
+    {
+        FastListMultimap<K, V> mutableMultimap = FastListMultimap.newMultimap(this);
+        mutableMultimap.putAll(key, values);
+        return mutableMultimap.toImmutableCompact();
+    }
+
+    public ImmutableListMultimap<K, V> newWithoutAll(Object key)
+    {
+        FastListMultimap<K, V> mutableMultimap = FastListMultimap.newMultimap(this);
+        mutableMultimap.removeAll(key);
+        return mutableMultimap.toImmutableCompact();
+    }
+
+    public ImmutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this).toImmutable();
+    }
+
+    @Override
+    public <R extends MutableMultimap<K, V>> R selectKeysValues(Predicate2<? super K, ? super V> predicate, R target)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            K key = this.keyAt(i);
+            MutableList<V> selected = Lists.mutable.empty();
+            for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++)
+            {
+                V value = this.values.get(j);
+                if (predicate.accept(key, value))
+                {
+                    selected.add(value);
+                }
+            }
+            target.putAll(key, selected);
+        }
+        return target;
+    }
+
+    @Override
+    public <R extends MutableMultimap<K, V>> R rejectKeysValues(Predicate2<? super K, ? super V> predicate, R target)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            K key = this.keyAt(i);
+            MutableList<V> rejected = Lists.mutable.empty();
+            for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++)
+            {
+                V value = this.values.get(j);
+                if (!predicate.accept(key, value))
+                {
+                    rejected.add(value);
+                }
+            }
+            target.putAll(key, rejected);
+        }
+        return target;
+    }
+
+    @Override
+    public <K2, V2, R extends MutableMultimap<K2, V2>> R collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function, R target)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            K key = this.keyAt(i);
+            for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++)
+            {
+                target.add(function.value(key, this.values.get(j)));
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public <V2, R extends MutableMultimap<K, V2>> R collectValues(Function<? super V, ? extends V2> function, R target)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            target.putAll(this.keyAt(i), this.valuesAt(i).collect(function));
+        }
+        return target;
+    }
+
+    public ImmutableListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.<K, V>newMultimap()).toImmutableCompact();
+    }
+
+    public ImmutableListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.<K, V>newMultimap()).toImmutableCompact();
+    }
+
+    public ImmutableListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap()).toImmutableCompact();
+    }
+
+    public ImmutableListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap()).toImmutableCompact();
+    }
+
+    public <K2, V2> ImmutableBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap()).toImmutable();
+    }
+
+    public <V2> ImmutableListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap()).toImmutableCompact();
+    }
+
+    private Object writeReplace()
+    {
+        MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap(this.keys.length);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            map.put(this.keyAt(i), Lists.immutable.withAll(this.valuesAt(i)));
+        }
+        return new ImmutableListMultimapImpl.ImmutableListMultimapSerializationProxy<K, V>(map.toImmutable());
+    }
+}
@@ -30,5 +30,8 @@
  *     <li>
  *          {@link com.gs.collections.impl.multimap.list.SynchronizedPutFastListMultimap} - a {@code MutableListMultimap} that is optimized for parallel writes, but is not protected for concurrent reads.
  *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.multimap.list.ConcurrentListMultimap} - a {@code MutableListMultimap} that supports lock-free concurrent writes and weakly consistent reads.
+ *     </li>
  */
 package com.gs.collections.impl.multimap.list;
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.set;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.bag.MutableBagMultimap;
+import com.gs.collections.api.multimap.set.ImmutableSetMultimap;
+import com.gs.collections.api.multimap.set.MutableSetMultimap;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.AbstractConcurrentMultimap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.set.mutable.SetAdapter;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A MutableSetMultimap that many threads can put to and read from at once without locking. Each key's values are kept
+ * in a {@link ConcurrentHashMap}-backed bucket, so a put is a single lock-free {@code putIfAbsent} once the key is
+ * present, and {@link #get(Object)} returns a weakly consistent view. See {@link AbstractConcurrentMultimap} for the
+ * concurrency contract.
+ *
+ * @since 7.0
+ */
+public final class ConcurrentSetMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableSet<V>> implements MutableSetMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentSetMultimap()
+    {
+    }
+
+    public ConcurrentSetMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentSetMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentSetMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentSetMultimap.this.put(pair.getOne(), pair.getTwo());
+            }
+        });
+    }
+
+    public ConcurrentSetMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentSetMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentSetMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentSetMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentSetMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentSetMultimap<K, V>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentSetMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentSetMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentSetMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentSetMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentSetMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentSetMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected MutableSet<V> createCollection()
+    {
+        return SetAdapter.adapt(new ConcurrentBucket<V>());
+    }
+
+    public ConcurrentSetMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentSetMultimap<K, V>();
+    }
+
+    public MutableSetMultimap<K, V> toMutable()
+    {
+        return new ConcurrentSetMultimap<K, V>(this);
+    }
+
+    public ImmutableSetMultimap<K, V> toImmutable()
+    {
+        final MutableMap<K, ImmutableSet<V>> map = UnifiedMap.newMap();
+
+        this.map.forEachKeyValue(new Procedure2<K, MutableSet<V>>()
+        {
+            public void value(K key, MutableSet<V> set)
+            {
+                map.put(key, set.toImmutable());
+            }
+        });
+
+        return new ImmutableSetMultimapImpl<K, V>(map);
+    }
+
+    public UnifiedSetMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public UnifiedSetMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public UnifiedSetMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public UnifiedSetMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, UnifiedSetMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> MutableBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> MutableBagMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, HashBagMultimap.<K, V2>newMultimap());
+    }
+
+    public MutableSetMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    /**
+     * The values for one key, held as the keys of a ConcurrentHashMap. The size is counted separately so that the bucket
+     * can retire itself atomically when its last value is removed.
+     */
+    private static final class ConcurrentBucket<V> extends AbstractSet<V> implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private static final Object NULL = new Object();
+        private static final int RETIRED = -1;
+
+        // The number of values in the bucket, or RETIRED once the last one has been removed
+        private final AtomicInteger size = new AtomicInteger();
+        private final ConcurrentHashMap<Object, Boolean> values = ConcurrentHashMap.newMap();
+
+        private void decrementSize()
+        {
+            while (true)
+            {
+                int oldSize = this.size.get();
+                if (this.size.compareAndSet(oldSize, oldSize == 1 ? RETIRED : oldSize - 1))
+                {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean add(V value)
+        {
+            while (true)
+            {
+                int oldSize = this.size.get();
+                if (oldSize == RETIRED)
+                {
+                    return false;
+                }
+                if (this.size.compareAndSet(oldSize, oldSize + 1))
+                {
+                    break;
+                }
+            }
+            if (this.values.putIfAbsent(value == null ? NULL : value, Boolean.TRUE) == null)
+            {
+                return true;
+            }
+            this.decrementSize();
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object value)
+        {
+            if (this.values.remove(value == null ? NULL : value) != null)
+            {
+                this.decrementSize();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return this.values.containsKey(value == null ? NULL : value);
+        }
+
+        @Override
+        public void clear()
+        {
+            Iterator<V> iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return Math.max(this.size.get(), 0);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            final Iterator<Object> iterator = this.values.keySet().iterator();
+            return new Iterator<V>()
+            {
+                private Object lastReturned;
+
+                public boolean hasNext()
+                {
+                    return iterator.hasNext();
+                }
+
+                public V next()
+                {
+                    this.lastReturned = iterator.next();
+                    return this.lastReturned == NULL ? null : (V) this.lastReturned;
+                }
+
+                public void remove()
+                {
+                    if (this.lastReturned == null)
+                    {
+                        throw new IllegalStateException();
+                    }
+                    ConcurrentBucket.this.remove(this.lastReturned == NULL ? null : this.lastReturned);
+                    this.lastReturned = null;
+                }
+            };
+        }
+
+        private Object writeReplace()
+        {
+            return UnifiedSet.newSet(this);
+        }
+    }
+}
@@ -30,5 +30,8 @@
  *     <li>
  *          {@link com.gs.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap} - a {@code MutableSetMultimap} that is optimized for parallel writes, but is not protected for concurrent reads.
  *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.multimap.set.ConcurrentSetMultimap} - a {@code MutableSetMultimap} that supports lock-free concurrent writes and weakly consistent reads.
+ *     </li>
  */
 package com.gs.collections.impl.multimap.set;
@@ -56,7 +56,7 @@ import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
-import com.gs.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import com.gs.collections.impl.multimap.list.ConcurrentListMultimap;
 import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
 import com.gs.collections.impl.utility.Iterate;
 
@@ -959,7 +959,7 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, and writing output into a ConcurrentListMultimap.
      */
     public static <K, V> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
@@ -1201,7 +1201,7 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, and writing output into a ConcurrentListMultimap.
      */
     public static <K, V> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
@@ -1213,7 +1213,7 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, and writing output into a ConcurrentListMultimap.
      */
     public static <K, V> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
@@ -1221,7 +1221,7 @@ public final class ParallelIterate
             int batchSize,
             Executor executor)
     {
-        return ParallelIterate.groupBy(iterable, function, SynchronizedPutFastListMultimap.<K, V>newMultimap(), batchSize, executor);
+        return ParallelIterate.groupBy(iterable, function, ConcurrentListMultimap.<K, V>newMultimap(), batchSize, executor);
     }
 
     /**
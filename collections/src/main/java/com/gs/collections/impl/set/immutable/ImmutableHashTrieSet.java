@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieSet is a persistent set backed by the keys of an {@link ImmutableHashTrieMap}, so
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} are O(log32 n) and share structure with this set.
+ *
+ * @since 7.0
+ */
+@Immutable
+final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<Object>(ImmutableHashTrieMap.<Object, Boolean>empty());
+
+    private final ImmutableHashTrieMap<T, Boolean> delegate;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, Boolean> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> empty()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableHashTrieSet<?>)
+        {
+            return (ImmutableHashTrieSet<T>) iterable;
+        }
+        ImmutableHashTrieSet<T> empty = ImmutableHashTrieSet.empty();
+        return empty.newWithAll(iterable);
+    }
+
+    private ImmutableHashTrieSet<T> wrap(ImmutableHashTrieMap<T, Boolean> newDelegate)
+    {
+        if (newDelegate == this.delegate)
+        {
+            return this;
+        }
+        return newDelegate.isEmpty() ? ImmutableHashTrieSet.<T>empty() : new ImmutableHashTrieSet<T>(newDelegate);
+    }
+
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.delegate.containsKey(object);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWith(T element)
+    {
+        return this.wrap(this.delegate.newWithKeyValue(element, Boolean.TRUE));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithout(T element)
+    {
+        return this.wrap(this.delegate.newWithoutKey(element));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap<T, Boolean> result = this.delegate;
+        for (T each : elements)
+        {
+            result = result.newWithKeyValue(each, Boolean.TRUE);
+        }
+        return this.wrap(result);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        return this.wrap(this.delegate.newWithoutAllKeys(elements));
+    }
+
+    public Iterator<T> iterator()
+    {
+        return this.delegate.keysView().iterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.forEachKey(procedure);
+    }
+
+    public T getFirst()
+    {
+        return this.delegate.keysView().getFirst();
+    }
+
+    public T getLast()
+    {
+        return this.delegate.keysView().getLast();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return set.size() == this.size() && set.containsAll(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (T each : this)
+        {
+            hashCode += this.nullSafeHashCode(each);
+        }
+        return hashCode;
+    }
+
+    private Object readResolve()
+    {
+        return this.delegate.isEmpty() ? EMPTY : this;
+    }
+}
@@ -19,12 +19,25 @@ package com.gs.collections.impl.set.immutable;
 import com.gs.collections.api.factory.set.ImmutableSetFactory;
 import com.gs.collections.api.set.ImmutableSet;
 import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.set.mutable.CopyOnWriteUnifiedSet;
 import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.Immutable;
 
 @Immutable
 public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
 {
+    /**
+     * Returns an immutable set over the set handed off by a {@link CopyOnWriteUnifiedSet} write, without copying it.
+     * Only CopyOnWriteUnifiedSet can create a {@link CopyOnWriteUnifiedSet.Handoff}, so no other caller can keep hold
+     * of the set behind the immutable one.
+     *
+     * @since 7.0
+     */
+    public static <T> ImmutableSet<T> adopt(CopyOnWriteUnifiedSet.Handoff<T> handoff)
+    {
+        return ImmutableUnifiedSet.adopt(handoff.getSet());
+    }
+
     public <T> ImmutableSet<T> empty()
     {
         return (ImmutableSet<T>) ImmutableEmptySet.INSTANCE;
@@ -165,4 +178,14 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
         }
         return this.with((T[]) Iterate.toArray(items));
     }
+
+    public <T> ImmutableSet<T> emptyPersistent()
+    {
+        return ImmutableHashTrieSet.empty();
+    }
+
+    public <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableHashTrieSet.newSet(items);
+    }
 }
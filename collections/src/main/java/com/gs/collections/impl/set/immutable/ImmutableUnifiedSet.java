@@ -90,6 +90,15 @@ final class ImmutableUnifiedSet<T>
         return new ImmutableUnifiedSet<T>(UnifiedSet.newSet(iterable));
     }
 
+    /**
+     * Creates a new set using the passed {@code delegate} argument as the backing store, for callers that own the set
+     * and drop it afterwards.
+     */
+    static <T> ImmutableUnifiedSet<T> adopt(UnifiedSet<T> delegate)
+    {
+        return new ImmutableUnifiedSet<T>(delegate);
+    }
+
     public void each(Procedure<? super T> procedure)
     {
         this.delegate.forEach(procedure);
@@ -0,0 +1,787 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import com.gs.collections.api.set.Pool;
+
+/**
+ * A lock-free {@link Pool} for interning equal instances from many threads at once. The hash table works like the one
+ * of {@link com.gs.collections.impl.map.mutable.ConcurrentHashMap}: each bucket is an immutable chain replaced with a
+ * compare-and-set, and a resize is shared among all the threads that run into it.
+ * <p>
+ * A pool created with {@link #newWeakPool()} or {@link #newSoftPool()} holds its instances through weak or soft
+ * references, so an instance that is no longer used outside the pool can be garbage collected. Its entry is removed the
+ * next time the pool is written to or sized.
+ * <p>
+ * The pool counts the calls to {@link #put(Object)} that found an equal instance ({@link #getHitCount()}) and the calls
+ * that added one ({@link #getMissCount()}). The counters and the size are striped by thread so that they do not become
+ * a point of contention.
+ *
+ * @since 7.0
+ */
+public final class ConcurrentPool<V> implements Pool<V>
+{
+    private static final Object RESIZE_SENTINEL = new Object();
+    private static final Object RESIZED = new Object();
+    private static final Object RESIZING = new Object();
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final AtomicReferenceFieldUpdater<ConcurrentPool, AtomicReferenceArray> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentPool.class, AtomicReferenceArray.class, "table");
+
+    private static final int STRONG = 0;
+    private static final int WEAK = 1;
+    private static final int SOFT = 2;
+
+    private static final int COUNTER_STRIPES = Math.min(Integer.highestOneBit((Runtime.getRuntime().availableProcessors() << 1) - 1) << 1, 64);
+    private static final int STRIPE_WIDTH = 8; // 8 longs fill a 64 byte cache line
+    private static final int SIZE = 0;
+    private static final int HITS = 1;
+    private static final int MISSES = 2;
+
+    private final int referenceType;
+    private final ReferenceQueue<V> queue;
+    private final AtomicLongArray counters = new AtomicLongArray(COUNTER_STRIPES * STRIPE_WIDTH);
+
+    /**
+     * The hash table; the last slot is reserved for the {@link ResizeContainer} of a resize in progress.
+     */
+    private volatile AtomicReferenceArray table;
+
+    private ConcurrentPool(int initialCapacity, int referenceType)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
+        }
+        if (initialCapacity > MAXIMUM_CAPACITY)
+        {
+            initialCapacity = MAXIMUM_CAPACITY;
+        }
+
+        int threshold = initialCapacity;
+        threshold += threshold >> 1; // threshold = length * 0.75
+
+        int capacity = 1;
+        while (capacity < threshold)
+        {
+            capacity <<= 1;
+        }
+        this.table = new AtomicReferenceArray(capacity + 1);
+        this.referenceType = referenceType;
+        this.queue = referenceType == STRONG ? null : new ReferenceQueue<V>();
+    }
+
+    public static <V> ConcurrentPool<V> newPool()
+    {
+        return new ConcurrentPool<V>(DEFAULT_INITIAL_CAPACITY, STRONG);
+    }
+
+    public static <V> ConcurrentPool<V> newPool(int initialCapacity)
+    {
+        return new ConcurrentPool<V>(initialCapacity, STRONG);
+    }
+
+    /**
+     * Creates a pool whose instances can be garbage collected as soon as they are only weakly reachable.
+     */
+    public static <V> ConcurrentPool<V> newWeakPool()
+    {
+        return new ConcurrentPool<V>(DEFAULT_INITIAL_CAPACITY, WEAK);
+    }
+
+    public static <V> ConcurrentPool<V> newWeakPool(int initialCapacity)
+    {
+        return new ConcurrentPool<V>(initialCapacity, WEAK);
+    }
+
+    /**
+     * Creates a pool whose instances can be garbage collected when they are only softly reachable and memory runs low.
+     */
+    public static <V> ConcurrentPool<V> newSoftPool()
+    {
+        return new ConcurrentPool<V>(DEFAULT_INITIAL_CAPACITY, SOFT);
+    }
+
+    public static <V> ConcurrentPool<V> newSoftPool(int initialCapacity)
+    {
+        return new ConcurrentPool<V>(initialCapacity, SOFT);
+    }
+
+    private static int indexFor(int h, int length)
+    {
+        return h & length - 2;
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    public V get(V key)
+    {
+        int hash = ConcurrentPool.hash(key);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int index = ConcurrentPool.indexFor(hash, currentArray.length());
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                return ConcurrentPool.find((Entry<V>) o, key, hash);
+            }
+        }
+    }
+
+    public V put(V key)
+    {
+        this.expungeStaleEntries();
+        int hash = ConcurrentPool.hash(key);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentPool.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                V pooled = ConcurrentPool.find((Entry<V>) o, key, hash);
+                if (pooled != null)
+                {
+                    this.addToCounter(HITS, 1L);
+                    return pooled;
+                }
+                Entry<V> newEntry = new Entry<V>(hash, this.newReferent(key, hash), (Entry<V>) o);
+                if (currentArray.compareAndSet(index, o, newEntry))
+                {
+                    this.addToCounter(MISSES, 1L);
+                    this.incrementSizeAndPossiblyResize(currentArray, length, o);
+                    return key;
+                }
+            }
+        }
+    }
+
+    public V removeFromPool(V key)
+    {
+        this.expungeStaleEntries();
+        int hash = ConcurrentPool.hash(key);
+        AtomicReferenceArray currentArray = this.table;
+        //noinspection LabeledStatement
+        outer:
+        while (true)
+        {
+            int index = ConcurrentPool.indexFor(hash, currentArray.length());
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                for (Entry<V> e = (Entry<V>) o; e != null; e = e.next)
+                {
+                    V candidate = e.get();
+                    if (e.hash == hash && candidate != null && (candidate == key || candidate.equals(key)))
+                    {
+                        Entry<V> replacement = ConcurrentPool.createReplacementChainForRemoval((Entry<V>) o, e);
+                        if (currentArray.compareAndSet(index, o, replacement))
+                        {
+                            this.addToCounter(SIZE, -1L);
+                            return candidate;
+                        }
+                        //noinspection ContinueStatementWithLabel
+                        continue outer;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of instances in the pool. Instances of a weak or soft pool that were garbage collected since
+     * the pool was last written to are removed first.
+     */
+    public int size()
+    {
+        this.expungeStaleEntries();
+        return (int) this.sum(SIZE);
+    }
+
+    public void clear()
+    {
+        AtomicReferenceArray currentArray = this.table;
+        ResizeContainer resizeContainer;
+        do
+        {
+            resizeContainer = null;
+            for (int i = 0; i < currentArray.length() - 1; i++)
+            {
+                Object o = currentArray.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+                }
+                else if (o != null)
+                {
+                    Entry<V> e = (Entry<V>) o;
+                    if (currentArray.compareAndSet(i, o, null))
+                    {
+                        int removedEntries = 0;
+                        while (e != null)
+                        {
+                            removedEntries++;
+                            e = e.next;
+                        }
+                        this.addToCounter(SIZE, (long) -removedEntries);
+                    }
+                }
+            }
+            if (resizeContainer != null)
+            {
+                if (resizeContainer.isNotDone())
+                {
+                    this.helpWithResize(currentArray);
+                    resizeContainer.waitForAllResizers();
+                }
+                currentArray = resizeContainer.nextArray;
+            }
+        }
+        while (resizeContainer != null);
+    }
+
+    /**
+     * Returns the number of calls to {@link #put(Object)} that returned an instance already in the pool.
+     */
+    public long getHitCount()
+    {
+        return this.sum(HITS);
+    }
+
+    /**
+     * Returns the number of calls to {@link #put(Object)} that added their argument to the pool.
+     */
+    public long getMissCount()
+    {
+        return this.sum(MISSES);
+    }
+
+    /**
+     * Returns the fraction of calls to {@link #put(Object)} that returned an instance already in the pool, or 0.0 if
+     * there were none.
+     */
+    public double getHitRate()
+    {
+        long hits = this.getHitCount();
+        long total = hits + this.getMissCount();
+        return total == 0L ? 0.0 : (double) hits / (double) total;
+    }
+
+    private static <V> V find(Entry<V> chain, V key, int hash)
+    {
+        for (Entry<V> e = chain; e != null; e = e.next)
+        {
+            if (e.hash == hash)
+            {
+                V candidate = e.get();
+                if (candidate != null && (candidate == key || candidate.equals(key)))
+                {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object newReferent(V key, int hash)
+    {
+        if (this.referenceType == WEAK)
+        {
+            return new WeakValue<V>(key, this.queue, hash);
+        }
+        if (this.referenceType == SOFT)
+        {
+            return new SoftValue<V>(key, this.queue, hash);
+        }
+        return key;
+    }
+
+    private void expungeStaleEntries()
+    {
+        if (this.queue != null)
+        {
+            Reference<? extends V> reference;
+            while ((reference = this.queue.poll()) != null)
+            {
+                this.removeReferent(reference, ((PooledReference) reference).getHash());
+            }
+        }
+    }
+
+    private void removeReferent(Object referent, int hash)
+    {
+        AtomicReferenceArray currentArray = this.table;
+        //noinspection LabeledStatement
+        outer:
+        while (true)
+        {
+            int index = ConcurrentPool.indexFor(hash, currentArray.length());
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else
+            {
+                for (Entry<V> e = (Entry<V>) o; e != null; e = e.next)
+                {
+                    if (e.referent == referent)
+                    {
+                        Entry<V> replacement = ConcurrentPool.createReplacementChainForRemoval((Entry<V>) o, e);
+                        if (currentArray.compareAndSet(index, o, replacement))
+                        {
+                            this.addToCounter(SIZE, -1L);
+                            return;
+                        }
+                        //noinspection ContinueStatementWithLabel
+                        continue outer;
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private static <V> Entry<V> createReplacementChainForRemoval(Entry<V> original, Entry<V> toRemove)
+    {
+        if (original == toRemove)
+        {
+            return original.next;
+        }
+        Entry<V> replacement = null;
+        Entry<V> e = original;
+        while (e != null)
+        {
+            if (e != toRemove)
+            {
+                replacement = new Entry<V>(e.hash, e.referent, replacement);
+            }
+            e = e.next;
+        }
+        return replacement;
+    }
+
+    private void addToCounter(int counter, long value)
+    {
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h = (h ^ (h >>> 10)) & (COUNTER_STRIPES - 1);
+        this.counters.addAndGet(h * STRIPE_WIDTH + counter, value);
+    }
+
+    private long sum(int counter)
+    {
+        long sum = 0L;
+        for (int i = 0; i < COUNTER_STRIPES; i++)
+        {
+            sum += this.counters.get(i * STRIPE_WIDTH + counter);
+        }
+        return sum;
+    }
+
+    private void incrementSizeAndPossiblyResize(AtomicReferenceArray currentArray, int length, Object prev)
+    {
+        this.addToCounter(SIZE, 1L);
+        if (prev != null)
+        {
+            int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
+            if (this.sum(SIZE) + 1 > threshold)
+            {
+                this.resize(currentArray);
+            }
+        }
+    }
+
+    private AtomicReferenceArray helpWithResizeWhileCurrentIndex(AtomicReferenceArray currentArray, int index)
+    {
+        AtomicReferenceArray newArray = this.helpWithResize(currentArray);
+        int helpCount = 0;
+        while (currentArray.get(index) != RESIZED)
+        {
+            helpCount++;
+            newArray = this.helpWithResize(currentArray);
+            if ((helpCount & 7) == 0)
+            {
+                Thread.yield();
+            }
+        }
+        return newArray;
+    }
+
+    private AtomicReferenceArray helpWithResize(AtomicReferenceArray currentArray)
+    {
+        ResizeContainer resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+        AtomicReferenceArray newTable = resizeContainer.nextArray;
+        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        {
+            resizeContainer.incrementResizer();
+            this.reverseTransfer(currentArray, resizeContainer);
+            resizeContainer.decrementResizerAndNotify();
+        }
+        return newTable;
+    }
+
+    private void resize(AtomicReferenceArray oldTable)
+    {
+        int oldCapacity = oldTable.length();
+        int end = oldCapacity - 1;
+        Object last = oldTable.get(end);
+        if (this.sum(SIZE) < end && last == RESIZE_SENTINEL)
+        {
+            return;
+        }
+        if (oldCapacity >= MAXIMUM_CAPACITY)
+        {
+            throw new RuntimeException("index is too large!");
+        }
+        ResizeContainer resizeContainer = null;
+        boolean ownResize = false;
+        if (last == null || last == RESIZE_SENTINEL)
+        {
+            synchronized (oldTable) // allocating a new array is too expensive to make this an atomic operation
+            {
+                if (oldTable.get(end) == null)
+                {
+                    oldTable.set(end, RESIZE_SENTINEL);
+                    resizeContainer = new ResizeContainer(new AtomicReferenceArray((end << 1) + 1), end);
+                    oldTable.set(end, resizeContainer);
+                    ownResize = true;
+                }
+            }
+        }
+        if (ownResize)
+        {
+            this.transfer(oldTable, resizeContainer);
+            AtomicReferenceArray src = this.table;
+            while (!TABLE_UPDATER.compareAndSet(this, oldTable, resizeContainer.nextArray))
+            {
+                // we're in a double resize situation; we'll have to go help until it's our turn to set the table
+                if (src != oldTable)
+                {
+                    this.helpWithResize(src);
+                }
+            }
+        }
+        else
+        {
+            this.helpWithResize(oldTable);
+        }
+    }
+
+    private void transfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+
+        for (int j = 0; j < src.length() - 1; )
+        {
+            Object o = src.get(j);
+            if (o == null)
+            {
+                if (src.compareAndSet(j, null, RESIZED))
+                {
+                    j++;
+                }
+            }
+            else if (o == RESIZED || o == RESIZING)
+            {
+                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
+                if (resizeContainer.resizers.get() == 1)
+                {
+                    break;
+                }
+            }
+            else
+            {
+                Entry<V> e = (Entry<V>) o;
+                if (src.compareAndSet(j, o, RESIZING))
+                {
+                    while (e != null)
+                    {
+                        ConcurrentPool.unconditionalCopy(dest, e);
+                        e = e.next;
+                    }
+                    src.set(j, RESIZED);
+                    j++;
+                }
+            }
+        }
+        resizeContainer.decrementResizerAndNotify();
+        resizeContainer.waitForAllResizers();
+    }
+
+    private void reverseTransfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+        while (resizeContainer.getQueuePosition() > 0)
+        {
+            int start = resizeContainer.subtractAndGetQueuePosition();
+            int end = start + ResizeContainer.QUEUE_INCREMENT;
+            if (end > 0)
+            {
+                if (start < 0)
+                {
+                    start = 0;
+                }
+                for (int j = end - 1; j >= start; )
+                {
+                    Object o = src.get(j);
+                    if (o == null)
+                    {
+                        if (src.compareAndSet(j, null, RESIZED))
+                        {
+                            j--;
+                        }
+                    }
+                    else if (o == RESIZED || o == RESIZING)
+                    {
+                        resizeContainer.zeroOutQueuePosition();
+                        return;
+                    }
+                    else
+                    {
+                        Entry<V> e = (Entry<V>) o;
+                        if (src.compareAndSet(j, o, RESIZING))
+                        {
+                            while (e != null)
+                            {
+                                ConcurrentPool.unconditionalCopy(dest, e);
+                                e = e.next;
+                            }
+                            src.set(j, RESIZED);
+                            j--;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static <V> void unconditionalCopy(AtomicReferenceArray dest, Entry<V> toCopyEntry)
+    {
+        AtomicReferenceArray currentArray = dest;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentPool.indexFor(toCopyEntry.hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = ((ResizeContainer) currentArray.get(length - 1)).nextArray;
+            }
+            else
+            {
+                Entry<V> newEntry;
+                if (o == null && toCopyEntry.next == null)
+                {
+                    newEntry = toCopyEntry; // no need to duplicate
+                }
+                else
+                {
+                    newEntry = new Entry<V>(toCopyEntry.hash, toCopyEntry.referent, (Entry<V>) o);
+                }
+                if (currentArray.compareAndSet(index, o, newEntry))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * An entry holds either the pooled instance itself or a {@link PooledReference} to it. The hash code is kept so that
+     * an entry can be moved during a resize after its instance has been garbage collected.
+     */
+    private static final class Entry<V>
+    {
+        private final int hash;
+        private final Object referent;
+        private final Entry<V> next;
+
+        private Entry(int hash, Object referent, Entry<V> next)
+        {
+            this.hash = hash;
+            this.referent = referent;
+            this.next = next;
+        }
+
+        private V get()
+        {
+            if (this.referent instanceof PooledReference)
+            {
+                return ((Reference<V>) this.referent).get();
+            }
+            return (V) this.referent;
+        }
+    }
+
+    private interface PooledReference
+    {
+        int getHash();
+    }
+
+    private static final class WeakValue<V> extends WeakReference<V> implements PooledReference
+    {
+        private final int hash;
+
+        private WeakValue(V referent, ReferenceQueue<? super V> queue, int hash)
+        {
+            super(referent, queue);
+            this.hash = hash;
+        }
+
+        public int getHash()
+        {
+            return this.hash;
+        }
+    }
+
+    private static final class SoftValue<V> extends SoftReference<V> implements PooledReference
+    {
+        private final int hash;
+
+        private SoftValue(V referent, ReferenceQueue<? super V> queue, int hash)
+        {
+            super(referent, queue);
+            this.hash = hash;
+        }
+
+        public int getHash()
+        {
+            return this.hash;
+        }
+    }
+
+    private static final class ResizeContainer
+    {
+        private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
+        private final AtomicInteger resizers = new AtomicInteger(1);
+        private final AtomicReferenceArray nextArray;
+        private final AtomicInteger queuePosition;
+
+        private ResizeContainer(AtomicReferenceArray nextArray, int oldSize)
+        {
+            this.nextArray = nextArray;
+            this.queuePosition = new AtomicInteger(oldSize);
+        }
+
+        public void incrementResizer()
+        {
+            this.resizers.incrementAndGet();
+        }
+
+        public void decrementResizerAndNotify()
+        {
+            int remaining = this.resizers.decrementAndGet();
+            if (remaining == 0)
+            {
+                synchronized (this)
+                {
+                    this.notifyAll();
+                }
+            }
+        }
+
+        public int getQueuePosition()
+        {
+            return this.queuePosition.get();
+        }
+
+        public int subtractAndGetQueuePosition()
+        {
+            return this.queuePosition.addAndGet(-QUEUE_INCREMENT);
+        }
+
+        public void waitForAllResizers()
+        {
+            if (this.resizers.get() > 0)
+            {
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                }
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                    Thread.yield();
+                }
+            }
+            if (this.resizers.get() > 0)
+            {
+                synchronized (this)
+                {
+                    while (this.resizers.get() > 0)
+                    {
+                        try
+                        {
+                            this.wait();
+                        }
+                        catch (InterruptedException e)
+                        {
+                            // ignore
+                        }
+                    }
+                }
+            }
+        }
+
+        public boolean isNotDone()
+        {
+            return this.resizers.get() > 0;
+        }
+
+        public void zeroOutQueuePosition()
+        {
+            this.queuePosition.set(0);
+        }
+    }
+}
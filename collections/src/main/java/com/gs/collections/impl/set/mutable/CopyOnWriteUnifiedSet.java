@@ -0,0 +1,633 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.ordered.OrderedIterable;
+import com.gs.collections.api.partition.set.PartitionMutableSet;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.set.SetIterable;
+import com.gs.collections.api.set.UnsortedSetIterable;
+import com.gs.collections.api.set.primitive.MutableBooleanSet;
+import com.gs.collections.api.set.primitive.MutableByteSet;
+import com.gs.collections.api.set.primitive.MutableCharSet;
+import com.gs.collections.api.set.primitive.MutableDoubleSet;
+import com.gs.collections.api.set.primitive.MutableFloatSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.api.set.primitive.MutableShortSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.procedure.PartitionPredicate2Procedure;
+import com.gs.collections.impl.block.procedure.PartitionProcedure;
+import com.gs.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectBooleanProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectByteProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectCharProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectDoubleProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectFloatProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectLongProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectShortProcedure;
+import com.gs.collections.impl.collection.mutable.AbstractCollectionAdapter;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
+import com.gs.collections.impl.partition.set.PartitionUnifiedSet;
+import com.gs.collections.impl.set.immutable.ImmutableSetFactoryImpl;
+import com.gs.collections.impl.set.mutable.primitive.BooleanHashSet;
+import com.gs.collections.impl.set.mutable.primitive.ByteHashSet;
+import com.gs.collections.impl.set.mutable.primitive.CharHashSet;
+import com.gs.collections.impl.set.mutable.primitive.DoubleHashSet;
+import com.gs.collections.impl.set.mutable.primitive.FloatHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.set.mutable.primitive.ShortHashSet;
+import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.SetIterables;
+
+/**
+ * A MutableSet for data that is read far more often than it is written. The contents are held in an
+ * {@link ImmutableSet} snapshot in a volatile field, so lookups and iteration never lock and never see a write in
+ * progress. Each write copies the snapshot into a {@link UnifiedSet}, changes the copy and publishes it, holding a lock
+ * only against other writers. Use {@link #withWriteBatch(Procedure)} to make many changes with a single copy.
+ * <p>
+ * Iterators are views of the snapshot current when they were created and do not support {@code remove()}.
+ *
+ * @since 7.0
+ */
+public final class CopyOnWriteUnifiedSet<T>
+        extends AbstractCollectionAdapter<T>
+        implements Serializable, MutableSet<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private volatile ImmutableSet<T> snapshot;
+
+    private CopyOnWriteUnifiedSet(ImmutableSet<T> snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSet()
+    {
+        return new CopyOnWriteUnifiedSet<T>(Sets.immutable.<T>of());
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        return new CopyOnWriteUnifiedSet<T>(Sets.immutable.<T>withAll(iterable));
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSetWith(T... elements)
+    {
+        return new CopyOnWriteUnifiedSet<T>(Sets.immutable.with(elements));
+    }
+
+    @Override
+    protected Set<T> getDelegate()
+    {
+        return this.snapshot.castToSet();
+    }
+
+    private UnifiedSet<T> copy()
+    {
+        return this.copy(0);
+    }
+
+    /**
+     * Copies the snapshot into a set with room for {@code extraCapacity} more elements, so that a write which adds
+     * them does not rehash the copy.
+     */
+    private UnifiedSet<T> copy(int extraCapacity)
+    {
+        ImmutableSet<T> current = this.snapshot;
+        UnifiedSet<T> copy = UnifiedSet.newSet(current.size() + extraCapacity);
+        copy.addAllIterable(current);
+        return copy;
+    }
+
+    /**
+     * Publishes {@code set} as the new snapshot without copying it again.
+     */
+    private void publish(UnifiedSet<T> set)
+    {
+        this.snapshot = set.isEmpty() ? Sets.immutable.<T>of() : ImmutableSetFactoryImpl.adopt(new Handoff<T>(set));
+    }
+
+    /**
+     * Passes a private copy of the set to {@code procedure} and then publishes the copy in one step, so a burst of
+     * updates costs a single copy and readers see either none or all of them. The procedure must make its changes
+     * through its argument and must not keep a reference to it, as the published snapshot is backed by it; other
+     * writers wait until it returns.
+     */
+    public synchronized void withWriteBatch(Procedure<? super MutableSet<T>> procedure)
+    {
+        UnifiedSet<T> copy = this.copy();
+        procedure.value(copy);
+        this.publish(copy);
+    }
+
+    public MutableSet<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableSet.of(this);
+    }
+
+    public MutableSet<T> asSynchronized()
+    {
+        return SynchronizedMutableSet.of(this);
+    }
+
+    public ImmutableSet<T> toImmutable()
+    {
+        return this.snapshot;
+    }
+
+    @Override
+    public MutableSet<T> clone()
+    {
+        return new CopyOnWriteUnifiedSet<T>(this.snapshot);
+    }
+
+    public MutableSet<T> newEmpty()
+    {
+        return CopyOnWriteUnifiedSet.newSet();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.snapshot.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection)
+    {
+        return this.getDelegate().containsAll(collection);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return this.snapshot.equals(obj);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.snapshot.hashCode();
+    }
+
+    @Override
+    public synchronized boolean add(T element)
+    {
+        if (this.snapshot.contains(element))
+        {
+            return false;
+        }
+        UnifiedSet<T> copy = this.copy(1);
+        copy.add(element);
+        this.publish(copy);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object element)
+    {
+        if (!this.snapshot.contains(element))
+        {
+            return false;
+        }
+        UnifiedSet<T> copy = this.copy();
+        copy.remove(element);
+        this.publish(copy);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends T> collection)
+    {
+        return this.addAllIterable(collection);
+    }
+
+    @Override
+    public synchronized boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        UnifiedSet<T> copy = this.copy(iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0);
+        boolean changed = copy.addAllIterable(iterable);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean removeAll(Collection<?> collection)
+    {
+        return this.removeAllIterable(collection);
+    }
+
+    @Override
+    public synchronized boolean removeAllIterable(Iterable<?> iterable)
+    {
+        UnifiedSet<T> copy = this.copy();
+        boolean changed = copy.removeAllIterable(iterable);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean retainAll(Collection<?> collection)
+    {
+        return this.retainAllIterable(collection);
+    }
+
+    @Override
+    public synchronized boolean retainAllIterable(Iterable<?> iterable)
+    {
+        UnifiedSet<T> copy = this.copy();
+        boolean changed = copy.retainAllIterable(iterable);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super T> predicate)
+    {
+        UnifiedSet<T> copy = this.copy();
+        boolean changed = copy.removeIf(predicate);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        UnifiedSet<T> copy = this.copy();
+        boolean changed = copy.removeIfWith(predicate, parameter);
+        if (changed)
+        {
+            this.publish(copy);
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        this.snapshot = Sets.immutable.of();
+    }
+
+    public CopyOnWriteUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public synchronized CopyOnWriteUnifiedSet<T> with(T element1, T element2)
+    {
+        this.publish(this.copy(2).with(element1).with(element2));
+        return this;
+    }
+
+    public synchronized CopyOnWriteUnifiedSet<T> with(T element1, T element2, T element3)
+    {
+        this.publish(this.copy(3).with(element1).with(element2).with(element3));
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> with(T... elements)
+    {
+        this.addAllIterable(ArrayAdapter.adapt(elements));
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.snapshot.each(procedure);
+    }
+
+    @Override
+    public MutableSet<T> tap(Procedure<? super T> procedure)
+    {
+        Iterate.forEach(this.getDelegate(), procedure);
+        return this;
+    }
+
+    @Override
+    public MutableSet<T> select(Predicate<? super T> predicate)
+    {
+        return Iterate.select(this.getDelegate(), predicate, UnifiedSet.<T>newSet());
+    }
+
+    @Override
+    public MutableSet<T> reject(Predicate<? super T> predicate)
+    {
+        return Iterate.reject(this.getDelegate(), predicate, UnifiedSet.<T>newSet());
+    }
+
+    @Override
+    public PartitionMutableSet<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionMutableSet<T> partitionUnifiedSet = new PartitionUnifiedSet<T>();
+        this.forEach(new PartitionProcedure<T>(predicate, partitionUnifiedSet));
+        return partitionUnifiedSet;
+    }
+
+    @Override
+    public <P> PartitionMutableSet<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        PartitionMutableSet<T> partitionUnifiedSet = new PartitionUnifiedSet<T>();
+        this.forEach(new PartitionPredicate2Procedure<T, P>(predicate, parameter, partitionUnifiedSet));
+        return partitionUnifiedSet;
+    }
+
+    @Override
+    public <S> MutableSet<S> selectInstancesOf(Class<S> clazz)
+    {
+        MutableSet<S> result = UnifiedSet.newSet();
+        this.forEach(new SelectInstancesOfProcedure<S>(clazz, result));
+        return result;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(Function<? super T, ? extends V> function)
+    {
+        return Iterate.collect(this.getDelegate(), function, UnifiedSet.<V>newSet());
+    }
+
+    @Override
+    public MutableBooleanSet collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        BooleanHashSet result = new BooleanHashSet();
+        this.forEach(new CollectBooleanProcedure<T>(booleanFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableByteSet collectByte(ByteFunction<? super T> byteFunction)
+    {
+        ByteHashSet result = new ByteHashSet(this.size());
+        this.forEach(new CollectByteProcedure<T>(byteFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableCharSet collectChar(CharFunction<? super T> charFunction)
+    {
+        CharHashSet result = new CharHashSet(this.size());
+        this.forEach(new CollectCharProcedure<T>(charFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableDoubleSet collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        DoubleHashSet result = new DoubleHashSet(this.size());
+        this.forEach(new CollectDoubleProcedure<T>(doubleFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableFloatSet collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        FloatHashSet result = new FloatHashSet(this.size());
+        this.forEach(new CollectFloatProcedure<T>(floatFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableIntSet collectInt(IntFunction<? super T> intFunction)
+    {
+        IntHashSet result = new IntHashSet(this.size());
+        this.forEach(new CollectIntProcedure<T>(intFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableLongSet collectLong(LongFunction<? super T> longFunction)
+    {
+        LongHashSet result = new LongHashSet(this.size());
+        this.forEach(new CollectLongProcedure<T>(longFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableShortSet collectShort(ShortFunction<? super T> shortFunction)
+    {
+        ShortHashSet result = new ShortHashSet(this.size());
+        this.forEach(new CollectShortProcedure<T>(shortFunction, result));
+        return result;
+    }
+
+    @Override
+    public <V> MutableSet<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return Iterate.flatCollect(this.getDelegate(), function, UnifiedSet.<V>newSet());
+    }
+
+    @Override
+    public <V> MutableSet<V> collectIf(
+            Predicate<? super T> predicate,
+            Function<? super T, ? extends V> function)
+    {
+        return Iterate.collectIf(this.getDelegate(), predicate, function, UnifiedSet.<V>newSet());
+    }
+
+    @Override
+    public <V> UnifiedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return Iterate.groupBy(this.getDelegate(), function, UnifiedSetMultimap.<V, T>newMultimap());
+    }
+
+    @Override
+    public <V> UnifiedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return Iterate.groupByEach(this.getDelegate(), function, UnifiedSetMultimap.<V, T>newMultimap());
+    }
+
+    @Override
+    public <P> MutableSet<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return Iterate.selectWith(this.getDelegate(), predicate, parameter, UnifiedSet.<T>newSet());
+    }
+
+    @Override
+    public <P> MutableSet<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return Iterate.rejectWith(this.getDelegate(), predicate, parameter, UnifiedSet.<T>newSet());
+    }
+
+    @Override
+    public <P, V> MutableSet<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return Iterate.collectWith(this.getDelegate(), function, parameter, UnifiedSet.<V>newSet());
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    @Override
+    public <S> MutableSet<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return Iterate.zip(this, that, UnifiedSet.<Pair<T, S>>newSet());
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    @Override
+    public MutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return Iterate.zipWithIndex(this, UnifiedSet.<Pair<T, Integer>>newSet());
+    }
+
+    public MutableSet<T> union(SetIterable<? extends T> set)
+    {
+        return SetIterables.union(this, set);
+    }
+
+    public <R extends Set<T>> R unionInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return SetIterables.unionInto(this, set, targetSet);
+    }
+
+    public MutableSet<T> intersect(SetIterable<? extends T> set)
+    {
+        return SetIterables.intersect(this, set);
+    }
+
+    public <R extends Set<T>> R intersectInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return SetIterables.intersectInto(this, set, targetSet);
+    }
+
+    public MutableSet<T> difference(SetIterable<? extends T> subtrahendSet)
+    {
+        return SetIterables.difference(this, subtrahendSet);
+    }
+
+    public <R extends Set<T>> R differenceInto(SetIterable<? extends T> subtrahendSet, R targetSet)
+    {
+        return SetIterables.differenceInto(this, subtrahendSet, targetSet);
+    }
+
+    public MutableSet<T> symmetricDifference(SetIterable<? extends T> setB)
+    {
+        return SetIterables.symmetricDifference(this, setB);
+    }
+
+    public <R extends Set<T>> R symmetricDifferenceInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return SetIterables.symmetricDifferenceInto(this, set, targetSet);
+    }
+
+    public boolean isSubsetOf(SetIterable<? extends T> candidateSuperset)
+    {
+        return SetIterables.isSubsetOf(this, candidateSuperset);
+    }
+
+    public boolean isProperSubsetOf(SetIterable<? extends T> candidateSuperset)
+    {
+        return SetIterables.isProperSubsetOf(this, candidateSuperset);
+    }
+
+    public MutableSet<UnsortedSetIterable<T>> powerSet()
+    {
+        return (MutableSet<UnsortedSetIterable<T>>) (MutableSet<?>) SetIterables.powerSet(this);
+    }
+
+    public <B> LazyIterable<Pair<T, B>> cartesianProduct(SetIterable<B> set)
+    {
+        return SetIterables.cartesianProduct(this, set);
+    }
+
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<T>(this);
+    }
+
+    /**
+     * The set of a finished write, which {@link ImmutableSetFactoryImpl#adopt(Handoff)} publishes without copying.
+     * Only this class creates them, and it drops the set once it is handed off.
+     */
+    public static final class Handoff<T>
+    {
+        private final UnifiedSet<T> set;
+
+        private Handoff(UnifiedSet<T> set)
+        {
+            this.set = set;
+        }
+
+        public UnifiedSet<T> getSet()
+        {
+            return this.set;
+        }
+    }
+}
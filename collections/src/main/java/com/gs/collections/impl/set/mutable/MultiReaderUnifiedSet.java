@@ -25,7 +25,6 @@ import java.util.RandomAccess;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
@@ -73,11 +72,12 @@ import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableColl
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 import com.gs.collections.impl.utility.LazyIterate;
+import com.gs.collections.impl.utility.internal.OptimisticReadWriteLock;
 
 import static com.gs.collections.impl.factory.Iterables.*;
 
 /**
- * MultiReadUnifiedSet provides a thread-safe wrapper around a UnifiedSet, using a ReentrantReadWriteLock.  In order to
+ * MultiReadUnifiedSet provides a thread-safe wrapper around a UnifiedSet, using an OptimisticReadWriteLock.  In order to
  * provide true thread-safety, MultiReaderFastList does not implement iterator() as all this method requires an external
  * lock to be taken to provide thread-safe iteration.  You can use an iterator() if you use the
  * withReadLockAndDelegate() or withWriteLockAndDelegate() methods.  Both of these methods take a parameter of type
@@ -107,7 +107,7 @@ public final class MultiReaderUnifiedSet<T>
 
     private MultiReaderUnifiedSet(MutableSet<T> newDelegate)
     {
-        this(newDelegate, new ReentrantReadWriteLock());
+        this(newDelegate, new OptimisticReadWriteLock());
     }
 
     private MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock)
@@ -579,7 +579,7 @@ public final class MultiReaderUnifiedSet<T>
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
         this.delegate = (MutableSet<T>) in.readObject();
-        this.lock = new ReentrantReadWriteLock();
+        this.lock = new OptimisticReadWriteLock();
     }
 
     // Exposed for testing
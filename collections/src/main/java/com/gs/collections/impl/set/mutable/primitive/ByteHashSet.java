@@ -21,11 +21,17 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.ByteIterable;
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -33,6 +39,7 @@ import com.gs.collections.api.block.predicate.primitive.BytePredicate;
 import com.gs.collections.api.block.procedure.primitive.ByteProcedure;
 import com.gs.collections.api.iterator.ByteIterator;
 import com.gs.collections.api.iterator.MutableByteIterator;
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.primitive.MutableByteList;
 import com.gs.collections.api.set.ImmutableSet;
 import com.gs.collections.api.set.MutableSet;
@@ -42,10 +49,15 @@ import com.gs.collections.api.set.primitive.MutableByteSet;
 import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
 import com.gs.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import com.gs.collections.impl.factory.primitive.ByteSets;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractByteBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ByteBatch;
 import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.internal.BinarySnapshot;
 
 public final class ByteHashSet implements MutableByteSet, Externalizable
 {
@@ -746,6 +758,26 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new LazyByteIterableAdapter(this);
     }
 
+    /**
+     * The set is split into at most one batch per bit group, so the batch size only bounds the number of values in
+     * a batch, which is at most 64.
+     *
+     * @since 7.0
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ByteHashSetParallelIterable(executorService, batchSize);
+    }
+
     public long sum()
     {
         long result = 0L;
@@ -914,6 +946,42 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         }
     }
 
+    /**
+     * Writes the bit groups of this set to {@code channel} in the binary snapshot format of {@link BinarySnapshot}.
+     *
+     * @since 7.0
+     */
+    public void writeSnapshot(WritableByteChannel channel) throws IOException
+    {
+        BinarySnapshot.Writer writer = BinarySnapshot.writer(channel);
+        writer.writeHeader(BinarySnapshot.SET, 1);
+        writer.writeLong(this.bitGroup1);
+        writer.writeLong(this.bitGroup2);
+        writer.writeLong(this.bitGroup3);
+        writer.writeLong(this.bitGroup4);
+        writer.writeShort(this.size);
+        writer.flush();
+    }
+
+    /**
+     * Reads a set written by {@link #writeSnapshot(WritableByteChannel)}.
+     *
+     * @since 7.0
+     */
+    public static ByteHashSet readSnapshot(ReadableByteChannel channel) throws IOException
+    {
+        BinarySnapshot.Reader reader = BinarySnapshot.reader(channel);
+        reader.readHeader(BinarySnapshot.SET, 1);
+        ByteHashSet result = new ByteHashSet();
+        result.bitGroup1 = reader.readLong();
+        result.bitGroup2 = reader.readLong();
+        result.bitGroup3 = reader.readLong();
+        result.bitGroup4 = reader.readLong();
+        result.size = reader.readShort();
+        reader.finish();
+        return result;
+    }
+
     public <T> T injectInto(T injectedValue, ObjectByteToObjectFunction<? super T, ? extends T> function)
     {
         T result = injectedValue;
@@ -928,6 +996,98 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return result;
     }
 
+    /**
+     * One bit group of the set. Bit {@code b} of the group stands for the value {@code b + offset}, or for
+     * {@code -(b + offset)} when the group is negated.
+     */
+    private static final class ByteHashSetBatch extends AbstractByteBatch
+    {
+        private final long bitGroup;
+        private final int offset;
+        private final boolean negated;
+
+        private ByteHashSetBatch(long bitGroup, int offset, boolean negated)
+        {
+            this.bitGroup = bitGroup;
+            this.offset = offset;
+            this.negated = negated;
+        }
+
+        private byte valueAt(int bit)
+        {
+            return (byte) (this.negated ? -(bit + this.offset) : bit + this.offset);
+        }
+
+        public void forEach(ByteProcedure procedure)
+        {
+            long bitGroup = this.bitGroup;
+            while (bitGroup != 0L)
+            {
+                int bit = Long.numberOfTrailingZeros(bitGroup);
+                procedure.value(this.valueAt(bit));
+                bitGroup &= ~(1L << bit);
+            }
+        }
+
+        public boolean anySatisfy(BytePredicate predicate)
+        {
+            long bitGroup = this.bitGroup;
+            while (bitGroup != 0L)
+            {
+                int bit = Long.numberOfTrailingZeros(bitGroup);
+                if (predicate.accept(this.valueAt(bit)))
+                {
+                    return true;
+                }
+                bitGroup &= ~(1L << bit);
+            }
+            return false;
+        }
+    }
+
+    private final class ByteHashSetParallelIterable extends AbstractParallelByteIterable
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ByteHashSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<ByteBatch> split()
+        {
+            MutableList<ByteBatch> batches = FastList.newList(4);
+            this.addBatch(batches, ByteHashSet.this.bitGroup1, 65, true);
+            this.addBatch(batches, ByteHashSet.this.bitGroup2, 1, true);
+            this.addBatch(batches, ByteHashSet.this.bitGroup3, 0, false);
+            this.addBatch(batches, ByteHashSet.this.bitGroup4, 64, false);
+            return batches.asLazy();
+        }
+
+        private void addBatch(MutableList<ByteBatch> batches, long bitGroup, int offset, boolean negated)
+        {
+            if (bitGroup != 0L)
+            {
+                batches.add(new ByteHashSetBatch(bitGroup, offset, negated));
+            }
+        }
+    }
+
     private static final class ImmutableByteHashSet implements ImmutableByteSet, Serializable
     {
         private static final long serialVersionUID = 1L;
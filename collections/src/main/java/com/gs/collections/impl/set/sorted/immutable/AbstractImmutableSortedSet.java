@@ -156,6 +156,17 @@ abstract class AbstractImmutableSortedSet<T> extends AbstractImmutableCollection
         return this.last();
     }
 
+    public int countBetween(T fromElement, T toElement)
+    {
+        Comparator<? super T> comparator = this.comparator();
+        int comparison = comparator == null ? ((Comparable<? super T>) fromElement).compareTo(toElement) : comparator.compare(fromElement, toElement);
+        if (comparison > 0)
+        {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return this.rank(toElement) - this.rank(fromElement);
+    }
+
     @Override
     protected MutableCollection<T> newMutable(int size)
     {
@@ -257,6 +257,16 @@ final class ImmutableEmptySortedSet<T>
         return -1;
     }
 
+    public int rank(T element)
+    {
+        return 0;
+    }
+
+    public T get(int index)
+    {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+    }
+
     public Comparator<? super T> comparator()
     {
         return this.comparator;
@@ -17,7 +17,6 @@
 package com.gs.collections.impl.set.sorted.immutable;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Set;
@@ -54,6 +53,7 @@ import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.ListIterate;
 import com.gs.collections.impl.utility.internal.InternalArrayIterate;
+import com.gs.collections.impl.utility.internal.SortedArraySearchIndex;
 import net.jcip.annotations.Immutable;
 
 @Immutable
@@ -65,11 +65,13 @@ final class ImmutableTreeSet<T>
 
     private final T[] delegate;
     private final Comparator<? super T> comparator;
+    private final SortedArraySearchIndex<T> searchIndex;
 
     private ImmutableTreeSet(SortedSet<T> sortedSet)
     {
         this.delegate = (T[]) sortedSet.toArray();
         this.comparator = sortedSet.comparator();
+        this.searchIndex = SortedArraySearchIndex.of(this.delegate, this.comparator);
     }
 
     public static <T> ImmutableSortedSet<T> newSetWith(T... elements)
@@ -139,7 +141,7 @@ final class ImmutableTreeSet<T>
     @Override
     public boolean contains(Object object)
     {
-        return Arrays.binarySearch(this.delegate, (T) object, this.comparator) >= 0;
+        return this.searchIndex.binarySearch((T) object) >= 0;
     }
 
     public Iterator<T> iterator()
@@ -479,7 +481,23 @@ final class ImmutableTreeSet<T>
 
     public int indexOf(Object object)
     {
-        return ArrayIterate.indexOf(this.delegate, object);
+        int index = this.searchIndex.binarySearch((T) object);
+        return index < 0 ? -1 : index;
+    }
+
+    public int rank(T element)
+    {
+        int index = this.searchIndex.binarySearch(element);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.delegate.length)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.delegate.length);
+        }
+        return this.delegate[index];
     }
 
     public ImmutableSortedSet<T> take(int count)
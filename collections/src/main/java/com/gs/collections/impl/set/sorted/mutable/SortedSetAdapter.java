@@ -602,6 +602,30 @@ public final class SortedSetAdapter<T>
         return -1;
     }
 
+    public int rank(T element)
+    {
+        return this.delegate.headSet(element).size();
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.delegate.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.delegate.size());
+        }
+        Iterator<T> iterator = this.delegate.iterator();
+        for (int i = 0; i < index; i++)
+        {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    public int countBetween(T fromElement, T toElement)
+    {
+        return this.delegate.subSet(fromElement, toElement).size();
+    }
+
     @Override
     public T getFirst()
     {
@@ -203,6 +203,30 @@ public class SynchronizedSortedSet<T>
         }
     }
 
+    public int rank(T element)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().rank(element);
+        }
+    }
+
+    public T get(int index)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().get(index);
+        }
+    }
+
+    public int countBetween(T fromElement, T toElement)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().countBetween(fromElement, toElement);
+        }
+    }
+
     public MutableStack<T> toStack()
     {
         synchronized (this.getLock())
@@ -621,6 +621,32 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         return -1;
     }
 
+    public int rank(T element)
+    {
+        return this.treeSet.headSet(element).size();
+    }
+
+    public T get(int index)
+    {
+        int size = this.treeSet.size();
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        boolean fromEnd = index >= size / 2;
+        Iterator<T> iterator = fromEnd ? this.treeSet.descendingIterator() : this.treeSet.iterator();
+        for (int i = fromEnd ? size - 1 - index : index; i > 0; i--)
+        {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    public int countBetween(T fromElement, T toElement)
+    {
+        return this.treeSet.subSet(fromElement, toElement).size();
+    }
+
     public T getFirst()
     {
         return this.first();
@@ -425,6 +425,21 @@ public class UnmodifiableSortedSet<T>
         return this.getSortedSet().indexOf(object);
     }
 
+    public int rank(T element)
+    {
+        return this.getSortedSet().rank(element);
+    }
+
+    public T get(int index)
+    {
+        return this.getSortedSet().get(index);
+    }
+
+    public int countBetween(T fromElement, T toElement)
+    {
+        return this.getSortedSet().countBetween(fromElement, toElement);
+    }
+
     public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
     {
         return this.getSortedSet().corresponds(other, predicate);
@@ -82,6 +82,9 @@ import com.gs.collections.api.stack.primitive.ImmutableFloatStack;
 import com.gs.collections.api.stack.primitive.ImmutableIntStack;
 import com.gs.collections.api.stack.primitive.ImmutableLongStack;
 import com.gs.collections.api.stack.primitive.ImmutableShortStack;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates;
@@ -665,6 +668,56 @@ final class ImmutableArrayStack<T> implements ImmutableStack<T>, Serializable
         return this.delegate.asReversed().maxBy(function);
     }
 
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        return this.delegate.asReversed().topN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().topNBy(count, function);
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return this.delegate.asReversed().bottomN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        return this.delegate.asReversed().summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        return this.delegate.asReversed().summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        return this.delegate.asReversed().summarizeDouble(function);
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.asReversed().summarizeIntBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.asReversed().summarizeLongBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.asReversed().summarizeDoubleBy(groupBy, function);
+    }
+
     public long sumOfInt(IntFunction<? super T> intFunction)
     {
         return this.delegate.asReversed().sumOfInt(intFunction);
@@ -0,0 +1,1120 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stack.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.FloatObjectToFloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.collection.primitive.MutableBooleanCollection;
+import com.gs.collections.api.collection.primitive.MutableByteCollection;
+import com.gs.collections.api.collection.primitive.MutableCharCollection;
+import com.gs.collections.api.collection.primitive.MutableDoubleCollection;
+import com.gs.collections.api.collection.primitive.MutableFloatCollection;
+import com.gs.collections.api.collection.primitive.MutableIntCollection;
+import com.gs.collections.api.collection.primitive.MutableLongCollection;
+import com.gs.collections.api.collection.primitive.MutableShortCollection;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.api.partition.stack.PartitionImmutableStack;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.stack.ImmutableStack;
+import com.gs.collections.api.stack.MutableStack;
+import com.gs.collections.api.stack.StackIterable;
+import com.gs.collections.api.stack.primitive.ImmutableBooleanStack;
+import com.gs.collections.api.stack.primitive.ImmutableByteStack;
+import com.gs.collections.api.stack.primitive.ImmutableCharStack;
+import com.gs.collections.api.stack.primitive.ImmutableDoubleStack;
+import com.gs.collections.api.stack.primitive.ImmutableFloatStack;
+import com.gs.collections.api.stack.primitive.ImmutableIntStack;
+import com.gs.collections.api.stack.primitive.ImmutableLongStack;
+import com.gs.collections.api.stack.primitive.ImmutableShortStack;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.checked.CheckedProcedure;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.partition.stack.PartitionArrayStack;
+import com.gs.collections.impl.stack.mutable.ArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.BooleanArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.ByteArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.CharArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.DoubleArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.FloatArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.IntArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.LongArrayStack;
+import com.gs.collections.impl.stack.mutable.primitive.ShortArrayStack;
+import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.LazyIterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableLinkedStack is a persistent stack stored as a singly linked list of nodes, where each stack is the node
+ * holding its top element and links to the stack below it. {@link #push(Object)}, {@link #pop()} and {@link #peek()}
+ * are O(1), and every stack derived through push or pop shares all of its nodes below the top with this stack.
+ *
+ * @since 7.0
+ */
+@Immutable
+final class ImmutableLinkedStack<T> implements ImmutableStack<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableLinkedStack<?> EMPTY = new ImmutableLinkedStack<Object>(null, null, 0);
+
+    private final T top;
+    private final ImmutableLinkedStack<T> rest;
+    private final int size;
+
+    private ImmutableLinkedStack(T top, ImmutableLinkedStack<T> rest, int size)
+    {
+        this.top = top;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStack()
+    {
+        return (ImmutableLinkedStack<T>) EMPTY;
+    }
+
+    public static <E> ImmutableLinkedStack<E> newStack(Iterable<? extends E> iterable)
+    {
+        ImmutableLinkedStack<E> result = ImmutableLinkedStack.newStack();
+        for (E each : iterable)
+        {
+            result = result.push(each);
+        }
+        return result;
+    }
+
+    public static <E> ImmutableLinkedStack<E> newStackWith(E... elements)
+    {
+        ImmutableLinkedStack<E> result = ImmutableLinkedStack.newStack();
+        for (E each : elements)
+        {
+            result = result.push(each);
+        }
+        return result;
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStackFromTopToBottom(Iterable<? extends T> items)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom((T[]) Iterate.toArray(items));
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStackFromTopToBottom(T... items)
+    {
+        ImmutableLinkedStack<T> result = ImmutableLinkedStack.newStack();
+        for (int i = items.length - 1; i >= 0; i--)
+        {
+            result = result.push(items[i]);
+        }
+        return result;
+    }
+
+    public ImmutableLinkedStack<T> push(T item)
+    {
+        return new ImmutableLinkedStack<T>(item, this, this.size + 1);
+    }
+
+    public ImmutableStack<T> pop()
+    {
+        this.checkEmptyStack();
+        return this.rest;
+    }
+
+    public ImmutableStack<T> pop(int count)
+    {
+        this.checkNegativeCount(count);
+        if (this.checkZeroCount(count))
+        {
+            return this;
+        }
+        this.checkEmptyStack();
+        this.checkSizeLessThanCount(count);
+        return this.below(count);
+    }
+
+    private ImmutableLinkedStack<T> below(int count)
+    {
+        ImmutableLinkedStack<T> result = this;
+        for (int i = 0; i < count; i++)
+        {
+            result = result.rest;
+        }
+        return result;
+    }
+
+    public T peek()
+    {
+        this.checkEmptyStack();
+        return this.top;
+    }
+
+    private void checkEmptyStack()
+    {
+        if (this.size == 0)
+        {
+            throw new EmptyStackException();
+        }
+    }
+
+    public ListIterable<T> peek(int count)
+    {
+        this.checkNegativeCount(count);
+        if (this.checkZeroCount(count))
+        {
+            return FastList.newList();
+        }
+        this.checkEmptyStack();
+        this.checkSizeLessThanCount(count);
+        return FastList.newList(this.asTopToBottom().take(count));
+    }
+
+    private boolean checkZeroCount(int count)
+    {
+        return count == 0;
+    }
+
+    private void checkSizeLessThanCount(int count)
+    {
+        if (this.size < count)
+        {
+            throw new IllegalArgumentException("Count must be less than size: Count = " + count + " Size = " + this.size);
+        }
+    }
+
+    private void checkSizeLessThanOrEqualToIndex(int index)
+    {
+        if (this.size <= index)
+        {
+            throw new IllegalArgumentException("Count must be less than size: Count = " + index + " Size = " + this.size);
+        }
+    }
+
+    private void checkNegativeCount(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be positive but was " + count);
+        }
+    }
+
+    public T peekAt(int index)
+    {
+        this.checkNegativeCount(index);
+        this.checkEmptyStack();
+        this.checkSizeLessThanOrEqualToIndex(index);
+        return this.below(index).top;
+    }
+
+    private LazyIterable<T> asTopToBottom()
+    {
+        return new TopToBottomIterable<T>(this);
+    }
+
+    public T getFirst()
+    {
+        return this.peek();
+    }
+
+    public T getLast()
+    {
+        throw new UnsupportedOperationException("Cannot call getLast() on " + this.getClass().getSimpleName());
+    }
+
+    public boolean contains(Object object)
+    {
+        return this.asTopToBottom().contains(object);
+    }
+
+    public boolean containsAllIterable(Iterable<?> source)
+    {
+        return this.asTopToBottom().containsAllIterable(source);
+    }
+
+    public boolean containsAll(Collection<?> source)
+    {
+        return this.asTopToBottom().containsAll(source);
+    }
+
+    public boolean containsAllArguments(Object... elements)
+    {
+        return this.asTopToBottom().containsAllArguments(elements);
+    }
+
+    public MutableStack<T> toStack()
+    {
+        return ArrayStack.newStackFromTopToBottom(this);
+    }
+
+    public ImmutableStack<T> select(Predicate<? super T> predicate)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().select(predicate).toList());
+    }
+
+    public <P> ImmutableStack<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    public <R extends Collection<T>> R select(Predicate<? super T> predicate, R target)
+    {
+        return this.asTopToBottom().select(predicate, target);
+    }
+
+    public <P, R extends Collection<T>> R selectWith(Predicate2<? super T, ? super P> predicate, P parameter, R targetCollection)
+    {
+        return this.asTopToBottom().selectWith(predicate, parameter, targetCollection);
+    }
+
+    public ImmutableStack<T> reject(Predicate<? super T> predicate)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().reject(predicate).toList());
+    }
+
+    public <R extends Collection<T>> R reject(Predicate<? super T> predicate, R target)
+    {
+        return this.asTopToBottom().reject(predicate, target);
+    }
+
+    public <P> ImmutableStack<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    public <P, R extends Collection<T>> R rejectWith(Predicate2<? super T, ? super P> predicate, P parameter, R targetCollection)
+    {
+        return this.asTopToBottom().rejectWith(predicate, parameter, targetCollection);
+    }
+
+    public PartitionImmutableStack<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionArrayStack<T> partitionMutableStack = new PartitionArrayStack<T>();
+        this.asTopToBottom().forEach(new PartitionArrayStack.PartitionProcedure<T>(predicate, partitionMutableStack));
+        return partitionMutableStack.toImmutable();
+    }
+
+    public <P> PartitionImmutableStack<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        PartitionArrayStack<T> partitionMutableStack = new PartitionArrayStack<T>();
+        this.asTopToBottom().forEach(new PartitionArrayStack.PartitionPredicate2Procedure<T, P>(predicate, parameter, partitionMutableStack));
+        return partitionMutableStack.toImmutable();
+    }
+
+    public <S> RichIterable<S> selectInstancesOf(Class<S> clazz)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().selectInstancesOf(clazz).toList());
+    }
+
+    public <V> ImmutableStack<V> collect(Function<? super T, ? extends V> function)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().collect(function));
+    }
+
+    public ImmutableBooleanStack collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return BooleanArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectBoolean(booleanFunction)).toImmutable();
+    }
+
+    public <R extends MutableBooleanCollection> R collectBoolean(BooleanFunction<? super T> booleanFunction, R target)
+    {
+        return this.asTopToBottom().collectBoolean(booleanFunction, target);
+    }
+
+    public ImmutableByteStack collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return ByteArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectByte(byteFunction)).toImmutable();
+    }
+
+    public <R extends MutableByteCollection> R collectByte(ByteFunction<? super T> byteFunction, R target)
+    {
+        return this.asTopToBottom().collectByte(byteFunction, target);
+    }
+
+    public ImmutableCharStack collectChar(CharFunction<? super T> charFunction)
+    {
+        return CharArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectChar(charFunction)).toImmutable();
+    }
+
+    public <R extends MutableCharCollection> R collectChar(CharFunction<? super T> charFunction, R target)
+    {
+        return this.asTopToBottom().collectChar(charFunction, target);
+    }
+
+    public ImmutableDoubleStack collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return DoubleArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectDouble(doubleFunction)).toImmutable();
+    }
+
+    public <R extends MutableDoubleCollection> R collectDouble(DoubleFunction<? super T> doubleFunction, R target)
+    {
+        return this.asTopToBottom().collectDouble(doubleFunction, target);
+    }
+
+    public ImmutableFloatStack collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return FloatArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectFloat(floatFunction)).toImmutable();
+    }
+
+    public <R extends MutableFloatCollection> R collectFloat(FloatFunction<? super T> floatFunction, R target)
+    {
+        return this.asTopToBottom().collectFloat(floatFunction, target);
+    }
+
+    public ImmutableIntStack collectInt(IntFunction<? super T> intFunction)
+    {
+        return IntArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectInt(intFunction)).toImmutable();
+    }
+
+    public <R extends MutableIntCollection> R collectInt(IntFunction<? super T> intFunction, R target)
+    {
+        return this.asTopToBottom().collectInt(intFunction, target);
+    }
+
+    public ImmutableLongStack collectLong(LongFunction<? super T> longFunction)
+    {
+        return LongArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectLong(longFunction)).toImmutable();
+    }
+
+    public <R extends MutableLongCollection> R collectLong(LongFunction<? super T> longFunction, R target)
+    {
+        return this.asTopToBottom().collectLong(longFunction, target);
+    }
+
+    public ImmutableShortStack collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return ShortArrayStack.newStackFromTopToBottom(this.asTopToBottom().collectShort(shortFunction)).toImmutable();
+    }
+
+    public <R extends MutableShortCollection> R collectShort(ShortFunction<? super T> shortFunction, R target)
+    {
+        return this.asTopToBottom().collectShort(shortFunction, target);
+    }
+
+    public <V, R extends Collection<V>> R collect(Function<? super T, ? extends V> function, R target)
+    {
+        return this.asTopToBottom().collect(function, target);
+    }
+
+    public <P, V> ImmutableStack<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().collectWith(function, parameter).toList());
+    }
+
+    public <P, V, R extends Collection<V>> R collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter, R targetCollection)
+    {
+        return this.asTopToBottom().collectWith(function, parameter, targetCollection);
+    }
+
+    public <V> ImmutableStack<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().collectIf(predicate, function).toList());
+    }
+
+    public <V, R extends Collection<V>> R collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function, R target)
+    {
+        return this.asTopToBottom().collectIf(predicate, function, target);
+    }
+
+    public <V> ImmutableStack<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().flatCollect(function).toList());
+    }
+
+    public <V, R extends Collection<V>> R flatCollect(Function<? super T, ? extends Iterable<V>> function, R target)
+    {
+        return this.asTopToBottom().flatCollect(function, target);
+    }
+
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.asTopToBottom().detect(predicate);
+    }
+
+    public <P> T detectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.asTopToBottom().detectWith(predicate, parameter);
+    }
+
+    public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
+    {
+        return this.asTopToBottom().detectIfNone(predicate, function);
+    }
+
+    public <P> T detectWithIfNone(Predicate2<? super T, ? super P> predicate, P parameter, Function0<? extends T> function)
+    {
+        return this.asTopToBottom().detectWithIfNone(predicate, parameter, function);
+    }
+
+    public int count(Predicate<? super T> predicate)
+    {
+        return this.asTopToBottom().count(predicate);
+    }
+
+    public <P> int countWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.asTopToBottom().countWith(predicate, parameter);
+    }
+
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.asTopToBottom().anySatisfy(predicate);
+    }
+
+    public <P> boolean anySatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.asTopToBottom().anySatisfyWith(predicate, parameter);
+    }
+
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.asTopToBottom().allSatisfy(predicate);
+    }
+
+    public <P> boolean allSatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.asTopToBottom().allSatisfyWith(predicate, parameter);
+    }
+
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.asTopToBottom().noneSatisfy(predicate);
+    }
+
+    public <P> boolean noneSatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.asTopToBottom().noneSatisfyWith(predicate, parameter);
+    }
+
+    public <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function)
+    {
+        return this.asTopToBottom().injectInto(injectedValue, function);
+    }
+
+    public int injectInto(int injectedValue, IntObjectToIntFunction<? super T> intObjectToIntFunction)
+    {
+        return this.asTopToBottom().injectInto(injectedValue, intObjectToIntFunction);
+    }
+
+    public long injectInto(long injectedValue, LongObjectToLongFunction<? super T> longObjectToLongFunction)
+    {
+        return this.asTopToBottom().injectInto(injectedValue, longObjectToLongFunction);
+    }
+
+    public double injectInto(double injectedValue, DoubleObjectToDoubleFunction<? super T> doubleObjectToDoubleFunction)
+    {
+        return this.asTopToBottom().injectInto(injectedValue, doubleObjectToDoubleFunction);
+    }
+
+    public float injectInto(float injectedValue, FloatObjectToFloatFunction<? super T> floatObjectToFloatFunction)
+    {
+        return this.asTopToBottom().injectInto(injectedValue, floatObjectToFloatFunction);
+    }
+
+    public MutableList<T> toList()
+    {
+        return this.asTopToBottom().toList();
+    }
+
+    public MutableList<T> toSortedList()
+    {
+        return this.asTopToBottom().toSortedList();
+    }
+
+    public MutableList<T> toSortedList(Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().toSortedList(comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().toSortedListBy(function);
+    }
+
+    public MutableSet<T> toSet()
+    {
+        return this.asTopToBottom().toSet();
+    }
+
+    public MutableSortedSet<T> toSortedSet()
+    {
+        return this.asTopToBottom().toSortedSet();
+    }
+
+    public MutableSortedSet<T> toSortedSet(Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().toSortedSet(comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableSortedSet<T> toSortedSetBy(Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().toSortedSetBy(function);
+    }
+
+    public MutableBag<T> toBag()
+    {
+        return this.asTopToBottom().toBag();
+    }
+
+    public MutableSortedBag<T> toSortedBag()
+    {
+        return this.asTopToBottom().toSortedBag();
+    }
+
+    public MutableSortedBag<T> toSortedBag(Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().toSortedBag(comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableSortedBag<T> toSortedBagBy(Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().toSortedBagBy(function);
+    }
+
+    public <NK, NV> MutableMap<NK, NV> toMap(Function<? super T, ? extends NK> keyFunction, Function<? super T, ? extends NV> valueFunction)
+    {
+        return this.asTopToBottom().toMap(keyFunction, valueFunction);
+    }
+
+    public <NK, NV> MutableSortedMap<NK, NV> toSortedMap(Function<? super T, ? extends NK> keyFunction, Function<? super T, ? extends NV> valueFunction)
+    {
+        return this.asTopToBottom().toSortedMap(keyFunction, valueFunction);
+    }
+
+    public <NK, NV> MutableSortedMap<NK, NV> toSortedMap(Comparator<? super NK> comparator, Function<? super T, ? extends NK> keyFunction, Function<? super T, ? extends NV> valueFunction)
+    {
+        return this.asTopToBottom().toSortedMap(comparator, keyFunction, valueFunction);
+    }
+
+    public LazyIterable<T> asLazy()
+    {
+        return LazyIterate.adapt(this);
+    }
+
+    public Object[] toArray()
+    {
+        return this.asTopToBottom().toArray();
+    }
+
+    public <T> T[] toArray(T[] a)
+    {
+        return this.asTopToBottom().toArray(a);
+    }
+
+    public T min(Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().min(comparator);
+    }
+
+    public T max(Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().max(comparator);
+    }
+
+    public T min()
+    {
+        return this.asTopToBottom().min();
+    }
+
+    public T max()
+    {
+        return this.asTopToBottom().max();
+    }
+
+    public <V extends Comparable<? super V>> T minBy(Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().toList().minBy(function);
+    }
+
+    public <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().maxBy(function);
+    }
+
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().topN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().topNBy(count, function);
+    }
+
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return this.asTopToBottom().bottomN(count, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return this.asTopToBottom().bottomNBy(count, function);
+    }
+
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        return this.asTopToBottom().summarizeInt(function);
+    }
+
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        return this.asTopToBottom().summarizeLong(function);
+    }
+
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        return this.asTopToBottom().summarizeDouble(function);
+    }
+
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.asTopToBottom().summarizeIntBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.asTopToBottom().summarizeLongBy(groupBy, function);
+    }
+
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.asTopToBottom().summarizeDoubleBy(groupBy, function);
+    }
+
+    public long sumOfInt(IntFunction<? super T> intFunction)
+    {
+        return this.asTopToBottom().sumOfInt(intFunction);
+    }
+
+    public double sumOfFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.asTopToBottom().sumOfFloat(floatFunction);
+    }
+
+    public long sumOfLong(LongFunction<? super T> longFunction)
+    {
+        return this.asTopToBottom().sumOfLong(longFunction);
+    }
+
+    public double sumOfDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.asTopToBottom().sumOfDouble(doubleFunction);
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        return this.asTopToBottom().sumByInt(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.asTopToBottom().sumByFloat(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        return this.asTopToBottom().sumByLong(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.asTopToBottom().sumByDouble(groupBy, function);
+    }
+
+    public String makeString()
+    {
+        return this.asTopToBottom().makeString();
+    }
+
+    public String makeString(String separator)
+    {
+        return this.asTopToBottom().makeString(separator);
+    }
+
+    public String makeString(String start, String separator, String end)
+    {
+        return this.asTopToBottom().makeString(start, separator, end);
+    }
+
+    public void appendString(Appendable appendable)
+    {
+        this.asTopToBottom().appendString(appendable);
+    }
+
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.asTopToBottom().appendString(appendable, separator);
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        this.asTopToBottom().appendString(appendable, start, separator, end);
+    }
+
+    public <V> ImmutableListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public <V, R extends MutableMultimap<V, T>> R groupBy(Function<? super T, ? extends V> function, R target)
+    {
+        return this.asTopToBottom().groupBy(function, target);
+    }
+
+    public <V> ImmutableListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public <V, R extends MutableMultimap<V, T>> R groupByEach(Function<? super T, ? extends Iterable<V>> function, R target)
+    {
+        return this.asTopToBottom().groupByEach(function, target);
+    }
+
+    public <V> ImmutableMap<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        return this.groupByUniqueKey(function, UnifiedMap.<V, T>newMap()).toImmutable();
+    }
+
+    public <V, R extends MutableMap<V, T>> R groupByUniqueKey(Function<? super T, ? extends V> function, R target)
+    {
+        return this.asTopToBottom().groupByUniqueKey(function, target);
+    }
+
+    public <S> ImmutableStack<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().zip(that).toList());
+    }
+
+    public <S, R extends Collection<Pair<T, S>>> R zip(Iterable<S> that, R target)
+    {
+        return this.asTopToBottom().zip(that, target);
+    }
+
+    public ImmutableStack<Pair<T, Integer>> zipWithIndex()
+    {
+        int maxIndex = this.size - 1;
+        Interval indicies = Interval.fromTo(0, maxIndex);
+
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.asTopToBottom().zip(indicies).toList());
+    }
+
+    public <R extends Collection<Pair<T, Integer>>> R zipWithIndex(R target)
+    {
+        return this.asTopToBottom().zipWithIndex(target);
+    }
+
+    public ImmutableStack<T> toImmutable()
+    {
+        return this;
+    }
+
+    public RichIterable<RichIterable<T>> chunk(int size)
+    {
+        return this.asTopToBottom().chunk(size);
+    }
+
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator)
+    {
+        MutableMap<K, V> map = UnifiedMap.newMap();
+        this.forEach(new MutatingAggregationProcedure<T, K, V>(map, groupBy, zeroValueFactory, mutatingAggregator));
+        return map;
+    }
+
+    public <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator)
+    {
+        MutableMap<K, V> map = UnifiedMap.newMap();
+        this.forEach(new NonMutatingAggregationProcedure<T, K, V>(map, groupBy, zeroValueFactory, nonMutatingAggregator));
+        return map;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    public ImmutableStack<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    public void forEach(Procedure<? super T> procedure)
+    {
+        this.each(procedure);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (ImmutableLinkedStack<T> node = this; node.size != 0; node = node.rest)
+        {
+            procedure.value(node.top);
+        }
+    }
+
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.asTopToBottom().forEachWithIndex(objectIntProcedure);
+    }
+
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.asTopToBottom().forEachWith(procedure, parameter);
+    }
+
+    public Iterator<T> iterator()
+    {
+        return this.asTopToBottom().iterator();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof StackIterable<?>))
+        {
+            return false;
+        }
+
+        StackIterable<?> that = (StackIterable<?>) o;
+
+        if (this.size != that.size())
+        {
+            return false;
+        }
+        Iterator<T> thisIterator = this.iterator();
+        Iterator<?> thatIterator = that.iterator();
+        while (thisIterator.hasNext() && thatIterator.hasNext())
+        {
+            if (!Comparators.nullSafeEquals(thisIterator.next(), thatIterator.next()))
+            {
+                return false;
+            }
+        }
+        return !thisIterator.hasNext() && !thatIterator.hasNext();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.asTopToBottom().makeString("[", ", ", "]");
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (T each : this)
+        {
+            hashCode = 31 * hashCode + (each == null ? 0 : each.hashCode());
+        }
+        return hashCode;
+    }
+
+    private static final class TopToBottomIterable<T>
+            extends AbstractLazyIterable<T>
+    {
+        private final ImmutableLinkedStack<T> stack;
+
+        private TopToBottomIterable(ImmutableLinkedStack<T> stack)
+        {
+            this.stack = stack;
+        }
+
+        public void each(Procedure<? super T> procedure)
+        {
+            this.stack.each(procedure);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.stack.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.stack.size == 0;
+        }
+
+        public Iterator<T> iterator()
+        {
+            return new TopToBottomIterator<T>(this.stack);
+        }
+    }
+
+    private static final class TopToBottomIterator<T> implements Iterator<T>
+    {
+        private ImmutableLinkedStack<T> next;
+
+        private TopToBottomIterator(ImmutableLinkedStack<T> stack)
+        {
+            this.next = stack;
+        }
+
+        public boolean hasNext()
+        {
+            return this.next.size != 0;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.next.top;
+            this.next = this.next.rest;
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableStackSerializationProxy<T>(this);
+    }
+
+    private static class ImmutableStackSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private StackIterable<T> stack;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableStackSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        protected ImmutableStackSerializationProxy(StackIterable<T> stack)
+        {
+            this.stack = stack;
+        }
+
+        public void writeExternal(final ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.stack.size());
+            try
+            {
+                this.stack.forEach(new CheckedProcedure<T>()
+                {
+                    public void safeValue(T object) throws IOException
+                    {
+                        out.writeObject(object);
+                    }
+                });
+            }
+            catch (RuntimeException e)
+            {
+                if (e.getCause() instanceof IOException)
+                {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            Object[] topToBottom = new Object[size];
+
+            for (int i = 0; i < size; i++)
+            {
+                topToBottom[i] = in.readObject();
+            }
+
+            this.stack = ImmutableLinkedStack.newStackFromTopToBottom((T[]) topToBottom);
+        }
+
+        protected Object readResolve()
+        {
+            return this.stack;
+        }
+    }
+}
+
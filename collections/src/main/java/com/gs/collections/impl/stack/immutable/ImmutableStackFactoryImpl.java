@@ -85,4 +85,14 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     {
         return ImmutableArrayStack.newStackFromTopToBottom(items);
     }
+
+    public <T> ImmutableStack<T> emptyPersistent()
+    {
+        return ImmutableLinkedStack.newStack();
+    }
+
+    public <T> ImmutableStack<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableLinkedStack.newStack(items);
+    }
 }
@@ -24,6 +24,9 @@
  *     <li>
  *          {@link com.gs.collections.impl.stack.immutable.ImmutableArrayStack} - an ImmutableStack backed by a FastList.
  *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.stack.immutable.ImmutableLinkedStack} - a persistent ImmutableStack of linked nodes shared between versions.
+ *     </li>
  * </ul>
  * <p>
  *     This package contains one factory implementation:
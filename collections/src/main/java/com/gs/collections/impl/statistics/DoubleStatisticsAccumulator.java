@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.statistics;
+
+import com.gs.collections.api.block.procedure.primitive.DoubleProcedure;
+import com.gs.collections.api.statistics.DoubleStatistics;
+
+/**
+ * A mutable accumulator of the count, sum, minimum and maximum of double values. The sum is compensated, as in
+ * {@code sumOfDouble}, and the minimum and maximum follow the order of {@link Double#compare(double, double)}.
+ * Accumulators of separate batches can be combined with {@link #merge(DoubleStatisticsAccumulator)}, and
+ * {@link #toStatistics()} takes an immutable snapshot.
+ *
+ * @since 7.0
+ */
+public final class DoubleStatisticsAccumulator implements DoubleProcedure
+{
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+    private double sum;
+    private double compensation;
+    private double min;
+    private double max;
+
+    public void value(double each)
+    {
+        if (this.count == 0L)
+        {
+            this.min = each;
+            this.max = each;
+        }
+        else
+        {
+            if (Double.compare(each, this.min) < 0)
+            {
+                this.min = each;
+            }
+            if (Double.compare(each, this.max) > 0)
+            {
+                this.max = each;
+            }
+        }
+        this.count++;
+        this.add(each);
+    }
+
+    public DoubleStatisticsAccumulator merge(DoubleStatisticsAccumulator other)
+    {
+        if (other.count == 0L)
+        {
+            return this;
+        }
+        if (this.count == 0L || Double.compare(other.min, this.min) < 0)
+        {
+            this.min = other.min;
+        }
+        if (this.count == 0L || Double.compare(other.max, this.max) > 0)
+        {
+            this.max = other.max;
+        }
+        this.count += other.count;
+        this.add(other.sum);
+        this.add(-other.compensation);
+        return this;
+    }
+
+    private void add(double value)
+    {
+        double adjustedValue = value - this.compensation;
+        double nextSum = this.sum + adjustedValue;
+        this.compensation = nextSum - this.sum - adjustedValue;
+        this.sum = nextSum;
+    }
+
+    public DoubleStatistics toStatistics()
+    {
+        return new ImmutableDoubleStatistics(this.count, this.sum, this.min, this.max);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.statistics;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.statistics.DoubleStatistics;
+
+final class ImmutableDoubleStatistics implements DoubleStatistics
+{
+    private static final long serialVersionUID = 1L;
+
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+
+    ImmutableDoubleStatistics(long count, double sum, double min, double max)
+    {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.count == 0L;
+    }
+
+    public double getSum()
+    {
+        return this.sum;
+    }
+
+    public double getMin()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.min;
+    }
+
+    public double getMax()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.max;
+    }
+
+    public double getAverage()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        return this.sum / (double) this.count;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof DoubleStatistics))
+        {
+            return false;
+        }
+        DoubleStatistics other = (DoubleStatistics) o;
+        if (this.count != other.getCount() || Double.compare(this.sum, other.getSum()) != 0)
+        {
+            return false;
+        }
+        return this.isEmpty()
+                || Double.compare(this.min, other.getMin()) == 0 && Double.compare(this.max, other.getMax()) == 0;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = (int) (this.count ^ (this.count >>> 32));
+        result = 31 * result + ImmutableDoubleStatistics.hashCode(this.sum);
+        result = 31 * result + ImmutableDoubleStatistics.hashCode(this.min);
+        result = 31 * result + ImmutableDoubleStatistics.hashCode(this.max);
+        return result;
+    }
+
+    private static int hashCode(double value)
+    {
+        long bits = Double.doubleToLongBits(value);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    @Override
+    public String toString()
+    {
+        if (this.isEmpty())
+        {
+            return "DoubleStatistics{count=0, sum=0.0}";
+        }
+        return "DoubleStatistics{count=" + this.count
+                + ", sum=" + this.sum
+                + ", min=" + this.min
+                + ", average=" + this.getAverage()
+                + ", max=" + this.max + '}';
+    }
+}
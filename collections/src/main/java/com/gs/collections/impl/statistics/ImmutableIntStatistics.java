@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.statistics;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.statistics.IntStatistics;
+
+final class ImmutableIntStatistics implements IntStatistics
+{
+    private static final long serialVersionUID = 1L;
+
+    private final long count;
+    private final long sum;
+    private final int min;
+    private final int max;
+
+    ImmutableIntStatistics(long count, long sum, int min, int max)
+    {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.count == 0L;
+    }
+
+    public long getSum()
+    {
+        return this.sum;
+    }
+
+    public int getMin()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.min;
+    }
+
+    public int getMax()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.max;
+    }
+
+    public double getAverage()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        return (double) this.sum / (double) this.count;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof IntStatistics))
+        {
+            return false;
+        }
+        IntStatistics other = (IntStatistics) o;
+        if (this.count != other.getCount() || this.sum != other.getSum())
+        {
+            return false;
+        }
+        return this.isEmpty() || this.min == other.getMin() && this.max == other.getMax();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = (int) (this.count ^ (this.count >>> 32));
+        result = 31 * result + (int) (this.sum ^ (this.sum >>> 32));
+        result = 31 * result + this.min;
+        result = 31 * result + this.max;
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (this.isEmpty())
+        {
+            return "IntStatistics{count=0, sum=0}";
+        }
+        return "IntStatistics{count=" + this.count
+                + ", sum=" + this.sum
+                + ", min=" + this.min
+                + ", average=" + this.getAverage()
+                + ", max=" + this.max + '}';
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.statistics;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.statistics.LongStatistics;
+
+final class ImmutableLongStatistics implements LongStatistics
+{
+    private static final long serialVersionUID = 1L;
+
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    ImmutableLongStatistics(long count, long sum, long min, long max)
+    {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.count == 0L;
+    }
+
+    public long getSum()
+    {
+        return this.sum;
+    }
+
+    public long getMin()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.min;
+    }
+
+    public long getMax()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.max;
+    }
+
+    public double getAverage()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        return (double) this.sum / (double) this.count;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof LongStatistics))
+        {
+            return false;
+        }
+        LongStatistics other = (LongStatistics) o;
+        if (this.count != other.getCount() || this.sum != other.getSum())
+        {
+            return false;
+        }
+        return this.isEmpty() || this.min == other.getMin() && this.max == other.getMax();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = (int) (this.count ^ (this.count >>> 32));
+        result = 31 * result + (int) (this.sum ^ (this.sum >>> 32));
+        result = 31 * result + (int) (this.min ^ (this.min >>> 32));
+        result = 31 * result + (int) (this.max ^ (this.max >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (this.isEmpty())
+        {
+            return "LongStatistics{count=0, sum=0}";
+        }
+        return "LongStatistics{count=" + this.count
+                + ", sum=" + this.sum
+                + ", min=" + this.min
+                + ", average=" + this.getAverage()
+                + ", max=" + this.max + '}';
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.statistics;
+
+import com.gs.collections.api.block.procedure.primitive.LongProcedure;
+import com.gs.collections.api.statistics.LongStatistics;
+
+/**
+ * A mutable accumulator of the count, sum, minimum and maximum of long values. Accumulators of separate batches can be
+ * combined with {@link #merge(LongStatisticsAccumulator)}, and {@link #toStatistics()} takes an immutable snapshot.
+ *
+ * @since 7.0
+ */
+public final class LongStatisticsAccumulator implements LongProcedure
+{
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public void value(long each)
+    {
+        this.count++;
+        this.sum += each;
+        if (each < this.min)
+        {
+            this.min = each;
+        }
+        if (each > this.max)
+        {
+            this.max = each;
+        }
+    }
+
+    public LongStatisticsAccumulator merge(LongStatisticsAccumulator other)
+    {
+        this.count += other.count;
+        this.sum += other.sum;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        return this;
+    }
+
+    public LongStatistics toStatistics()
+    {
+        return new ImmutableLongStatistics(this.count, this.sum, this.min, this.max);
+    }
+}
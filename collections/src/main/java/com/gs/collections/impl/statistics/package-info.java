@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains implementations of {@link com.gs.collections.api.statistics.IntStatistics},
+ * {@link com.gs.collections.api.statistics.LongStatistics} and {@link com.gs.collections.api.statistics.DoubleStatistics}.
+ * <p>
+ *     Each accumulator summarizes values one at a time, can be merged with the accumulator of another batch, and takes
+ *     an immutable snapshot of the statistics when done:
+ * <ul>
+ *     <li>
+ *          {@link com.gs.collections.impl.statistics.IntStatisticsAccumulator} - accumulates int values.
+ *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.statistics.LongStatisticsAccumulator} - accumulates long values.
+ *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.statistics.DoubleStatisticsAccumulator} - accumulates double values.
+ *     </li>
+ * </ul>
+ */
+package com.gs.collections.impl.statistics;
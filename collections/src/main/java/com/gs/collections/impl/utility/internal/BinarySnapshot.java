@@ -0,0 +1,550 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Reading and writing of the binary snapshot format used by the {@code writeSnapshot} and {@code readSnapshot} methods
+ * of the primitive collections. A snapshot is a 16 byte header (magic, version, kind and element types) followed by
+ * the internal arrays of the collection, written in bulk in little-endian byte order, so that loading a snapshot
+ * copies the arrays back without hashing any element again.
+ * <p>
+ * A {@link Reader} on a {@link FileChannel} maps the file in windows of up to 1GB instead of reading it through a
+ * buffer. Readers and writers are channels themselves, so a collection can write or read another one nested inside
+ * its own snapshot.
+ *
+ * @since 7.0
+ */
+public final class BinarySnapshot
+{
+    public static final int LIST = 1;
+    public static final int SET = 2;
+    public static final int BAG = 3;
+    public static final int MAP = 4;
+
+    private static final int MAGIC = 0x53435347;
+    private static final int VERSION = 1;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAXIMUM_WINDOW = 1L << 30;
+
+    private BinarySnapshot()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static Writer writer(WritableByteChannel channel)
+    {
+        return channel instanceof Writer ? (Writer) channel : new Writer(channel);
+    }
+
+    public static Reader reader(ReadableByteChannel channel) throws IOException
+    {
+        return channel instanceof Reader ? (Reader) channel : new Reader(channel, MAXIMUM_WINDOW);
+    }
+
+    // Exposed for testing
+    static Reader reader(ReadableByteChannel channel, long maximumWindow) throws IOException
+    {
+        return new Reader(channel, maximumWindow);
+    }
+
+    public static final class Writer implements WritableByteChannel
+    {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ORDER);
+
+        private Writer(WritableByteChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        public void writeHeader(int kind, int typeCode) throws IOException
+        {
+            this.writeInt(MAGIC);
+            this.writeInt(VERSION);
+            this.writeInt(kind);
+            this.writeInt(typeCode);
+        }
+
+        private void ensureSpace(int bytes) throws IOException
+        {
+            if (this.buffer.remaining() < bytes)
+            {
+                this.flush();
+            }
+        }
+
+        /**
+         * Writes out everything buffered so far.
+         */
+        public void flush() throws IOException
+        {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining())
+            {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        public void writeBoolean(boolean value) throws IOException
+        {
+            this.writeByte(value ? (byte) 1 : (byte) 0);
+        }
+
+        public void writeByte(byte value) throws IOException
+        {
+            this.ensureSpace(1);
+            this.buffer.put(value);
+        }
+
+        public void writeShort(short value) throws IOException
+        {
+            this.ensureSpace(2);
+            this.buffer.putShort(value);
+        }
+
+        public void writeChar(char value) throws IOException
+        {
+            this.ensureSpace(2);
+            this.buffer.putChar(value);
+        }
+
+        public void writeInt(int value) throws IOException
+        {
+            this.ensureSpace(4);
+            this.buffer.putInt(value);
+        }
+
+        public void writeLong(long value) throws IOException
+        {
+            this.ensureSpace(8);
+            this.buffer.putLong(value);
+        }
+
+        public void writeFloat(float value) throws IOException
+        {
+            this.ensureSpace(4);
+            this.buffer.putFloat(value);
+        }
+
+        public void writeDouble(double value) throws IOException
+        {
+            this.ensureSpace(8);
+            this.buffer.putDouble(value);
+        }
+
+        public void writeBytes(byte[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(1);
+                int count = Math.min(length - done, this.buffer.remaining());
+                this.buffer.put(array, done, count);
+                done += count;
+            }
+        }
+
+        public void writeShorts(short[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(2);
+                int count = Math.min(length - done, this.buffer.remaining() >> 1);
+                this.buffer.asShortBuffer().put(array, done, count);
+                this.buffer.position(this.buffer.position() + (count << 1));
+                done += count;
+            }
+        }
+
+        public void writeChars(char[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(2);
+                int count = Math.min(length - done, this.buffer.remaining() >> 1);
+                this.buffer.asCharBuffer().put(array, done, count);
+                this.buffer.position(this.buffer.position() + (count << 1));
+                done += count;
+            }
+        }
+
+        public void writeInts(int[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(4);
+                int count = Math.min(length - done, this.buffer.remaining() >> 2);
+                this.buffer.asIntBuffer().put(array, done, count);
+                this.buffer.position(this.buffer.position() + (count << 2));
+                done += count;
+            }
+        }
+
+        public void writeLongs(long[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(8);
+                int count = Math.min(length - done, this.buffer.remaining() >> 3);
+                this.buffer.asLongBuffer().put(array, done, count);
+                this.buffer.position(this.buffer.position() + (count << 3));
+                done += count;
+            }
+        }
+
+        public void writeFloats(float[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(4);
+                int count = Math.min(length - done, this.buffer.remaining() >> 2);
+                this.buffer.asFloatBuffer().put(array, done, count);
+                this.buffer.position(this.buffer.position() + (count << 2));
+                done += count;
+            }
+        }
+
+        public void writeDoubles(double[] array, int length) throws IOException
+        {
+            int done = 0;
+            while (done < length)
+            {
+                this.ensureSpace(8);
+                int count = Math.min(length - done, this.buffer.remaining() >> 3);
+                this.buffer.asDoubleBuffer().put(array, done, count);
+                this.buffer.position(this.buffer.position() + (count << 3));
+                done += count;
+            }
+        }
+
+        public int write(ByteBuffer source) throws IOException
+        {
+            this.flush();
+            return this.channel.write(source);
+        }
+
+        public boolean isOpen()
+        {
+            return this.channel.isOpen();
+        }
+
+        public void close() throws IOException
+        {
+            this.flush();
+            this.channel.close();
+        }
+    }
+
+    public static final class Reader implements ReadableByteChannel
+    {
+        private final ReadableByteChannel channel;
+        private final FileChannel fileChannel;
+        private final long maximumWindow;
+        private ByteBuffer buffer;
+        private long windowStart;
+
+        private Reader(ReadableByteChannel channel, long maximumWindow) throws IOException
+        {
+            this.channel = channel;
+            this.maximumWindow = maximumWindow;
+            if (channel instanceof FileChannel)
+            {
+                this.fileChannel = (FileChannel) channel;
+                this.windowStart = this.fileChannel.position();
+                this.buffer = ByteBuffer.allocate(0).order(ORDER);
+            }
+            else
+            {
+                this.fileChannel = null;
+                this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ORDER);
+                this.buffer.limit(0);
+            }
+        }
+
+        /**
+         * Reads a header and checks that it describes a snapshot of the expected kind and element types.
+         */
+        public void readHeader(int kind, int typeCode) throws IOException
+        {
+            if (this.readInt() != MAGIC)
+            {
+                throw new StreamCorruptedException("Not a binary snapshot");
+            }
+            int version = this.readInt();
+            if (version != VERSION)
+            {
+                throw new StreamCorruptedException("Unsupported binary snapshot version " + version);
+            }
+            int actualKind = this.readInt();
+            int actualTypeCode = this.readInt();
+            if (actualKind != kind || actualTypeCode != typeCode)
+            {
+                throw new StreamCorruptedException("Snapshot holds kind " + actualKind + " of types " + actualTypeCode + ", expected kind " + kind + " of types " + typeCode);
+            }
+        }
+
+        /**
+         * Ensures at least {@code bytes} bytes are available, fetching up to {@code wanted} bytes if they are not.
+         */
+        private void ensure(int bytes, long wanted) throws IOException
+        {
+            if (this.buffer.remaining() >= bytes)
+            {
+                return;
+            }
+            if (this.fileChannel != null)
+            {
+                long position = this.windowStart + this.buffer.position();
+                long size = Math.min(this.fileChannel.size() - position, this.maximumWindow);
+                if (size < bytes)
+                {
+                    throw new EOFException();
+                }
+                this.buffer = this.fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ORDER);
+                this.windowStart = position;
+                return;
+            }
+            this.buffer.compact();
+            this.buffer.limit((int) Math.min(this.buffer.capacity(), Math.max(bytes, wanted)));
+            while (this.buffer.position() < bytes)
+            {
+                if (this.channel.read(this.buffer) < 0)
+                {
+                    throw new EOFException();
+                }
+            }
+            this.buffer.flip();
+        }
+
+        /**
+         * Leaves a file channel positioned just after the bytes consumed so far, so that it can be read further.
+         */
+        public void finish() throws IOException
+        {
+            if (this.fileChannel != null)
+            {
+                this.fileChannel.position(this.windowStart + this.buffer.position());
+            }
+        }
+
+        public boolean readBoolean() throws IOException
+        {
+            return this.readByte() != 0;
+        }
+
+        public byte readByte() throws IOException
+        {
+            this.ensure(1, 1L);
+            return this.buffer.get();
+        }
+
+        public short readShort() throws IOException
+        {
+            this.ensure(2, 2L);
+            return this.buffer.getShort();
+        }
+
+        public char readChar() throws IOException
+        {
+            this.ensure(2, 2L);
+            return this.buffer.getChar();
+        }
+
+        public int readInt() throws IOException
+        {
+            this.ensure(4, 4L);
+            return this.buffer.getInt();
+        }
+
+        public long readLong() throws IOException
+        {
+            this.ensure(8, 8L);
+            return this.buffer.getLong();
+        }
+
+        public float readFloat() throws IOException
+        {
+            this.ensure(4, 4L);
+            return this.buffer.getFloat();
+        }
+
+        public double readDouble() throws IOException
+        {
+            this.ensure(8, 8L);
+            return this.buffer.getDouble();
+        }
+
+        public byte[] readBytes(int length) throws IOException
+        {
+            byte[] result = new byte[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(1, (long) (length - done));
+                int count = Math.min(length - done, this.buffer.remaining());
+                this.buffer.get(result, done, count);
+                done += count;
+            }
+            return result;
+        }
+
+        public short[] readShorts(int length) throws IOException
+        {
+            short[] result = new short[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(2, (long) (length - done) << 1);
+                int count = Math.min(length - done, this.buffer.remaining() >> 1);
+                this.buffer.asShortBuffer().get(result, done, count);
+                this.buffer.position(this.buffer.position() + (count << 1));
+                done += count;
+            }
+            return result;
+        }
+
+        public char[] readChars(int length) throws IOException
+        {
+            char[] result = new char[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(2, (long) (length - done) << 1);
+                int count = Math.min(length - done, this.buffer.remaining() >> 1);
+                this.buffer.asCharBuffer().get(result, done, count);
+                this.buffer.position(this.buffer.position() + (count << 1));
+                done += count;
+            }
+            return result;
+        }
+
+        public int[] readInts(int length) throws IOException
+        {
+            int[] result = new int[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(4, (long) (length - done) << 2);
+                int count = Math.min(length - done, this.buffer.remaining() >> 2);
+                this.buffer.asIntBuffer().get(result, done, count);
+                this.buffer.position(this.buffer.position() + (count << 2));
+                done += count;
+            }
+            return result;
+        }
+
+        public long[] readLongs(int length) throws IOException
+        {
+            long[] result = new long[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(8, (long) (length - done) << 3);
+                int count = Math.min(length - done, this.buffer.remaining() >> 3);
+                this.buffer.asLongBuffer().get(result, done, count);
+                this.buffer.position(this.buffer.position() + (count << 3));
+                done += count;
+            }
+            return result;
+        }
+
+        public float[] readFloats(int length) throws IOException
+        {
+            float[] result = new float[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(4, (long) (length - done) << 2);
+                int count = Math.min(length - done, this.buffer.remaining() >> 2);
+                this.buffer.asFloatBuffer().get(result, done, count);
+                this.buffer.position(this.buffer.position() + (count << 2));
+                done += count;
+            }
+            return result;
+        }
+
+        public double[] readDoubles(int length) throws IOException
+        {
+            double[] result = new double[length];
+            int done = 0;
+            while (done < length)
+            {
+                this.ensure(8, (long) (length - done) << 3);
+                int count = Math.min(length - done, this.buffer.remaining() >> 3);
+                this.buffer.asDoubleBuffer().get(result, done, count);
+                this.buffer.position(this.buffer.position() + (count << 3));
+                done += count;
+            }
+            return result;
+        }
+
+        public int read(ByteBuffer destination) throws IOException
+        {
+            if (!destination.hasRemaining())
+            {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining())
+            {
+                if (this.fileChannel == null)
+                {
+                    return this.channel.read(destination);
+                }
+                // Mapping never moves the file channel, so map the next window rather than reading the channel from
+                // wherever it was left
+                if (this.windowStart + this.buffer.position() >= this.fileChannel.size())
+                {
+                    return -1;
+                }
+                this.ensure(1, (long) destination.remaining());
+            }
+            int count = Math.min(destination.remaining(), this.buffer.remaining());
+            ByteBuffer slice = this.buffer.duplicate();
+            slice.limit(slice.position() + count);
+            destination.put(slice);
+            this.buffer.position(this.buffer.position() + count);
+            return count;
+        }
+
+        public boolean isOpen()
+        {
+            return this.channel.isOpen();
+        }
+
+        public void close() throws IOException
+        {
+            this.finish();
+            this.channel.close();
+        }
+    }
+}
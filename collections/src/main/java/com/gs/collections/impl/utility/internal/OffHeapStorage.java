@@ -0,0 +1,421 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import sun.misc.Unsafe;
+
+/**
+ * A block of memory outside of the java heap, addressed by {@code long} byte offsets. The memory is either allocated
+ * directly or mapped from a file, and is split into segments of at most 1GB so that a single block may exceed the
+ * 2GB limit of a {@link ByteBuffer}. Values are stored in native byte order and must be aligned to their own width.
+ * <p>
+ * The memory is returned to the operating system by {@link #close()} rather than waiting for the garbage collector.
+ * Any access after {@code close()} throws {@link IllegalStateException}.
+ *
+ * @since 7.0
+ */
+public final class OffHeapStorage implements Closeable
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1L;
+    private static final ByteBuffer[] NO_SEGMENTS = {};
+    private static final byte[] ZEROS = new byte[4096];
+    // Only set on Java 9 and later, where the buffer's own cleaner is no longer accessible
+    private static final Unsafe UNSAFE = OffHeapStorage.getUnsafeWithInvokeCleaner();
+    private static final Method INVOKE_CLEANER = OffHeapStorage.getInvokeCleaner();
+
+    private ByteBuffer[] segments;
+    private final long byteSize;
+    private final RandomAccessFile file;
+
+    private OffHeapStorage(ByteBuffer[] segments, long byteSize, RandomAccessFile file)
+    {
+        this.segments = segments;
+        this.byteSize = byteSize;
+        this.file = file;
+    }
+
+    /**
+     * Allocates {@code byteSize} bytes of zeroed direct memory.
+     */
+    public static OffHeapStorage allocateDirect(long byteSize)
+    {
+        if (byteSize < 0L)
+        {
+            throw new IllegalArgumentException("byteSize cannot be less than 0: " + byteSize);
+        }
+        ByteBuffer[] segments = new ByteBuffer[OffHeapStorage.segmentCount(byteSize)];
+        for (int i = 0; i < segments.length; i++)
+        {
+            segments[i] = ByteBuffer.allocateDirect(OffHeapStorage.segmentLength(byteSize, i)).order(ByteOrder.nativeOrder());
+        }
+        return new OffHeapStorage(segments, byteSize, null);
+    }
+
+    /**
+     * Maps {@code file} into memory, creating it if it does not exist and extending it with zeroes to at least
+     * {@code minimumByteSize} bytes. Existing contents are preserved.
+     */
+    public static OffHeapStorage map(File file, long minimumByteSize) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try
+        {
+            long byteSize = Math.max(randomAccessFile.length(), minimumByteSize);
+            return new OffHeapStorage(OffHeapStorage.mapSegments(randomAccessFile, byteSize), byteSize, randomAccessFile);
+        }
+        catch (IOException e)
+        {
+            randomAccessFile.close();
+            throw e;
+        }
+    }
+
+    private static ByteBuffer[] mapSegments(RandomAccessFile file, long byteSize) throws IOException
+    {
+        FileChannel channel = file.getChannel();
+        ByteBuffer[] segments = new ByteBuffer[OffHeapStorage.segmentCount(byteSize)];
+        for (int i = 0; i < segments.length; i++)
+        {
+            long position = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, OffHeapStorage.segmentLength(byteSize, i)).order(ByteOrder.nativeOrder());
+        }
+        return segments;
+    }
+
+    private static int segmentCount(long byteSize)
+    {
+        return (int) ((byteSize + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+    }
+
+    private static int segmentLength(long byteSize, int segment)
+    {
+        return (int) Math.min(SEGMENT_SIZE, byteSize - ((long) segment << SEGMENT_SHIFT));
+    }
+
+    public long byteSize()
+    {
+        return this.byteSize;
+    }
+
+    public boolean isMapped()
+    {
+        return this.file != null;
+    }
+
+    public boolean isClosed()
+    {
+        return this.segments == NO_SEGMENTS;
+    }
+
+    /**
+     * Returns storage of {@code newByteSize} bytes whose first {@code bytesToKeep} bytes are those of this storage,
+     * and releases this storage. Mapped storage remaps the same file and never shrinks it.
+     */
+    public OffHeapStorage reallocate(long newByteSize, long bytesToKeep)
+    {
+        this.checkOpen();
+        if (this.isMapped())
+        {
+            if (newByteSize <= this.byteSize)
+            {
+                return this;
+            }
+            OffHeapStorage.release(this.segments);
+            this.segments = NO_SEGMENTS;
+            try
+            {
+                return new OffHeapStorage(OffHeapStorage.mapSegments(this.file, newByteSize), newByteSize, this.file);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Could not remap file to " + newByteSize + " bytes", e);
+            }
+        }
+        OffHeapStorage result = OffHeapStorage.allocateDirect(newByteSize);
+        this.copyTo(0L, result, 0L, Math.min(bytesToKeep, newByteSize));
+        this.close();
+        return result;
+    }
+
+    /**
+     * Copies {@code length} bytes from this storage to {@code target}. The two ranges must not overlap.
+     */
+    public void copyTo(long offset, OffHeapStorage target, long targetOffset, long length)
+    {
+        this.checkOpen();
+        target.checkOpen();
+        long remaining = length;
+        long from = offset;
+        long to = targetOffset;
+        while (remaining > 0L)
+        {
+            ByteBuffer source = this.segments[(int) (from >>> SEGMENT_SHIFT)].duplicate();
+            ByteBuffer destination = target.segments[(int) (to >>> SEGMENT_SHIFT)].duplicate();
+            int sourcePosition = (int) (from & SEGMENT_MASK);
+            int destinationPosition = (int) (to & SEGMENT_MASK);
+            int chunk = (int) Math.min(remaining, Math.min(source.capacity() - sourcePosition, destination.capacity() - destinationPosition));
+            source.limit(sourcePosition + chunk).position(sourcePosition);
+            destination.position(destinationPosition);
+            destination.put(source);
+            remaining -= chunk;
+            from += chunk;
+            to += chunk;
+        }
+    }
+
+    public void zero(long offset, long length)
+    {
+        this.checkOpen();
+        long remaining = length;
+        long position = offset;
+        while (remaining > 0L)
+        {
+            ByteBuffer destination = this.segments[(int) (position >>> SEGMENT_SHIFT)].duplicate();
+            int destinationPosition = (int) (position & SEGMENT_MASK);
+            int chunk = (int) Math.min(remaining, Math.min(ZEROS.length, destination.capacity() - destinationPosition));
+            destination.position(destinationPosition);
+            destination.put(ZEROS, 0, chunk);
+            remaining -= chunk;
+            position += chunk;
+        }
+    }
+
+    private ByteBuffer segment(long offset)
+    {
+        this.checkOpen();
+        return this.segments[(int) (offset >>> SEGMENT_SHIFT)];
+    }
+
+    public byte getByte(long offset)
+    {
+        return this.segment(offset).get((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putByte(long offset, byte value)
+    {
+        this.segment(offset).put((int) (offset & SEGMENT_MASK), value);
+    }
+
+    public short getShort(long offset)
+    {
+        return this.segment(offset).getShort((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putShort(long offset, short value)
+    {
+        this.segment(offset).putShort((int) (offset & SEGMENT_MASK), value);
+    }
+
+    public char getChar(long offset)
+    {
+        return this.segment(offset).getChar((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putChar(long offset, char value)
+    {
+        this.segment(offset).putChar((int) (offset & SEGMENT_MASK), value);
+    }
+
+    public int getInt(long offset)
+    {
+        return this.segment(offset).getInt((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putInt(long offset, int value)
+    {
+        this.segment(offset).putInt((int) (offset & SEGMENT_MASK), value);
+    }
+
+    public long getLong(long offset)
+    {
+        return this.segment(offset).getLong((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putLong(long offset, long value)
+    {
+        this.segment(offset).putLong((int) (offset & SEGMENT_MASK), value);
+    }
+
+    public float getFloat(long offset)
+    {
+        return this.segment(offset).getFloat((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putFloat(long offset, float value)
+    {
+        this.segment(offset).putFloat((int) (offset & SEGMENT_MASK), value);
+    }
+
+    public double getDouble(long offset)
+    {
+        return this.segment(offset).getDouble((int) (offset & SEGMENT_MASK));
+    }
+
+    public void putDouble(long offset, double value)
+    {
+        this.segment(offset).putDouble((int) (offset & SEGMENT_MASK), value);
+    }
+
+    /**
+     * Writes any changes to mapped storage through to the file. Does nothing for direct storage.
+     */
+    public void force()
+    {
+        if (this.isMapped())
+        {
+            for (ByteBuffer segment : this.segments)
+            {
+                ((MappedByteBuffer) segment).force();
+            }
+        }
+    }
+
+    /**
+     * Releases the memory, flushing and closing the file first if the storage is mapped. Calling {@code close()} more
+     * than once has no effect.
+     */
+    public void close()
+    {
+        if (this.isClosed())
+        {
+            return;
+        }
+        this.force();
+        ByteBuffer[] released = this.segments;
+        this.segments = NO_SEGMENTS;
+        try
+        {
+            OffHeapStorage.release(released);
+        }
+        finally
+        {
+            if (this.isMapped())
+            {
+                try
+                {
+                    this.file.close();
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    private void checkOpen()
+    {
+        if (this.isClosed())
+        {
+            throw new IllegalStateException("Off-heap storage has been closed");
+        }
+    }
+
+    private static void release(ByteBuffer[] segments)
+    {
+        for (ByteBuffer segment : segments)
+        {
+            OffHeapStorage.clean(segment);
+        }
+    }
+
+    /**
+     * Frees the memory behind a direct or mapped buffer immediately, through {@code Unsafe.invokeCleaner()} on Java 9
+     * and later and through the buffer's own cleaner before that. Neither is part of the public api, so if both are
+     * out of reach this throws rather than leave the memory to the garbage collector behind the caller's back.
+     */
+    private static void clean(ByteBuffer buffer)
+    {
+        try
+        {
+            if (INVOKE_CLEANER != null)
+            {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                return;
+            }
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null)
+            {
+                Method cleanMethod = cleaner.getClass().getMethod("clean");
+                cleanMethod.setAccessible(true);
+                cleanMethod.invoke(cleaner);
+            }
+        }
+        catch (Exception e)
+        {
+            throw new IllegalStateException("Could not release off-heap memory", e);
+        }
+    }
+
+    private static Unsafe getUnsafeWithInvokeCleaner()
+    {
+        try
+        {
+            Unsafe.class.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        }
+        catch (NoSuchMethodException ignored)
+        {
+            return null;
+        }
+        catch (NoSuchFieldException ignored)
+        {
+            return null;
+        }
+        catch (IllegalAccessException ignored)
+        {
+            return null;
+        }
+        catch (SecurityException ignored)
+        {
+            return null;
+        }
+    }
+
+    private static Method getInvokeCleaner()
+    {
+        if (UNSAFE == null)
+        {
+            return null;
+        }
+        try
+        {
+            return Unsafe.class.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (NoSuchMethodException ignored)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import sun.misc.Unsafe;
+
+/**
+ * A {@link ReentrantReadWriteLock} that also supports optimistic reads, in the manner of a seqlock. A sequence number
+ * is incremented when the write lock is first acquired and again when it is finally released, so it is odd exactly
+ * while a writer holds the lock. A reader takes a stamp with {@link #tryOptimisticRead()}, reads without locking, and
+ * keeps the result only if {@link #validate(long)} shows that no writer ran in between. Unlike taking the read lock,
+ * none of this writes to shared memory, so readers on many cores do not contend.
+ * <p>
+ * Validation needs a load fence, and starting a write needs a store fence, which are only available from Java 8. On
+ * older runtimes no stamp ever validates, and callers simply fall back to the read lock.
+ * <p>
+ * An optimistic reader may see the guarded state half way through a write, so it must be prepared for its reads to
+ * throw or return nonsense, and must not act on anything it read before validating.
+ *
+ * @since 7.0
+ */
+public final class OptimisticReadWriteLock implements ReadWriteLock
+{
+    private static final long INVALID_STAMP = 1L;
+    private static final Unsafe UNSAFE = OptimisticReadWriteLock.getUnsafeWithLoadFence();
+
+    private final ReentrantReadWriteLock delegate = new ReentrantReadWriteLock();
+    private final Lock writeLock = new SequencedWriteLock();
+    // Odd while the write lock is held; only ever written by the writer
+    private volatile long sequence;
+
+    private static Unsafe getUnsafeWithLoadFence()
+    {
+        try
+        {
+            Unsafe.class.getMethod("loadFence");
+            Unsafe.class.getMethod("storeFence");
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        }
+        catch (NoSuchMethodException ignored)
+        {
+            return null;
+        }
+        catch (NoSuchFieldException ignored)
+        {
+            return null;
+        }
+        catch (IllegalAccessException ignored)
+        {
+            return null;
+        }
+        catch (SecurityException ignored)
+        {
+            return null;
+        }
+    }
+
+    public Lock readLock()
+    {
+        return this.delegate.readLock();
+    }
+
+    public Lock writeLock()
+    {
+        return this.writeLock;
+    }
+
+    /**
+     * Returns a stamp to pass to {@link #validate(long)} after an optimistic read. The stamp never validates if the
+     * write lock is held at the time of the call.
+     */
+    public long tryOptimisticRead()
+    {
+        return UNSAFE == null ? INVALID_STAMP : this.sequence;
+    }
+
+    /**
+     * Returns true if the write lock has not been held at any time since {@code stamp} was returned by
+     * {@link #tryOptimisticRead()}, so reads made in between saw a consistent state.
+     */
+    public boolean validate(long stamp)
+    {
+        if ((stamp & 1L) != 0L)
+        {
+            return false;
+        }
+        UNSAFE.loadFence();
+        return stamp == this.sequence;
+    }
+
+    private void beginWrite()
+    {
+        if (this.delegate.getWriteHoldCount() == 1)
+        {
+            this.sequence++;
+            if (UNSAFE != null)
+            {
+                // A volatile write only orders the stores before it, so without this fence the writer's data stores
+                // could become visible ahead of the odd sequence and a reader could validate a torn read
+                UNSAFE.storeFence();
+            }
+        }
+    }
+
+    private final class SequencedWriteLock implements Lock
+    {
+        private final Lock writeLock = OptimisticReadWriteLock.this.delegate.writeLock();
+
+        public void lock()
+        {
+            this.writeLock.lock();
+            OptimisticReadWriteLock.this.beginWrite();
+        }
+
+        public void lockInterruptibly() throws InterruptedException
+        {
+            this.writeLock.lockInterruptibly();
+            OptimisticReadWriteLock.this.beginWrite();
+        }
+
+        public boolean tryLock()
+        {
+            if (this.writeLock.tryLock())
+            {
+                OptimisticReadWriteLock.this.beginWrite();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            if (this.writeLock.tryLock(time, unit))
+            {
+                OptimisticReadWriteLock.this.beginWrite();
+                return true;
+            }
+            return false;
+        }
+
+        public void unlock()
+        {
+            if (OptimisticReadWriteLock.this.delegate.getWriteHoldCount() == 1)
+            {
+                OptimisticReadWriteLock.this.sequence++;
+            }
+            this.writeLock.unlock();
+        }
+
+        /**
+         * The sequence stays odd while a writer waits on the condition, so optimistic reads made meanwhile fall back to
+         * the read lock.
+         */
+        public Condition newCondition()
+        {
+            return this.writeLock.newCondition();
+        }
+    }
+}
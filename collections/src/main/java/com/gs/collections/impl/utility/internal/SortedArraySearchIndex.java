@@ -0,0 +1,214 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.Comparator;
+
+/**
+ * Point lookups over the sorted array behind an array backed immutable sorted collection. A plain binary search over
+ * a large array misses the cache on nearly every probe, because successive probes are far apart and differ from one
+ * lookup to the next. Arrays of at least {@link #INDEXED_SIZE} elements therefore get a small index holding every
+ * {@link #STRIDE}th element, laid out in Eytzinger (breadth first) order so the first probes of every lookup land on
+ * the same few cache lines. A lookup walks the index to find the stride holding the key and finishes with a binary
+ * search within that stride. The sorted array itself is left untouched, so in-order iteration is unaffected.
+ * <p>
+ * When there is no comparator the elements are compared with {@link Comparable#compareTo(Object)} directly, in a loop
+ * of their own, rather than through a comparator.
+ *
+ * @since 7.0
+ */
+public final class SortedArraySearchIndex<T>
+{
+    public static final int INDEXED_SIZE = 4096;
+    public static final int STRIDE = 16;
+
+    private final T[] array;
+    private final Comparator<? super T> comparator;
+    // Every STRIDEth element of array in Eytzinger order, 1-based, and the position of each within the sampled elements
+    private final Object[] fences;
+    private final int[] fencePositions;
+
+    private SortedArraySearchIndex(T[] array, Comparator<? super T> comparator, Object[] fences, int[] fencePositions)
+    {
+        this.array = array;
+        this.comparator = comparator;
+        this.fences = fences;
+        this.fencePositions = fencePositions;
+    }
+
+    /**
+     * Returns an index over {@code array}, which must be sorted by {@code comparator}, or by natural order if
+     * {@code comparator} is null, and must not be modified afterwards.
+     */
+    public static <T> SortedArraySearchIndex<T> of(T[] array, Comparator<? super T> comparator)
+    {
+        if (array.length < INDEXED_SIZE)
+        {
+            return new SortedArraySearchIndex<T>(array, comparator, null, null);
+        }
+        int fenceCount = (array.length + STRIDE - 1) / STRIDE;
+        Object[] fences = new Object[fenceCount + 1];
+        int[] fencePositions = new int[fenceCount + 1];
+        SortedArraySearchIndex.fill(array, fences, fencePositions, 0, 1);
+        return new SortedArraySearchIndex<T>(array, comparator, fences, fencePositions);
+    }
+
+    /**
+     * Fills the subtree rooted at {@code node} with the sampled elements from {@code position} on, in order, and
+     * returns the position of the next sampled element.
+     */
+    private static int fill(Object[] array, Object[] fences, int[] fencePositions, int position, int node)
+    {
+        if (node >= fences.length)
+        {
+            return position;
+        }
+        int next = SortedArraySearchIndex.fill(array, fences, fencePositions, position, 2 * node);
+        fences[node] = array[next * STRIDE];
+        fencePositions[node] = next;
+        return SortedArraySearchIndex.fill(array, fences, fencePositions, next + 1, 2 * node + 1);
+    }
+
+    public boolean isIndexed()
+    {
+        return this.fences != null;
+    }
+
+    /**
+     * Searches the array for {@code key}, with the same result as
+     * {@link java.util.Arrays#binarySearch(Object[], Object, Comparator)}.
+     */
+    public int binarySearch(T key)
+    {
+        if (this.fences == null)
+        {
+            return this.comparator == null
+                    ? SortedArraySearchIndex.binarySearchComparable(this.array, 0, this.array.length, key)
+                    : SortedArraySearchIndex.binarySearch(this.array, 0, this.array.length, key, this.comparator);
+        }
+        int fencesAtOrBelow = this.comparator == null ? this.countFencesAtOrBelowComparable(key) : this.countFencesAtOrBelow(key);
+        if (fencesAtOrBelow == 0)
+        {
+            return -1;
+        }
+        int from = (fencesAtOrBelow - 1) * STRIDE;
+        int to = Math.min(from + STRIDE, this.array.length);
+        return this.comparator == null
+                ? SortedArraySearchIndex.binarySearchComparable(this.array, from, to, key)
+                : SortedArraySearchIndex.binarySearch(this.array, from, to, key, this.comparator);
+    }
+
+    private int countFencesAtOrBelowComparable(T key)
+    {
+        Object[] localFences = this.fences;
+        int fenceCount = localFences.length - 1;
+        int node = 1;
+        while (node <= fenceCount)
+        {
+            // A branch rather than arithmetic lets the processor start loading the next fence before the comparison
+            // completes, which matters when comparing dereferences the keys
+            if (((Comparable<Object>) localFences[node]).compareTo(key) <= 0)
+            {
+                node = 2 * node + 1;
+            }
+            else
+            {
+                node = 2 * node;
+            }
+        }
+        return this.countFencesAtOrBelow(node);
+    }
+
+    private int countFencesAtOrBelow(T key)
+    {
+        Object[] localFences = this.fences;
+        Comparator<? super T> localComparator = this.comparator;
+        int fenceCount = localFences.length - 1;
+        int node = 1;
+        while (node <= fenceCount)
+        {
+            if (localComparator.compare((T) localFences[node], key) <= 0)
+            {
+                node = 2 * node + 1;
+            }
+            else
+            {
+                node = 2 * node;
+            }
+        }
+        return this.countFencesAtOrBelow(node);
+    }
+
+    /**
+     * Maps the node a descent ran off the tree at to the number of fences at or below the key. The descent went right
+     * at every fence at or below the key; stripping the trailing right turns and the last left turn leaves the first
+     * fence above the key, or zero if there is none.
+     */
+    private int countFencesAtOrBelow(int node)
+    {
+        int firstAbove = node >>> (Integer.numberOfTrailingZeros(~node) + 1);
+        return firstAbove == 0 ? this.fences.length - 1 : this.fencePositions[firstAbove];
+    }
+
+    private static <T> int binarySearchComparable(T[] array, int from, int to, T key)
+    {
+        int low = from;
+        int high = to - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int result = ((Comparable<Object>) array[middle]).compareTo(key);
+            if (result < 0)
+            {
+                low = middle + 1;
+            }
+            else if (result > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static <T> int binarySearch(T[] array, int from, int to, T key, Comparator<? super T> comparator)
+    {
+        int low = from;
+        int high = to - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0)
+            {
+                low = middle + 1;
+            }
+            else if (result > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -27,8 +27,10 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.set.Pool;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import com.gs.collections.impl.list.mutable.FastList;
@@ -402,6 +404,51 @@ public class AggregateByTest extends AbstractJMHTestRunner
         Verify.assertMapsEqual((Map<String, ImmutableMarketValueStatistics>) expected, (Map<String, ImmutableMarketValueStatistics>) actual);
     }
 
+    @Benchmark
+    public Map<Product, Long> countByProduct_serial_lazy_jdk()
+    {
+        return this.jdkPositions.stream().collect(Collectors.groupingBy(Position::getProduct, Collectors.counting()));
+    }
+
+    @Benchmark
+    public MutableBag<Product> countByProduct_serial_lazy_toBag_gsc()
+    {
+        return this.gscPositions.asLazy().collect(Position::getProduct).toBag();
+    }
+
+    @Benchmark
+    public ObjectIntMap<Product> countByProduct_serial_lazy_gsc()
+    {
+        return this.gscPositions.asLazy().countBy(Position::getProduct);
+    }
+
+    @Benchmark
+    public Map<Product, Long> countByProduct_parallel_lazy_jdk()
+    {
+        return this.jdkPositions.parallelStream().collect(Collectors.groupingBy(Position::getProduct, Collectors.counting()));
+    }
+
+    @Benchmark
+    public MapIterable<Product, Integer> countByProduct_parallel_lazy_aggregateBy_gsc()
+    {
+        return this.gscPositions.asParallel(this.executorService, BATCH_SIZE)
+                .aggregateBy(Position::getProduct, () -> 0, (count, position) -> count + 1);
+    }
+
+    @Benchmark
+    public ObjectIntMap<Product> countByProduct_parallel_lazy_gsc()
+    {
+        return this.gscPositions.asParallel(this.executorService, BATCH_SIZE).countBy(Position::getProduct);
+    }
+
+    @Test
+    public void test_countByProduct_parallel_lazy_gsc()
+    {
+        ObjectIntMap<Product> expected = this.countByProduct_serial_lazy_gsc();
+        Assert.assertEquals(expected, this.countByProduct_parallel_lazy_gsc());
+        Assert.assertEquals(SIZE, expected.sum());
+    }
+
     @Benchmark
     public MutableMap<Product, MarketValueStatistics> aggregateInPlaceByProduct_serial_eager_gsc()
     {
@@ -31,6 +31,7 @@ import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.ParallelIterate;
 import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.utility.LazyIterate;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -151,4 +152,33 @@ public class CollectTest extends AbstractJMHTestRunner
         MutableList<String> strings = this.integersGSC.asParallel(this.executorService, BATCH_SIZE).collect(Object::toString).toList();
         Verify.assertSize(SIZE, strings);
     }
+
+    @Benchmark
+    public void serial_lazy_collect_chain_jdk()
+    {
+        List<String> strings = this.integersJDK.stream().map(each -> each + 1).filter(each -> each % 2 == 0).map(Object::toString).collect(Collectors.toList());
+        Verify.assertSize(SIZE / 2, strings);
+    }
+
+    @Benchmark
+    public void serial_lazy_collect_chain_gsc()
+    {
+        MutableList<String> strings = this.integersGSC.asLazy().collect(each -> each + 1).collectIf(each -> each % 2 == 0, Object::toString).toList();
+        Verify.assertSize(SIZE / 2, strings);
+    }
+
+    @Benchmark
+    public void serial_lazy_collect_chain_unfused_gsc()
+    {
+        // An ArrayList source is not fused, so this runs the nested collect and select iterables
+        MutableList<String> strings = LazyIterate.adapt(this.integersJDK).collect(each -> each + 1).collectIf(each -> each % 2 == 0, Object::toString).toList();
+        Verify.assertSize(SIZE / 2, strings);
+    }
+
+    @Benchmark
+    public void serial_lazy_collect_chain_interval_gsc()
+    {
+        MutableList<String> strings = Interval.oneTo(SIZE).collect(each -> each + 1).collectIf(each -> each % 2 == 0, Object::toString).toList();
+        Verify.assertSize(SIZE / 2, strings);
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.impl.bag.mutable.ConcurrentHashBag;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.mutable.MultiReaderHashBag;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Multithreaded version of {@link BagAddAllTest}. Every thread adds batches of 1,000 items into one shared bag, with
+ * the batches drawn from about a million distinct keys, as when counting events from many threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentBagAddAllTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1000;
+    private static final int KEY_RANGE = 1 << 20;
+
+    @Param({"ConcurrentHashBag", "MultiReaderHashBag", "SynchronizedBag"})
+    public String type;
+
+    private MutableBag<Integer> bag;
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        if ("ConcurrentHashBag".equals(this.type))
+        {
+            this.bag = ConcurrentHashBag.newBag();
+        }
+        else if ("MultiReaderHashBag".equals(this.type))
+        {
+            this.bag = MultiReaderHashBag.newBag();
+        }
+        else
+        {
+            this.bag = HashBag.<Integer>newBag().asSynchronized();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState
+    {
+        private MutableBag<Integer>[] batches;
+        private int next;
+
+        @Setup
+        public void setUp(ThreadParams threadParams)
+        {
+            int batchCount = KEY_RANGE / SIZE;
+            this.batches = new MutableBag[batchCount];
+            for (int i = 0; i < batchCount; i++)
+            {
+                this.batches[i] = Interval.fromTo(i * SIZE, (i + 1) * SIZE - 1).toBag();
+            }
+            this.next = threadParams.getThreadIndex() * (batchCount / 64);
+        }
+    }
+
+    private void addAll(ThreadState state)
+    {
+        this.bag.addAll(state.batches[state.next % state.batches.length]);
+        state.next++;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void addAll_1_thread(ThreadState state)
+    {
+        this.addAll(state);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void addAll_2_threads(ThreadState state)
+    {
+        this.addAll(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void addAll_4_threads(ThreadState state)
+    {
+        this.addAll(state);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void addAll_8_threads(ThreadState state)
+    {
+        this.addAll(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void addAll_16_threads(ThreadState state)
+    {
+        this.addAll(state);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void addAll_32_threads(ThreadState state)
+    {
+        this.addAll(state);
+    }
+}
@@ -25,6 +25,9 @@ import com.google.common.collect.Multimaps;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.multimap.list.ConcurrentListMultimap;
+import com.gs.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import com.gs.collections.impl.parallel.ParallelIterate;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -133,6 +136,42 @@ public class GroupByListTest extends AbstractJMHTestRunner
         Assert.assertEquals(10_000, this.integersGSC.asLazy().groupBy(each -> each % 10_000).sizeDistinct());
     }
 
+    @Benchmark
+    public void groupBy_2_keys_parallel_eager_synchronized_put_gsc()
+    {
+        Assert.assertEquals(2, ParallelIterate.groupBy(this.integersGSC, each -> each % 2 == 0, SynchronizedPutFastListMultimap.<Object, Integer>newMultimap()).sizeDistinct());
+    }
+
+    @Benchmark
+    public void groupBy_2_keys_parallel_eager_concurrent_gsc()
+    {
+        Assert.assertEquals(2, ParallelIterate.groupBy(this.integersGSC, each -> each % 2 == 0, ConcurrentListMultimap.<Object, Integer>newMultimap()).sizeDistinct());
+    }
+
+    @Benchmark
+    public void groupBy_100_keys_parallel_eager_synchronized_put_gsc()
+    {
+        Assert.assertEquals(100, ParallelIterate.groupBy(this.integersGSC, each -> each % 100, SynchronizedPutFastListMultimap.<Object, Integer>newMultimap()).sizeDistinct());
+    }
+
+    @Benchmark
+    public void groupBy_100_keys_parallel_eager_concurrent_gsc()
+    {
+        Assert.assertEquals(100, ParallelIterate.groupBy(this.integersGSC, each -> each % 100, ConcurrentListMultimap.<Object, Integer>newMultimap()).sizeDistinct());
+    }
+
+    @Benchmark
+    public void groupBy_10000_keys_parallel_eager_synchronized_put_gsc()
+    {
+        Assert.assertEquals(10_000, ParallelIterate.groupBy(this.integersGSC, each -> each % 10_000, SynchronizedPutFastListMultimap.<Object, Integer>newMultimap()).sizeDistinct());
+    }
+
+    @Benchmark
+    public void groupBy_10000_keys_parallel_eager_concurrent_gsc()
+    {
+        Assert.assertEquals(10_000, ParallelIterate.groupBy(this.integersGSC, each -> each % 10_000, ConcurrentListMultimap.<Object, Integer>newMultimap()).sizeDistinct());
+    }
+
     @Benchmark
     public void groupBy_2_keys_serial_eager_scala()
     {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares a single incremental update of a large immutable collection using the copy-on-write implementations
+ * returned by {@code withAll} and the persistent implementations returned by {@code withAllPersistent}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableNewWithTest extends AbstractJMHTestRunner
+{
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private ImmutableList<Integer> copyOnWriteList;
+    private ImmutableList<Integer> persistentList;
+    private ImmutableSet<Integer> copyOnWriteSet;
+    private ImmutableSet<Integer> persistentSet;
+    private ImmutableMap<Integer, Integer> copyOnWriteMap;
+    private ImmutableMap<Integer, Integer> persistentMap;
+    private int next;
+
+    @Setup
+    public void setUp()
+    {
+        Interval interval = Interval.zeroTo(this.size - 1);
+        this.copyOnWriteList = Lists.immutable.withAll(interval);
+        this.persistentList = Lists.immutable.withAllPersistent(interval);
+        this.copyOnWriteSet = Sets.immutable.withAll(interval);
+        this.persistentSet = Sets.immutable.withAllPersistent(interval);
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap(this.size);
+        interval.each(each -> map.put(each, each));
+        this.copyOnWriteMap = Maps.immutable.withAll(map);
+        this.persistentMap = Maps.immutable.withAllPersistent(map);
+    }
+
+    private Integer nextKey()
+    {
+        this.next = (this.next + 1) % (this.size << 1);
+        return this.next;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> list_newWith_copyOnWrite()
+    {
+        return this.copyOnWriteList.newWith(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> list_newWith_persistent()
+    {
+        return this.persistentList.newWith(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> set_newWith_copyOnWrite()
+    {
+        return this.copyOnWriteSet.newWith(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> set_newWith_persistent()
+    {
+        return this.persistentSet.newWith(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> set_newWithout_copyOnWrite()
+    {
+        return this.copyOnWriteSet.newWithout(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> set_newWithout_persistent()
+    {
+        return this.persistentSet.newWithout(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> map_newWithKeyValue_copyOnWrite()
+    {
+        Integer key = this.nextKey();
+        return this.copyOnWriteMap.newWithKeyValue(key, key);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> map_newWithKeyValue_persistent()
+    {
+        Integer key = this.nextKey();
+        return this.persistentMap.newWithKeyValue(key, key);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> map_newWithoutKey_copyOnWrite()
+    {
+        return this.copyOnWriteMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> map_newWithoutKey_persistent()
+    {
+        return this.persistentMap.newWithoutKey(this.nextKey());
+    }
+}
@@ -29,6 +29,7 @@ import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.utility.LazyIterate;
 import org.junit.Assert;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -44,6 +45,8 @@ public class SelectTest extends AbstractJMHTestRunner
 {
     private static final int SIZE = 1_000_000;
     private static final int BATCH_SIZE = 10_000;
+    private static final int TAKE_COUNT = 1_000;
+    private static final long CHAIN_SUM = FastList.newList(Interval.oneTo(SIZE)).select(each -> each % 2 == 0).collect(each -> each * 3).select(each -> each % 5 != 0).sumOfInt(each -> each);
     private final ExecutorService service = ParallelIterate.newPooledExecutor(SelectTest.class.getSimpleName(), true);
     private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
     private final FastList<Integer> integersGSC = FastList.newList(Interval.oneTo(SIZE));
@@ -104,4 +107,60 @@ public class SelectTest extends AbstractJMHTestRunner
         MutableList<Integer> evens = parallelListIterable.select(each -> each % 2 == 0).toList();
         Assert.assertEquals(SIZE / 2, evens.size());
     }
+
+    @Benchmark
+    public void serial_lazy_chain_jdk()
+    {
+        long sum = this.integersJDK.stream().filter(each -> each % 2 == 0).map(each -> each * 3).filter(each -> each % 5 != 0).mapToLong(each -> each).sum();
+        Assert.assertEquals(CHAIN_SUM, sum);
+    }
+
+    @Benchmark
+    public void serial_lazy_chain_gsc()
+    {
+        long sum = this.integersGSC.asLazy().select(each -> each % 2 == 0).collect(each -> each * 3).select(each -> each % 5 != 0).sumOfInt(each -> each);
+        Assert.assertEquals(CHAIN_SUM, sum);
+    }
+
+    @Benchmark
+    public void serial_lazy_chain_unfused_gsc()
+    {
+        // An ArrayList source is not fused, so this runs the nested select and collect iterables
+        long sum = LazyIterate.adapt(this.integersJDK).select(each -> each % 2 == 0).collect(each -> each * 3).select(each -> each % 5 != 0).sumOfInt(each -> each);
+        Assert.assertEquals(CHAIN_SUM, sum);
+    }
+
+    @Benchmark
+    public void serial_chain_hand_written()
+    {
+        FastList<Integer> integers = this.integersGSC;
+        long sum = 0L;
+        for (int i = 0; i < integers.size(); i++)
+        {
+            Integer each = integers.get(i);
+            if (each % 2 == 0)
+            {
+                Integer tripled = each * 3;
+                if (tripled % 5 != 0)
+                {
+                    sum += tripled;
+                }
+            }
+        }
+        Assert.assertEquals(CHAIN_SUM, sum);
+    }
+
+    @Benchmark
+    public void serial_lazy_take_jdk()
+    {
+        List<Integer> firstEvens = this.integersJDK.stream().filter(each -> each % 2 == 0).limit(TAKE_COUNT).collect(Collectors.toList());
+        Assert.assertEquals(TAKE_COUNT, firstEvens.size());
+    }
+
+    @Benchmark
+    public void serial_lazy_take_gsc()
+    {
+        MutableList<Integer> firstEvens = this.integersGSC.asLazy().select(each -> each % 2 == 0).take(TAKE_COUNT).toList();
+        Assert.assertEquals(TAKE_COUNT, firstEvens.size());
+    }
 }
@@ -17,6 +17,8 @@
 package com.gs.collections.impl.jmh;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -27,22 +29,45 @@ import com.gs.collections.impl.jmh.domain.Positions;
 import com.gs.collections.impl.jmh.domain.Product;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import com.gs.collections.impl.parallel.ParallelIterate;
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 @State(Scope.Thread)
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.SECONDS)
 public class SumByDoubleTest extends AbstractJMHTestRunner
 {
+    private static final int BATCH_SIZE = 10_000;
+
     private final Positions positions = new Positions().shuffle();
 
+    private ExecutorService executorService;
+
+    @Before
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @After
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
     @Benchmark
     public Map<Product, Double> sumByProduct_serial_lazy_jdk()
     {
@@ -163,6 +188,12 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         return ParallelIterate.sumByDouble(this.positions.getGscPositions(), Position::getProduct, Position::getMarketValue);
     }
 
+    @Benchmark
+    public ObjectDoubleMap<Product> sumByProduct_parallel_lazy_gsc()
+    {
+        return this.positions.getGscPositions().asParallel(this.executorService, BATCH_SIZE).sumByDouble(Position::getProduct, Position::getMarketValue);
+    }
+
     @Test
     public void sumByProduct_gsc()
     {
@@ -173,6 +204,10 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         Assert.assertEquals(
                 this.sumByProduct_parallel_eager_gsc(),
                 this.sumByProduct_serial_eager_gsc());
+        Assert.assertArrayEquals(
+                this.sumByProduct_parallel_lazy_gsc().values().toSortedArray(),
+                this.sumByProduct_serial_eager_gsc().values().toSortedArray(),
+                0.001);
     }
 
     @Benchmark
@@ -187,6 +222,12 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         return ParallelIterate.sumByDouble(this.positions.getGscPositions(), Position::getAccount, Position::getMarketValue);
     }
 
+    @Benchmark
+    public ObjectDoubleMap<Account> sumByAccount_parallel_lazy_gsc()
+    {
+        return this.positions.getGscPositions().asParallel(this.executorService, BATCH_SIZE).sumByDouble(Position::getAccount, Position::getMarketValue);
+    }
+
     @Test
     public void sumByAccount_gsc()
     {
@@ -197,6 +238,10 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         Assert.assertEquals(
                 this.sumByAccount_parallel_eager_gsc(),
                 this.sumByAccount_serial_eager_gsc());
+        Assert.assertArrayEquals(
+                this.sumByAccount_parallel_lazy_gsc().values().toSortedArray(),
+                this.sumByAccount_serial_eager_gsc().values().toSortedArray(),
+                0.001);
     }
 
     @Benchmark
@@ -211,6 +256,12 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         return ParallelIterate.sumByDouble(this.positions.getGscPositions(), Position::getCategory, Position::getMarketValue);
     }
 
+    @Benchmark
+    public ObjectDoubleMap<String> sumByCategory_parallel_lazy_gsc()
+    {
+        return this.positions.getGscPositions().asParallel(this.executorService, BATCH_SIZE).sumByDouble(Position::getCategory, Position::getMarketValue);
+    }
+
     @Test
     public void sumByCategory_gsc()
     {
@@ -221,5 +272,9 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         Assert.assertEquals(
                 this.sumByCategory_parallel_eager_gsc(),
                 this.sumByCategory_serial_eager_gsc());
+        Assert.assertArrayEquals(
+                this.sumByCategory_parallel_lazy_gsc().values().toSortedArray(),
+                this.sumByCategory_serial_eager_gsc().values().toSortedArray(),
+                0.001);
     }
 }
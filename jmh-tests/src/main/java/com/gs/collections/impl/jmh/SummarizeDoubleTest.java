@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares computing count, sum, min, max and average with five separate passes against the single pass done by
+ * summarizeDouble.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SummarizeDoubleTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 3_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final Stream<Double> DOUBLES = new Random().doubles(1.0d, 100.0d).boxed();
+
+    private final List<Double> doublesJDK = DOUBLES.limit(SIZE).collect(Collectors.toList());
+    private final MutableList<Double> doublesGSC = FastList.newListWith(this.doublesJDK.toArray(new Double[SIZE]));
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics serial_lazy_summaryStatistics_jdk()
+    {
+        return this.doublesJDK.stream().mapToDouble(each -> each).summaryStatistics();
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics parallel_lazy_summaryStatistics_jdk()
+    {
+        return this.doublesJDK.parallelStream().mapToDouble(each -> each).summaryStatistics();
+    }
+
+    @Benchmark
+    public double serial_eager_fivePasses_gsc()
+    {
+        long count = this.doublesGSC.size();
+        double sum = this.doublesGSC.sumOfDouble(Double::doubleValue);
+        double min = this.doublesGSC.minBy(Double::doubleValue);
+        double max = this.doublesGSC.maxBy(Double::doubleValue);
+        double average = this.doublesGSC.collectDouble(Double::doubleValue).average();
+        return count + sum + min + max + average;
+    }
+
+    @Benchmark
+    public DoubleStatistics serial_eager_summarizeDouble_gsc()
+    {
+        return this.doublesGSC.summarizeDouble(Double::doubleValue);
+    }
+
+    @Benchmark
+    public DoubleStatistics serial_lazy_summaryStatistics_gsc()
+    {
+        return this.doublesGSC.asLazy().collectDouble(Double::doubleValue).summaryStatistics();
+    }
+
+    @Benchmark
+    public double parallel_lazy_fivePasses_gsc()
+    {
+        ParallelIterable<Double> parallel = this.doublesGSC.asParallel(this.executorService, BATCH_SIZE);
+        long count = parallel.count(each -> true);
+        double sum = parallel.sumOfDouble(Double::doubleValue);
+        double min = parallel.minBy(Double::doubleValue);
+        double max = parallel.maxBy(Double::doubleValue);
+        double average = parallel.sumOfDouble(Double::doubleValue) / parallel.count(each -> true);
+        return count + sum + min + max + average;
+    }
+
+    @Benchmark
+    public DoubleStatistics parallel_lazy_summarizeDouble_gsc()
+    {
+        return this.doublesGSC.asParallel(this.executorService, BATCH_SIZE).summarizeDouble(Double::doubleValue);
+    }
+}
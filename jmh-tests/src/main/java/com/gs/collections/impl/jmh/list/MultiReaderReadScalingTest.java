@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.list;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.MultiReaderFastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Measures read throughput on a shared, read-mostly reference list as the number of threads grows from 1 to 64. Each
+ * read is a size(), get(int) and contains(Object), the queries MultiReaderFastList answers with optimistic reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MultiReaderReadScalingTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 64;
+
+    @Param({"MultiReaderFastList", "SynchronizedFastList"})
+    public String type;
+
+    private MutableList<Integer> list;
+
+    @Setup
+    public void setUp()
+    {
+        if ("MultiReaderFastList".equals(this.type))
+        {
+            this.list = MultiReaderFastList.newList(Interval.zeroTo(SIZE - 1));
+        }
+        else
+        {
+            this.list = FastList.newList(Interval.zeroTo(SIZE - 1)).asSynchronized();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState
+    {
+        private int next;
+
+        @Setup
+        public void setUp(ThreadParams threadParams)
+        {
+            this.next = threadParams.getThreadIndex();
+        }
+    }
+
+    private boolean read(ThreadState state)
+    {
+        int index = state.next++ & (SIZE - 1);
+        return this.list.size() == SIZE && this.list.get(index) == index && this.list.contains(index);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean read_1_thread(ThreadState state)
+    {
+        return this.read(state);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean read_2_threads(ThreadState state)
+    {
+        return this.read(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean read_4_threads(ThreadState state)
+    {
+        return this.read(state);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean read_8_threads(ThreadState state)
+    {
+        return this.read(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean read_16_threads(ThreadState state)
+    {
+        return this.read(state);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean read_32_threads(ThreadState state)
+    {
+        return this.read(state);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean read_64_threads(ThreadState state)
+    {
+        return this.read(state);
+    }
+}
@@ -26,6 +26,7 @@ import com.carrotsearch.hppc.ObjectObjectHashMap;
 import com.carrotsearch.hppc.ObjectObjectMap;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.OpenAddressingMap;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import org.apache.commons.lang.RandomStringUtils;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -89,6 +90,26 @@ public class ChainMapPutTest extends AbstractJMHTestRunner
         return gsc;
     }
 
+    @Benchmark
+    public MutableMap<String, String> gscOpenAddressing()
+    {
+        int localSize = this.size;
+        float localLoadFactor = this.loadFactor;
+        String[] localElements = this.elements;
+        /**
+         * @see OpenAddressingMap#DEFAULT_INITIAL_CAPACITY
+         */
+        int defaultInitialCapacity = 16;
+
+        MutableMap<String, String> gsc = this.isPresized ? OpenAddressingMap.newMap(localSize, localLoadFactor) : OpenAddressingMap.newMap(defaultInitialCapacity, localLoadFactor);
+
+        for (int i = 0; i < localSize; i++)
+        {
+            gsc.put(localElements[i], "dummy");
+        }
+        return gsc;
+    }
+
     @Benchmark
     public ObjectObjectMap<String, String> hppc()
     {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.ConcurrentMutableMap;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Measures put throughput of the concurrent maps as the number of writer threads grows from 1 to 64, which is
+ * dominated by contention on the size counter once the table itself is large enough.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentHashMapPutTest extends AbstractJMHTestRunner
+{
+    private static final int KEY_RANGE = 1 << 20;
+
+    @Param({"ConcurrentHashMap", "ConcurrentHashMapUnsafe"})
+    public String type;
+
+    private ConcurrentMutableMap<Integer, Boolean> map;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = new Integer[KEY_RANGE];
+        for (int i = 0; i < KEY_RANGE; i++)
+        {
+            this.keys[i] = i;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        this.map = "ConcurrentHashMap".equals(this.type)
+                ? ConcurrentHashMap.<Integer, Boolean>newMap()
+                : ConcurrentHashMapUnsafe.<Integer, Boolean>newMap();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState
+    {
+        private int next;
+
+        @Setup
+        public void setUp(ThreadParams threadParams)
+        {
+            // spread the threads over the key range so that each thread mostly adds new keys
+            this.next = threadParams.getThreadIndex() * (KEY_RANGE / 64);
+        }
+    }
+
+    private Boolean put(ThreadState state)
+    {
+        Boolean result = this.map.put(this.keys[state.next & (KEY_RANGE - 1)], Boolean.TRUE);
+        state.next++;
+        return result;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Boolean put_1_thread(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Boolean put_2_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Boolean put_4_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Boolean put_8_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Boolean put_16_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Boolean put_32_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Boolean put_64_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+}
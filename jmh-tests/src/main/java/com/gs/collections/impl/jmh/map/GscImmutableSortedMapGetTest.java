@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.sorted.ImmutableSortedMap;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.api.set.sorted.ImmutableSortedSet;
+import com.gs.collections.impl.factory.SortedSets;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.apache.commons.lang.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The {@link GscImmutableMapGetTest} lookups against the array backed
+ * {@link com.gs.collections.impl.map.sorted.immutable.ImmutableTreeMap} and
+ * {@link ImmutableSortedSet}, with and without a comparator, plus an in-order iteration to show that the search index
+ * does not slow it down.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GscImmutableSortedMapGetTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+    private static final Comparator<String> COMPARATOR = new Comparator<String>()
+    {
+        public int compare(String o1, String o2)
+        {
+            return o1.compareTo(o2);
+        }
+    };
+
+    @Param({"1000", "250000", "1000000", "5000000", "10000000"})
+    public int size;
+    private String[] elements;
+    private ImmutableSortedMap<String, String> gscMap;
+    private ImmutableSortedMap<String, String> gscMapWithComparator;
+    private ImmutableSortedSet<String> gscSet;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+
+        this.elements = new String[this.size];
+        MutableSortedMap<String, String> map = TreeSortedMap.newMap();
+        MutableSortedMap<String, String> mapWithComparator = TreeSortedMap.newMap(COMPARATOR);
+
+        for (int i = 0; i < this.size; i++)
+        {
+            String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.elements[i] = element;
+            map.put(element, "dummy");
+            mapWithComparator.put(element, "dummy");
+        }
+
+        this.gscMap = map.toImmutable();
+        this.gscMapWithComparator = mapWithComparator.toImmutable();
+        this.gscSet = SortedSets.immutable.withAll(map.keySet());
+    }
+
+    @Benchmark
+    public void get()
+    {
+        this.get(this.gscMap);
+    }
+
+    @Benchmark
+    public void get_comparator()
+    {
+        this.get(this.gscMapWithComparator);
+    }
+
+    @Benchmark
+    public void contains_set()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+        ImmutableSortedSet<String> localGscSet = this.gscSet;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (!localGscSet.contains(localElements[i]))
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public int forEachKeyValue()
+    {
+        final int[] count = new int[1];
+        this.gscMap.forEachKeyValue(new Procedure2<String, String>()
+        {
+            public void value(String key, String value)
+            {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    private void get(ImmutableSortedMap<String, String> map)
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (map.get(localElements[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+}
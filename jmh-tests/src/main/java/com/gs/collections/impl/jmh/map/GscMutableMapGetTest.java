@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.OpenAddressingMap;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import org.apache.commons.lang.RandomStringUtils;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -46,6 +47,7 @@ public class GscMutableMapGetTest extends AbstractJMHTestRunner
     public int size;
     private String[] elements;
     private MutableMap<String, String> gscMap;
+    private MutableMap<String, String> openAddressingMap;
 
     @Setup
     public void setUp()
@@ -54,12 +56,14 @@ public class GscMutableMapGetTest extends AbstractJMHTestRunner
 
         this.elements = new String[this.size];
         this.gscMap = UnifiedMap.newMap(this.size);
+        this.openAddressingMap = OpenAddressingMap.newMap(this.size);
 
         for (int i = 0; i < this.size; i++)
         {
             String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
             this.elements[i] = element;
             this.gscMap.put(element, "dummy");
+            this.openAddressingMap.put(element, "dummy");
         }
     }
 
@@ -78,4 +82,20 @@ public class GscMutableMapGetTest extends AbstractJMHTestRunner
             }
         }
     }
+
+    @Benchmark
+    public void getOpenAddressing()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+        MutableMap<String, String> localOpenAddressingMap = this.openAddressingMap;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (localOpenAddressingMap.get(localElements[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map.sorted;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.sorted.mutable.BTreeSortedMap;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares point lookups, inserts and range scans on the B+ tree backed {@link BTreeSortedMap} with the
+ * {@link java.util.TreeMap} backed {@link TreeSortedMap}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortedMapTest extends AbstractJMHTestRunner
+{
+    private static final int RANGE_WIDTH = 1000;
+    private static final int RANGE_SCANS = 100;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    private Long[] keys;
+    private Long[] sortedKeys;
+    private MutableSortedMap<Long, Long> treeSortedMap;
+    private MutableSortedMap<Long, Long> bTreeSortedMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+        this.keys = new Long[this.size];
+        this.treeSortedMap = TreeSortedMap.newMap();
+        this.bTreeSortedMap = BTreeSortedMap.newMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            Long key = random.nextLong();
+            this.keys[i] = key;
+            this.treeSortedMap.put(key, key);
+            this.bTreeSortedMap.put(key, key);
+        }
+        this.sortedKeys = this.keys.clone();
+        Arrays.sort(this.sortedKeys);
+    }
+
+    @Benchmark
+    public void get_treeSortedMap()
+    {
+        this.get(this.treeSortedMap);
+    }
+
+    @Benchmark
+    public void get_bTreeSortedMap()
+    {
+        this.get(this.bTreeSortedMap);
+    }
+
+    @Benchmark
+    public MutableSortedMap<Long, Long> put_treeSortedMap()
+    {
+        return this.put(TreeSortedMap.<Long, Long>newMap());
+    }
+
+    @Benchmark
+    public MutableSortedMap<Long, Long> put_bTreeSortedMap()
+    {
+        return this.put(BTreeSortedMap.<Long, Long>newMap());
+    }
+
+    @Benchmark
+    public MutableSortedMap<Long, Long> putAscending_treeSortedMap()
+    {
+        return this.putAscending(TreeSortedMap.<Long, Long>newMap());
+    }
+
+    @Benchmark
+    public MutableSortedMap<Long, Long> putAscending_bTreeSortedMap()
+    {
+        return this.putAscending(BTreeSortedMap.<Long, Long>newMap());
+    }
+
+    @Benchmark
+    public long rangeScan_treeSortedMap()
+    {
+        return this.rangeScan(this.treeSortedMap);
+    }
+
+    @Benchmark
+    public long rangeScan_bTreeSortedMap()
+    {
+        return this.rangeScan(this.bTreeSortedMap);
+    }
+
+    private void get(MutableSortedMap<Long, Long> map)
+    {
+        int localSize = this.size;
+        Long[] localKeys = this.keys;
+        for (int i = 0; i < localSize; i++)
+        {
+            if (map.get(localKeys[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    private MutableSortedMap<Long, Long> put(MutableSortedMap<Long, Long> map)
+    {
+        int localSize = this.size;
+        Long[] localKeys = this.keys;
+        for (int i = 0; i < localSize; i++)
+        {
+            map.put(localKeys[i], localKeys[i]);
+        }
+        return map;
+    }
+
+    private MutableSortedMap<Long, Long> putAscending(MutableSortedMap<Long, Long> map)
+    {
+        int localSize = this.size;
+        for (long i = 0; i < localSize; i++)
+        {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    private long rangeScan(MutableSortedMap<Long, Long> map)
+    {
+        final long[] sum = new long[1];
+        Procedure2<Long, Long> procedure = new Procedure2<Long, Long>()
+        {
+            public void value(Long key, Long value)
+            {
+                sum[0] += value;
+            }
+        };
+        Long[] localSortedKeys = this.sortedKeys;
+        int step = (this.size - RANGE_WIDTH) / RANGE_SCANS;
+        for (int i = 0; i < RANGE_SCANS; i++)
+        {
+            int from = i * step;
+            map.subMap(localSortedKeys[from], localSortedKeys[from + RANGE_WIDTH]).forEachKeyValue(procedure);
+        }
+        return sum[0];
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.multimap;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import org.apache.commons.lang.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares lookups and full iteration of the default ImmutableListMultimap with the compact one returned by
+ * {@link FastListMultimap#toImmutableCompact()}, for keys with 1 to 3 values each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableListMultimapGetTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"250000", "1000000", "4000000"})
+    public int size;
+
+    @Param({"ImmutableListMultimapImpl", "ImmutableCompactListMultimap"})
+    public String type;
+
+    private String[] elements;
+    private ImmutableListMultimap<String, Integer> multimap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+
+        this.elements = new String[this.size];
+        FastListMultimap<String, Integer> mutableMultimap = FastListMultimap.newMultimap();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.elements[i] = element;
+            int valueCount = 1 + random.nextInt(3);
+            for (int j = 0; j < valueCount; j++)
+            {
+                mutableMultimap.put(element, j);
+            }
+        }
+
+        this.multimap = "ImmutableListMultimapImpl".equals(this.type)
+                ? mutableMultimap.toImmutable()
+                : mutableMultimap.toImmutableCompact();
+    }
+
+    @Benchmark
+    public long get()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+        ImmutableListMultimap<String, Integer> localMultimap = this.multimap;
+
+        long sum = 0L;
+        for (int i = 0; i < localSize; i++)
+        {
+            sum += localMultimap.get(localElements[i]).getFirst();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachKeyValue()
+    {
+        final long[] sum = new long[1];
+        this.multimap.forEachKeyValue((key, value) -> sum[0] += value);
+        return sum[0];
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.set;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.set.Pool;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.set.mutable.ConcurrentPool;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Measures interning throughput as the number of threads grows from 1 to 64. Every thread interns its own copies of the
+ * same strings, so after warm up almost every put is a hit, as when deduplicating the fields of parsed records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentPoolPutTest extends AbstractJMHTestRunner
+{
+    private static final int KEY_RANGE = 1 << 16;
+
+    @Param({"ConcurrentPool", "WeakConcurrentPool", "SynchronizedUnifiedSet"})
+    public String type;
+
+    private Pool<String> pool;
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        if ("ConcurrentPool".equals(this.type))
+        {
+            this.pool = ConcurrentPool.newPool();
+        }
+        else if ("WeakConcurrentPool".equals(this.type))
+        {
+            this.pool = ConcurrentPool.newWeakPool();
+        }
+        else
+        {
+            this.pool = new SynchronizedPool<String>(UnifiedSet.<String>newSet());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState
+    {
+        private String[] keys;
+        private int next;
+
+        @Setup
+        public void setUp(ThreadParams threadParams)
+        {
+            this.keys = new String[KEY_RANGE];
+            for (int i = 0; i < KEY_RANGE; i++)
+            {
+                this.keys[i] = String.valueOf(i);
+            }
+            this.next = threadParams.getThreadIndex() * (KEY_RANGE / 64);
+        }
+    }
+
+    private String put(ThreadState state)
+    {
+        String result = this.pool.put(state.keys[state.next & (KEY_RANGE - 1)]);
+        state.next++;
+        return result;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String put_1_thread(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String put_2_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String put_4_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String put_8_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String put_16_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String put_32_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String put_64_threads(ThreadState state)
+    {
+        return this.put(state);
+    }
+
+    private static final class SynchronizedPool<V> implements Pool<V>
+    {
+        private final UnifiedSet<V> delegate;
+
+        private SynchronizedPool(UnifiedSet<V> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized V get(V key)
+        {
+            return this.delegate.get(key);
+        }
+
+        @Override
+        public synchronized void clear()
+        {
+            this.delegate.clear();
+        }
+
+        @Override
+        public synchronized V put(V key)
+        {
+            return this.delegate.put(key);
+        }
+
+        @Override
+        public synchronized int size()
+        {
+            return this.delegate.size();
+        }
+
+        @Override
+        public synchronized V removeFromPool(V key)
+        {
+            return this.delegate.removeFromPool(key);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import org.junit.Test;
@@ -78,6 +79,8 @@ public class ListMemoryTest
         //immutable
         MemoryTestBench.on(com.gs.collections.api.list.ImmutableList.class)
                 .printContainerMemoryUsage("ListAdd", size, new SizedImmutableGscListFactory(size));
+        MemoryTestBench.on(com.gs.collections.api.list.ImmutableList.class, "Persistent")
+                .printContainerMemoryUsage("ListAdd", size, new SizedPersistentGscListFactory(size));
         MemoryTestBench.on(ImmutableList.class)
                 .printContainerMemoryUsage("ListAdd", size, new SizedImmutableGuavaListFactory(size));
         MemoryTestBench.on(scala.collection.immutable.List.class)
@@ -230,6 +233,22 @@ public class ListMemoryTest
         }
     }
 
+    private static final class SizedPersistentGscListFactory implements Function0<com.gs.collections.api.list.ImmutableList<String>>
+    {
+        private final int size;
+
+        private SizedPersistentGscListFactory(int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        public com.gs.collections.api.list.ImmutableList<String> value()
+        {
+            return Lists.immutable.withAllPersistent(Collections.nCopies(this.size, "dummy"));
+        }
+    }
+
     private static final class SizedImmutableGuavaListFactory implements Function0<ImmutableList<String>>
     {
         private final int size;
@@ -24,6 +24,7 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import org.junit.Test;
@@ -69,6 +70,8 @@ public abstract class AbstractImmutableMapMemoryTest
                 .printContainerMemoryUsage(this.getTestType(), size, new SizedUnmodifiableHashMapFactory(size));
         MemoryTestBench.on(com.gs.collections.api.map.ImmutableMap.class)
                 .printContainerMemoryUsage(this.getTestType(), size, new SizedImmutableGscMapFactory(size));
+        MemoryTestBench.on(com.gs.collections.api.map.ImmutableMap.class, "Persistent")
+                .printContainerMemoryUsage(this.getTestType(), size, new SizedPersistentGscMapFactory(size));
         MemoryTestBench.on(com.google.common.collect.ImmutableMap.class)
                 .printContainerMemoryUsage(this.getTestType(), size, new SizedImmutableGuavaMapFactory(size));
     }
@@ -94,6 +97,27 @@ public abstract class AbstractImmutableMapMemoryTest
         }
     }
 
+    private final class SizedPersistentGscMapFactory implements Function0<com.gs.collections.api.map.ImmutableMap<? extends Object, String>>
+    {
+        private final int size;
+
+        private SizedPersistentGscMapFactory(int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        public com.gs.collections.api.map.ImmutableMap<? extends Object, String> value()
+        {
+            com.gs.collections.api.map.ImmutableMap<Object, String> map = Maps.immutable.emptyPersistent();
+            for (int i = 0; i < this.size; i++)
+            {
+                map = map.newWithKeyValue(AbstractImmutableMapMemoryTest.this.getKeyFactory().valueOf(i), "dummy");
+            }
+            return map;
+        }
+    }
+
     private final class SizedImmutableGuavaMapFactory implements Function0<com.google.common.collect.ImmutableMap<? extends Object, String>>
     {
         private final int size;
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.map;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.map.sorted.mutable.BTreeSortedMap;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SortedMapMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(SortedMapMemoryTest.class);
+
+    @Test
+    public void memoryForScaledSortedMaps()
+    {
+        LOGGER.info("Comparing Items: JDK {}, GSC {}, GSC {}",
+                TreeMap.class.getSimpleName(),
+                TreeSortedMap.class.getSimpleName(),
+                BTreeSortedMap.class.getSimpleName());
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledSortedMaps(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    private void memoryForScaledSortedMaps(int size)
+    {
+        this.memoryForScaledSortedMaps(size, "_random", TestDataFactory.createRandomImmutableList(size));
+        this.memoryForScaledSortedMaps(size, "_ascending", TestDataFactory.createImmutableList(size));
+    }
+
+    private void memoryForScaledSortedMaps(int size, String suffix, ImmutableList<Integer> data)
+    {
+        MemoryTestBench.on(TreeMap.class, suffix)
+                .printContainerMemoryUsage("SortedMap", size, new TreeMapFactory(data));
+        MemoryTestBench.on(TreeSortedMap.class, suffix)
+                .printContainerMemoryUsage("SortedMap", size, new TreeSortedMapFactory(data));
+        MemoryTestBench.on(BTreeSortedMap.class, suffix)
+                .printContainerMemoryUsage("SortedMap", size, new BTreeSortedMapFactory(data));
+    }
+
+    public abstract static class SortedMapFactory
+    {
+        protected final ImmutableList<Integer> data;
+
+        protected SortedMapFactory(ImmutableList<Integer> data)
+        {
+            this.data = data;
+        }
+
+        protected <R extends Map<Integer, String>> R fill(final R map)
+        {
+            this.data.forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    map.put(each, "dummy");
+                }
+            });
+            return map;
+        }
+    }
+
+    private static final class TreeMapFactory
+            extends SortedMapFactory
+            implements Function0<TreeMap<Integer, String>>
+    {
+        private TreeMapFactory(ImmutableList<Integer> data)
+        {
+            super(data);
+        }
+
+        @Override
+        public TreeMap<Integer, String> value()
+        {
+            return this.fill(new TreeMap<Integer, String>());
+        }
+    }
+
+    private static final class TreeSortedMapFactory
+            extends SortedMapFactory
+            implements Function0<TreeSortedMap<Integer, String>>
+    {
+        private TreeSortedMapFactory(ImmutableList<Integer> data)
+        {
+            super(data);
+        }
+
+        @Override
+        public TreeSortedMap<Integer, String> value()
+        {
+            return this.fill(new TreeSortedMap<Integer, String>());
+        }
+    }
+
+    private static final class BTreeSortedMapFactory
+            extends SortedMapFactory
+            implements Function0<BTreeSortedMap<Integer, String>>
+    {
+        private BTreeSortedMapFactory(ImmutableList<Integer> data)
+        {
+            super(data);
+        }
+
+        @Override
+        public BTreeSortedMap<Integer, String> value()
+        {
+            return this.fill(new BTreeSortedMap<Integer, String>());
+        }
+    }
+}
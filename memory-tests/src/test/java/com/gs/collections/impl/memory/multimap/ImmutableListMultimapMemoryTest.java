@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.multimap;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.multimap.list.ImmutableCompactListMultimap;
+import com.gs.collections.impl.multimap.list.ImmutableListMultimapImpl;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ImmutableListMultimapMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImmutableListMultimapMemoryTest.class);
+
+    @Test
+    public void memoryForScaledMultimaps()
+    {
+        LOGGER.info("Comparing Items: GSC {}, GSC {}",
+                ImmutableListMultimapImpl.class.getSimpleName(),
+                ImmutableCompactListMultimap.class.getSimpleName());
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledMultimaps(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    public void memoryForScaledMultimaps(int size)
+    {
+        MemoryTestBench.on(ImmutableListMultimapImpl.class)
+                .printContainerMemoryUsage("ImmutableListMultimap", size, new SizedImmutableMultimapFactory(size, false));
+        MemoryTestBench.on(ImmutableCompactListMultimap.class)
+                .printContainerMemoryUsage("ImmutableListMultimap", size, new SizedImmutableMultimapFactory(size, true));
+    }
+
+    public static class SizedImmutableMultimapFactory
+            implements Function0<ImmutableListMultimap<Integer, String>>
+    {
+        private final ImmutableList<Integer> data;
+        private final boolean compact;
+
+        public SizedImmutableMultimapFactory(int size, boolean compact)
+        {
+            this.data = TestDataFactory.createRandomImmutableList(size);
+            this.compact = compact;
+        }
+
+        @Override
+        public ImmutableListMultimap<Integer, String> value()
+        {
+            final FastListMultimap<Integer, String> mm = FastListMultimap.newMultimap();
+            this.data.forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    // between 1 and 3 values per key
+                    for (int j = 0; j <= (each & Integer.MAX_VALUE) % 3; j++)
+                    {
+                        mm.put(each, "dummy");
+                    }
+                }
+            });
+            return this.compact ? mm.toImmutableCompact() : mm.toImmutable();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import org.junit.Test;
@@ -69,6 +70,8 @@ public abstract class AbstractImmutableSetMemoryTest
                 .printContainerMemoryUsage(this.getTestType(), size, new SizedUnmodifiableHashSetFactory(size));
         MemoryTestBench.on(com.gs.collections.api.set.ImmutableSet.class)
                 .printContainerMemoryUsage(this.getTestType(), size, new SizedImmutableGscSetFactory(size));
+        MemoryTestBench.on(com.gs.collections.api.set.ImmutableSet.class, "Persistent")
+                .printContainerMemoryUsage(this.getTestType(), size, new SizedPersistentGscSetFactory(size));
         MemoryTestBench.on(ImmutableSet.class)
                 .printContainerMemoryUsage(this.getTestType(), size, new SizedImmutableGuavaSetFactory(size));
     }
@@ -94,6 +97,27 @@ public abstract class AbstractImmutableSetMemoryTest
         }
     }
 
+    private final class SizedPersistentGscSetFactory implements Function0<com.gs.collections.api.set.ImmutableSet<Object>>
+    {
+        private final int size;
+
+        private SizedPersistentGscSetFactory(int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        public com.gs.collections.api.set.ImmutableSet<Object> value()
+        {
+            com.gs.collections.api.set.ImmutableSet<Object> set = Sets.immutable.emptyPersistent();
+            for (int i = 0; i < this.size; i++)
+            {
+                set = set.newWith(AbstractImmutableSetMemoryTest.this.getKeyFactory().valueOf(i));
+            }
+            return set;
+        }
+    }
+
     private final class SizedImmutableGuavaSetFactory implements Function0<ImmutableSet<Object>>
     {
         private final int size;
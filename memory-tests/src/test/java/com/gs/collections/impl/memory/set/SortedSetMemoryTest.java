@@ -26,6 +26,7 @@ import com.gs.collections.api.set.sorted.ImmutableSortedSet;
 import com.gs.collections.api.set.sorted.SortedSetIterable;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import com.gs.collections.impl.memory.TestDataFactory;
+import com.gs.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -41,11 +42,12 @@ public class SortedSetMemoryTest
     @Test
     public void memoryForScaledSets()
     {
-        LOGGER.info("Comparing Items: Scala {}, Scala {}, JDK {}, GSC {}, GSC {}",
+        LOGGER.info("Comparing Items: Scala {}, Scala {}, JDK {}, GSC {}, GSC {}, GSC {}",
                 scala.collection.mutable.TreeSet.class.getSimpleName(),
                 scala.collection.immutable.TreeSet.class.getSimpleName(),
                 TreeSet.class.getSimpleName(),
                 TreeSortedSet.class.getSimpleName(),
+                BTreeSortedSet.class.getSimpleName(),
                 ImmutableSortedSet.class.getSimpleName());
         for (int size = 0; size < 1000001; size += 25000)
         {
@@ -60,6 +62,7 @@ public class SortedSetMemoryTest
         MemoryTestBench.on(scala.collection.immutable.TreeSet.class).printContainerMemoryUsage("Set", size, new ScalaImmutableTreeSetFactory(size));
         MemoryTestBench.on(TreeSet.class).printContainerMemoryUsage("Set", size, new TreeSetFactory(size));
         MemoryTestBench.on(TreeSortedSet.class).printContainerMemoryUsage("Set", size, new GscMutableSortedSetFactory(size));
+        MemoryTestBench.on(BTreeSortedSet.class).printContainerMemoryUsage("Set", size, new GscBTreeSortedSetFactory(size));
         MemoryTestBench.on(ImmutableSortedSet.class).printContainerMemoryUsage("Set", size, new GscImmutableTreeSetFactory(size));
     }
 
@@ -167,6 +170,22 @@ public class SortedSetMemoryTest
         }
     }
 
+    private static final class GscBTreeSortedSetFactory
+            extends SizedSetFactory
+            implements Function0<BTreeSortedSet<Integer>>
+    {
+        private GscBTreeSortedSetFactory(int size)
+        {
+            super(size);
+        }
+
+        @Override
+        public BTreeSortedSet<Integer> value()
+        {
+            return this.fill(new BTreeSortedSet<Integer>());
+        }
+    }
+
     private static final class GscImmutableTreeSetFactory
             extends SizedSetFactory
             implements Function0<SortedSetIterable<Integer>>
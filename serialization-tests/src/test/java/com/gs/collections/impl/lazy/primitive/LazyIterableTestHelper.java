@@ -64,6 +64,7 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
@@ -71,6 +72,9 @@ import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.test.Verify;
 
@@ -509,6 +513,78 @@ public class LazyIterableTestHelper<T> implements LazyIterable<T>
         return null;
     }
 
+    @Override
+    public MutableList<T> topN(int count, Comparator<? super T> comparator)
+    {
+        return null;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableList<T> topNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
+    @Override
+    public MutableList<T> bottomN(int count, Comparator<? super T> comparator)
+    {
+        return null;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableList<T> bottomNBy(int count, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
+    @Override
+    public IntStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public LongStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public DoubleStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public <V> MapIterable<V, IntStatistics> summarizeIntBy(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public <V> MapIterable<V, LongStatistics> summarizeLongBy(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public <V> MapIterable<V, DoubleStatistics> summarizeDoubleBy(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return null;
+    }
+
+    @Override
+    public <V> ObjectIntMap<V> countBy(Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
+    @Override
+    public <V> ObjectIntMap<V> countByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return null;
+    }
+
     @Override
     public long sumOfInt(IntFunction<? super T> function)
     {
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2011 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.list.immutable;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableTrieListSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADhjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5saXN0LmltbXV0YWJsZS5JbW11dGFibGVU\n"
+                        + "cmllTGlzdAAAAAAAAAABAgAESQAFc2hpZnRJAARzaXplWwAEcm9vdHQAE1tMamF2YS9sYW5nL09i\n"
+                        + "amVjdDtbAAR0YWlscQB+AAF4cAAAAAUAAAADdXIAE1tMamF2YS5sYW5nLk9iamVjdDuQzlifEHMp\n"
+                        + "bAIAAHhwAAAAIHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwdXEAfgADAAAAA3NyABFq\n"
+                        + "YXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoas\n"
+                        + "lR0LlOCLAgAAeHAAAAABc3EAfgAGAAAAAnNxAH4ABgAAAAM=",
+                ImmutableTrieList.newListWith(1, 2, 3));
+    }
+}
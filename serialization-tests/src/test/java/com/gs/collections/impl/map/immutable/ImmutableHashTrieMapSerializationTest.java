@@ -0,0 +1,40 @@
+/*
+ * Copyright 2011 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableHashTrieMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLkltbXV0YWJsZUhh\n"
+                        + "c2hUcmllTWFwAAAAAAAAAAECAAJJAARzaXplTAAEcm9vdHQARUxjb20vZ3MvY29sbGVjdGlvbnMv\n"
+                        + "aW1wbC9tYXAvaW1tdXRhYmxlL0ltbXV0YWJsZUhhc2hUcmllTWFwJFRyaWVOb2RlO3hwAAAAAnNy\n"
+                        + "AEVjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLkltbXV0YWJsZUhhc2hUcmll\n"
+                        + "TWFwJEJpdG1hcE5vZGUAAAAAAAAAAQIAA0kACGVudHJ5TWFwSQAHbm9kZU1hcFsACGNvbnRlbnRz\n"
+                        + "dAATW0xqYXZhL2xhbmcvT2JqZWN0O3hyAENjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1t\n"
+                        + "dXRhYmxlLkltbXV0YWJsZUhhc2hUcmllTWFwJFRyaWVOb2RlAAAAAAAAAAECAAB4cAAAAAYAAAAA\n"
+                        + "dXIAE1tMamF2YS5sYW5nLk9iamVjdDuQzlifEHMpbAIAAHhwAAAABHNyABFqYXZhLmxhbmcuSW50\n"
+                        + "ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAA\n"
+                        + "AAABcQB+AAtzcQB+AAkAAAACcQB+AAw=",
+                ImmutableHashTrieMap.<Integer, Integer>empty().newWithKeyValue(1, 1).newWithKeyValue(2, 2));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable.primitive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntIntHashMapSnapshotTest
+{
+    private static final String SNAPSHOT_FORM = "R1NDUwEAAAAEAAAARAAAAAEAAAAAAAAAAQABAAAAAAAAAAgAAAAgAAAAIQAAAAAAAAAAAAAAAAAA"
+            + "AAAAAAAAAAAAAAAAAA==";
+
+    @Test
+    public void snapshotForm() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IntIntHashMap.newWithKeysValues(0, 1, 32, 33).writeSnapshot(Channels.newChannel(bytes));
+        Assert.assertEquals(SNAPSHOT_FORM, Base64.encodeBase64String(bytes.toByteArray()));
+    }
+
+    @Test
+    public void readSnapshotForm() throws IOException
+    {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(Base64.decodeBase64(SNAPSHOT_FORM));
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(0, 1, 32, 33), IntIntHashMap.readSnapshot(Channels.newChannel(bytes)));
+    }
+}
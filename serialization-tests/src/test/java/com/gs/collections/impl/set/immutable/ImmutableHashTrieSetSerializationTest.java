@@ -0,0 +1,44 @@
+/*
+ * Copyright 2011 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableHashTrieSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuaW1tdXRhYmxlLkltbXV0YWJsZUhh\n"
+                        + "c2hUcmllU2V0AAAAAAAAAAECAAFMAAhkZWxlZ2F0ZXQAPExjb20vZ3MvY29sbGVjdGlvbnMvaW1w\n"
+                        + "bC9tYXAvaW1tdXRhYmxlL0ltbXV0YWJsZUhhc2hUcmllTWFwO3hwc3IAOmNvbS5ncy5jb2xsZWN0\n"
+                        + "aW9ucy5pbXBsLm1hcC5pbW11dGFibGUuSW1tdXRhYmxlSGFzaFRyaWVNYXAAAAAAAAAAAQIAAkkA\n"
+                        + "BHNpemVMAARyb290dABFTGNvbS9ncy9jb2xsZWN0aW9ucy9pbXBsL21hcC9pbW11dGFibGUvSW1t\n"
+                        + "dXRhYmxlSGFzaFRyaWVNYXAkVHJpZU5vZGU7eHAAAAADc3IARWNvbS5ncy5jb2xsZWN0aW9ucy5p\n"
+                        + "bXBsLm1hcC5pbW11dGFibGUuSW1tdXRhYmxlSGFzaFRyaWVNYXAkQml0bWFwTm9kZQAAAAAAAAAB\n"
+                        + "AgADSQAIZW50cnlNYXBJAAdub2RlTWFwWwAIY29udGVudHN0ABNbTGphdmEvbGFuZy9PYmplY3Q7\n"
+                        + "eHIAQ2NvbS5ncy5jb2xsZWN0aW9ucy5pbXBsLm1hcC5pbW11dGFibGUuSW1tdXRhYmxlSGFzaFRy\n"
+                        + "aWVNYXAkVHJpZU5vZGUAAAAAAAAAAQIAAHhwAAAADgAAAAB1cgATW0xqYXZhLmxhbmcuT2JqZWN0\n"
+                        + "O5DOWJ8QcylsAgAAeHAAAAAGc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1\n"
+                        + "ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAFzcgARamF2YS5sYW5nLkJvb2xl\n"
+                        + "YW7NIHKA1Zz67gIAAVoABXZhbHVleHABc3EAfgAMAAAAAnEAfgAQc3EAfgAMAAAAA3EAfgAQ",
+                ImmutableHashTrieSet.newSet(FastList.newListWith(1, 2, 3)));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stack.immutable;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableLinkedStackSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAF1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zdGFjay5pbW11dGFibGUuSW1tdXRhYmxl\n"
+                        + "TGlua2VkU3RhY2skSW1tdXRhYmxlU3RhY2tTZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhw\n"
+                        + "dwQAAAAAeA==",
+                ImmutableLinkedStack.newStack());
+    }
+
+    @Test
+    public void serializedForm_with_element()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAF1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zdGFjay5pbW11dGFibGUuSW1tdXRhYmxl\n"
+                        + "TGlua2VkU3RhY2skSW1tdXRhYmxlU3RhY2tTZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhw\n"
+                        + "dwQAAAABcHg=",
+                ImmutableLinkedStack.newStackWith((Object) null));
+    }
+
+    @Test
+    public void serializedForm_with_elements()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAF1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zdGFjay5pbW11dGFibGUuSW1tdXRhYmxl\n"
+                        + "TGlua2VkU3RhY2skSW1tdXRhYmxlU3RhY2tTZXJpYWxpemF0aW9uUHJveHkAAAAAAAAAAQwAAHhw\n"
+                        + "dwQAAAAFcHBwcHB4",
+                ImmutableLinkedStack.newStackWith(null, null, null, null, null));
+    }
+}
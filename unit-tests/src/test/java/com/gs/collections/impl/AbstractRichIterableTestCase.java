@@ -55,6 +55,7 @@ import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.IntStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.mutable.primitive.BooleanHashBag;
@@ -595,6 +596,56 @@ public abstract class AbstractRichIterableTestCase
         Assert.assertEquals(Integer.valueOf(3), this.newWith(1, 3, 2).maxBy(String::valueOf));
     }
 
+    @Test
+    public void topN()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 3, 2);
+        Assert.assertEquals(FastList.newListWith(3, 2), integers.topN(2, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(3, 2, 1), integers.topN(5, Comparators.naturalOrder()));
+        Verify.assertEmpty(integers.topN(0, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 2), integers.topNBy(2, each -> -each));
+    }
+
+    @Test
+    public void bottomN()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 3, 2);
+        Assert.assertEquals(FastList.newListWith(1, 2), integers.bottomN(2, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), integers.bottomN(5, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(3, 2), integers.bottomNBy(2, each -> -each));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void topN_negative_count_throws()
+    {
+        this.newWith(1, 3, 2).topN(-1, Comparators.naturalOrder());
+    }
+
+    @Test
+    public void summarizeInt()
+    {
+        IntStatistics statistics = this.newWith(1, 3, 2).summarizeInt(Integer::intValue);
+        Assert.assertEquals(3L, statistics.getCount());
+        Assert.assertEquals(6L, statistics.getSum());
+        Assert.assertEquals(1, statistics.getMin());
+        Assert.assertEquals(3, statistics.getMax());
+        Assert.assertEquals(2.0, statistics.getAverage(), 0.0);
+        Assert.assertEquals(6L, this.newWith(1, 3, 2).summarizeLong(Integer::longValue).getSum());
+        Assert.assertEquals(3.0, this.newWith(1, 3, 2).summarizeDouble(Integer::doubleValue).getMax(), 0.0);
+    }
+
+    @Test
+    public void summarizeIntBy()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 2, 3, 4, 5);
+        MapIterable<Boolean, IntStatistics> statistics = integers.summarizeIntBy(IntegerPredicates.isOdd()::accept, Integer::intValue);
+        Assert.assertEquals(2, statistics.size());
+        Assert.assertEquals(9L, statistics.get(Boolean.TRUE).getSum());
+        Assert.assertEquals(5, statistics.get(Boolean.TRUE).getMax());
+        Assert.assertEquals(3.0, integers.summarizeLongBy(IntegerPredicates.isOdd()::accept, Integer::longValue).get(Boolean.FALSE).getAverage(), 0.0);
+        Assert.assertEquals(2.0, integers.summarizeDoubleBy(IntegerPredicates.isOdd()::accept, Integer::doubleValue).get(Boolean.FALSE).getMin(), 0.0);
+    }
+
     @Test(expected = NullPointerException.class)
     public void minBy_null_throws()
     {
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Override
+    @Test
+    public void equalsAndHashCode()
+    {
+        Verify.assertEqualsAndHashCode(this.newWith(1, 2, 3), this.newWith(1, 2, 3));
+        Assert.assertNotEquals(this.newWith(1, 2, 3), this.newWith(1, 2));
+        Assert.assertNotEquals(this.newWith(1, 1, 2, 3), this.newWith(1, 2, 2, 3));
+        Verify.assertEqualsAndHashCode(this.newWith(1, 1, 2, 3), this.newWith(1, 2, 1, 3));
+        Assert.assertEquals(this.newWith(1, 1, 2, 3).toMapOfItemToCount().hashCode(), this.newWith(1, 1, 2, 3).hashCode());
+        Verify.assertThrows(NullPointerException.class, () -> this.newWith(null, null, 2, 3));
+    }
+
+    @Override
+    @Test
+    public void removeIf()
+    {
+        MutableBag<Integer> objects1 = this.newWith(1, 2, 3);
+        Verify.assertThrows(NullPointerException.class, () -> objects1.add(null));
+        Assert.assertFalse(objects1.removeIf(Predicates.isNull()));
+        Verify.assertSize(3, objects1);
+        Verify.assertContainsAll(objects1, 1, 2, 3);
+
+        MutableBag<Integer> objects2 = this.newWith(3, 4, 5);
+        Assert.assertTrue(objects2.removeIf(Predicates.equal(3)));
+        Assert.assertFalse(objects2.removeIf(Predicates.equal(6)));
+
+        MutableBag<Integer> objects3 = this.newWith(1, 2, 3, 4, 5);
+        Assert.assertTrue(objects3.removeIf(Predicates.greaterThan(0)));
+        Assert.assertFalse(objects3.removeIf(Predicates.equal(5)));
+
+        MutableBag<Integer> objects = this.newWith(4, 1, 3, 3, 2);
+        Assert.assertTrue(objects.removeIf(Predicates.equal(2)));
+        Assert.assertEquals(HashBag.newBagWith(1, 3, 3, 4), objects);
+        Assert.assertTrue(objects.removeIf(Predicates.equal(3)));
+        Assert.assertEquals(HashBag.newBagWith(1, 4), objects);
+    }
+
+    @Override
+    @Test
+    public void topOccurrences()
+    {
+        MutableBag<String> strings = this.newWithOccurrences(
+                PrimitiveTuples.pair("one", 1),
+                PrimitiveTuples.pair("two", 2),
+                PrimitiveTuples.pair("three", 3),
+                PrimitiveTuples.pair("four", 4),
+                PrimitiveTuples.pair("five", 5),
+                PrimitiveTuples.pair("six", 6),
+                PrimitiveTuples.pair("seven", 7),
+                PrimitiveTuples.pair("eight", 8),
+                PrimitiveTuples.pair("nine", 9),
+                PrimitiveTuples.pair("ten", 10));
+        MutableList<ObjectIntPair<String>> top5 = strings.topOccurrences(5);
+        Verify.assertSize(5, top5);
+        Assert.assertEquals("ten", top5.getFirst().getOne());
+        Assert.assertEquals(10, top5.getFirst().getTwo());
+        Assert.assertEquals("six", top5.getLast().getOne());
+        Assert.assertEquals(6, top5.getLast().getTwo());
+        Verify.assertSize(0, this.newWith("one").topOccurrences(0));
+        Verify.assertSize(0, this.newWith().topOccurrences(5));
+        Verify.assertSize(3, this.newWith("one", "two", "three").topOccurrences(5));
+        Verify.assertSize(3, this.newWith("one", "two", "three").topOccurrences(1));
+        Verify.assertSize(3, this.newWith("one", "two", "three").topOccurrences(2));
+        Verify.assertSize(3, this.newWith("one", "one", "two", "three").topOccurrences(2));
+        Verify.assertSize(2, this.newWith("one", "one", "two", "two", "three").topOccurrences(1));
+        Verify.assertSize(3, this.newWith("one", "one", "two", "two", "three", "three").topOccurrences(1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.newWith().topOccurrences(-1));
+        Verify.assertThrows(NullPointerException.class, () -> this.newWith(null, "one", "two"));
+    }
+
+    @Override
+    @Test
+    public void bottomOccurrences()
+    {
+        MutableBag<String> strings = this.newWithOccurrences(
+                PrimitiveTuples.pair("one", 1),
+                PrimitiveTuples.pair("two", 2),
+                PrimitiveTuples.pair("three", 3),
+                PrimitiveTuples.pair("four", 4),
+                PrimitiveTuples.pair("five", 5),
+                PrimitiveTuples.pair("six", 6),
+                PrimitiveTuples.pair("seven", 7),
+                PrimitiveTuples.pair("eight", 8),
+                PrimitiveTuples.pair("nine", 9),
+                PrimitiveTuples.pair("ten", 10));
+        MutableList<ObjectIntPair<String>> bottom5 = strings.bottomOccurrences(5);
+        Verify.assertSize(5, bottom5);
+        Assert.assertEquals("one", bottom5.getFirst().getOne());
+        Assert.assertEquals(1, bottom5.getFirst().getTwo());
+        Assert.assertEquals("five", bottom5.getLast().getOne());
+        Assert.assertEquals(5, bottom5.getLast().getTwo());
+        Verify.assertSize(0, this.newWith("one").bottomOccurrences(0));
+        Verify.assertSize(0, this.newWith().bottomOccurrences(5));
+        Verify.assertSize(3, this.newWith("one", "two", "three").bottomOccurrences(5));
+        Verify.assertSize(3, this.newWith("one", "two", "three").bottomOccurrences(1));
+        Verify.assertSize(3, this.newWith("one", "two", "three").bottomOccurrences(2));
+        Verify.assertSize(2, this.newWith("one", "two", "three", "three").bottomOccurrences(2));
+        Verify.assertSize(1, this.newWith("one", "one", "two", "two", "three").bottomOccurrences(1));
+        Verify.assertSize(3, this.newWith("one", "one", "two", "two", "three", "three").bottomOccurrences(1));
+        Verify.assertSize(0, this.newWith().bottomOccurrences(0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.newWith().bottomOccurrences(-1));
+        Verify.assertThrows(NullPointerException.class, () -> this.newWith(null, "one", "two"));
+    }
+
+    @Override
+    @Test
+    public void min_null_safe()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 3, 2);
+        Assert.assertEquals(Integer.valueOf(1), integers.min(Comparators.safeNullsHigh(Integer::compareTo)));
+        Assert.assertEquals(Integer.valueOf(1), integers.min(Comparators.safeNullsLow(Integer::compareTo)));
+        Verify.assertThrows(NullPointerException.class, () -> this.newWith(1, 3, 2, null));
+    }
+
+    @Override
+    @Test
+    public void max_null_safe()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 3, 2);
+        Assert.assertEquals(Integer.valueOf(3), integers.max(Comparators.safeNullsLow(Integer::compareTo)));
+        Assert.assertEquals(Integer.valueOf(3), integers.max(Comparators.safeNullsHigh(Integer::compareTo)));
+        Verify.assertThrows(NullPointerException.class, () -> this.newWith(1, 3, 2, null));
+    }
+
+    @Test
+    public void concurrentAddOccurrences() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int thread = 0; thread < 8; thread++)
+            {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++)
+                    {
+                        bag.add(i % 100);
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(80000, bag);
+        Assert.assertEquals(100, bag.sizeDistinct());
+        Assert.assertEquals(800, bag.occurrencesOf(42));
+    }
+
+    @Test
+    public void concurrentAddAndRemove() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int thread = 0; thread < 8; thread++)
+            {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++)
+                    {
+                        bag.add(i % 10);
+                        Assert.assertTrue(bag.remove(i % 10));
+                    }
+                    bag.add(-1);
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(8, bag);
+        Assert.assertEquals(8, bag.occurrencesOf(-1));
+        Assert.assertEquals(1, bag.sizeDistinct());
+    }
+
+    @Test
+    public void addAllInParallel()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        bag.addAllInParallel(Interval.oneTo(100000).collect(each -> each % 10), 1000, ParallelIterate.newPooledExecutor(4, "ConcurrentHashBagTest", true));
+        Verify.assertSize(100000, bag);
+        Assert.assertEquals(10000, bag.occurrencesOf(0));
+    }
+
+    @Test
+    public void serialization()
+    {
+        MutableBag<String> bag = this.newWith("1", "2", "2", "3", "3", "3");
+        Assert.assertEquals(bag, SerializeTestHelper.serializeDeserialize(bag));
+        Verify.assertSize(6, SerializeTestHelper.serializeDeserialize(bag));
+    }
+}
@@ -564,6 +564,17 @@ public class ImmutableEmptySortedBagTest extends AbstractImmutableSortedBagTestC
         Assert.assertEquals(-1, this.classUnderTest().indexOf(1));
     }
 
+    @Override
+    @Test
+    public void rankGetAndCountBetween()
+    {
+        ImmutableSortedBag<Integer> integers = this.classUnderTest(Comparators.<Integer>reverseNaturalOrder());
+        Assert.assertEquals(0, integers.rank(1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(0));
+        Assert.assertEquals(0, integers.countBetween(4, 1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.countBetween(1, 4));
+    }
+
     @Override
     @Test
     public void occurrencesOf()
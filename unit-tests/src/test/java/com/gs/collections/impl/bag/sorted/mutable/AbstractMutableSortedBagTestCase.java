@@ -876,6 +876,27 @@ public abstract class AbstractMutableSortedBagTestCase extends MutableBagTestCas
         Assert.assertEquals(-1, integers.indexOf(0));
     }
 
+    @Test
+    public void rankGetAndCountBetween()
+    {
+        MutableSortedBag<Integer> integers = this.newWith(Comparators.reverseNaturalOrder(), 4, 4, 4, 4, 3, 3, 3, 2, 2, 1);
+        Assert.assertEquals(0, integers.rank(5));
+        Assert.assertEquals(0, integers.rank(4));
+        Assert.assertEquals(4, integers.rank(3));
+        Assert.assertEquals(9, integers.rank(1));
+        Assert.assertEquals(10, integers.rank(0));
+        Assert.assertEquals(Integer.valueOf(4), integers.get(3));
+        Assert.assertEquals(Integer.valueOf(3), integers.get(4));
+        Assert.assertEquals(Integer.valueOf(2), integers.get(8));
+        Assert.assertEquals(Integer.valueOf(1), integers.get(9));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(10));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(-1));
+        Assert.assertEquals(7, integers.countBetween(4, 2));
+        Assert.assertEquals(6, integers.countBetween(3, 0));
+        Assert.assertEquals(0, integers.countBetween(3, 3));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.countBetween(1, 4));
+    }
+
     @Override
     @Test
     public void occurrencesOf()
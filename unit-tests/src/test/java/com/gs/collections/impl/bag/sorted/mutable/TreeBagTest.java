@@ -71,6 +71,19 @@ public class TreeBagTest extends AbstractMutableSortedBagTestCase
         Verify.assertSortedBagsEqual(bagA, TreeBag.newBag(bagA));
     }
 
+    @Test
+    public void rankTracksOccurrences()
+    {
+        TreeBag<Integer> bag = TreeBag.newBagWith(Comparators.reverseNaturalOrder(), 4, 4, 4, 4, 3, 3, 3, 2, 2, 1);
+        bag.addOccurrences(2, 3);
+        bag.removeOccurrences(4, 4);
+        Assert.assertEquals(0, bag.rank(3));
+        Assert.assertEquals(8, bag.rank(1));
+        Assert.assertEquals(Integer.valueOf(2), bag.get(3));
+        Assert.assertEquals(Integer.valueOf(1), bag.get(8));
+        Assert.assertEquals(5, bag.countBetween(2, 1));
+    }
+
     @Test
     public void iterableConstructor()
     {
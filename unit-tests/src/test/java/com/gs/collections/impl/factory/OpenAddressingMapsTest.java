@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.factory;
+
+import com.gs.collections.api.factory.map.MutableMapFactory;
+import com.gs.collections.impl.map.mutable.OpenAddressingMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OpenAddressingMapsTest
+{
+    @Test
+    public void mutable()
+    {
+        MutableMapFactory factory = OpenAddressingMaps.mutable;
+        Assert.assertEquals(UnifiedMap.newMap(), factory.of());
+        Verify.assertInstanceOf(OpenAddressingMap.class, factory.of());
+        Verify.assertInstanceOf(OpenAddressingMap.class, factory.ofInitialCapacity(10));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2), factory.of(1, 2));
+        Verify.assertInstanceOf(OpenAddressingMap.class, factory.of(1, 2));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2, 3, 4), factory.of(1, 2, 3, 4));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2, 3, 4, 5, 6), factory.of(1, 2, 3, 4, 5, 6));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2, 3, 4, 5, 6, 7, 8), factory.of(1, 2, 3, 4, 5, 6, 7, 8));
+        Verify.assertInstanceOf(OpenAddressingMap.class, factory.of(1, 2, 3, 4, 5, 6, 7, 8));
+    }
+
+    @Test
+    public void classIsNonInstantiable()
+    {
+        Verify.assertClassNonInstantiable(OpenAddressingMaps.class);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FusedIterateTest
+{
+    @Test
+    public void fusesOverIndexedSources()
+    {
+        Interval interval = Interval.fromToBy(-10, 90, 3);
+        this.assertFusedMatchesIterator(interval.toList().asLazy().select(each -> each % 2 == 0).collect(each -> each * 10).reject(each -> each > 500));
+        this.assertFusedMatchesIterator(ArrayAdapter.adapt(interval.toArray()).asLazy().collectIf(each -> each > 0, Object::toString).tap(each -> { }));
+        this.assertFusedMatchesIterator(interval.select(each -> each % 2 == 0).collect(each -> each * 10).take(5));
+        this.assertFusedMatchesIterator(Interval.fromToBy(90, -10, -7).collect(each -> -each).select(each -> each < 0));
+        this.assertFusedMatchesIterator(FastList.<Integer>newList().asLazy().select(each -> true));
+
+        Assert.assertEquals(
+                interval.toList().select(each -> each % 2 == 0).collect(each -> each * 10).select(each -> each < 500).sumOfInt(each -> each),
+                interval.toList().asLazy().select(each -> each % 2 == 0).collect(each -> each * 10).select(each -> each < 500).sumOfInt(each -> each));
+    }
+
+    @Test
+    public void doesNotFuseOtherSources()
+    {
+        Assert.assertFalse(FusedIterate.forEach(UnifiedSet.newSetWith(1, 2, 3).asLazy().select(each -> true), each -> { }));
+        Assert.assertFalse(FusedIterate.forEach(FastList.newListWith(1, 2, 3).asLazy().distinct().select(each -> true), each -> { }));
+        Assert.assertFalse(FusedIterate.forEach(FastList.newListWith(1, 2, 3).asLazy(), each -> { }));
+        this.assertFusedMatchesIterator(UnifiedSet.newSetWith(1, 2, 3).asLazy().select(each -> each > 1).collect(each -> each + 1));
+    }
+
+    @Test
+    public void takeStopsTheLoop()
+    {
+        MutableList<Integer> tapped = FastList.newList();
+        MutableList<Integer> result = FastList.newList();
+        Interval.oneTo(1000).asLazy().tap(tapped::add).select(each -> each % 3 == 0).take(2).each(result::add);
+        Assert.assertEquals(FastList.newListWith(3, 6), result);
+        Assert.assertEquals(Interval.oneTo(6).toList(), tapped);
+
+        tapped.clear();
+        result.clear();
+        FastList.newList(Interval.oneTo(1000)).asLazy().tap(tapped::add).take(4).select(each -> each % 3 == 0).each(result::add);
+        Assert.assertEquals(FastList.newListWith(3), result);
+        Assert.assertEquals(Interval.oneTo(4).toList(), tapped);
+
+        tapped.clear();
+        result.clear();
+        FastList.newList(Interval.oneTo(1000)).asLazy().tap(tapped::add).take(0).each(result::add);
+        FastList.newList(Interval.oneTo(1000)).asLazy().take(5).tap(tapped::add).take(0).each(result::add);
+        Assert.assertTrue(result.isEmpty());
+        Assert.assertTrue(tapped.isEmpty());
+
+        Assert.assertEquals(FastList.newListWith(1, 2), FastList.newListWith(1, 2, 3).asLazy().take(5).take(2).toList());
+        Assert.assertEquals(FastList.newListWith(1, 2), FastList.newListWith(1, 2, 3).asLazy().take(2).take(5).toList());
+    }
+
+    private <T> void assertFusedMatchesIterator(LazyIterable<T> lazyIterable)
+    {
+        MutableList<T> expected = FastList.newList();
+        for (T each : lazyIterable)
+        {
+            expected.add(each);
+        }
+        MutableList<T> actual = FastList.newList();
+        lazyIterable.each(actual::add);
+        Assert.assertEquals(expected, actual);
+    }
+}
@@ -36,8 +36,10 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.set.ParallelSetIterable;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
+import com.gs.collections.api.statistics.LongStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.mutable.primitive.CharHashBag;
@@ -54,6 +56,7 @@ import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.test.Verify;
 import com.gs.collections.impl.tuple.Tuples;
 import org.junit.After;
@@ -399,6 +402,98 @@ public abstract class ParallelIterableTestCase
         Assert.assertEquals(Integer.valueOf(4), this.classUnderTest().maxBy(String::valueOf));
     }
 
+    @Test
+    public void topN()
+    {
+        Assert.assertEquals(
+                this.getExpected().toSortedList(Comparators.reverseNaturalOrder()).take(3),
+                this.classUnderTest().topN(3, Comparators.naturalOrder()));
+        Assert.assertEquals(
+                this.getExpected().toSortedList().take(3),
+                this.classUnderTest().topNBy(3, each -> -each));
+        Assert.assertEquals(
+                this.getExpected().toSortedList(Comparators.reverseNaturalOrder()),
+                this.classUnderTest().topN(100, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void bottomN()
+    {
+        Assert.assertEquals(
+                this.getExpected().toSortedList().take(3),
+                this.classUnderTest().bottomN(3, Comparators.naturalOrder()));
+        Assert.assertEquals(
+                this.getExpected().toSortedList(Comparators.reverseNaturalOrder()).take(3),
+                this.classUnderTest().bottomNBy(3, each -> -each));
+    }
+
+    @Test
+    public void summarizeLong()
+    {
+        LongStatistics statistics = this.classUnderTest().summarizeLong(Integer::longValue);
+        Assert.assertEquals(this.getExpected().size(), statistics.getCount());
+        Assert.assertEquals(this.getExpected().sumOfLong(Integer::longValue), statistics.getSum());
+        Assert.assertEquals(this.getExpected().min().longValue(), statistics.getMin());
+        Assert.assertEquals(this.getExpected().max().longValue(), statistics.getMax());
+        Assert.assertEquals(
+                this.getExpected().sumOfInt(Integer::intValue),
+                this.classUnderTest().summarizeInt(Integer::intValue).getSum());
+        Assert.assertEquals(
+                this.getExpected().sumOfDouble(Integer::doubleValue),
+                this.classUnderTest().summarizeDouble(Integer::doubleValue).getSum(),
+                0.0);
+    }
+
+    @Test
+    public void summarizeLongBy()
+    {
+        MapIterable<Boolean, LongStatistics> statistics = this.classUnderTest().summarizeLongBy(IntegerPredicates.isOdd()::accept, Integer::longValue);
+        Assert.assertEquals(
+                this.getExpected().select(IntegerPredicates.isOdd()).sumOfLong(Integer::longValue),
+                statistics.get(Boolean.TRUE).getSum());
+        Assert.assertEquals(
+                this.getExpected().select(IntegerPredicates.isEven()).size(),
+                statistics.get(Boolean.FALSE).getCount());
+        Assert.assertEquals(
+                this.getExpected().select(IntegerPredicates.isOdd()).max().intValue(),
+                this.classUnderTest().summarizeIntBy(IntegerPredicates.isOdd()::accept, Integer::intValue).get(Boolean.TRUE).getMax());
+        Assert.assertEquals(
+                this.getExpected().select(IntegerPredicates.isEven()).min().doubleValue(),
+                this.classUnderTest().summarizeDoubleBy(IntegerPredicates.isOdd()::accept, Integer::doubleValue).get(Boolean.FALSE).getMin(),
+                0.0);
+    }
+
+    @Test
+    public void countBy()
+    {
+        Assert.assertEquals(
+                this.getExpected().asLazy().countBy(IntegerPredicates.isOdd()::accept),
+                this.classUnderTest().countBy(IntegerPredicates.isOdd()::accept));
+        Assert.assertEquals(
+                this.getExpected().asLazy().countBy(Integer::intValue),
+                this.classUnderTest().countBy(Integer::intValue));
+        Assert.assertEquals(
+                this.getExpected().asLazy().countByEach(each -> FastList.newListWith(each, each % 2)),
+                this.classUnderTest().countByEach(each -> FastList.newListWith(each, each % 2)));
+    }
+
+    @Test
+    public void sumBy()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumByInt(IntegerPredicates.isOdd()::accept, Integer::intValue),
+                this.classUnderTest().sumByInt(IntegerPredicates.isOdd()::accept, Integer::intValue));
+        Assert.assertEquals(
+                this.getExpected().sumByLong(Integer::intValue, Integer::longValue),
+                this.classUnderTest().sumByLong(Integer::intValue, Integer::longValue));
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(IntegerPredicates.isOdd()::accept, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(IntegerPredicates.isOdd()::accept, Integer::doubleValue));
+        Assert.assertEquals(
+                this.getExpected().sumByFloat(IntegerPredicates.isOdd()::accept, Integer::floatValue),
+                this.classUnderTest().sumByFloat(IntegerPredicates.isOdd()::accept, Integer::floatValue));
+    }
+
     @Test(expected = NoSuchElementException.class)
     public void min_empty_throws_without_comparator()
     {
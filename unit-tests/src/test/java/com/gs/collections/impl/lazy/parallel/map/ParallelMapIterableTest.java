@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.MutableMapIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bimap.mutable.HashBiMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelMapIterableTest
+{
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(10);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    private static <M extends MutableMapIterable<Integer, String>> M newMap(M map, int size)
+    {
+        for (int i = 1; i <= size; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        return map;
+    }
+
+    private void assertParallelViews(MapIterable<Integer, String> map)
+    {
+        Assert.assertEquals(map.keysView().toSet(), map.asParallel(this.executorService, 3).keysView().toSet());
+        Assert.assertEquals(map.valuesView().toBag(), map.asParallel(this.executorService, 3).valuesView().toBag());
+        Assert.assertEquals(map.keyValuesView().toSet(), map.asParallel(this.executorService, 3).keyValuesView().toSet());
+
+        MutableMap<Integer, String> forEachKeyValue = ConcurrentHashMap.newMap();
+        map.asParallel(this.executorService, 3).forEachKeyValue(forEachKeyValue::put);
+        Assert.assertEquals(map, forEachKeyValue);
+
+        Assert.assertEquals(
+                map.keysView().sumOfInt(Integer::intValue),
+                map.asParallel(this.executorService, 3).keysView().sumOfInt(Integer::intValue));
+        Assert.assertEquals(
+                map.keysView().select(each -> each % 2 == 0).toSet(),
+                map.asParallel(this.executorService, 3).keysView().select(each -> each % 2 == 0).toSet());
+        Assert.assertEquals(
+                map.valuesView().collect(String::length).toBag(),
+                map.asParallel(this.executorService, 3).valuesView().collect(String::length).toBag());
+        Assert.assertEquals(
+                map.keysView().groupBy(each -> each % 3).toMap(UnifiedSet::new),
+                map.asParallel(this.executorService, 3).keysView().groupBy(each -> each % 3).toMap(UnifiedSet::new));
+    }
+
+    @Test
+    public void unifiedMap()
+    {
+        this.assertParallelViews(newMap(UnifiedMap.<Integer, String>newMap(), 100));
+        this.assertParallelViews(UnifiedMap.<Integer, String>newMap());
+    }
+
+    @Test
+    public void unifiedMap_chainedBuckets()
+    {
+        UnifiedMap<CollidingKey, Integer> map = UnifiedMap.newMap();
+        for (int i = 1; i <= 200; i++)
+        {
+            map.put(new CollidingKey(i), i);
+        }
+        MutableBag<Integer> values = HashBag.<Integer>newBag().asSynchronized();
+        map.asParallel(this.executorService, 2).forEachKeyValue((key, value) -> {
+            Assert.assertEquals(key.value, value.intValue());
+            values.add(value);
+        });
+        Assert.assertEquals(Interval.oneTo(200).toBag(), values);
+        Assert.assertEquals(200, map.asParallel(this.executorService, 2).keysView().count(each -> true));
+        Assert.assertEquals(
+                Tuples.pair(new CollidingKey(150), 150),
+                map.asParallel(this.executorService, 2).keyValuesView().detect(each -> each.getTwo() == 150));
+        Assert.assertTrue(map.asParallel(this.executorService, 2).valuesView().allSatisfy(each -> each <= 200));
+        Assert.assertFalse(map.asParallel(this.executorService, 2).valuesView().anySatisfy(each -> each > 200));
+        Assert.assertNull(map.asParallel(this.executorService, 2).keysView().detect(each -> each.value > 200));
+    }
+
+    @Test
+    public void otherMaps()
+    {
+        this.assertParallelViews(newMap(TreeSortedMap.<Integer, String>newMap(), 100));
+        this.assertParallelViews(newMap(ConcurrentHashMap.<Integer, String>newMap(), 100));
+        this.assertParallelViews(newMap(UnifiedMap.<Integer, String>newMap(), 100).asSynchronized());
+        this.assertParallelViews(newMap(UnifiedMap.<Integer, String>newMap(), 100).asUnmodifiable());
+        this.assertParallelViews(newMap(UnifiedMap.<Integer, String>newMap(), 100).toImmutable());
+        this.assertParallelViews(newMap(HashBiMap.<Integer, String>newMap(), 100));
+        this.assertParallelViews(newMap(HashBiMap.<Integer, String>newMap(), 100).inverse().inverse());
+    }
+
+    @Test
+    public void keyValuesView_detect()
+    {
+        MutableMap<Integer, String> map = newMap(UnifiedMap.<Integer, String>newMap(), 10);
+        Pair<Integer, String> detected = map.asParallel(this.executorService, 2).keyValuesView().detect(each -> each.getOne() == 5);
+        Assert.assertEquals(Tuples.pair(5, "5"), detected);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        UnifiedMap.newWithKeysValues(1, 1, 2, 2).asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        UnifiedMap.newWithKeysValues(1, 1, 2, 2).asParallel(null, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch_treeSortedMap()
+    {
+        TreeSortedMap.newMapWith(1, 1, 2, 2).asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService_treeSortedMap()
+    {
+        TreeSortedMap.newMapWith(1, 1, 2, 2).asParallel(null, 2);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value / 16;
+        }
+    }
+}
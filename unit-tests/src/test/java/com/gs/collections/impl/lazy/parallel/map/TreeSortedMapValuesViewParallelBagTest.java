@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.bag.ParallelBag;
+import com.gs.collections.impl.lazy.parallel.bag.ParallelBagTestCase;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TreeSortedMapValuesViewParallelBagTest extends ParallelBagTestCase
+{
+    @Override
+    protected ParallelBag<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelBag<Integer> newWith(Integer... littleElements)
+    {
+        TreeSortedMap<Integer, Integer> map = TreeSortedMap.newMap();
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            map.put(i, littleElements[i]);
+        }
+        return map.asParallel(this.executorService, this.batchSize).valuesView();
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void flatCollect()
+    {
+        // Parallel bags do not support flatCollect yet
+        super.flatCollect();
+    }
+
+    @Override
+    @Test
+    public void asUnique()
+    {
+        // Parallel bags produced by collect() do not support asUnique yet, so only the values view itself is checked
+        Assert.assertEquals(this.getExpected().toSet(), this.classUnderTest().asUnique().toSet());
+        Assert.assertEquals(this.getExpected().toList().toSet(), this.classUnderTest().asUnique().toList().toSet());
+    }
+}
@@ -169,6 +169,20 @@ public class ImmutableEmptySortedSetParallelTest extends NonParallelSortedSetIte
         this.classUnderTest().maxBy(String::valueOf);
     }
 
+    @Override
+    @Test
+    public void summarizeLong()
+    {
+        Assert.assertTrue(this.classUnderTest().summarizeLong(Integer::longValue).isEmpty());
+    }
+
+    @Override
+    @Test
+    public void summarizeLongBy()
+    {
+        Assert.assertTrue(this.classUnderTest().summarizeLongBy(String::valueOf, Integer::longValue).isEmpty());
+    }
+
     @Override
     @Test(expected = NoSuchElementException.class)
     public void min_without_comparator()
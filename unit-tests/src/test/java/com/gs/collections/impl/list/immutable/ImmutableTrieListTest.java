@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.list.immutable;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return Lists.immutable.withAllPersistent(FastList.newListWith(1, 2, 3));
+    }
+
+    @Test
+    public void newWith_sharesStructure()
+    {
+        ImmutableList<Integer> list = Lists.immutable.emptyPersistent();
+        FastList<ImmutableList<Integer>> versions = FastList.newList();
+        for (int i = 0; i < 40000; i++)
+        {
+            versions.add(list);
+            list = list.newWith(i);
+        }
+        Verify.assertInstanceOf(ImmutableTrieList.class, list);
+        Assert.assertEquals(Interval.zeroTo(39999), list);
+        Assert.assertEquals(FastList.newList(Interval.zeroTo(39999)), FastList.newList(list));
+        for (int i = 0; i < 40000; i += 997)
+        {
+            Verify.assertSize(i, versions.get(i));
+            Assert.assertEquals(ImmutableTrieListTest.upTo(i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void withAllPersistent_matchesAppend()
+    {
+        for (int size : new int[]{0, 1, 31, 32, 33, 64, 1024, 1056, 1057, 33825})
+        {
+            FastList<Integer> expected = ImmutableTrieListTest.upTo(size);
+            ImmutableList<Integer> built = Lists.immutable.withAllPersistent(expected);
+            ImmutableList<Integer> appended = Lists.immutable.<Integer>emptyPersistent().newWithAll(expected);
+            Assert.assertEquals(expected, built);
+            Assert.assertEquals(built, appended);
+            Assert.assertEquals(expected.clone().with(-1), built.newWith(-1));
+            Assert.assertEquals(expected.clone().with(-1), appended.newWith(-1));
+        }
+    }
+
+    @Test
+    public void newWithout_last()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(1100));
+        for (int i = 1100; i > 0; i--)
+        {
+            Assert.assertEquals(Integer.valueOf(i), list.getLast());
+            list = list.newWithout(i);
+            Assert.assertEquals(ImmutableTrieListTest.upTo(i - 1).collect(each -> each + 1), list);
+        }
+        Verify.assertEmpty(list);
+        Assert.assertSame(Lists.immutable.emptyPersistent(), list);
+        Verify.assertInstanceOf(ImmutableTrieList.class, list.newWith(1));
+    }
+
+    @Test
+    public void newWithout_middle()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(100));
+        ImmutableList<Integer> without = list.newWithout(50);
+        Verify.assertInstanceOf(ImmutableTrieList.class, without);
+        Assert.assertEquals(Interval.oneTo(100).toList().without(50), without);
+        Assert.assertEquals(Interval.oneTo(100), list);
+        Assert.assertSame(list, list.newWithout(101));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_outOfBounds()
+    {
+        Lists.immutable.withAllPersistent(Interval.oneTo(40)).get(40);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(2000));
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        Verify.assertInstanceOf(ImmutableTrieList.class, deserialized);
+        Assert.assertEquals(list, deserialized);
+        Assert.assertEquals(Interval.oneTo(2001), deserialized.newWith(2001));
+        Assert.assertSame(Lists.immutable.emptyPersistent(), SerializeTestHelper.serializeDeserialize(Lists.immutable.emptyPersistent()));
+    }
+
+    private static FastList<Integer> upTo(int size)
+    {
+        FastList<Integer> result = FastList.newList(size);
+        for (int i = 0; i < size; i++)
+        {
+            result.add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.mutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteFastList}.
+ */
+public class CopyOnWriteFastListTest
+{
+    @Test
+    public void addAndRemove()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        Assert.assertTrue(list.add(4));
+        list.add(0, 0);
+        Assert.assertEquals(FastList.newListWith(0, 1, 2, 3, 4), list);
+        Assert.assertTrue(list.remove(Integer.valueOf(2)));
+        Assert.assertFalse(list.remove(Integer.valueOf(5)));
+        Assert.assertEquals(Integer.valueOf(0), list.remove(0));
+        Assert.assertEquals(Integer.valueOf(3), list.set(1, 30));
+        Assert.assertEquals(FastList.newListWith(1, 30, 4), list);
+        list.clear();
+        Verify.assertEmpty(list);
+    }
+
+    @Test
+    public void bulkOperations()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newList(Interval.oneTo(5));
+        Assert.assertTrue(list.removeIf(Predicates.greaterThan(3)));
+        Assert.assertFalse(list.removeIf(Predicates.greaterThan(3)));
+        Assert.assertTrue(list.addAllIterable(Interval.fromTo(10, 11)));
+        Assert.assertTrue(list.retainAll(FastList.newListWith(1, 3, 10)));
+        Assert.assertEquals(FastList.newListWith(1, 3, 10), list);
+        Assert.assertTrue(list.removeAllIterable(FastList.newListWith(3)));
+        Assert.assertEquals(FastList.newListWith(1, 10), list);
+        Assert.assertEquals(FastList.newListWith(10, 1), list.sortThis(Comparators.reverseNaturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 10), list.reverseThis());
+    }
+
+    @Test
+    public void iteratorIsSnapshot()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        Iterator<Integer> iterator = list.iterator();
+        ImmutableList<Integer> before = list.toImmutable();
+        list.add(4);
+        list.remove(Integer.valueOf(1));
+        MutableList<Integer> seen = FastList.newList();
+        while (iterator.hasNext())
+        {
+            seen.add(iterator.next());
+        }
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), seen);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), before);
+        Assert.assertEquals(FastList.newListWith(2, 3, 4), list);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+    }
+
+    @Test
+    public void withWriteBatch()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        ImmutableList<Integer> before = list.toImmutable();
+        list.withWriteBatch(each -> {
+            each.add(4);
+            each.remove(Integer.valueOf(1));
+            Assert.assertEquals(FastList.newListWith(1, 2, 3), list);
+        });
+        Assert.assertEquals(FastList.newListWith(2, 3, 4), list);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), before);
+    }
+
+    @Test
+    public void newEmptyAndClone()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2);
+        Verify.assertInstanceOf(CopyOnWriteFastList.class, list.newEmpty());
+        MutableList<Integer> clone = list.clone();
+        clone.add(3);
+        Assert.assertEquals(FastList.newListWith(1, 2), list);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), clone);
+    }
+
+    @Test
+    public void serialization()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        Assert.assertEquals(list, SerializeTestHelper.serializeDeserialize(list));
+    }
+}
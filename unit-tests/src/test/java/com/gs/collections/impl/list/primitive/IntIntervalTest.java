@@ -17,8 +17,11 @@
 package com.gs.collections.impl.list.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.iterator.IntIterator;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
@@ -722,4 +725,39 @@ public class IntIntervalTest
         Assert.assertTrue(IntInterval.fromTo(1, 3).containsAll(1, 2, 3));
         Assert.assertFalse(IntInterval.fromTo(1, 3).containsAll(1, 2, 4));
     }
+
+    @Test
+    public void asParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            IntInterval interval = IntInterval.fromToBy(-10, 1000, 3);
+            ParallelIntIterable parallel = interval.asParallel(executorService, 7);
+            Assert.assertEquals(interval.sum(), parallel.sum());
+            Assert.assertEquals(interval.min(), parallel.min());
+            Assert.assertEquals(interval.max(), parallel.max());
+            Assert.assertEquals(interval.average(), parallel.average(), 0.0);
+            Assert.assertEquals(interval.count(IntPredicates.isEven()), parallel.count(IntPredicates.isEven()));
+            Assert.assertEquals(interval.toList(), parallel.toList());
+            Assert.assertArrayEquals(interval.toArray(), parallel.toArray());
+            Assert.assertEquals(interval.select(IntPredicates.isOdd()).toList(), parallel.select(IntPredicates.isOdd()).toList());
+            Assert.assertEquals(interval.collect(String::valueOf).toBag(), parallel.collect(String::valueOf).toBag());
+            Assert.assertTrue(parallel.anySatisfy(IntPredicates.equal(998)));
+            Assert.assertFalse(parallel.anySatisfy(IntPredicates.equal(999)));
+            Assert.assertEquals(
+                    IntInterval.fromToBy(10, -10, -4).toList(),
+                    IntInterval.fromToBy(10, -10, -4).asParallel(executorService, 2).toList());
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        this.intInterval.asParallel(Executors.newSingleThreadExecutor(), 0);
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieMap}.
+ */
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return Maps.immutable.<Integer, String>emptyPersistent().newWithAllKeyValueArguments(
+                Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        String string = this.classUnderTest().toString();
+        Assert.assertTrue(string.startsWith("{") && string.endsWith("}"));
+        for (int i = 1; i <= 4; i++)
+        {
+            Assert.assertTrue(string.contains(i + "=" + i));
+        }
+        Assert.assertEquals("{}", Maps.immutable.emptyPersistent().toString());
+    }
+
+    @Test
+    public void newWithKeyValueAndNewWithoutKey_sharesStructure()
+    {
+        ImmutableMap<Integer, String> map = Maps.immutable.emptyPersistent();
+        MutableMap<Integer, String> expected = UnifiedMap.newMap();
+        for (int i = 0; i < 20000; i++)
+        {
+            map = map.newWithKeyValue(i, String.valueOf(i));
+            expected.put(i, String.valueOf(i));
+        }
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map);
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+
+        ImmutableMap<Integer, String> replaced = map.newWithKeyValue(7, "seven");
+        Assert.assertEquals("seven", replaced.get(7));
+        Assert.assertEquals("7", map.get(7));
+        Verify.assertSize(20000, replaced);
+
+        ImmutableMap<Integer, String> removed = map;
+        for (int i = 0; i < 20000; i += 3)
+        {
+            removed = removed.newWithoutKey(i);
+            expected.remove(i);
+        }
+        Assert.assertEquals(expected, removed);
+        Verify.assertSize(20000, map);
+        Assert.assertSame(removed, removed.newWithoutKey(0));
+        Assert.assertSame(Maps.immutable.emptyPersistent(), map.newWithoutAllKeys(map.keysView()));
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        ImmutableMap<CollidingKey, Integer> map = Maps.immutable.emptyPersistent();
+        for (int i = 0; i < 100; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), i);
+        }
+        Verify.assertSize(100, map);
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 99; i++)
+        {
+            map = map.newWithoutKey(new CollidingKey(i));
+            Assert.assertFalse(map.containsKey(new CollidingKey(i)));
+            Assert.assertEquals(Integer.valueOf(99), map.get(new CollidingKey(99)));
+        }
+        Verify.assertSize(1, map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(new CollidingKey(99), 99), map);
+    }
+
+    @Test
+    public void nullKeyAndValue()
+    {
+        ImmutableMap<Integer, String> map = Maps.immutable.<Integer, String>emptyPersistent().newWithKeyValue(null, null).newWithKeyValue(1, "1");
+        Assert.assertTrue(map.containsKey(null));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertNull(map.get(null));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(null, null, 1, "1"), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1"), map.newWithoutKey(null));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableMap<Integer, String> map = Maps.immutable.withAllPersistent(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3"));
+        ImmutableMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, deserialized);
+        Assert.assertEquals(map, deserialized);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.Verify;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -111,4 +112,21 @@ public abstract class ConcurrentHashMapTestCase extends MutableMapTestCase
                 FastList.newList(Collections.nCopies(100, 2)),
                 FastList.newList(map.values()));
     }
+
+    @Test
+    public void concurrentPutAndRemoveSize()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = this.newMap();
+        ParallelIterate.forEach(Interval.oneTo(100000), each -> {
+            map.put(each, each);
+            if (each % 2 == 0)
+            {
+                map.remove(each);
+            }
+        }, 1, this.executor);
+        Verify.assertSize(50000, map);
+        Assert.assertEquals(Interval.oneTo(100000).select(each -> each % 2 != 0).toSet(), map.keySet());
+        ParallelIterate.forEach(Interval.oneTo(100000), map::remove, 1, this.executor);
+        Verify.assertEmpty(map);
+    }
 }
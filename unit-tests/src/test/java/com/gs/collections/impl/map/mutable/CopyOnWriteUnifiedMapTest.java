@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteUnifiedMap}.
+ */
+public class CopyOnWriteUnifiedMapTest
+{
+    @Test
+    public void putAndRemove()
+    {
+        CopyOnWriteUnifiedMap<Integer, String> map = CopyOnWriteUnifiedMap.newWithKeysValues(1, "1", 2, "2");
+        Assert.assertNull(map.put(3, "3"));
+        Assert.assertEquals("3", map.put(3, "Three"));
+        Assert.assertEquals("1", map.remove(1));
+        Assert.assertNull(map.remove(1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "2", 3, "Three"), map);
+        Assert.assertEquals("2", map.get(2));
+        Assert.assertTrue(map.containsKey(3));
+        Assert.assertTrue(map.containsValue("Three"));
+        map.clear();
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void getIfAbsentPutAndUpdateValue()
+    {
+        CopyOnWriteUnifiedMap<String, Integer> map = CopyOnWriteUnifiedMap.newMap();
+        Assert.assertEquals(Integer.valueOf(1), map.getIfAbsentPut("a", 1));
+        Assert.assertEquals(Integer.valueOf(1), map.getIfAbsentPut("a", 2));
+        Assert.assertEquals(Integer.valueOf(2), map.updateValue("a", () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(1), map.updateValue("b", () -> 0, each -> each + 1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("a", 2, "b", 1), map);
+    }
+
+    @Test
+    public void viewsAreSnapshots()
+    {
+        CopyOnWriteUnifiedMap<Integer, String> map = CopyOnWriteUnifiedMap.newWithKeysValues(1, "1", 2, "2");
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        map.put(3, "3");
+        map.remove(1);
+        MutableMap<Integer, String> seen = UnifiedMap.newMap();
+        while (iterator.hasNext())
+        {
+            Map.Entry<Integer, String> entry = iterator.next();
+            seen.put(entry.getKey(), entry.getValue());
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), seen);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "2", 3, "3"), map);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove(2));
+    }
+
+    @Test
+    public void withWriteBatch()
+    {
+        CopyOnWriteUnifiedMap<Integer, String> map = CopyOnWriteUnifiedMap.newWithKeysValues(1, "1", 2, "2");
+        ImmutableMap<Integer, String> before = map.toImmutable();
+        map.withWriteBatch(each -> {
+            each.put(3, "3");
+            each.remove(1);
+            Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), map);
+        });
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "2", 3, "3"), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), before);
+    }
+
+    @Test
+    public void newEmptyAndClone()
+    {
+        CopyOnWriteUnifiedMap<Integer, String> map = CopyOnWriteUnifiedMap.newWithKeysValues(1, "1");
+        Verify.assertInstanceOf(CopyOnWriteUnifiedMap.class, map.newEmpty());
+        MutableMap<Integer, String> clone = map.clone();
+        clone.put(2, "2");
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1"), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), clone);
+    }
+
+    @Test
+    public void serialization()
+    {
+        CopyOnWriteUnifiedMap<Integer, String> map = CopyOnWriteUnifiedMap.newWithKeysValues(1, "1", 2, "2");
+        Assert.assertEquals(map, SerializeTestHelper.serializeDeserialize(map));
+    }
+}
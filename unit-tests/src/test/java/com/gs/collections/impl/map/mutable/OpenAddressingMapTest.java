@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OpenAddressingMap}.
+ */
+public class OpenAddressingMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OpenAddressingMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OpenAddressingMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OpenAddressingMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OpenAddressingMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return OpenAddressingMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void newMap_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(-1, 0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(1, 0.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(1, -0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(1, 1.5f));
+    }
+
+    @Test
+    public void putGetRemove_many()
+    {
+        OpenAddressingMap<Integer, String> map = OpenAddressingMap.newMap(0, 0.9f);
+        for (int i = 0; i < 10000; i++)
+        {
+            Assert.assertNull(map.put(i, String.valueOf(i)));
+        }
+        Verify.assertSize(10000, map);
+        for (int i = 0; i < 10000; i += 2)
+        {
+            Assert.assertEquals(String.valueOf(i), map.remove(i));
+        }
+        Verify.assertSize(5000, map);
+        for (int i = 0; i < 10000; i++)
+        {
+            Assert.assertEquals(i % 2 == 0 ? null : String.valueOf(i), map.get(i));
+        }
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        OpenAddressingMap<CollidingKey, Integer> map = OpenAddressingMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(new CollidingKey(i), i);
+        }
+        Verify.assertSize(100, map);
+        for (int i = 0; i < 100; i += 3)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.removeKey(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertEquals(i % 3 == 0 ? null : Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        Assert.assertEquals(Interval.zeroTo(99).reject(each -> each % 3 == 0).toSet(), map.valuesView().toSet());
+    }
+
+    @Test
+    public void iteratorRemove_collidingKeys()
+    {
+        OpenAddressingMap<CollidingKey, Integer> map = OpenAddressingMap.newMap();
+        for (int i = 0; i < 50; i++)
+        {
+            map.put(new CollidingKey(i), i);
+        }
+        int visited = 0;
+        Iterator<Map.Entry<CollidingKey, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            Map.Entry<CollidingKey, Integer> entry = iterator.next();
+            visited++;
+            if (entry.getValue() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(50, visited);
+        Verify.assertSize(25, map);
+        Assert.assertTrue(map.allSatisfy(each -> each % 2 == 1));
+        for (int i = 1; i < 50; i += 2)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void nullKeyAmongCollisions()
+    {
+        OpenAddressingMap<CollidingKey, String> map = OpenAddressingMap.newWithKeysValues(null, "null", new CollidingKey(1), "1", new CollidingKey(2), "2");
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertEquals("null", map.remove(null));
+        Assert.assertEquals("1", map.get(new CollidingKey(1)));
+        Assert.assertEquals("2", map.get(new CollidingKey(2)));
+        Assert.assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void clearAfterOverflow()
+    {
+        OpenAddressingMap<CollidingKey, Integer> map = OpenAddressingMap.newMap();
+        for (int i = 0; i < 40; i++)
+        {
+            map.put(new CollidingKey(i), i);
+        }
+        map.clear();
+        Verify.assertEmpty(map);
+        map.put(new CollidingKey(1), 1);
+        Assert.assertEquals(Integer.valueOf(1), map.get(new CollidingKey(1)));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return -1;
+        }
+    }
+}
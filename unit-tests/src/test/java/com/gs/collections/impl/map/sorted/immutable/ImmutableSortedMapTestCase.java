@@ -82,6 +82,27 @@ public abstract class ImmutableSortedMapTestCase extends MapIterableTestCase
         Assert.assertEquals(revImmutable, new HashMap<>(revMap));
     }
 
+    @Test
+    public void rankKeyAtAndCountBetween()
+    {
+        ImmutableSortedMap<Integer, String> map = this.classUnderTest();
+        for (int i = 1; i <= this.size(); i++)
+        {
+            Assert.assertEquals(i - 1, map.rank(i));
+            Assert.assertEquals(Integer.valueOf(i), map.keyAt(i - 1));
+        }
+        Assert.assertEquals(this.size(), map.rank(this.size() + 1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> map.keyAt(this.size()));
+        Assert.assertEquals(this.size(), map.countBetween(0, this.size() + 1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.countBetween(1, 0));
+
+        ImmutableSortedMap<Integer, String> revMap = this.classUnderTest(REV_INT_COMPARATOR);
+        Assert.assertEquals(0, revMap.rank(this.size() + 1));
+        Assert.assertEquals(this.size(), revMap.rank(0));
+        Assert.assertEquals(this.size(), revMap.countBetween(this.size() + 1, 0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> revMap.countBetween(0, 1));
+    }
+
     @Override
     @Test
     public void toSortedMap()
@@ -299,4 +299,27 @@ public class ImmutableTreeMapTest extends ImmutableSortedMapTestCase
         ImmutableTreeMap<Integer, String> immutableMap = new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4"));
         Assert.assertSame(immutableMap, SortedMaps.immutable.ofSortedMap(immutableMap));
     }
+
+    @Test
+    public void largeMapLookups()
+    {
+        MutableSortedMap<Integer, String> map = SortedMaps.mutable.of();
+        MutableSortedMap<Integer, String> revMap = SortedMaps.mutable.of(Comparators.<Integer>reverseNaturalOrder());
+        for (int i = 0; i <= 20000; i += 2)
+        {
+            map.put(i, String.valueOf(i));
+            revMap.put(i, String.valueOf(i));
+        }
+        ImmutableSortedMap<Integer, String> immutable = map.toImmutable();
+        ImmutableSortedMap<Integer, String> revImmutable = revMap.toImmutable();
+        for (int i = -1; i <= 20001; i++)
+        {
+            String expected = i >= 0 && i <= 20000 && i % 2 == 0 ? String.valueOf(i) : null;
+            Assert.assertEquals(expected, immutable.get(i));
+            Assert.assertEquals(expected, revImmutable.get(i));
+            Assert.assertEquals(expected != null, immutable.containsKey(i));
+        }
+        Assert.assertEquals(map, immutable);
+        Verify.assertListsEqual(map.keySet().toList(), immutable.keysView().toList());
+    }
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2013 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BTreeSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void testConstructors()
+    {
+        UnifiedMap<Integer, String> unifiedMap = UnifiedMap.newWithKeysValues(1, "One", 2, "Two", 3, "Three");
+        BTreeSortedMap<Integer, String> sortedMap = BTreeSortedMap.newMap(unifiedMap);
+        BTreeSortedMap<Integer, String> revSortedMap = BTreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder(),
+                unifiedMap);
+
+        Verify.assertMapsEqual(unifiedMap, sortedMap);
+        Verify.assertMapsEqual(unifiedMap, revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3), sortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(3, 2, 1), revSortedMap.keySet().toList());
+
+        BTreeSortedMap<Integer, String> sortedMap2 = BTreeSortedMap.newMap(revSortedMap);
+        Assert.assertEquals(revSortedMap.comparator(), sortedMap2.comparator());
+        Verify.assertMapsEqual(revSortedMap, sortedMap2);
+    }
+
+    @Test
+    public void newMapWithPairs()
+    {
+        BTreeSortedMap<Integer, Integer> revSortedMap = BTreeSortedMap.newMapWith(Comparators.<Integer>reverseNaturalOrder(),
+                Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+
+        Verify.assertSize(4, revSortedMap);
+
+        Verify.assertMapsEqual(UnifiedMap.newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1)),
+                revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(4, 3, 2, 1), revSortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3, 4), revSortedMap.valuesView().toList());
+    }
+
+    @Override
+    @Test
+    public void testClone()
+    {
+        super.testClone();
+        BTreeSortedMap<Integer, Integer> sortedMap = BTreeSortedMap.<Integer, Integer>newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+        MutableSortedMap<Integer, Integer> clone = sortedMap.clone();
+        Assert.assertNotSame(sortedMap, clone);
+        Assert.assertEquals(sortedMap, clone);
+        sortedMap.removeKey(1);
+        Assert.assertTrue(clone.containsKey(1));
+    }
+
+    @Test
+    public void manyKeysMatchTreeMap()
+    {
+        Random random = new Random(42L);
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 100000; i++)
+        {
+            int key = random.nextInt(20000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(FastList.newList(expected.keySet()), map.keySet().toList());
+        Assert.assertEquals(expected.firstKey(), map.firstKey());
+        Assert.assertEquals(expected.lastKey(), map.lastKey());
+
+        for (Integer key : Interval.zeroTo(20000))
+        {
+            map.remove(key);
+        }
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void rankAndKeyAtMatchTreeMap()
+    {
+        Random random = new Random(7L);
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 50000; i++)
+        {
+            int key = random.nextInt(10000);
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(key);
+                map.remove(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+        int index = 0;
+        for (Integer key : expected.keySet())
+        {
+            Assert.assertEquals(index, map.rank(key));
+            Assert.assertEquals(key, map.keyAt(index));
+            index++;
+        }
+        for (int i = 0; i < 1000; i++)
+        {
+            int from = random.nextInt(10000);
+            int to = from + random.nextInt(10000 - from + 1);
+            Assert.assertEquals(expected.headMap(from).size(), map.rank(from));
+            Assert.assertEquals(expected.subMap(from, to).size(), map.countBetween(from, to));
+            Assert.assertEquals(expected.subMap(from, to).size(), map.subMap(from, to).size());
+        }
+    }
+
+    @Test
+    public void ascendingAppend()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMap();
+        for (int i = 0; i < 10000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        Verify.assertSize(10000, map);
+        Assert.assertEquals("5000", map.get(5000));
+        Assert.assertEquals(Integer.valueOf(0), map.firstKey());
+        Assert.assertEquals(Integer.valueOf(9999), map.lastKey());
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i += 2)
+        {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+
+        Assert.assertEquals(expected.subMap(101, 3001), map.subMap(101, 3001));
+        Verify.assertSize(expected.subMap(101, 3001).size(), map.subMap(101, 3001));
+        Assert.assertEquals(Integer.valueOf(102), map.subMap(101, 3001).firstKey());
+        Assert.assertEquals(Integer.valueOf(3000), map.subMap(101, 3001).lastKey());
+        Assert.assertEquals(expected.headMap(777), map.headMap(777));
+        Assert.assertEquals(expected.tailMap(4001), map.tailMap(4001));
+        Assert.assertEquals(expected.subMap(200, 400).headMap(300), map.subMap(200, 400).headMap(300));
+        Verify.assertEmpty(map.subMap(101, 102));
+        MutableList<Integer> scanned = FastList.newList();
+        map.subMap(101, 3001).forEachKeyValue((key, value) -> scanned.add(value));
+        Assert.assertEquals(FastList.newList(expected.subMap(101, 3001).values()), scanned);
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(200, 400).put(500, 500));
+
+        map.subMap(1000, 2000).put(1001, 1001);
+        Assert.assertEquals(Integer.valueOf(1001), map.get(1001));
+
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.subMap(1000, 2000).entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            iterator.next();
+            iterator.remove();
+        }
+        expected.subMap(1000, 2000).clear();
+        Assert.assertEquals(expected, map);
+
+        map.tailMap(3000).clear();
+        expected.tailMap(3000).clear();
+        Assert.assertEquals(expected, map);
+    }
+
+    @Test
+    public void entrySetValue()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMapWith(1, "One", 2, "Two");
+        for (Map.Entry<Integer, String> entry : map.entrySet())
+        {
+            entry.setValue(entry.getValue().toUpperCase());
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "ONE", 2, "TWO"), map);
+    }
+
+    @Test
+    public void serializationOfManyKeys()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder());
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+}
@@ -751,6 +751,26 @@ public abstract class MutableSortedMapTestCase extends MutableMapIterableTestCas
         Verify.assertThrows(NoSuchElementException.class, (Runnable) emptyMap::lastKey);
     }
 
+    @Test
+    public void rankKeyAtAndCountBetween()
+    {
+        MutableSortedMap<Integer, String> map = this.newMapWithKeysValues(Comparators.<Integer>reverseNaturalOrder(),
+                1, "1", 3, "3", 5, "5", 7, "7");
+        Assert.assertEquals(0, map.rank(8));
+        Assert.assertEquals(2, map.rank(4));
+        Assert.assertEquals(3, map.rank(1));
+        Assert.assertEquals(4, map.rank(0));
+
+        Assert.assertEquals(Integer.valueOf(7), map.keyAt(0));
+        Assert.assertEquals(Integer.valueOf(1), map.keyAt(3));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> map.keyAt(4));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> map.keyAt(-1));
+
+        Assert.assertEquals(2, map.countBetween(7, 3));
+        Assert.assertEquals(0, map.countBetween(4, 4));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.countBetween(3, 7));
+    }
+
     @Test
     public void headMap()
     {
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentListMultimap}.
+ */
+public class ConcurrentListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void manyValuesForOneKey()
+    {
+        ConcurrentListMultimap<String, Integer> multimap = this.newMultimap();
+        Interval.oneTo(1000).each(each -> multimap.put("A", each));
+        multimap.put("A", null);
+        Assert.assertEquals(1001, multimap.size());
+        Assert.assertEquals(Interval.oneTo(1000).toList().with(null), multimap.get("A"));
+        MutableList<Integer> values = multimap.get("A");
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i + 1), values.get(i));
+        }
+        Assert.assertNull(values.get(1000));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> values.get(1001));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> values.get(-1));
+        Interval.evensFromTo(1, 1000).each(each -> Assert.assertTrue(multimap.remove("A", each)));
+        Assert.assertTrue(multimap.remove("A", null));
+        Assert.assertFalse(multimap.remove("A", 2));
+        Assert.assertEquals(Interval.oddsFromTo(1, 1000).toList(), multimap.get("A"));
+        Assert.assertEquals(Integer.valueOf(999), multimap.get("A").get(499));
+        Assert.assertEquals(500, multimap.size());
+    }
+
+    @Test
+    public void removingLastValueRemovesKey()
+    {
+        ConcurrentListMultimap<String, Integer> multimap = this.newMultimapWithKeysValues("A", 1, "A", 1);
+        MutableList<Integer> view = multimap.get("A");
+        Assert.assertTrue(multimap.remove("A", 1));
+        Assert.assertTrue(multimap.remove("A", 1));
+        Verify.assertEmpty(view);
+        Verify.assertEmpty(multimap);
+        Assert.assertEquals(0, multimap.sizeDistinct());
+        Assert.assertTrue(multimap.put("A", 2));
+        Assert.assertEquals(FastList.newListWith(2), multimap.get("A"));
+    }
+
+    @Test
+    public void concurrentPut() throws Exception
+    {
+        ConcurrentListMultimap<Integer, Integer> multimap = this.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int thread = 0; thread < 8; thread++)
+            {
+                int offset = thread * 10000;
+                futures.add(executor.submit(() -> Interval.fromTo(offset, offset + 9999).each(each -> multimap.put(each % 16, each))));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(80000, multimap.size());
+        Assert.assertEquals(16, multimap.sizeDistinct());
+        for (int key = 0; key < 16; key++)
+        {
+            int each = key;
+            Assert.assertEquals(Interval.zeroTo(79999).select(value -> value % 16 == each).toList(), multimap.get(key).toSortedList());
+        }
+    }
+
+    @Test
+    public void concurrentPutAndRemoveOnOneKey() throws Exception
+    {
+        ConcurrentListMultimap<String, Integer> multimap = this.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int thread = 0; thread < 8; thread++)
+            {
+                int value = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++)
+                    {
+                        Assert.assertTrue(multimap.put("A", value));
+                        Assert.assertTrue(multimap.remove("A", value));
+                    }
+                    Assert.assertTrue(multimap.put("A", value));
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(Interval.zeroTo(7), multimap.get("A").toSortedList());
+        Assert.assertEquals(8, multimap.size());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.list;
+
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableCompactListMultimapTest extends ImmutableListMultimapTest
+{
+    @Override
+    protected <K, V> ImmutableListMultimap<K, V> classUnderTest()
+    {
+        return FastListMultimap.<K, V>newMultimap().toImmutableCompact();
+    }
+
+    @Test
+    public void getKeepsInsertionOrderPerKey()
+    {
+        FastListMultimap<Integer, Integer> mutableMultimap = FastListMultimap.newMultimap();
+        Interval.zeroTo(9999).forEach((int each) -> mutableMultimap.put(each % 1000, each));
+        ImmutableListMultimap<Integer, Integer> multimap = mutableMultimap.toImmutableCompact();
+        Verify.assertInstanceOf(ImmutableCompactListMultimap.class, multimap);
+        Assert.assertEquals(10000, multimap.size());
+        Assert.assertEquals(1000, multimap.sizeDistinct());
+        for (int key = 0; key < 1000; key++)
+        {
+            Assert.assertEquals(mutableMultimap.get(key), multimap.get(key));
+        }
+        Assert.assertEquals(mutableMultimap, multimap);
+        Assert.assertEquals(mutableMultimap.hashCode(), multimap.hashCode());
+        Verify.assertEmpty(multimap.get(1000));
+        Assert.assertFalse(multimap.containsKey(1000));
+        Assert.assertTrue(multimap.containsKeyAndValue(7, 9007));
+        Assert.assertFalse(multimap.containsKeyAndValue(7, 9008));
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        FastListMultimap<String, String> mutableMultimap = FastListMultimap.newMultimap();
+        mutableMultimap.put(null, "a");
+        mutableMultimap.put(null, null);
+        mutableMultimap.put("b", null);
+        ImmutableListMultimap<String, String> multimap = mutableMultimap.toImmutableCompact();
+        Assert.assertEquals(Lists.immutable.with("a", null), multimap.get(null));
+        Assert.assertEquals(Lists.immutable.with((String) null), multimap.get("b"));
+        Assert.assertTrue(multimap.containsValue(null));
+        Assert.assertTrue(multimap.containsKey(null));
+    }
+
+    @Test
+    public void newWithStaysCompact()
+    {
+        ImmutableListMultimap<String, Integer> multimap = this.<String, Integer>classUnderTest().newWith("A", 1).newWith("A", 2);
+        Verify.assertInstanceOf(ImmutableCompactListMultimap.class, multimap);
+        Assert.assertEquals(Lists.immutable.with(1, 2), multimap.get("A"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableSetTestCase
+{
+    @Override
+    protected ImmutableSet<Integer> classUnderTest()
+    {
+        return Sets.immutable.withAllPersistent(Interval.oneTo(4));
+    }
+
+    @Test
+    public void newWithAndNewWithout_sharesStructure()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.emptyPersistent();
+        for (int i = 0; i < 10000; i++)
+        {
+            set = set.newWith(i);
+        }
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, set);
+        Assert.assertEquals(UnifiedSet.newSet(Interval.zeroTo(9999)), set);
+        Assert.assertSame(set, set.newWith(5));
+
+        ImmutableSet<Integer> evens = set;
+        for (int i = 1; i < 10000; i += 2)
+        {
+            evens = evens.newWithout(i);
+        }
+        Assert.assertEquals(Interval.zeroTo(9999).select(each -> each % 2 == 0).toSet(), evens);
+        Verify.assertSize(10000, set);
+        Assert.assertSame(Sets.immutable.emptyPersistent(), set.newWithoutAll(Interval.zeroTo(9999)));
+    }
+
+    @Test
+    public void nullElement()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.<Integer>emptyPersistent().newWith(null).newWith(1);
+        Assert.assertTrue(set.contains(null));
+        Assert.assertEquals(UnifiedSet.newSetWith(null, 1), set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1), set.newWithout(null));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.withAllPersistent(Interval.oneTo(1000));
+        ImmutableSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, deserialized);
+        Assert.assertEquals(set, deserialized);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.domain.Key;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentPoolTest
+{
+    @Test
+    public void getReturnsNullIfObjectIsNotPooled()
+    {
+        Assert.assertNull(ConcurrentPool.<Key>newPool().get(new Key("1")));
+    }
+
+    @Test
+    public void putReturnsPooledObjectForEqualObject()
+    {
+        ConcurrentPool<Key> pool = ConcurrentPool.newPool();
+        Key first = new Key("1");
+        Assert.assertSame(first, pool.put(first));
+        Assert.assertSame(first, pool.put(new Key("1")));
+        Assert.assertSame(first, pool.get(new Key("1")));
+        Assert.assertEquals(1, pool.size());
+        Assert.assertEquals(1L, pool.getHitCount());
+        Assert.assertEquals(1L, pool.getMissCount());
+        Assert.assertEquals(0.5, pool.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void getHitRate_empty()
+    {
+        Assert.assertEquals(0.0, ConcurrentPool.newPool().getHitRate(), 0.0);
+    }
+
+    @Test
+    public void removeFromPool()
+    {
+        ConcurrentPool<Key> pool = ConcurrentPool.newPool();
+        Key first = new Key("1");
+        pool.put(first);
+        pool.put(new Key("2"));
+        Assert.assertSame(first, pool.removeFromPool(new Key("1")));
+        Assert.assertNull(pool.removeFromPool(new Key("1")));
+        Assert.assertNull(pool.get(first));
+        Assert.assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        ConcurrentPool<CollidingInteger> pool = ConcurrentPool.newPool();
+        for (int i = 0; i < 100; i++)
+        {
+            pool.put(new CollidingInteger(i));
+        }
+        Assert.assertEquals(100, pool.size());
+        for (int i = 0; i < 100; i += 2)
+        {
+            Assert.assertNotNull(pool.removeFromPool(new CollidingInteger(i)));
+        }
+        Assert.assertEquals(50, pool.size());
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertEquals(i % 2 == 1, pool.get(new CollidingInteger(i)) != null);
+        }
+    }
+
+    @Test
+    public void resize()
+    {
+        ConcurrentPool<Integer> pool = ConcurrentPool.newPool(1);
+        for (int i = 0; i < 10000; i++)
+        {
+            pool.put(i);
+        }
+        Assert.assertEquals(10000, pool.size());
+        for (int i = 0; i < 10000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), pool.get(i));
+        }
+    }
+
+    @Test
+    public void clear()
+    {
+        ConcurrentPool<Integer> pool = ConcurrentPool.newPool();
+        for (int i = 0; i < 1000; i++)
+        {
+            pool.put(i);
+        }
+        pool.clear();
+        Assert.assertEquals(0, pool.size());
+        Assert.assertNull(pool.get(1));
+    }
+
+    @Test
+    public void concurrentPut() throws Exception
+    {
+        final ConcurrentPool<Key> pool = ConcurrentPool.newPool(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Key[]>> futures = FastList.newList();
+            for (int thread = 0; thread < 8; thread++)
+            {
+                futures.add(executor.submit(() -> {
+                    Key[] interned = new Key[10000];
+                    for (int i = 0; i < interned.length; i++)
+                    {
+                        interned[i] = pool.put(new Key(String.valueOf(i)));
+                    }
+                    return interned;
+                }));
+            }
+            Key[] expected = futures.get(0).get();
+            for (Future<Key[]> future : futures)
+            {
+                Key[] actual = future.get();
+                for (int i = 0; i < actual.length; i++)
+                {
+                    Assert.assertSame(expected[i], actual[i]);
+                }
+            }
+            Assert.assertEquals(10000, pool.size());
+            Assert.assertEquals(10000L, pool.getMissCount());
+            Assert.assertEquals(70000L, pool.getHitCount());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void weakPoolReleasesUnreachableObjects() throws Exception
+    {
+        ConcurrentPool<Key> pool = ConcurrentPool.newWeakPool();
+        Key retained = pool.put(new Key("retained"));
+        for (int i = 0; i < 1000; i++)
+        {
+            pool.put(new Key(String.valueOf(i)));
+        }
+        for (int i = 0; i < 20 && pool.size() > 1; i++)
+        {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        Assert.assertSame(retained, pool.get(new Key("retained")));
+        Assert.assertTrue(pool.size() < 1001);
+    }
+
+    @Test
+    public void softPool()
+    {
+        ConcurrentPool<Key> pool = ConcurrentPool.newSoftPool();
+        Key first = new Key("1");
+        pool.put(first);
+        Assert.assertSame(first, pool.put(new Key("1")));
+        Assert.assertSame(first, pool.removeFromPool(new Key("1")));
+        Assert.assertEquals(0, pool.size());
+    }
+
+    private static final class CollidingInteger
+    {
+        private final int value;
+
+        private CollidingInteger(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof CollidingInteger && ((CollidingInteger) obj).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 3;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteUnifiedSet}.
+ */
+public class CopyOnWriteUnifiedSetTest
+{
+    @Test
+    public void addAndRemove()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        Assert.assertTrue(set.add(4));
+        Assert.assertFalse(set.add(4));
+        Assert.assertTrue(set.remove(1));
+        Assert.assertFalse(set.remove(1));
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Assert.assertTrue(set.contains(2));
+        Assert.assertFalse(set.contains(1));
+        set.clear();
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void bulkOperations()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSet(Interval.oneTo(5));
+        Assert.assertTrue(set.removeIf(Predicates.greaterThan(3)));
+        Assert.assertFalse(set.removeIf(Predicates.greaterThan(3)));
+        Assert.assertTrue(set.addAllIterable(Interval.fromTo(10, 11)));
+        Assert.assertTrue(set.retainAll(UnifiedSet.newSetWith(1, 3, 10)));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 3, 10), set);
+        Assert.assertTrue(set.removeAllIterable(UnifiedSet.newSetWith(3)));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 10), set);
+    }
+
+    @Test
+    public void iteratorIsSnapshot()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        set.add(4);
+        set.remove(1);
+        MutableSet<Integer> seen = UnifiedSet.newSet();
+        while (iterator.hasNext())
+        {
+            seen.add(iterator.next());
+        }
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), seen);
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void withWriteBatch()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        ImmutableSet<Integer> before = set.toImmutable();
+        set.withWriteBatch(each -> {
+            each.add(4);
+            each.remove(1);
+            Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        });
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), before);
+    }
+
+    @Test
+    public void newEmptyAndClone()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2);
+        Verify.assertInstanceOf(CopyOnWriteUnifiedSet.class, set.newEmpty());
+        MutableSet<Integer> clone = set.clone();
+        clone.add(3);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2), set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), clone);
+    }
+
+    @Test
+    public void serialization()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        Assert.assertEquals(set, SerializeTestHelper.serializeDeserialize(set));
+    }
+}
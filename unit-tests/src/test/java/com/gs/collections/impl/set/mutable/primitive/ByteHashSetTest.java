@@ -16,11 +16,19 @@
 
 package com.gs.collections.impl.set.mutable.primitive;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.primitive.MutableByteSet;
 import com.gs.collections.impl.block.factory.primitive.BytePredicates;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
@@ -536,4 +544,27 @@ public class ByteHashSetTest extends AbstractByteSetTestCase
         ByteHashSet hashSet2 = ByteHashSet.newSetWith((byte) -1, (byte) -4);
         Assert.assertEquals(2, hashSet2.freeze().size());
     }
+
+    @Test
+    public void snapshot() throws IOException
+    {
+        ByteHashSet first = ByteHashSet.newSetWith((byte) -128, (byte) -1, (byte) 0, (byte) 63, (byte) 64, (byte) 127);
+        ByteHashSet second = ByteHashSet.newSetWith();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        first.writeSnapshot(Channels.newChannel(bytes));
+        second.writeSnapshot(Channels.newChannel(bytes));
+        ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+        ByteHashSet firstCopy = ByteHashSet.readSnapshot(channel);
+        Assert.assertEquals(first, firstCopy);
+        Assert.assertEquals(first.size(), firstCopy.size());
+        Assert.assertEquals(second, ByteHashSet.readSnapshot(channel));
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void readSnapshot_throwsOnOtherKind() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IntArrayList.newListWith(1, 2).writeSnapshot(Channels.newChannel(bytes));
+        ByteHashSet.readSnapshot(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+    }
 }
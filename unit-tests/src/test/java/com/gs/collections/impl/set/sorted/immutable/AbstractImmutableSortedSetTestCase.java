@@ -986,6 +986,21 @@ public abstract class AbstractImmutableSortedSetTestCase
         Assert.assertEquals(-1, integers.indexOf(5));
     }
 
+    @Test
+    public void rankGetAndCountBetween()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Comparators.<Integer>reverseNaturalOrder());
+        Assert.assertEquals(0, integers.rank(5));
+        Assert.assertEquals(1, integers.rank(3));
+        Assert.assertEquals(4, integers.rank(0));
+        Assert.assertEquals(Integer.valueOf(4), integers.get(0));
+        Assert.assertEquals(Integer.valueOf(1), integers.get(3));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(4));
+        Assert.assertEquals(2, integers.countBetween(4, 2));
+        Assert.assertEquals(4, integers.countBetween(5, 0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.countBetween(1, 4));
+    }
+
     @Test
     public void forEachFromTo()
     {
@@ -609,6 +609,17 @@ public class ImmutableEmptySortedSetTest extends AbstractImmutableSortedSetTestC
         Assert.assertEquals(-1, integers.indexOf(5));
     }
 
+    @Override
+    @Test
+    public void rankGetAndCountBetween()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Comparators.<Integer>reverseNaturalOrder());
+        Assert.assertEquals(0, integers.rank(1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(0));
+        Assert.assertEquals(0, integers.countBetween(4, 1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.countBetween(1, 4));
+    }
+
     @Override
     @Test
     public void forEachFromTo()
@@ -27,6 +27,7 @@ import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.factory.SortedSets;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -133,6 +134,21 @@ public class ImmutableTreeSetTest
         Verify.assertListsEqual(expectedRevSortedSet, revPowerSet.toList());
     }
 
+    @Test
+    public void largeSetLookups()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAll(Interval.zeroToBy(20000, 2));
+        ImmutableSortedSet<Integer> revSet = SortedSets.immutable.withAll(Comparators.<Integer>reverseNaturalOrder(), Interval.zeroToBy(20000, 2));
+        for (int i = -1; i <= 20001; i++)
+        {
+            boolean even = i >= 0 && i <= 20000 && i % 2 == 0;
+            Assert.assertEquals(even, set.contains(i));
+            Assert.assertEquals(even, revSet.contains(i));
+            Assert.assertEquals(even ? i / 2 : -1, set.indexOf(i));
+            Assert.assertEquals(i < 0 ? 0 : (i + 1) / 2, set.rank(i));
+        }
+    }
+
     @Test
     public void compareTo()
     {
@@ -824,6 +824,27 @@ public abstract class AbstractSortedSetTestCase extends AbstractCollectionTestCa
         Assert.assertEquals(-1, objects.indexOf(0));
     }
 
+    @Test
+    public void rankGetAndCountBetween()
+    {
+        MutableSortedSet<Integer> integers = this.newWith(Comparators.reverseNaturalOrder(), 1, 3, 5, 7);
+        Assert.assertEquals(0, integers.rank(8));
+        Assert.assertEquals(0, integers.rank(7));
+        Assert.assertEquals(2, integers.rank(4));
+        Assert.assertEquals(3, integers.rank(1));
+        Assert.assertEquals(4, integers.rank(0));
+        Assert.assertEquals(Integer.valueOf(7), integers.get(0));
+        Assert.assertEquals(Integer.valueOf(3), integers.get(2));
+        Assert.assertEquals(Integer.valueOf(1), integers.get(3));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(4));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> integers.get(-1));
+        Assert.assertEquals(2, integers.countBetween(7, 3));
+        Assert.assertEquals(3, integers.countBetween(6, 0));
+        Assert.assertEquals(0, integers.countBetween(4, 4));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.countBetween(3, 7));
+        integers.each(each -> Assert.assertSame(each, integers.get(integers.rank(each))));
+    }
+
     @Test
     public void detectIndex()
     {
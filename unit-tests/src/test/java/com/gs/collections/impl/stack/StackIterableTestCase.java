@@ -872,6 +872,16 @@ public abstract class StackIterableTestCase
                 this.newStackWith(1, 2, 3).maxBy(String::valueOf));
     }
 
+    @Test
+    public void topN()
+    {
+        StackIterable<Integer> stack = this.newStackWith(1, 3, 2);
+        Assert.assertEquals(FastList.newListWith(3, 2), stack.topN(2, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 2), stack.topNBy(2, each -> -each));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), stack.bottomN(5, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(3), stack.bottomNBy(1, each -> -each));
+    }
+
     @Test
     public void min()
     {
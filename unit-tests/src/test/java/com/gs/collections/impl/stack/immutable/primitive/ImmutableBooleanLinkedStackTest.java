@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stack.immutable.primitive;
+
+import com.gs.collections.api.BooleanIterable;
+import com.gs.collections.api.stack.primitive.ImmutableBooleanStack;
+import com.gs.collections.impl.factory.primitive.BooleanStacks;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.collections.impl.stack.mutable.primitive.BooleanArrayStack;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableBooleanLinkedStack}.
+ */
+public class ImmutableBooleanLinkedStackTest extends AbstractImmutableBooleanStackTestCase
+{
+    @Override
+    protected ImmutableBooleanStack classUnderTest()
+    {
+        return BooleanStacks.immutable.withAllPersistent(BooleanArrayList.newListWith(true, false, true, false));
+    }
+
+    @Override
+    protected ImmutableBooleanStack newWithTopToBottom(boolean... elements)
+    {
+        return ImmutableBooleanLinkedStack.newStackFromTopToBottom(elements);
+    }
+
+    @Override
+    protected ImmutableBooleanStack newWithIterableTopToBottom(BooleanIterable iterable)
+    {
+        return ImmutableBooleanLinkedStack.newStackFromTopToBottom(iterable);
+    }
+
+    @Override
+    protected ImmutableBooleanStack newWithIterable(BooleanIterable iterable)
+    {
+        return ImmutableBooleanLinkedStack.newStack(iterable);
+    }
+
+    @Test
+    public void newWithIterable()
+    {
+        Assert.assertEquals(BooleanArrayStack.newStackWith(true, true, false), this.newWithIterable(BooleanArrayList.newListWith(true, true, false)));
+    }
+
+    @Test
+    public void newWithTopToBottom()
+    {
+        Assert.assertEquals(BooleanArrayStack.newStackFromTopToBottom(true, true, false), this.newWithTopToBottom(true, true, false));
+    }
+
+    @Test
+    public void sharesStructure()
+    {
+        ImmutableBooleanStack stack = this.classUnderTest();
+        Assert.assertSame(stack, stack.push(true).pop());
+        Assert.assertSame(stack, stack.push(true).push(false).pop(2));
+        Assert.assertSame(BooleanStacks.immutable.emptyPersistent(), stack.pop(4));
+    }
+}
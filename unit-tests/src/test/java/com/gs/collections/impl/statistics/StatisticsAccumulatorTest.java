@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.statistics;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.statistics.DoubleStatistics;
+import com.gs.collections.api.statistics.IntStatistics;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StatisticsAccumulatorTest
+{
+    @Test
+    public void intStatistics()
+    {
+        IntStatisticsAccumulator accumulator = new IntStatisticsAccumulator();
+        accumulator.value(Integer.MAX_VALUE);
+        accumulator.value(Integer.MAX_VALUE);
+        accumulator.value(-1);
+        IntStatistics statistics = accumulator.toStatistics();
+        Assert.assertEquals(3L, statistics.getCount());
+        Assert.assertEquals(2L * Integer.MAX_VALUE - 1L, statistics.getSum());
+        Assert.assertEquals(-1, statistics.getMin());
+        Assert.assertEquals(Integer.MAX_VALUE, statistics.getMax());
+        Assert.assertEquals("IntStatistics{count=0, sum=0}", new IntStatisticsAccumulator().toStatistics().toString());
+    }
+
+    @Test
+    public void merge()
+    {
+        IntStatisticsAccumulator left = new IntStatisticsAccumulator();
+        IntStatisticsAccumulator right = new IntStatisticsAccumulator();
+        IntStatisticsAccumulator all = new IntStatisticsAccumulator();
+        for (int i = 0; i < 100; i++)
+        {
+            (i < 30 ? left : right).value(i);
+            all.value(i);
+        }
+        Verify.assertEqualsAndHashCode(all.toStatistics(), left.merge(right).toStatistics());
+        Assert.assertEquals(all.toStatistics(), new IntStatisticsAccumulator().merge(all).toStatistics());
+
+        LongStatisticsAccumulator longs = new LongStatisticsAccumulator();
+        longs.value(3L);
+        Assert.assertEquals(3L, longs.merge(new LongStatisticsAccumulator()).toStatistics().getMax());
+    }
+
+    @Test
+    public void doubleStatisticsCompensatesRoundingError()
+    {
+        DoubleStatisticsAccumulator left = new DoubleStatisticsAccumulator();
+        DoubleStatisticsAccumulator right = new DoubleStatisticsAccumulator();
+        for (int i = 0; i < 1000; i++)
+        {
+            left.value(0.1);
+            right.value(0.1);
+        }
+        DoubleStatistics statistics = left.merge(right).toStatistics();
+        Assert.assertEquals(200.0, statistics.getSum(), 0.0);
+        Assert.assertEquals(0.1, statistics.getMin(), 0.0);
+        Assert.assertEquals(0.1, statistics.getAverage(), 0.0);
+    }
+
+    @Test
+    public void doubleStatisticsNegativeValues()
+    {
+        DoubleStatisticsAccumulator accumulator = new DoubleStatisticsAccumulator();
+        accumulator.value(-2.0);
+        accumulator.value(-5.0);
+        Assert.assertEquals(-5.0, accumulator.toStatistics().getMin(), 0.0);
+        Assert.assertEquals(-2.0, accumulator.toStatistics().getMax(), 0.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void min_empty_throws()
+    {
+        new LongStatisticsAccumulator().toStatistics().getMin();
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void average_empty_throws()
+    {
+        new DoubleStatisticsAccumulator().toStatistics().getAverage();
+    }
+}
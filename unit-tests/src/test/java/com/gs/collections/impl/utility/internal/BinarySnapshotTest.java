@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinarySnapshotTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void rawReadsMixWithTypedReadsAcrossWindows() throws IOException
+    {
+        byte[] raw = new byte[37];
+        for (int i = 0; i < raw.length; i++)
+        {
+            raw[i] = (byte) (i + 1);
+        }
+        File file = this.folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        try
+        {
+            BinarySnapshot.Writer writer = BinarySnapshot.writer(out.getChannel());
+            writer.write(ByteBuffer.wrap(raw, 0, 5));
+            writer.writeInt(42);
+            writer.write(ByteBuffer.wrap(raw));
+            writer.writeLong(-1L);
+            writer.writeInt(7);
+            writer.flush();
+        }
+        finally
+        {
+            out.close();
+        }
+
+        for (long window : new long[]{8L, 11L, 16L, 1L << 30})
+        {
+            FileInputStream in = new FileInputStream(file);
+            try
+            {
+                FileChannel fileChannel = in.getChannel();
+                BinarySnapshot.Reader reader = BinarySnapshot.reader(fileChannel, window);
+                Assert.assertArrayEquals(Arrays.copyOf(raw, 5), BinarySnapshotTest.readFully(reader, 5));
+                Assert.assertEquals(42, reader.readInt());
+                Assert.assertArrayEquals(raw, BinarySnapshotTest.readFully(reader, raw.length));
+                Assert.assertEquals(-1L, reader.readLong());
+                Assert.assertEquals(7, reader.readInt());
+                Assert.assertEquals(-1, reader.read(ByteBuffer.allocate(1)));
+                reader.finish();
+                Assert.assertEquals(file.length(), fileChannel.position());
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+    }
+
+    private static byte[] readFully(BinarySnapshot.Reader reader, int length) throws IOException
+    {
+        ByteBuffer destination = ByteBuffer.allocate(length);
+        while (destination.hasRemaining())
+        {
+            Assert.assertTrue(reader.read(destination) > 0);
+        }
+        return destination.array();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OffHeapStorageTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void directAccessAfterClose_throws()
+    {
+        OffHeapStorage storage = OffHeapStorage.allocateDirect(64L);
+        storage.putLong(8L, 42L);
+        Assert.assertEquals(42L, storage.getLong(8L));
+        storage.close();
+        Assert.assertTrue(storage.isClosed());
+        OffHeapStorageTest.assertAccessThrows(storage);
+        storage.close();
+    }
+
+    @Test
+    public void mappedAccessAfterClose_throws() throws IOException
+    {
+        File file = new File(this.folder.getRoot(), "storage.bin");
+        OffHeapStorage storage = OffHeapStorage.map(file, 64L);
+        storage.putInt(4L, 7);
+        storage.close();
+        OffHeapStorageTest.assertAccessThrows(storage);
+
+        OffHeapStorage reopened = OffHeapStorage.map(file, 0L);
+        Assert.assertEquals(64L, reopened.byteSize());
+        Assert.assertEquals(7, reopened.getInt(4L));
+        reopened.close();
+    }
+
+    @Test
+    public void reallocateReleasesOldStorage()
+    {
+        OffHeapStorage storage = OffHeapStorage.allocateDirect(16L);
+        storage.putDouble(8L, 1.5);
+        OffHeapStorage larger = storage.reallocate(32L, 16L);
+        Assert.assertTrue(storage.isClosed());
+        Verify.assertThrows(IllegalStateException.class, () -> storage.getDouble(8L));
+        Assert.assertEquals(1.5, larger.getDouble(8L), 0.0);
+        Assert.assertEquals(0L, larger.getLong(24L));
+        larger.close();
+    }
+
+    private static void assertAccessThrows(OffHeapStorage storage)
+    {
+        OffHeapStorage other = OffHeapStorage.allocateDirect(8L);
+        try
+        {
+            Verify.assertThrows(IllegalStateException.class, () -> storage.getByte(0L));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.putShort(0L, (short) 1));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.getChar(0L));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.putInt(0L, 1));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.getLong(0L));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.putFloat(0L, 1.0f));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.getDouble(0L));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.zero(0L, 8L));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.copyTo(0L, other, 0L, 8L));
+            Verify.assertThrows(IllegalStateException.class, () -> other.copyTo(0L, storage, 0L, 8L));
+            Verify.assertThrows(IllegalStateException.class, () -> storage.reallocate(16L, 8L));
+        }
+        finally
+        {
+            other.close();
+        }
+    }
+}
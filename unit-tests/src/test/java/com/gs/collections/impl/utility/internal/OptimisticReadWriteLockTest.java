@@ -0,0 +1,196 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.bag.mutable.MultiReaderHashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.MultiReaderFastList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OptimisticReadWriteLockTest
+{
+    @Test
+    public void validateWithoutWrites()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        Assert.assertTrue(lock.validate(stamp));
+        lock.readLock().lock();
+        lock.readLock().unlock();
+        Assert.assertTrue(lock.validate(stamp));
+    }
+
+    @Test
+    public void writeInvalidatesStamp()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        lock.writeLock().lock();
+        Assert.assertFalse(lock.validate(stamp));
+        Assert.assertFalse(lock.validate(lock.tryOptimisticRead()));
+        lock.writeLock().unlock();
+        Assert.assertFalse(lock.validate(stamp));
+        Assert.assertTrue(lock.validate(lock.tryOptimisticRead()));
+    }
+
+    @Test
+    public void reentrantWriteStaysInvalidUntilFullyReleased()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        Assert.assertTrue(writeLock.tryLock());
+        writeLock.unlock();
+        Assert.assertFalse(lock.validate(lock.tryOptimisticRead()));
+        writeLock.unlock();
+        Assert.assertTrue(lock.validate(lock.tryOptimisticRead()));
+    }
+
+    @Test
+    public void tryLockWithTimeout() throws InterruptedException
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        Assert.assertTrue(lock.writeLock().tryLock(1L, TimeUnit.MILLISECONDS));
+        lock.writeLock().unlock();
+        lock.writeLock().lockInterruptibly();
+        lock.writeLock().unlock();
+        Assert.assertFalse(lock.validate(stamp));
+    }
+
+    @Test(expected = IllegalMonitorStateException.class)
+    public void unlockWithoutLock()
+    {
+        new OptimisticReadWriteLock().writeLock().unlock();
+    }
+
+    @Test
+    public void optimisticReadsSeeConsistentState() throws Exception
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newList(Interval.zeroTo(99));
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Future<?>> readers = FastList.newList();
+            for (int i = 0; i < 3; i++)
+            {
+                readers.add(executor.submit(() -> {
+                    while (!done.get())
+                    {
+                        int size = list.size();
+                        Assert.assertTrue(size == 100 || size == 101);
+                        Assert.assertTrue(list.contains(99));
+                        Assert.assertEquals(Integer.valueOf(0), list.get(0));
+                        Assert.assertFalse(list.isEmpty());
+                    }
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++)
+                {
+                    list.add(-1);
+                    list.remove(Integer.valueOf(-1));
+                }
+                done.set(true);
+            });
+            writer.get();
+            for (Future<?> reader : readers)
+            {
+                reader.get();
+            }
+        }
+        finally
+        {
+            done.set(true);
+            executor.shutdown();
+        }
+        Assert.assertEquals(Interval.zeroTo(99).toList(), list);
+    }
+
+    @Test
+    public void callerEqualsThatThrowsDuringWriteIsRetried()
+    {
+        AtomicInteger listCalls = new AtomicInteger();
+        MultiReaderFastList<Probe> list = MultiReaderFastList.newList();
+        list.add(new Probe(1, listCalls, () -> list.add(new Probe(2, listCalls, null))));
+        Assert.assertTrue(list.contains(new Probe(1, listCalls, null)));
+        Assert.assertEquals(2, list.size());
+
+        AtomicInteger bagCalls = new AtomicInteger();
+        MultiReaderHashBag<Probe> bag = MultiReaderHashBag.newBag();
+        bag.add(new Probe(1, bagCalls, () -> bag.add(new Probe(2, bagCalls, null))));
+        Assert.assertEquals(1, bag.occurrencesOf(new Probe(1, bagCalls, null)));
+        Assert.assertEquals(2, bag.size());
+    }
+
+    /**
+     * Throws from the first equals() call after running a write on another thread, the way a caller's equals() might
+     * fail on a torn read. The optimistic read must discard the exception and retry under the read lock.
+     */
+    private static final class Probe
+    {
+        private final int value;
+        private final AtomicInteger calls;
+        private final Runnable write;
+
+        private Probe(int value, AtomicInteger calls, Runnable write)
+        {
+            this.value = value;
+            this.calls = calls;
+            this.write = write;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this.calls.getAndIncrement() == 0)
+            {
+                Probe probe = this.write == null ? (Probe) other : this;
+                Thread writer = new Thread(probe.write);
+                writer.start();
+                try
+                {
+                    writer.join();
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                throw new IllegalStateException();
+            }
+            return other instanceof Probe && ((Probe) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value;
+        }
+    }
+}
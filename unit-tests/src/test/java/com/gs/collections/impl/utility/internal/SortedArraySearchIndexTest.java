@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SortedArraySearchIndexTest
+{
+    @Test
+    public void smallArraysAreNotIndexed()
+    {
+        Integer[] array = SortedArraySearchIndexTest.evens(SortedArraySearchIndex.INDEXED_SIZE - 1);
+        Assert.assertFalse(SortedArraySearchIndex.of(array, null).isIndexed());
+        Assert.assertTrue(SortedArraySearchIndex.of(SortedArraySearchIndexTest.evens(SortedArraySearchIndex.INDEXED_SIZE), null).isIndexed());
+        SortedArraySearchIndexTest.assertMatchesBinarySearch(array, null);
+        SortedArraySearchIndexTest.assertMatchesBinarySearch(new Integer[0], null);
+    }
+
+    @Test
+    public void naturalOrder()
+    {
+        for (int size : new int[]{
+                SortedArraySearchIndex.INDEXED_SIZE,
+                SortedArraySearchIndex.INDEXED_SIZE + 1,
+                SortedArraySearchIndex.INDEXED_SIZE + SortedArraySearchIndex.STRIDE - 1,
+                10007,
+                65536})
+        {
+            SortedArraySearchIndexTest.assertMatchesBinarySearch(SortedArraySearchIndexTest.evens(size), null);
+        }
+    }
+
+    @Test
+    public void comparator()
+    {
+        Comparator<Integer> comparator = Comparators.reverseNaturalOrder();
+        for (int size : new int[]{100, SortedArraySearchIndex.INDEXED_SIZE + 3, 20000})
+        {
+            Integer[] array = SortedArraySearchIndexTest.evens(size);
+            Arrays.sort(array, comparator);
+            SortedArraySearchIndexTest.assertMatchesBinarySearch(array, comparator);
+        }
+    }
+
+    @Test
+    public void randomKeys()
+    {
+        Random random = new Random(42L);
+        Integer[] array = new Integer[50000];
+        for (int i = 0; i < array.length; i++)
+        {
+            array[i] = random.nextInt();
+        }
+        Arrays.sort(array);
+        SortedArraySearchIndex<Integer> index = SortedArraySearchIndex.of(array, null);
+        for (int i = 0; i < 100000; i++)
+        {
+            Integer key = i % 2 == 0 ? array[random.nextInt(array.length)] : random.nextInt();
+            Assert.assertEquals(Arrays.binarySearch(array, key), index.binarySearch(key));
+        }
+        Assert.assertEquals(Arrays.binarySearch(array, Integer.MIN_VALUE), index.binarySearch(Integer.MIN_VALUE));
+        Assert.assertEquals(Arrays.binarySearch(array, Integer.MAX_VALUE), index.binarySearch(Integer.MAX_VALUE));
+    }
+
+    private static Integer[] evens(int size)
+    {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++)
+        {
+            array[i] = 2 * i;
+        }
+        return array;
+    }
+
+    private static void assertMatchesBinarySearch(Integer[] array, Comparator<Integer> comparator)
+    {
+        SortedArraySearchIndex<Integer> index = SortedArraySearchIndex.of(array, comparator);
+        for (int key = -2; key <= 2 * array.length + 1; key++)
+        {
+            Assert.assertEquals(Arrays.binarySearch(array, key, comparator), index.binarySearch(key));
+        }
+    }
+}